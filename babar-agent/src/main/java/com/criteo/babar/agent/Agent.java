@@ -1,11 +1,20 @@
 package com.criteo.babar.agent;
 
 import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.AllocationProfiler;
+import com.criteo.babar.agent.profiler.AsyncStackTraceProfiler;
+import com.criteo.babar.agent.profiler.GCProfiler;
+import com.criteo.babar.agent.profiler.JFRProfiler;
 import com.criteo.babar.agent.profiler.JVMProfiler;
+import com.criteo.babar.agent.profiler.LockProfiler;
 import com.criteo.babar.agent.profiler.ProcFSProfiler;
 import com.criteo.babar.agent.profiler.Profiler;
 import com.criteo.babar.agent.profiler.SamplingProfiler;
 import com.criteo.babar.agent.profiler.StackTraceProfiler;
+import com.criteo.babar.agent.profiler.ThreadCPUProfiler;
+import com.criteo.babar.agent.profiler.WallClockProfiler;
+import com.criteo.babar.agent.profiler.utils.ThreadUtils;
+import com.criteo.babar.agent.reporter.BinaryReporter;
 import com.criteo.babar.agent.reporter.LogReporter;
 import com.criteo.babar.agent.reporter.Reporter;
 import com.criteo.babar.agent.worker.SamplingScheduler;
@@ -17,6 +26,9 @@ import java.util.Set;
 
 public class Agent {
 
+    public static final String REPORTER_KEY = "reporter";
+    public static final String JFR_KEY = "jfr";
+
     private Agent() { }
 
     public static void agentmain(final String args, final Instrumentation instrumentation) {
@@ -32,7 +44,7 @@ public class Agent {
         AgentConfig config = AgentConfig.parse(args);
 
         // open reporter if required
-        Reporter reporter = new LogReporter(config);
+        Reporter reporter = createReporter(config);
         reporter.start();
 
         // register profilers for scheduling
@@ -44,9 +56,33 @@ public class Agent {
         if (config.isProfilerEnabled(JVMProfiler.class.getSimpleName())) {
             profilers.add(new JVMProfiler(config, reporter));
         }
-        if (config.isProfilerEnabled(StackTraceProfiler.class.getSimpleName())) {
+        // the JFR events replace the sampling of the stack traces when the runtime can stream them
+        boolean streamJFR = JFRProfiler.isSupported() && config.getBooleanOrDefault(JFR_KEY, true);
+        if (config.isProfilerEnabled(JFRProfiler.class.getSimpleName())
+                || (streamJFR && config.isProfilerEnabled(StackTraceProfiler.class.getSimpleName()))) {
+            profilers.add(new JFRProfiler(config, reporter));
+        }
+        else if (config.isProfilerEnabled(StackTraceProfiler.class.getSimpleName())) {
             profilers.add(new StackTraceProfiler(config, reporter));
         }
+        if (config.isProfilerEnabled(AsyncStackTraceProfiler.class.getSimpleName())) {
+            profilers.add(new AsyncStackTraceProfiler(config, reporter));
+        }
+        if (config.isProfilerEnabled(WallClockProfiler.class.getSimpleName())) {
+            profilers.add(new WallClockProfiler(config, reporter));
+        }
+        if (config.isProfilerEnabled(AllocationProfiler.class.getSimpleName())) {
+            profilers.add(new AllocationProfiler(config, reporter));
+        }
+        if (config.isProfilerEnabled(LockProfiler.class.getSimpleName())) {
+            profilers.add(new LockProfiler(config, reporter));
+        }
+        if (config.isProfilerEnabled(GCProfiler.class.getSimpleName())) {
+            profilers.add(new GCProfiler(config, reporter));
+        }
+        if (config.isProfilerEnabled(ThreadCPUProfiler.class.getSimpleName())) {
+            profilers.add(new ThreadCPUProfiler(config, reporter));
+        }
 
         // start the profilers. They will be able to profile with their start() methods
         startProfilers(profilers);
@@ -55,6 +91,15 @@ public class Agent {
         registerShutdownHook(profilers, reporter);
     }
 
+    private static Reporter createReporter(AgentConfig config) {
+        String reporter = config.getStringOrDefault(REPORTER_KEY, "log");
+        switch (reporter) {
+            case "log": return new LogReporter(config);
+            case "binary": return new BinaryReporter(config);
+            default: throw new IllegalArgumentException("Unknown reporter: " + reporter);
+        }
+    }
+
     private static void startProfilers(Set<Profiler> profilers) {
         SamplingScheduler profilerSamplingScheduler = new SamplingScheduler();
         Set<SamplingProfiler> samplingProfilers = new HashSet<>();
@@ -75,6 +120,7 @@ public class Agent {
 
     private static void registerShutdownHook(Set<Profiler> profilers, Reporter reporter) {
         Thread shutdownHook = new Thread(new ShutdownHookWorker(profilers, reporter));
+        ThreadUtils.registerAgentThread(shutdownHook);
         Runtime.getRuntime().addShutdownHook(shutdownHook);
     }
 }
@@ -0,0 +1,166 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.Agent;
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.JFRStream;
+import com.criteo.babar.agent.profiler.utils.ThreadStateTable;
+import com.criteo.babar.agent.profiler.utils.ThreadUtils;
+import com.criteo.babar.agent.reporter.Reporter;
+
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Samples the stack traces of the allocations on the heap, to show where the memory is allocated, as the ALLOC_TRACES
+ * metric weighted by bytes.
+ *
+ * When the runtime records the jdk.ObjectAllocationSample events of the JDK Flight Recorder (JDK 16+), they are
+ * streamed and each trace is the stack of an allocation, weighted by the bytes its thread allocated since its previous
+ * sample, so that the traces sum to about the bytes allocated by the threads.
+ *
+ * On older runtimes, this profiler falls back to an approximation: the bytes allocated by each thread are read from
+ * the JVM at every sample, and once a thread has allocated more than the sampling interval since its last trace, its
+ * stack is read and weighted by these bytes. The traces then show where the allocating threads are running when
+ * sampled, not the allocation sites, and only the threads running when sampled are traced, the bytes of the other
+ * threads being kept until they run.
+ */
+public class AllocationProfiler extends StackTraceProfiler {
+
+    public static final String DROPPED_TRACES_LABEL = "babar|[dropped allocations]";
+    public static final String ALLOCATION_SAMPLE_EVENT = "jdk.ObjectAllocationSample";
+
+    // values of the threads in the table
+    private static final int ALLOCATED = 0;
+    private static final int UNTRACED = 1;
+
+    private final boolean useJFR;
+    private final int eventsPerSecond;
+    private final long intervalBytes;
+
+    private volatile JFRStream stream;
+
+    // only used by the fallback: bytes allocated by each thread when last sampled, and bytes not traced yet
+    private volatile boolean enabled = false;
+    private final ThreadStateTable threads = new ThreadStateTable(256, 2);
+    private long sampleNb = 0L;
+
+    public AllocationProfiler(AgentConfig agentConfig, Reporter reporter) {
+        super(agentConfig, reporter);
+        useJFR = profilerConfig.getBooleanOrDefault("jfr", agentConfig.getBooleanOrDefault(Agent.JFR_KEY, true));
+        eventsPerSecond = Math.max(1, profilerConfig.getIntOrDefault("eventsPerSecond", 150));
+        intervalBytes = Math.max(1L, profilerConfig.getLongOrDefault("intervalBytes", 1024L * 1024L));
+    }
+
+    /**
+     * @return                      True if the runtime records the allocation samples of the JDK Flight Recorder
+     */
+    public static boolean isJFRSupported() {
+        return JFRStream.isEventSupported(ALLOCATION_SAMPLE_EVENT);
+    }
+
+    /**
+     * @return                      True if the allocation samples are streamed from the JDK Flight Recorder
+     */
+    public boolean isStreaming() {
+        return stream != null;
+    }
+
+    @Override
+    protected int getDefaultProfilingMs() {
+        return 100; // profile every 100 ms as only the allocated bytes of most threads are read
+    }
+
+    @Override
+    protected String getTracesMetric() {
+        return "ALLOC_TRACES";
+    }
+
+    @Override
+    protected String getDroppedTracesLabel() {
+        return DROPPED_TRACES_LABEL;
+    }
+
+    @Override
+    public void start(long startTimeMs) {
+        if (useJFR && isJFRSupported()) {
+            try {
+                JFRStream s = new JFRStream();
+                enableAllocationSamples(s);
+                s.startAsync("babar-jfr-allocations");
+                stream = s;
+                return;
+            }
+            catch (Exception e) {
+                System.err.println("Could not stream the JFR allocation samples, falling back to the allocated bytes: " + e.getMessage());
+            }
+        }
+        enabled = ThreadUtils.enableThreadAllocatedMemory();
+        if (!enabled) System.err.println("Counting the bytes allocated by threads is not supported, allocations are not profiled");
+    }
+
+    @Override
+    public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
+        JFRStream s = stream;
+        if (s != null) s.close();
+        super.stop(stopTimeMs, deltaLastSampleMs);
+    }
+
+    /**
+     * Enable the allocation samples on a stream, counted by this profiler, which may be started by another profiler
+     */
+    void enableAllocationSamples(JFRStream s) throws ReflectiveOperationException {
+        s.enableThrottled(ALLOCATION_SAMPLE_EVENT, eventsPerSecond);
+        s.onEvent(ALLOCATION_SAMPLE_EVENT, this::onAllocationSample);
+    }
+
+    // count the stack of an allocation sample, weighted by the bytes it samples
+    private void onAllocationSample(JFRStream.Event event) {
+        long threadId = event.getThreadId("eventThread");
+        String threadName = event.getThreadName("eventThread");
+        if (threadName == null || ThreadUtils.isAgentThread(threadId)) return;
+        StackTraceElement[] stack = event.getStackTrace();
+        if (stack.length == 0) return;
+        // as with the targeted sampling, only the most recent frames are kept
+        if (stack.length > maxDepth) stack = Arrays.copyOf(stack, maxDepth);
+        countTrace(traceTable.intern(threadName, stack), event.getLong("weight"), event.getStartTimeMs());
+    }
+
+    @Override
+    public void sample(long sampleTimeMs, long deltaLastSampleMs) {
+        // the allocations are sampled by the JDK Flight Recorder
+        if (!enabled || stream != null) return;
+        long[] ids = ThreadUtils.getAllThreadIds();
+        long[] allocatedBytes = ThreadUtils.getThreadAllocatedBytes(ids);
+        sampleNb++;
+
+        long[] tracedIds = new long[ids.length];
+        int tracedNb = 0;
+        for (int i = 0; i < ids.length; i++) {
+            // the bytes of dead threads are unknown
+            if (allocatedBytes[i] < 0 || ThreadUtils.isAgentThread(ids[i])) continue;
+            int slot = threads.slot(ids[i]);
+            if (slot < 0) {
+                slot = threads.insert(ids[i], 0);
+                // the threads started before the profiler only count the bytes allocated since it started
+                if (sampleNb == 1) threads.set(slot, ALLOCATED, allocatedBytes[i]);
+            }
+            threads.markSeen(slot, sampleNb);
+            long untraced = threads.add(slot, UNTRACED, threads.update(slot, ALLOCATED, allocatedBytes[i]));
+            if (untraced >= intervalBytes) tracedIds[tracedNb++] = ids[i];
+        }
+        threads.retain(sampleNb);
+
+        long startNanos = System.nanoTime();
+        List<ThreadInfo> traced = ThreadUtils.getThreads(Arrays.copyOf(tracedIds, tracedNb), maxDepth);
+        recordSamplingTime(System.nanoTime() - startNanos);
+
+        for (ThreadInfo thread : traced) {
+            if (thread.getThreadState() != Thread.State.RUNNABLE || thread.getStackTrace().length == 0) continue;
+            int slot = threads.slot(thread.getThreadId());
+            if (slot < 0) continue;
+            countTrace(thread, threads.get(slot, UNTRACED), sampleTimeMs);
+            threads.set(slot, UNTRACED, 0L);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.Reporter;
+import one.profiler.AsyncProfiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Samples the CPU stack traces with the native library of async-profiler, which uses perf events or a timer signal and
+ * AsyncGetCallTrace. Contrary to the {@link StackTraceProfiler}, the samples are not biased towards safepoints and
+ * also include the native, GC, JIT compiler and kernel frames.
+ *
+ * The library collects the samples by itself: they are dumped as collapsed stacks at every reporting interval and
+ * reported as the same CPU_TRACES metric as the {@link StackTraceProfiler}. If the library cannot be loaded or started,
+ * this profiler falls back to the ThreadMXBean sampling of the {@link StackTraceProfiler}.
+ */
+public class AsyncStackTraceProfiler extends StackTraceProfiler {
+
+    // the library may be bundled in the agent jar
+    public static final String BUNDLED_LIBRARY = "/libasyncProfiler.so";
+
+    private final String event;
+    private volatile AsyncProfiler asyncProfiler;
+    private volatile long windowStartMs;
+
+    public AsyncStackTraceProfiler(AgentConfig agentConfig, Reporter reporter) {
+        super(agentConfig, reporter);
+        this.event = profilerConfig.getStringOrDefault("event", "cpu");
+        try {
+            String libPath = profilerConfig.getStringOrDefault("libPath", null);
+            this.asyncProfiler = AsyncProfiler.getInstance(libPath != null ? libPath : extractBundledLibrary());
+        }
+        catch (IOException | UnsatisfiedLinkError e) {
+            System.err.println("Could not load async-profiler, falling back to the ThreadMXBean sampling: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return                      True if the stack traces are sampled by async-profiler
+     */
+    public boolean isNative() {
+        return asyncProfiler != null;
+    }
+
+    @Override
+    public void start(long startTimeMs) {
+        if (asyncProfiler == null) {
+            super.start(startTimeMs);
+            return;
+        }
+        try {
+            startNative(startTimeMs);
+        }
+        catch (Exception e) {
+            System.err.println("Could not start async-profiler, falling back to the ThreadMXBean sampling: " + e.getMessage());
+            asyncProfiler = null;
+        }
+    }
+
+    @Override
+    public void sample(long sampleTimeMs, long deltaLastSampleMs) {
+        // samples are taken by the native library
+        if (asyncProfiler == null) super.sample(sampleTimeMs, deltaLastSampleMs);
+    }
+
+    @Override
+    public void report() throws Exception {
+        if (asyncProfiler == null) super.report();
+        else dump(true);
+    }
+
+    @Override
+    public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
+        if (asyncProfiler == null) super.stop(stopTimeMs, deltaLastSampleMs);
+        else dump(false);
+    }
+
+    private void startNative(long startTimeMs) throws IOException {
+        long intervalNs = profilingIntervalMs * 1000000L;
+        // the thread names are recorded as the root frame of the stacks, as in the traces of the StackTraceProfiler
+        asyncProfiler.execute("start,event=" + event + ",interval=" + intervalNs + ",threads");
+        windowStartMs = startTimeMs;
+    }
+
+    private synchronized void dump(boolean restart) throws IOException {
+        AsyncProfiler profiler = asyncProfiler;
+        if (profiler == null) return;
+        long startMs = windowStartMs;
+        long stopMs = System.currentTimeMillis();
+        // the library only resets its samples when restarted
+        profiler.execute("stop");
+        // the line numbers are appended to the Java frames as in the traces of the StackTraceProfiler, so that a method
+        // has the same frames whatever the profiler
+        String collapsed = profiler.execute("collapsed,lines");
+        if (restart) startNative(stopMs);
+
+        int start = 0;
+        while (start < collapsed.length()) {
+            int end = collapsed.indexOf('\n', start);
+            if (end < 0) end = collapsed.length();
+            reportCollapsed(collapsed.substring(start, end), startMs);
+            start = end + 1;
+        }
+    }
+
+    private void reportCollapsed(String line, long timeMs) {
+        int space = line.lastIndexOf(' ');
+        if (space <= 0) return;
+        try {
+            long count = Long.parseLong(line.substring(space + 1).trim());
+            reporter.reportEvent("CPU_TRACES", toTraceLabel(line.substring(0, space)), (double)count, timeMs);
+        }
+        catch (NumberFormatException e) {
+            System.err.println("Could not parse the async-profiler output: " + line);
+        }
+    }
+
+    /**
+     * Convert a collapsed stack of async-profiler to the label of the CPU_TRACES
+     * @param frames                The frames separated by ';', starting with the thread as "[name tid=id]", the Java
+     *                              frames ending with their line number as "java/lang/Thread.run:750"
+     * @return                      The thread name and the frames separated by '|', with dotted class names, as
+     *                              formatted by {@link com.criteo.babar.agent.profiler.utils.StackTraceTable#formatFrame}
+     */
+    static String toTraceLabel(String frames) {
+        StringBuilder sb = new StringBuilder(frames.length());
+        int start = 0;
+        if (frames.startsWith("[")) {
+            int end = frames.indexOf(';');
+            if (end < 0) end = frames.length();
+            String thread = frames.substring(1, end);
+            int tid = thread.lastIndexOf(" tid=");
+            sb.append(tid >= 0 ? thread.substring(0, tid) : thread.substring(0, Math.max(0, thread.length() - 1)));
+            start = end + 1;
+        }
+        for (int i = start; i < frames.length(); i++) {
+            char c = frames.charAt(i);
+            if (i == start && sb.length() > 0) sb.append('|');
+            if (c == ';') sb.append('|');
+            else if (c == '/') sb.append('.');
+            else sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static String extractBundledLibrary() throws IOException {
+        try (InputStream in = AsyncStackTraceProfiler.class.getResourceAsStream(BUNDLED_LIBRARY)) {
+            if (in == null) throw new IOException("No libPath given and no library bundled in the agent");
+            Path lib = Files.createTempFile("libasyncProfiler", ".so");
+            Files.copy(in, lib, StandardCopyOption.REPLACE_EXISTING);
+            File file = lib.toFile();
+            file.deleteOnExit();
+            return file.getAbsolutePath();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.JVMUtils;
+import com.criteo.babar.agent.profiler.utils.PauseHistogram;
+import com.criteo.babar.agent.reporter.Reporter;
+import com.sun.management.GcInfo;
+
+import javax.management.NotificationListener;
+import java.lang.management.MemoryUsage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Profiles the collections of each garbage collector from the notifications of the GC MXBeans.
+ *
+ * The durations of the pauses are counted in a histogram per collector, whose p50, p99 and max are reported at
+ * every sample as the GC_PAUSE_P50_MS, GC_PAUSE_P99_MS and GC_PAUSE_MAX_MS metrics, with the number of collections as
+ * GC_PAUSE_COUNT, labelled by collector. The usage of the memory pools before and after each collection gives the bytes
+ * allocated in the eden since the previous collection, and the bytes promoted to the old generation, reported per
+ * second as the GC_ALLOCATION_BYTES_PER_SEC and GC_PROMOTION_BYTES_PER_SEC metrics. The usage of each pool of the heap
+ * after the last collection is reported as the GC_POOL_USED_AFTER_GC_BYTES metric, labelled by pool.
+ */
+public class GCProfiler extends SamplingProfiler {
+
+    private final Set<String> heapPools = JVMUtils.getHeapPoolNames();
+    private final boolean hasEden = heapPools.stream().anyMatch(GCProfiler::isEden);
+
+    // guarded by this
+    private final Map<String, PauseHistogram> pauses = new HashMap<>();
+    private final Map<String, Long> usedAfterGc = new HashMap<>();
+    // usage of the eden after the last collection, or of the whole heap if there is no eden
+    private long youngUsedAfterGc = -1L;
+    private long allocatedBytes = 0L;
+    private long promotedBytes = 0L;
+    private NotificationListener gcListener = null;
+
+    public GCProfiler(AgentConfig agentConfig, Reporter reporter) {
+        super(agentConfig, reporter);
+    }
+
+    @Override
+    public void start(long startTimeMs) throws Exception {
+        gcListener = JVMUtils.registerGCNotificationListener(this::onGc);
+    }
+
+    synchronized void onGc(String gcName, String gcAction, GcInfo gcInfo) {
+        // the concurrent cycles are not pauses, but still give the usage of the pools
+        if (JVMUtils.isPause(gcAction)) {
+            pauses.computeIfAbsent(gcName, name -> new PauseHistogram()).record(gcInfo.getDuration());
+        }
+
+        Map<String, MemoryUsage> before = gcInfo.getMemoryUsageBeforeGc();
+        Map<String, MemoryUsage> after = gcInfo.getMemoryUsageAfterGc();
+        long youngBefore = 0L;
+        long youngAfter = 0L;
+        for (String pool : heapPools) {
+            MemoryUsage poolBefore = before.get(pool);
+            MemoryUsage poolAfter = after.get(pool);
+            if (poolBefore == null || poolAfter == null) continue;
+            if (!hasEden || isEden(pool)) {
+                youngBefore += poolBefore.getUsed();
+                youngAfter += poolAfter.getUsed();
+            }
+            // the old generation shrinks when it is collected, and only grows with the objects promoted
+            if (isOld(pool)) promotedBytes += Math.max(0L, poolAfter.getUsed() - poolBefore.getUsed());
+            usedAfterGc.put(pool, poolAfter.getUsed());
+        }
+        if (youngUsedAfterGc >= 0) allocatedBytes += Math.max(0L, youngBefore - youngUsedAfterGc);
+        youngUsedAfterGc = youngAfter;
+    }
+
+    @Override
+    public synchronized void sample(long sampleTimeMs, long deltaLastSampleMs) throws Exception {
+        for (Map.Entry<String, PauseHistogram> collector : pauses.entrySet()) {
+            PauseHistogram histogram = collector.getValue();
+            if (histogram.getCount() > 0) {
+                reporter.reportEvent("GC_PAUSE_P50_MS", collector.getKey(), (double)histogram.getValueAtPercentile(50D), sampleTimeMs);
+                reporter.reportEvent("GC_PAUSE_P99_MS", collector.getKey(), (double)histogram.getValueAtPercentile(99D), sampleTimeMs);
+                reporter.reportEvent("GC_PAUSE_MAX_MS", collector.getKey(), (double)histogram.getMax(), sampleTimeMs);
+            }
+            reporter.reportEvent("GC_PAUSE_COUNT", collector.getKey(), (double)histogram.getCount(), sampleTimeMs);
+            histogram.reset();
+        }
+
+        if (deltaLastSampleMs > 0) {
+            reporter.reportEvent("GC_ALLOCATION_BYTES_PER_SEC", "", allocatedBytes * 1000D / deltaLastSampleMs, sampleTimeMs);
+            reporter.reportEvent("GC_PROMOTION_BYTES_PER_SEC", "", promotedBytes * 1000D / deltaLastSampleMs, sampleTimeMs);
+            allocatedBytes = 0L;
+            promotedBytes = 0L;
+        }
+
+        for (Map.Entry<String, Long> pool : usedAfterGc.entrySet()) {
+            reporter.reportEvent("GC_POOL_USED_AFTER_GC_BYTES", pool.getKey(), (double)pool.getValue(), sampleTimeMs);
+        }
+    }
+
+    @Override
+    public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
+        if (gcListener != null) JVMUtils.unregisterGCNotificationListener(gcListener);
+        gcListener = null;
+    }
+
+    private static boolean isEden(String pool) {
+        return pool.contains("Eden");
+    }
+
+    private static boolean isOld(String pool) {
+        return pool.contains("Old") || pool.contains("Tenured");
+    }
+}
@@ -0,0 +1,187 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.JFRStream;
+import com.criteo.babar.agent.profiler.utils.JVMUtils;
+import com.criteo.babar.agent.profiler.utils.ThreadUtils;
+import com.criteo.babar.agent.reporter.Reporter;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Profiles the JVM from the events of the JDK Flight Recorder, streamed with a RecordingStream on JDK 14+, instead of
+ * polling the threads and the MXBeans.
+ *
+ * The jdk.ExecutionSample events are counted as the CPU_TRACES of the {@link StackTraceProfiler}, which this profiler
+ * replaces when the runtime supports it. Unless the {@link JVMProfiler} is enabled, the jdk.CPULoad, garbage collection
+ * and jdk.GCHeapSummary events are also reported as its CPU, GC and heap metrics. Unless the {@link AllocationProfiler}
+ * is enabled, which streams them itself, the jdk.ObjectAllocationSample events are reported as its ALLOC_TRACES. If the
+ * events cannot be streamed, this profiler falls back to the ThreadMXBean sampling of the {@link StackTraceProfiler},
+ * without the allocations.
+ */
+public class JFRProfiler extends StackTraceProfiler {
+
+    private static final long NANOS_TO_MILLIS = 1000000L;
+
+    private final int availableCpu = JVMUtils.getAvailableProcessors();
+    private final boolean jvmMetrics;
+    private final long metricsIntervalMs;
+    // counts the allocation samples, or null if they are not streamed
+    private final AllocationProfiler allocations;
+
+    private volatile JFRStream stream;
+
+    // only read and written by the thread of the stream
+    private long lastCpuLoadMs = 0L;
+    // durations of the collections since the last jdk.CPULoad event
+    private final AtomicLong minorGcNanos = new AtomicLong(0L);
+    private final AtomicLong majorGcNanos = new AtomicLong(0L);
+
+    public JFRProfiler(AgentConfig agentConfig, Reporter reporter) {
+        super(agentConfig, reporter);
+        jvmMetrics = profilerConfig.getBooleanOrDefault("jvmMetrics",
+                !agentConfig.isProfilerEnabled(JVMProfiler.class.getSimpleName()));
+        metricsIntervalMs = Math.max(1, profilerConfig.getIntOrDefault("metricsMs", 2000));
+        boolean allocationSamples = profilerConfig.getBooleanOrDefault("allocations",
+                !agentConfig.isProfilerEnabled(AllocationProfiler.class.getSimpleName()));
+        allocations = allocationSamples ? new Allocations(agentConfig, reporter) : null;
+    }
+
+    /**
+     * @return                      True if the runtime can stream the events of the JDK Flight Recorder
+     */
+    public static boolean isSupported() {
+        return JFRStream.isSupported();
+    }
+
+    // when selected in place of the StackTraceProfiler, its parameters are used
+    @Override
+    protected String getConfigName(AgentConfig agentConfig) {
+        return configName(agentConfig);
+    }
+
+    private static String configName(AgentConfig agentConfig) {
+        String name = JFRProfiler.class.getSimpleName();
+        return agentConfig.isProfilerEnabled(name) ? name : StackTraceProfiler.class.getSimpleName();
+    }
+
+    /**
+     * Counts the allocation samples of the stream with the parameters of this profiler, as the AllocationProfiler may
+     * not be enabled
+     */
+    private static class Allocations extends AllocationProfiler {
+
+        Allocations(AgentConfig agentConfig, Reporter reporter) {
+            super(agentConfig, reporter);
+        }
+
+        @Override
+        protected String getConfigName(AgentConfig agentConfig) {
+            return configName(agentConfig);
+        }
+    }
+
+    /**
+     * @return                      True if the events are streamed from the JDK Flight Recorder
+     */
+    public boolean isStreaming() {
+        return stream != null;
+    }
+
+    @Override
+    public void start(long startTimeMs) {
+        if (!isSupported()) {
+            System.err.println("The JFR events cannot be streamed, falling back to the ThreadMXBean sampling");
+            return;
+        }
+        try {
+            stream = startStream();
+        }
+        catch (Exception e) {
+            System.err.println("Could not stream the JFR events, falling back to the ThreadMXBean sampling: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void sample(long sampleTimeMs, long deltaLastSampleMs) {
+        // samples are taken by the JDK Flight Recorder
+        if (stream == null) super.sample(sampleTimeMs, deltaLastSampleMs);
+    }
+
+    @Override
+    public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
+        JFRStream s = stream;
+        if (s != null) s.close();
+        super.stop(stopTimeMs, deltaLastSampleMs);
+    }
+
+    private JFRStream startStream() throws ReflectiveOperationException {
+        JFRStream s = new JFRStream();
+        s.enable("jdk.ExecutionSample", profilingIntervalMs, 0L, true);
+        s.onEvent("jdk.ExecutionSample", this::onExecutionSample);
+        if (jvmMetrics) {
+            s.enable("jdk.CPULoad", metricsIntervalMs, 0L, false);
+            s.onEvent("jdk.CPULoad", this::onCpuLoad);
+            s.enable("jdk.YoungGarbageCollection", 0L, 0L, false);
+            s.onEvent("jdk.YoungGarbageCollection", e -> minorGcNanos.addAndGet(e.getDurationNanos()));
+            s.enable("jdk.OldGarbageCollection", 0L, 0L, false);
+            s.onEvent("jdk.OldGarbageCollection", e -> majorGcNanos.addAndGet(e.getDurationNanos()));
+            s.enable("jdk.GCHeapSummary", 0L, 0L, false);
+            s.onEvent("jdk.GCHeapSummary", this::onHeapSummary);
+        }
+        if (allocations != null && AllocationProfiler.isJFRSupported()) allocations.enableAllocationSamples(s);
+        s.startAsync("babar-jfr-stream");
+        return s;
+    }
+
+    @Override
+    public void report() throws Exception {
+        super.report();
+        if (allocations != null) allocations.report();
+    }
+
+    private void onExecutionSample(JFRStream.Event event) {
+        long threadId = event.getThreadId("sampledThread");
+        String threadName = event.getThreadName("sampledThread");
+        if (threadName == null || ThreadUtils.isAgentThread(threadId)) return;
+        StackTraceElement[] stack = event.getStackTrace();
+        if (stack.length == 0) return;
+        // as with the targeted sampling, only the most recent frames are kept
+        if (stack.length > maxDepth) stack = Arrays.copyOf(stack, maxDepth);
+        countTrace(traceTable.intern(threadName, stack), 1L, event.getStartTimeMs());
+    }
+
+    private void onCpuLoad(JFRStream.Event event) {
+        long timeMs = event.getStartTimeMs();
+        long deltaMs = lastCpuLoadMs == 0L ? metricsIntervalMs : Math.max(1L, timeMs - lastCpuLoadMs);
+        lastCpuLoadMs = timeMs;
+
+        // the loads are ratios of all the cores of the host
+        double jvmCpuUsage = event.getDouble("jvmUser") + event.getDouble("jvmSystem");
+        double hostCpuLoad = event.getDouble("machineTotal");
+        double jvmCoresUsage = jvmCpuUsage * availableCpu;
+        double deltaJvmCpuTime = jvmCoresUsage * deltaMs;
+        double deltaMinorGcTime = (double)minorGcNanos.getAndSet(0L) / NANOS_TO_MILLIS;
+        double deltaMajorGcTime = (double)majorGcNanos.getAndSet(0L) / NANOS_TO_MILLIS;
+        double gcRatio = (deltaMinorGcTime + deltaMajorGcTime) / deltaMs;
+
+        // the same metrics as the JVMProfiler
+        reporter.reportEvent("JVM_CPU_TIME", "", deltaJvmCpuTime, timeMs);
+        reporter.reportEvent("JVM_CPU_USAGE", "", jvmCpuUsage, timeMs);
+        reporter.reportEvent("JVM_CORES_USAGE", "", jvmCoresUsage, timeMs);
+        reporter.reportEvent("JVM_HOST_CPU_USAGE", "", hostCpuLoad, timeMs);
+        reporter.reportEvent("JVM_HOST_CORES_USAGE", "", hostCpuLoad * availableCpu, timeMs);
+        reporter.reportEvent("JVM_GC_CPU_TIME", "", gcRatio * deltaJvmCpuTime, timeMs);
+        reporter.reportEvent("JVM_GC_RATIO", "", gcRatio, timeMs);
+        reporter.reportEvent("JVM_MINOR_GC_RATIO", "", deltaMinorGcTime / deltaMs, timeMs);
+        reporter.reportEvent("JVM_MAJOR_GC_RATIO", "", deltaMajorGcTime / deltaMs, timeMs);
+    }
+
+    // the heap is summarized before and after each collection, so that its peaks are reported
+    private void onHeapSummary(JFRStream.Event event) {
+        long timeMs = event.getStartTimeMs();
+        reporter.reportEvent("JVM_HEAP_MEMORY_USED_BYTES", "", (double)event.getLong("heapUsed"), timeMs);
+        reporter.reportEvent("JVM_HEAP_MEMORY_COMMITTED_BYTES", "", (double)event.getLong("heapSpace.committedSize"), timeMs);
+    }
+}
@@ -0,0 +1,241 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.StackTraceTable;
+import com.criteo.babar.agent.profiler.utils.ThreadStateTable;
+import com.criteo.babar.agent.profiler.utils.ThreadUtils;
+import com.criteo.babar.agent.reporter.Reporter;
+
+import java.lang.management.LockInfo;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the time threads lose waiting for monitors and {@code java.util.concurrent} locks owned by other threads.
+ *
+ * The time each thread is blocked on monitors, or waits on locks, is read from the JVM contention monitoring at every
+ * sample. The time since the last sample of the threads still waiting on a lock owned by another thread is attributed
+ * to their stack, with the class of the lock and the frame where its owner locked it as the last frame, and reported
+ * as the LOCK_TRACES metric, weighted by milliseconds. The same times are reported by class of lock as the
+ * LOCK_BLOCKED_MS metric, and by frame waiting for the lock as the LOCK_CALL_SITE_BLOCKED_MS metric. The time threads
+ * were blocked on monitors between two samples, released before the second one, is reported as a single trace.
+ *
+ * The times of a thread can only be read while it lives, so the time a thread lost on locks between its last sample and
+ * its end is not reported.
+ */
+public class LockProfiler extends StackTraceProfiler {
+
+    public static final String DROPPED_TRACES_LABEL = "babar|[dropped lock traces]";
+    public static final String BETWEEN_SAMPLES_LABEL = "babar|[blocked between samples]";
+
+    // frames of the implementation of the locks, skipped to find the frame waiting for a lock
+    private static final String[] LOCK_IMPLEMENTATION_PREFIXES = {
+            "java.util.concurrent.locks.", "sun.misc.Unsafe.", "jdk.internal.misc.Unsafe.", "java.lang.Object.wait"
+    };
+
+    private final boolean enabled;
+
+    // values of the threads in the table
+    private static final int BLOCKED = 0;
+    private static final int WAITED = 1;
+    private static final int CONTENDED = 2;
+
+    // blocked and waited times of each thread when last sampled, and time lost on locks since the last sample
+    private final ThreadStateTable threads = new ThreadStateTable(256, 3);
+    private long sampleNb = 0L;
+    // frames where the owners of the contended locks locked them, by the id of the thread waiting for the lock
+    private final Map<Long, String> ownerFrames = new HashMap<>();
+
+    private final Map<String, Long> blockedMsByLock = new ConcurrentHashMap<>();
+    private final Map<String, Long> blockedMsByCallSite = new ConcurrentHashMap<>();
+    private final AtomicLong blockedMsBetweenSamples = new AtomicLong(0L);
+
+    public LockProfiler(AgentConfig agentConfig, Reporter reporter) {
+        super(agentConfig, reporter);
+        enabled = ThreadUtils.enableThreadContentionMonitoring();
+        if (!enabled) System.err.println("Thread contention monitoring is not supported, locks are not profiled");
+    }
+
+    @Override
+    protected int getDefaultProfilingMs() {
+        return 100; // profile every 100 ms as the state of all threads is read at every sample
+    }
+
+    @Override
+    protected String getTracesMetric() {
+        return "LOCK_TRACES";
+    }
+
+    @Override
+    protected String getDroppedTracesLabel() {
+        return DROPPED_TRACES_LABEL;
+    }
+
+    @Override
+    protected boolean isSampled(ThreadInfo thread) {
+        Thread.State state = thread.getThreadState();
+        if (state == Thread.State.BLOCKED) return true;
+        // threads parked on a lock owned by another thread, rather than idle
+        return (state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING) && thread.getLockOwnerId() >= 0;
+    }
+
+    @Override
+    protected long internTrace(ThreadInfo thread) {
+        return traceTable.intern(thread.getThreadName(), null, thread.getStackTrace(),
+                formatLock(thread, ownerFrames.get(thread.getThreadId())));
+    }
+
+    @Override
+    public void sample(long sampleTimeMs, long deltaLastSampleMs) {
+        if (!enabled) return;
+        long startNanos = System.nanoTime();
+        List<ThreadInfo> all = ThreadUtils.getThreads(ThreadUtils.getAllThreadIds(), 0);
+        sampleNb++;
+
+        // ids of the threads which lost time on locks since the last sample, the time being kept in the table
+        long[] contendedIds = new long[all.size()];
+        int contendedNb = 0;
+        for (ThreadInfo thread : all) {
+            // the times are -1 if the monitoring was disabled since
+            if (thread.getBlockedTime() < 0 || ThreadUtils.isAgentThread(thread.getThreadId())) continue;
+            int slot = threads.slot(thread.getThreadId());
+            if (slot < 0) {
+                // the time lost before the first sample of the thread is not counted
+                slot = threads.insert(thread.getThreadId(), 0);
+                threads.set(slot, BLOCKED, thread.getBlockedTime());
+                threads.set(slot, WAITED, thread.getWaitedTime());
+            }
+            threads.markSeen(slot, sampleNb);
+            long blockedMs = threads.update(slot, BLOCKED, thread.getBlockedTime());
+            long waitedMs = threads.update(slot, WAITED, thread.getWaitedTime());
+            threads.set(slot, CONTENDED, 0L);
+
+            if (!isSampled(thread)) {
+                if (blockedMs > 0) blockedMsBetweenSamples.addAndGet(blockedMs);
+            }
+            else {
+                long ms = thread.getThreadState() == Thread.State.BLOCKED ? blockedMs : waitedMs;
+                if (ms > 0) {
+                    threads.set(slot, CONTENDED, ms);
+                    contendedIds[contendedNb++] = thread.getThreadId();
+                }
+            }
+        }
+        threads.retain(sampleNb);
+
+        List<ThreadInfo> contended = contendedNb == 0 ? new ArrayList<>() :
+                ThreadUtils.getThreads(Arrays.copyOf(contendedIds, contendedNb), maxDepth);
+        readOwnerFrames(contended);
+        recordSamplingTime(System.nanoTime() - startNanos);
+
+        for (ThreadInfo thread : contended) {
+            long ms = threads.get(threads.slot(thread.getThreadId()), CONTENDED);
+            // the thread may have acquired the lock since its time was read
+            if (!isSampled(thread) || thread.getStackTrace().length == 0) {
+                blockedMsBetweenSamples.addAndGet(ms);
+                continue;
+            }
+            countTrace(thread, ms, sampleTimeMs);
+            blockedMsByLock.merge(lockClass(thread.getLockName()), ms, Long::sum);
+            blockedMsByCallSite.merge(callSite(thread.getStackTrace()), ms, Long::sum);
+        }
+        ownerFrames.clear();
+    }
+
+    @Override
+    public void report() throws Exception {
+        long betweenSamples = blockedMsBetweenSamples.getAndSet(0L);
+        if (betweenSamples > 0) {
+            reporter.reportEvent(getTracesMetric(), BETWEEN_SAMPLES_LABEL, (double)betweenSamples, System.currentTimeMillis());
+        }
+        super.report();
+        drain(blockedMsByLock, "LOCK_BLOCKED_MS");
+        drain(blockedMsByCallSite, "LOCK_CALL_SITE_BLOCKED_MS");
+    }
+
+    private void drain(Map<String, Long> blockedMs, String metric) {
+        long timeMs = System.currentTimeMillis();
+        for (String label : blockedMs.keySet()) {
+            Long ms = blockedMs.remove(label);
+            if (ms != null) reporter.reportEvent(metric, label, (double)ms, timeMs);
+        }
+    }
+
+    // find the frames where the owners locked the locks the threads wait for, from the monitors they hold
+    private void readOwnerFrames(List<ThreadInfo> contended) {
+        Map<Long, ThreadInfo> owners = new HashMap<>();
+        for (ThreadInfo thread : contended) {
+            if (thread.getLockOwnerId() >= 0) owners.put(thread.getLockOwnerId(), null);
+        }
+        if (owners.isEmpty()) return;
+        for (ThreadInfo owner : ThreadUtils.getThreadsWithLocks(toArray(owners.keySet()))) {
+            owners.put(owner.getThreadId(), owner);
+        }
+        for (ThreadInfo thread : contended) {
+            ThreadInfo owner = owners.get(thread.getLockOwnerId());
+            if (owner != null && thread.getLockInfo() != null) {
+                ownerFrames.put(thread.getThreadId(), lockingFrame(owner, thread.getLockInfo().getIdentityHashCode()));
+            }
+        }
+    }
+
+    /**
+     * @param owner                 The owner of a lock, with its stack and the monitors it holds
+     * @param lockHashCode          The identity hash code of the lock
+     * @return                      The frame where the owner locked the monitor, or for other locks, its most recent
+     *                              frame out of the implementation of the locks, or null if the owner released it
+     */
+    static String lockingFrame(ThreadInfo owner, int lockHashCode) {
+        for (MonitorInfo monitor : owner.getLockedMonitors()) {
+            if (monitor.getIdentityHashCode() == lockHashCode && monitor.getLockedStackFrame() != null) {
+                return StackTraceTable.formatFrame(monitor.getLockedStackFrame());
+            }
+        }
+        // the synchronizers do not record where they were locked
+        for (LockInfo synchronizer : owner.getLockedSynchronizers()) {
+            if (synchronizer.getIdentityHashCode() == lockHashCode && owner.getStackTrace().length > 0) {
+                return callSite(owner.getStackTrace());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param stack                 The stack of a thread waiting for a lock
+     * @return                      The most recent frame out of the implementation of the locks
+     */
+    static String callSite(StackTraceElement[] stack) {
+        for (StackTraceElement element : stack) {
+            String frame = StackTraceTable.formatFrame(element);
+            if (Arrays.stream(LOCK_IMPLEMENTATION_PREFIXES).noneMatch(frame::startsWith)) return frame;
+        }
+        return StackTraceTable.formatFrame(stack[stack.length - 1]);
+    }
+
+    /**
+     * Format a lock and the frame where its owner locked it as a frame
+     */
+    static String formatLock(ThreadInfo thread, String ownerFrame) {
+        String lockClass = lockClass(thread.getLockName());
+        return ownerFrame == null ? "[lock " + lockClass + "]" : "[lock " + lockClass + " held at " + ownerFrame + "]";
+    }
+
+    // drop the identity hash code of the lock so that all instances of a lock class are merged
+    private static String lockClass(String lockName) {
+        if (lockName == null) return "unknown";
+        int at = lockName.lastIndexOf('@');
+        return at > 0 ? lockName.substring(0, at) : lockName;
+    }
+
+    private static long[] toArray(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
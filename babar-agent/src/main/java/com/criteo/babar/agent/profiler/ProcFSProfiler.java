@@ -3,7 +3,8 @@ package com.criteo.babar.agent.profiler;
 import com.criteo.babar.agent.config.AgentConfig;
 import com.criteo.babar.agent.profiler.utils.JVMUtils;
 import com.criteo.babar.agent.profiler.utils.OSUtils;
-import com.criteo.babar.agent.profiler.utils.ProcFSUtils;
+import com.criteo.babar.agent.profiler.utils.ProcFSParser;
+import com.criteo.babar.agent.profiler.utils.ProcFSReader;
 import com.criteo.babar.agent.reporter.Reporter;
 
 import java.io.IOException;
@@ -29,11 +30,32 @@ public class ProcFSProfiler extends SamplingProfiler {
     private final AtomicLong prevRxBytes = new AtomicLong(0L);
     private final AtomicLong prevTxBytes = new AtomicLong(0L);
 
+    private final ProcFSReader procFSReader;
+    // accumulators are re-used from one sample to the next to avoid creating garbage in the profiled JVM
+    private final ProcFSParser.PidStatAccumulator pidStat = new ProcFSParser.PidStatAccumulator();
+    private final ProcFSParser.CpuStatAccumulator cpuStat = new ProcFSParser.CpuStatAccumulator();
+    private final ProcFSParser.PidIOAccumulator pidIO = new ProcFSParser.PidIOAccumulator();
+    private final ProcFSParser.SmapsAccumulator smaps = new ProcFSParser.SmapsAccumulator(SMAPS_IGNORE_PERMISSIONS);
+    private final ProcFSParser.SmapsAccumulator smapsRollup = new ProcFSParser.SmapsAccumulator();
+    private final ProcFSParser.NetIOAccumulator netIO = new ProcFSParser.NetIOAccumulator();
+
     private int pid;
     private long pageSizeBytes;
+    private long jiffyLengthMs;
+    private final boolean useSmapsRollup;
+    private final long smapsFullIntervalMs;
+    // time of the last read of the full smaps, or Long.MIN_VALUE if they were never read
+    private long lastSmapsFullTimeMs = Long.MIN_VALUE;
+    // difference between the corrected RSS computed from smaps_rollup and from the full smaps at the last full read
+    private long smapsRollupCorrectionKB = 0L;
 
     public ProcFSProfiler(AgentConfig agentConfig, Reporter reporter) {
+        this(agentConfig, reporter, new ProcFSReader());
+    }
+
+    ProcFSProfiler(AgentConfig agentConfig, Reporter reporter, ProcFSReader procFSReader) {
         super(agentConfig, reporter);
+        this.procFSReader = procFSReader;
 
         if (OSUtils.getOS() != OSUtils.OPERATING_SYSTEM.LINUX) {
             // make sure we are on a compatible system
@@ -42,42 +64,32 @@ public class ProcFSProfiler extends SamplingProfiler {
 
         try {
             this.pageSizeBytes = OSUtils.getPageSizeBytes();
+            this.jiffyLengthMs = OSUtils.getJiffyLengthInMillis();
             this.pid = JVMUtils.getPID();
         }
         catch (IOException | IllegalAccessException e) {
             throw new RuntimeException("Unable to initialize ProcFSProfiler", e);
         }
 
+        this.useSmapsRollup = profilerConfig.getBooleanOrDefault("smapsRollup", true) && procFSReader.hasSmapsRollup();
+        this.smapsFullIntervalMs = Math.max(profilingIntervalMs, profilerConfig.getIntOrDefault("smapsFullMs", 60000));
+        if (useSmapsRollup) {
+            System.out.println(getClass().getName() + " will read the full smaps every " + smapsFullIntervalMs + " ms");
+        }
     }
 
     @Override
     public void start(long startTimeMs) throws Exception {
-        int[] pids = ProcFSUtils.getChildrenPids(pid);
-        ProcFSUtils.ProcPidStat[] processesStats = ProcFSUtils.stat(pids);
-        ProcFSUtils.ProcStat cpuStats = ProcFSUtils.stat();
-        ProcFSUtils.ProcPidIO[] ios = ProcFSUtils.io(pids);
-        ProcFSUtils.ProcNetIO netIO = ProcFSUtils.netio();
-
-        long userTicks = 0L;
-        long systemTicks = 0L;
-        long readBytes = 0L;
-        long writeBytes = 0L;
-
-        for (ProcFSUtils.ProcPidStat stat: processesStats) {
-            userTicks += stat.userTicks;
-            systemTicks += stat.systemTicks;
-        }
-        for (ProcFSUtils.ProcPidIO io: ios) {
-            readBytes += io.readBytes;
-            writeBytes += io.writeBytes;
-        }
+        readProcFS();
+        // close the files of the processes that have exited
+        procFSReader.releaseUnusedChannels();
 
-        this.prevUserCpuTicks.set(userTicks);
-        this.prevSystemCpuTicks.set(systemTicks);
-        this.prevHostTotalCpuTicks.set(cpuStats.getTotalTicks());
-        this.prevHostActiveCpuTicks.set(cpuStats.getActiveTicks());
-        this.prevReadBytes.set(readBytes);
-        this.prevWriteBytes.set(writeBytes);
+        this.prevUserCpuTicks.set(pidStat.userTicks);
+        this.prevSystemCpuTicks.set(pidStat.systemTicks);
+        this.prevHostTotalCpuTicks.set(cpuStat.getTotalTicks());
+        this.prevHostActiveCpuTicks.set(cpuStat.getActiveTicks());
+        this.prevReadBytes.set(pidIO.readBytes);
+        this.prevWriteBytes.set(pidIO.writeBytes);
 
         this.prevRxBytes.set(netIO.rxBytes);
         this.prevTxBytes.set(netIO.txBytes);
@@ -85,51 +97,31 @@ public class ProcFSProfiler extends SamplingProfiler {
 
     @Override
     public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
+        procFSReader.close();
     }
 
     @Override
     public void sample(long sampleTimeMs, long deltaLastSampleMs) throws Exception {
 
-        int[] pids = ProcFSUtils.getChildrenPids(pid);
-        ProcFSUtils.ProcPidStat[] processesStats = ProcFSUtils.stat(pids);
-        ProcFSUtils.ProcStat cpuStats = ProcFSUtils.stat();
-        ProcFSUtils.ProcPidIO[] ios = ProcFSUtils.io(pids);
-        ProcFSUtils.ProcSmaps[] smaps = ProcFSUtils.smaps(pids);
-        ProcFSUtils.ProcNetIO netIO = ProcFSUtils.netio();
-
-        long rssPages = 0L;
-        long vMemBytes = 0L;
-        long smapsCorrectedRssBytes = 0L;          // anonymous pages are pages not backed by a file on disk
-        long userTicks = 0L;
-        long systemTicks = 0L;
-        long hostTotalTicks = cpuStats.getTotalTicks();
-        long hostActiveTicks = cpuStats.getActiveTicks();
-        long readBytes = 0L;
-        long writeBytes = 0L;
-        long rchar = 0L;
-        long wchar = 0L;
+        int[] pids = readProcFS();
+        long smapsCorrectedRssKB = readSmapsCorrectedRssKB(pids, sampleTimeMs);
+        // close the files of the processes that have exited
+        procFSReader.releaseUnusedChannels();
+
+        long rssPages = pidStat.rssPages;
+        long vMemBytes = pidStat.vMemBytes;
+        long userTicks = pidStat.userTicks;
+        long systemTicks = pidStat.systemTicks;
+        long hostTotalTicks = cpuStat.getTotalTicks();
+        long hostActiveTicks = cpuStat.getActiveTicks();
+        long readBytes = pidIO.readBytes;
+        long writeBytes = pidIO.writeBytes;
+        long rchar = pidIO.rchar;
+        long wchar = pidIO.wchar;
         long rxBytes = netIO.rxBytes;
         long txBytes = netIO.txBytes;
-
-        for (ProcFSUtils.ProcPidStat stat: processesStats) {
-            rssPages += stat.rssPages;
-            vMemBytes += stat.vMemBytes;
-            userTicks += stat.userTicks;
-            systemTicks += stat.systemTicks;
-        }
-        for (ProcFSUtils.ProcPidIO io: ios) {
-            readBytes += io.readBytes;
-            writeBytes += io.writeBytes;
-            rchar += io.rchar;
-            wchar += io.wchar;
-        }
-        for (ProcFSUtils.ProcSmaps s: smaps) {
-            if (isPermissionAllowed(s)) {
-                smapsCorrectedRssBytes += Math.min(s.pss, s.sharedDirty) + s.privateDirty + s.privateClean;
-            }
-        }
         // convert from KB to Bytes
-        smapsCorrectedRssBytes *= 1024;
+        long smapsCorrectedRssBytes = smapsCorrectedRssKB * 1024;
 
         double userTicksDelta = userTicks - prevUserCpuTicks.getAndSet(userTicks);
         double systemTicksDelta = systemTicks - prevSystemCpuTicks.getAndSet(systemTicks);
@@ -151,7 +143,7 @@ public class ProcFSProfiler extends SamplingProfiler {
         double rxBytesPerSec = deltaRxBytes / sec;
         double txBytesPerSec = deltaTxBytes / sec;
 
-        double treeCpuTime = treeTicksDelta * OSUtils.getJiffyLengthInMillis();
+        double treeCpuTime = treeTicksDelta * jiffyLengthMs;
         double userCpuLoad = userTicksDelta / hostTotalTicksDelta;
         double systemCpuLoad = systemTicksDelta / hostTotalTicksDelta;
         double hostCpuLoad = hostActiveTicksDelta / hostTotalTicksDelta;
@@ -177,14 +169,45 @@ public class ProcFSProfiler extends SamplingProfiler {
         reporter.reportEvent("PROC_TREE_SMAPS_CORRECTED_RSS_BYTES", "", (double)smapsCorrectedRssBytes, sampleTimeMs);
     }
 
-    private boolean isPermissionAllowed(ProcFSUtils.ProcSmaps smaps) {
-        boolean allowed = true;
-        for (String p: SMAPS_IGNORE_PERMISSIONS) {
-            if (p.equals(smaps.permission)) {
-                allowed = false;
-                break;
-            }
+    /**
+     * Sum the values of all the processes of the tree into the accumulators
+     * @return                      The pids of the process tree
+     */
+    private int[] readProcFS() throws IOException {
+        int[] pids = procFSReader.getChildrenPids(pid);
+        pidStat.reset();
+        procFSReader.stat(pids, pidStat);
+        procFSReader.stat(cpuStat);
+        pidIO.reset();
+        procFSReader.io(pids, pidIO);
+        netIO.reset();
+        procFSReader.netio(netIO);
+        return pids;
+    }
+
+    /**
+     * Compute the corrected RSS of the process tree in KB.
+     *
+     * When smaps_rollup is available, the kernel sums the mappings of each process so that only a few lines are read.
+     * As the permissions of the mappings are lost in the sum, the mappings with an ignored permission can not be left
+     * out: the full smaps are read at a lower interval to measure the difference with the rollup, and this difference
+     * is subtracted from the rollup until the next full read.
+     */
+    private long readSmapsCorrectedRssKB(int[] pids, long sampleTimeMs) throws IOException {
+        boolean readFull = !useSmapsRollup || lastSmapsFullTimeMs == Long.MIN_VALUE
+                || sampleTimeMs - lastSmapsFullTimeMs >= smapsFullIntervalMs;
+        if (readFull) {
+            smaps.reset();
+            procFSReader.smaps(pids, smaps);
+            lastSmapsFullTimeMs = sampleTimeMs;
+        }
+        if (!useSmapsRollup) return smaps.correctedRssKB;
+
+        smapsRollup.reset();
+        procFSReader.smapsRollup(pids, smapsRollup);
+        if (readFull) {
+            smapsRollupCorrectionKB = smapsRollup.correctedRssKB - smaps.correctedRssKB;
         }
-        return allowed;
+        return Math.max(0L, smapsRollup.correctedRssKB - smapsRollupCorrectionKB);
     }
 }
@@ -11,7 +11,12 @@ public abstract class Profiler implements Schedulable {
     protected final Config profilerConfig;
 
     public Profiler(AgentConfig agentConfig, Reporter reporter) {
-        this.profilerConfig = agentConfig.getProfilerConfig(getClass().getSimpleName());
+        this.profilerConfig = agentConfig.getProfilerConfig(getConfigName(agentConfig));
         this.reporter = reporter;
     }
+
+    // override this method to read the parameters of another profiler, which must not depend on the instance
+    protected String getConfigName(AgentConfig agentConfig) {
+        return getClass().getSimpleName();
+    }
 }
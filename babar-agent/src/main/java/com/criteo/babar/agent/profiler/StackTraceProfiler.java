@@ -1,25 +1,39 @@
 package com.criteo.babar.agent.profiler;
 
 import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.StackTraceTable;
 import com.criteo.babar.agent.profiler.utils.ThreadUtils;
+import com.criteo.babar.agent.profiler.utils.TraceCounter;
 import com.criteo.babar.agent.reporter.Reporter;
-import com.criteo.babar.agent.worker.SamplingScheduler;
-import com.google.common.base.Joiner;
 
 import java.lang.management.ThreadInfo;
-import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class StackTraceProfiler extends SamplingAggregatingProfiler {
 
-    private final TraceCache traceCache;
+    // samples that could not be counted are reported under this label to keep the totals of the flame graphs right
+    public static final String DROPPED_TRACES_LABEL = "babar|[dropped traces]";
+
+    protected final StackTraceTable traceTable;
+    private final TraceCounter traceCounter;
+    private final AtomicLong droppedSamples = new AtomicLong(0L);
+
+    private final boolean targetedSampling;
+    // the ThreadMXBean only reads the most recent frames of the stacks, so the stacks deeper than this lose their
+    // outermost frames, and are shown as separate trees rather than under their common callers
+    protected final int maxDepth;
+    // time spent reading the threads and their stacks, which mostly waits for a safepoint
+    private final AtomicLong samplingNanos = new AtomicLong(0L);
+    private final AtomicLong samplingMaxNanos = new AtomicLong(0L);
+    private final AtomicLong samplingNb = new AtomicLong(0L);
 
     public StackTraceProfiler(AgentConfig agentConfig, Reporter reporter) {
         super(agentConfig, reporter);
-        traceCache = new TraceCache();
+        targetedSampling = profilerConfig.getBooleanOrDefault("targetedSampling", true);
+        maxDepth = Math.max(1, profilerConfig.getIntOrDefault("maxDepth", 1024));
+        traceTable = new StackTraceTable(profilerConfig.getIntOrDefault("maxNodes", 1 << 18));
+        traceCounter = new TraceCounter(profilerConfig.getIntOrDefault("maxTraces", 1 << 14));
     }
 
     @Override
@@ -34,90 +48,103 @@ public class StackTraceProfiler extends SamplingAggregatingProfiler {
 
     @Override
     public void sample(long sampleTimeMs, long deltaLastSampleMs) {
-        for (ThreadInfo thread : getAllRunnableThreads()) {
+        long startNanos = System.nanoTime();
+        Collection<ThreadInfo> threads = getSampledThreads();
+        recordSamplingTime(System.nanoTime() - startNanos);
+
+        for (ThreadInfo thread : threads) {
             // certain threads do not have stack traceCache
-            if (thread.getStackTrace().length > 0) {
-                String traceKey = formatStackTrace(thread.getThreadName(), thread.getStackTrace());
-                traceCache.increment(traceKey, sampleTimeMs);
-            }
+            if (thread.getStackTrace().length > 0) countTrace(thread, 1L, sampleTimeMs);
         }
     }
 
-    @Override
-    public void report() throws Exception {
-        Map<String, Trace> traces = traceCache.copyAndClear();
-        for (Map.Entry<String, Trace> trace: traces.entrySet()) {
-            reporter.reportEvent("CPU_TRACES", trace.getKey(), (double)trace.getValue().count, trace.getValue().firstTimestamp);
-        }
+    /**
+     * Count a sample of the stack trace of a thread
+     * @param thread                The thread, with its stack trace
+     * @param weight                The weight of the sample, such as the bytes allocated for the allocations
+     * @param sampleTimeMs          The time of the sample
+     */
+    protected void countTrace(ThreadInfo thread, long weight, long sampleTimeMs) {
+        // traces are counted by id, their labels are only rendered when reporting
+        countTrace(internTrace(thread), weight, sampleTimeMs);
     }
 
-    private Collection<ThreadInfo> getAllRunnableThreads() {
-        return ThreadUtils.getAllThreads(false, false,
-                t -> t.getThreadState() == Thread.State.RUNNABLE &&
-                        !t.getThreadName().startsWith(SamplingScheduler.SCHEDULER_THREAD_PREFIX)
-        );
+    /**
+     * Count a sample of a trace interned in {@link #traceTable}
+     */
+    protected void countTrace(long traceId, long weight, long sampleTimeMs) {
+        if (traceId == StackTraceTable.ROOT) droppedSamples.addAndGet(weight);
+        else traceCounter.increment(traceId, weight, sampleTimeMs);
     }
 
-    @Override
-    public void start(long startTimeMs) {
+    protected void recordSamplingTime(long nanos) {
+        samplingNanos.addAndGet(nanos);
+        samplingMaxNanos.accumulateAndGet(nanos, Math::max);
+        samplingNb.incrementAndGet();
     }
 
     @Override
-    public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
-        report();
-    }
+    public void report() throws Exception {
+        String metric = getTracesMetric();
+        long dropped = traceCounter.drain((traceId, count, firstTimestamp) -> {
+            String trace = traceTable.render(traceId);
+            // a trace interned before the last but one reset can no longer be rendered
+            if (trace == null) droppedSamples.addAndGet(count);
+            else reporter.reportEvent(metric, trace, (double)count, firstTimestamp);
+        });
+        // the traces counted from now on are interned in a new generation, so that the table only holds the threads
+        // and stacks of a reporting window
+        traceTable.reset();
+        dropped += droppedSamples.getAndSet(0L);
+        if (dropped > 0) {
+            reporter.reportEvent(metric, getDroppedTracesLabel(), (double)dropped, System.currentTimeMillis());
+        }
 
-    private static String formatStackTrace(String threadName, StackTraceElement[] stack) {
-        Deque<String> lines = new ArrayDeque<>(stack.length);
-        for (StackTraceElement element : stack) {
-            lines.addFirst(formatStackTraceElement(element));
+        long samples = samplingNb.getAndSet(0L);
+        if (samples > 0) {
+            long timeMs = System.currentTimeMillis();
+            reporter.reportEvent(metric + "_SAMPLING_MS", "", samplingNanos.getAndSet(0L) / 1e6 / samples, timeMs);
+            reporter.reportEvent(metric + "_SAMPLING_MAX_MS", "", samplingMaxNanos.getAndSet(0L) / 1e6, timeMs);
         }
-        lines.addFirst(threadName);
+    }
+
+    // override these methods to sample other threads or to add frames to the traces
 
-        return Joiner.on("|").join(lines);
+    protected String getTracesMetric() {
+        return "CPU_TRACES";
     }
 
-    private static String formatStackTraceElement(StackTraceElement element) {
-        return String.format("%s.%s:%d", element.getClassName(), element.getMethodName(), element.getLineNumber());
+    protected String getDroppedTracesLabel() {
+        return DROPPED_TRACES_LABEL;
     }
 
-    private class TraceCache {
-        // instead of using ConcurrentHashMap, we synchronize on the map object before
-        // each operation since ConcurrentHashMap does not provide an atomic equivalent to
-        // copyAndClear()
-        private Map<String, Trace> traces = new HashMap<>();
-
-        void increment(String trace, long timestamp) {
-            synchronized (traces) {
-                Trace cur = traces.get(trace);
-                if (cur == null) {
-                    // not in map
-                    cur = new Trace();
-                    traces.put(trace, cur);
-                }
-                cur.inc(1L, timestamp);
-            }
-        }
+    protected boolean isSampled(ThreadInfo thread) {
+        return thread.getThreadState() == Thread.State.RUNNABLE;
+    }
 
-        Map<String, Trace> copyAndClear() {
-            Map<String, Trace> tmp;
-            synchronized (traces) {
-                tmp = traces;
-                traces = new HashMap<>(tmp.size());
-            }
-            return tmp;
+    protected long internTrace(ThreadInfo thread) {
+        return traceTable.intern(thread.getThreadName(), thread.getStackTrace());
+    }
+
+    private Collection<ThreadInfo> getSampledThreads() {
+        if (targetedSampling) {
+            // only walk the stacks of the sampled threads, up to the max depth
+            return ThreadUtils.getThreads(
+                    t -> isSampled(t) && !ThreadUtils.isAgentThread(t.getThreadId()),
+                    maxDepth
+            );
         }
+        return ThreadUtils.getAllThreads(false, false,
+                t -> isSampled(t) && !ThreadUtils.isAgentThread(t.getThreadId())
+        );
     }
 
-    private class Trace {
-        public long count = 0L;
-        public long firstTimestamp = -1L;
+    @Override
+    public void start(long startTimeMs) {
+    }
 
-        public void inc(long amount, long timestamp) {
-            count += amount;
-            if (firstTimestamp <= 0L || firstTimestamp > timestamp) {
-                firstTimestamp = timestamp;
-            }
-        }
+    @Override
+    public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
+        report();
     }
 }
@@ -0,0 +1,174 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.JVMUtils;
+import com.criteo.babar.agent.profiler.utils.ThreadStateTable;
+import com.criteo.babar.agent.profiler.utils.ThreadUtils;
+import com.criteo.babar.agent.reporter.Reporter;
+
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Profiles the CPU used by groups of threads, such as the tasks or the shuffle threads, from the CPU times of all
+ * the threads read in a single call at every sample.
+ *
+ * Threads are grouped by the first pattern matching their name when first seen. The CPU time of each group since the
+ * last sample is reported as the THREAD_GROUP_CPU_TIME metric, in milliseconds, and the cores it used as the
+ * THREAD_GROUP_CORES_USAGE and THREAD_GROUP_USER_CORES_USAGE metrics, labelled by group. The threads of the JVM itself,
+ * such as the GC and JIT compiler threads, are not visible to the ThreadMXBean: the CPU time of the process not used by
+ * the Java threads is reported as the JVM_NATIVE_GROUP, along with the last CPU time of the threads which died since
+ * the previous sample.
+ */
+public class ThreadCPUProfiler extends SamplingProfiler {
+
+    public static final String JVM_NATIVE_GROUP = "JVM native (GC, JIT)";
+    public static final String AGENT_GROUP = "babar";
+    public static final String OTHER_GROUP = "other";
+
+    // groups of the threads, by the patterns found in their names, the first matching pattern winning
+    private static final String[][] GROUP_PATTERNS = {
+            {"task", "^Executor task launch worker"},
+            {"shuffle", "^shuffle-|^ShuffleBlockFetcher"},
+            {"rpc", "^rpc-|^dispatcher-event-loop|^netty-rpc|^IPC |^RPC "},
+            {"netty", "(?i)netty|EventLoop"},
+            {"hdfs", "^DataStreamer|^ResponseProcessor|^LeaseRenewer|^org\\.apache\\.hadoop\\.hdfs"},
+            {"JVM", "^VM |^Signal Dispatcher$|^Finalizer$|^Reference Handler$|^Service Thread$|^Common-Cleaner$|^Attach Listener$"},
+            {"main", "^main$"}
+    };
+
+    private static final long NANOS_TO_MILLIS = 1000000L;
+
+    private final boolean enabled;
+    private final String[] groupNames;
+    private final Pattern[] groupPatterns;
+
+    private static final int CPU = 0;
+    private static final int USER = 1;
+
+    // CPU and user mode CPU times of the threads when last read
+    private final ThreadStateTable threads = new ThreadStateTable(256, 2);
+    private long sampleNb = 0L;
+    private long prevProcessCpuNanos = 0L;
+    // CPU times of the groups since the last sample, the last three groups being the agent, other and native ones
+    private final long[] groupCpuNanos;
+    private final long[] groupUserNanos;
+    private final boolean[] groupSeen;
+
+    public ThreadCPUProfiler(AgentConfig agentConfig, Reporter reporter) {
+        super(agentConfig, reporter);
+        enabled = ThreadUtils.enableThreadCpuTime();
+        if (!enabled) System.err.println("Thread CPU time is not supported, the CPU of the threads is not profiled");
+
+        groupNames = new String[GROUP_PATTERNS.length + 3];
+        groupPatterns = new Pattern[GROUP_PATTERNS.length];
+        for (int i = 0; i < GROUP_PATTERNS.length; i++) {
+            groupNames[i] = GROUP_PATTERNS[i][0];
+            groupPatterns[i] = Pattern.compile(GROUP_PATTERNS[i][1]);
+        }
+        groupNames[agentGroup()] = AGENT_GROUP;
+        groupNames[otherGroup()] = OTHER_GROUP;
+        groupNames[nativeGroup()] = JVM_NATIVE_GROUP;
+        groupCpuNanos = new long[groupNames.length];
+        groupUserNanos = new long[groupNames.length];
+        groupSeen = new boolean[groupNames.length];
+    }
+
+    @Override
+    public void start(long startTimeMs) throws Exception {
+        if (!enabled) return;
+        // only the CPU used since the start is reported
+        readThreads(0L);
+        Arrays.fill(groupCpuNanos, 0L);
+        Arrays.fill(groupUserNanos, 0L);
+    }
+
+    @Override
+    public void sample(long sampleTimeMs, long deltaLastSampleMs) throws Exception {
+        if (!enabled || deltaLastSampleMs <= 0) return;
+        readThreads(deltaLastSampleMs * NANOS_TO_MILLIS);
+
+        for (int group = 0; group < groupNames.length; group++) {
+            if (!groupSeen[group]) continue;
+            double cpuMs = (double)groupCpuNanos[group] / NANOS_TO_MILLIS;
+            double userMs = (double)groupUserNanos[group] / NANOS_TO_MILLIS;
+            reporter.reportEvent("THREAD_GROUP_CPU_TIME", groupNames[group], cpuMs, sampleTimeMs);
+            reporter.reportEvent("THREAD_GROUP_CORES_USAGE", groupNames[group], cpuMs / deltaLastSampleMs, sampleTimeMs);
+            // the user time of the native threads is not known
+            if (group != nativeGroup()) {
+                reporter.reportEvent("THREAD_GROUP_USER_CORES_USAGE", groupNames[group], userMs / deltaLastSampleMs, sampleTimeMs);
+            }
+        }
+        Arrays.fill(groupCpuNanos, 0L);
+        Arrays.fill(groupUserNanos, 0L);
+    }
+
+    @Override
+    public void stop(long stopTimeMs, long deltaLastSampleMs) throws Exception {
+        // nothing to release, the times of the threads are read on demand
+    }
+
+    // add the CPU times of all the threads since the last read to their groups
+    private void readThreads(long deltaLastReadNanos) {
+        sampleNb++;
+        long[] ids = ThreadUtils.getAllThreadIds();
+        long[] cpu = ThreadUtils.getThreadCpuTime(ids);
+        long[] user = ThreadUtils.getThreadUserTime(ids);
+        long processCpuNanos = JVMUtils.getAccumulatedJVMCPUTime();
+
+        // only the names of the threads started since the last read are needed
+        long[] newIds = new long[ids.length];
+        int newIdsNb = 0;
+        for (long id : ids) {
+            if (threads.slot(id) < 0) newIds[newIdsNb++] = id;
+        }
+        if (newIdsNb > 0) {
+            for (ThreadInfo thread : ThreadUtils.getThreads(Arrays.copyOf(newIds, newIdsNb), 0)) {
+                threads.insert(thread.getThreadId(), group(thread));
+            }
+        }
+
+        long threadsCpuNanos = 0L;
+        for (int i = 0; i < ids.length; i++) {
+            int slot = threads.slot(ids[i]);
+            // the threads that died since their id was read have a time of -1
+            if (slot < 0 || cpu[i] < 0) continue;
+            int group = threads.group(slot);
+            // the new threads started since the last read, but a thread attached again, such as DestroyJavaVM, keeps
+            // the CPU time of its previous life
+            long maxNanos = threads.isNew(slot) && deltaLastReadNanos > 0 ? deltaLastReadNanos : Long.MAX_VALUE;
+            long cpuNanos = Math.min(maxNanos, threads.update(slot, CPU, cpu[i]));
+            threads.markSeen(slot, sampleNb);
+            groupCpuNanos[group] += cpuNanos;
+            groupUserNanos[group] += user[i] < 0 ? 0L : Math.min(maxNanos, threads.update(slot, USER, user[i]));
+            groupSeen[group] = true;
+            threadsCpuNanos += cpuNanos;
+        }
+        threads.retain(sampleNb);
+
+        groupCpuNanos[nativeGroup()] += Math.max(0L, processCpuNanos - prevProcessCpuNanos - threadsCpuNanos);
+        groupSeen[nativeGroup()] = true;
+        prevProcessCpuNanos = processCpuNanos;
+    }
+
+    private int group(ThreadInfo thread) {
+        if (ThreadUtils.isAgentThread(thread.getThreadId())) return agentGroup();
+        for (int i = 0; i < groupPatterns.length; i++) {
+            if (groupPatterns[i].matcher(thread.getThreadName()).find()) return i;
+        }
+        return otherGroup();
+    }
+
+    private int agentGroup() {
+        return GROUP_PATTERNS.length;
+    }
+
+    private int otherGroup() {
+        return GROUP_PATTERNS.length + 1;
+    }
+
+    private int nativeGroup() {
+        return GROUP_PATTERNS.length + 2;
+    }
+}
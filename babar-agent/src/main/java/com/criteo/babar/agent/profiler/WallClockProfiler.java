@@ -0,0 +1,63 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.Reporter;
+
+import java.lang.management.ThreadInfo;
+
+/**
+ * Samples the stack traces of all threads whatever their state, to show where the wall-clock time is spent, including
+ * the time spent off-CPU waiting for locks, IO or other threads.
+ *
+ * The traces are reported as the WALL_TRACES metric, with the state of the thread after its name. When the thread is
+ * blocked or waiting on a lock, the lock and the thread owning it, if any, are added as the last frame.
+ */
+public class WallClockProfiler extends StackTraceProfiler {
+
+    public static final String DROPPED_TRACES_LABEL = "babar|UNKNOWN|[dropped traces]";
+
+    public WallClockProfiler(AgentConfig agentConfig, Reporter reporter) {
+        super(agentConfig, reporter);
+    }
+
+    @Override
+    protected int getDefaultProfilingMs() {
+        return 100; // profile every 100 ms as all threads are sampled
+    }
+
+    @Override
+    protected String getTracesMetric() {
+        return "WALL_TRACES";
+    }
+
+    @Override
+    protected String getDroppedTracesLabel() {
+        return DROPPED_TRACES_LABEL;
+    }
+
+    @Override
+    protected boolean isSampled(ThreadInfo thread) {
+        return true;
+    }
+
+    @Override
+    protected long internTrace(ThreadInfo thread) {
+        return traceTable.intern(thread.getThreadName(), thread.getThreadState().name(), thread.getStackTrace(),
+                formatLock(thread));
+    }
+
+    /**
+     * Format the lock a thread is blocked or waiting on as a frame
+     * @param thread                The thread
+     * @return                      The class of the lock and the owner of the lock, or null if the thread waits on no lock
+     */
+    static String formatLock(ThreadInfo thread) {
+        String lockName = thread.getLockName();
+        if (lockName == null) return null;
+        // drop the identity hash code of the lock so that the traces of all instances of a lock class are merged
+        int at = lockName.lastIndexOf('@');
+        String lockClass = at > 0 ? lockName.substring(0, at) : lockName;
+        String owner = thread.getLockOwnerName();
+        return owner == null ? "[lock " + lockClass + "]" : "[lock " + lockClass + " owned by " + owner + "]";
+    }
+}
@@ -0,0 +1,271 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams the events of the JDK Flight Recorder with a {@code jdk.jfr.consumer.RecordingStream}, available since JDK 14.
+ *
+ * As the agent is built for Java 8, the JFR API is only called by reflection, and the events are read through
+ * {@link Event}, which exposes the few accessors the profilers need.
+ */
+public class JFRStream implements AutoCloseable {
+
+    private static final String RECORDING_STREAM_CLASS = "jdk.jfr.consumer.RecordingStream";
+
+    private static final Api API = loadApi();
+
+    private final Object stream;
+
+    public JFRStream() throws ReflectiveOperationException {
+        if (API == null) throw new ClassNotFoundException(RECORDING_STREAM_CLASS);
+        stream = API.recordingStreamClass.getConstructor().newInstance();
+        // the events are only read once, in the handlers, so they can be reused and need not be sorted
+        API.setReuse.invoke(stream, true);
+        API.setOrdered.invoke(stream, false);
+    }
+
+    /**
+     * @return                      True if the runtime can stream the JFR events
+     */
+    public static boolean isSupported() {
+        return API != null;
+    }
+
+    /**
+     * @param name                  The name of an event, such as jdk.ObjectAllocationSample
+     * @return                      True if the runtime can record the event, which may be more recent than the stream
+     */
+    public static boolean isEventSupported(String name) {
+        if (API == null) return false;
+        try {
+            Object recorder = invoke(API.getFlightRecorder, null);
+            for (Object type : (List<?>)invoke(API.getEventTypes, recorder)) {
+                if (name.equals(invoke(API.getEventTypeName, type))) return true;
+            }
+            return false;
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            // the recorder may be disabled
+            return false;
+        }
+    }
+
+    /**
+     * Enable an event
+     * @param name                  The name of the event, such as jdk.ExecutionSample
+     * @param periodMs              If positive, the interval between two events of a periodic event
+     * @param thresholdMs           If positive, the min duration of the events recorded
+     * @param stackTrace            If true, the stack trace of the thread is recorded with the events
+     */
+    public void enable(String name, long periodMs, long thresholdMs, boolean stackTrace) throws ReflectiveOperationException {
+        Object settings = invoke(API.enable, stream, name);
+        if (periodMs > 0) invoke(API.withPeriod, settings, Duration.ofMillis(periodMs));
+        if (thresholdMs > 0) invoke(API.withThreshold, settings, Duration.ofMillis(thresholdMs));
+        invoke(stackTrace ? API.withStackTrace : API.withoutStackTrace, settings);
+    }
+
+    /**
+     * Enable a throttled event, such as jdk.ObjectAllocationSample, with the stack trace of the thread
+     * @param name                  The name of the event
+     * @param eventsPerSecond       The max number of events recorded per second
+     */
+    public void enableThrottled(String name, int eventsPerSecond) throws ReflectiveOperationException {
+        Object settings = invoke(API.enable, stream, name);
+        invoke(API.with, settings, "throttle", eventsPerSecond + "/s");
+        invoke(API.withStackTrace, settings);
+    }
+
+    /**
+     * Register the handler of an event, called from the thread of the stream
+     */
+    public void onEvent(String name, Consumer<Event> handler) throws ReflectiveOperationException {
+        Consumer<Object> consumer = event -> handler.accept(new Event(event));
+        invoke(API.onEvent, stream, name, consumer);
+    }
+
+    /**
+     * Start streaming the events in a daemon thread of the agent, so that the stream neither keeps the JVM alive nor is
+     * profiled
+     * @param threadName            The name of the thread
+     */
+    public void startAsync(String threadName) {
+        Thread thread = new Thread(() -> {
+            try {
+                invoke(API.start, stream);
+            }
+            catch (ReflectiveOperationException e) {
+                System.err.println("Exception thrown while streaming the JFR events");
+                e.printStackTrace();
+            }
+        }, threadName);
+        thread.setDaemon(true);
+        ThreadUtils.registerAgentThread(thread);
+        thread.start();
+    }
+
+    @Override
+    public void close() throws ReflectiveOperationException {
+        invoke(API.close, stream);
+    }
+
+    /**
+     * An event of the stream, only valid in its handler as the events are reused
+     */
+    public static class Event {
+
+        private final Object event;
+
+        Event(Object event) {
+            this.event = event;
+        }
+
+        public long getStartTimeMs() {
+            return ((Instant)call(API.getStartTime, event)).toEpochMilli();
+        }
+
+        public long getDurationNanos() {
+            return ((Duration)call(API.getDuration, event)).toNanos();
+        }
+
+        /**
+         * @param field             The name of a field, or of a field of a field separated by a dot
+         */
+        public long getLong(String field) {
+            return (Long)call(API.getLong, event, field);
+        }
+
+        public double getDouble(String field) {
+            return (Double)call(API.getDouble, event, field);
+        }
+
+        /**
+         * @param field             The field of the thread, such as sampledThread
+         * @return                  The Java name of the thread, or null for the threads not started by Java
+         */
+        public String getThreadName(String field) {
+            Object thread = call(API.getThread, event, field);
+            return thread == null ? null : (String)call(API.getJavaName, thread);
+        }
+
+        /**
+         * @param field             The field of the thread, such as sampledThread
+         * @return                  The id of the Java thread, or -1 for the threads not started by Java
+         */
+        public long getThreadId(String field) {
+            Object thread = call(API.getThread, event, field);
+            return thread == null ? -1L : (Long)call(API.getJavaThreadId, thread);
+        }
+
+        /**
+         * @return                  The Java frames of the stack trace recorded with the event, the most recent first as
+         *                          in {@link Thread#getStackTrace()}, or an empty stack if none was recorded
+         */
+        public StackTraceElement[] getStackTrace() {
+            Object stackTrace = call(API.getStackTrace, event);
+            if (stackTrace == null) return new StackTraceElement[0];
+            List<?> frames = (List<?>)call(API.getFrames, stackTrace);
+            StackTraceElement[] stack = new StackTraceElement[frames.size()];
+            int size = 0;
+            for (Object frame : frames) {
+                if (!(Boolean)call(API.isJavaFrame, frame)) continue;
+                Object method = call(API.getMethod, frame);
+                String className = (String)call(API.getClassName, call(API.getType, method));
+                String methodName = (String)call(API.getMethodName, method);
+                stack[size++] = new StackTraceElement(className, methodName, null, (Integer)call(API.getLineNumber, frame));
+            }
+            return size == stack.length ? stack : Arrays.copyOf(stack, size);
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws ReflectiveOperationException {
+        try {
+            return method.invoke(target, args);
+        }
+        catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException)e.getCause();
+            throw e;
+        }
+    }
+
+    // the accessors of the events cannot fail once the API is loaded
+    private static Object call(Method method, Object target, Object... args) {
+        try {
+            return invoke(method, target, args);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not call " + method, e);
+        }
+    }
+
+    private static Api loadApi() {
+        try {
+            return new Api();
+        }
+        catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The methods of the JFR API, looked up once
+     */
+    private static class Api {
+        final Class<?> recordingStreamClass;
+        final Method setReuse, setOrdered, enable, onEvent, start, close;
+        final Method withPeriod, withThreshold, withStackTrace, withoutStackTrace, with;
+        final Method getFlightRecorder, getEventTypes, getEventTypeName;
+        final Method getStartTime, getDuration, getLong, getDouble, getThread, getStackTrace;
+        final Method getJavaName, getJavaThreadId, getFrames, isJavaFrame, getMethod, getLineNumber, getType,
+                getMethodName, getClassName;
+
+        Api() throws ReflectiveOperationException {
+            recordingStreamClass = Class.forName(RECORDING_STREAM_CLASS);
+            setReuse = recordingStreamClass.getMethod("setReuse", boolean.class);
+            setOrdered = recordingStreamClass.getMethod("setOrdered", boolean.class);
+            enable = recordingStreamClass.getMethod("enable", String.class);
+            onEvent = recordingStreamClass.getMethod("onEvent", String.class, Consumer.class);
+            start = recordingStreamClass.getMethod("start");
+            close = recordingStreamClass.getMethod("close");
+
+            Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            withPeriod = settingsClass.getMethod("withPeriod", Duration.class);
+            withThreshold = settingsClass.getMethod("withThreshold", Duration.class);
+            withStackTrace = settingsClass.getMethod("withStackTrace");
+            withoutStackTrace = settingsClass.getMethod("withoutStackTrace");
+            with = settingsClass.getMethod("with", String.class, String.class);
+
+            Class<?> recorderClass = Class.forName("jdk.jfr.FlightRecorder");
+            getFlightRecorder = recorderClass.getMethod("getFlightRecorder");
+            getEventTypes = recorderClass.getMethod("getEventTypes");
+            getEventTypeName = Class.forName("jdk.jfr.EventType").getMethod("getName");
+
+            Class<?> eventClass = Class.forName("jdk.jfr.consumer.RecordedEvent");
+            getStartTime = eventClass.getMethod("getStartTime");
+            getDuration = eventClass.getMethod("getDuration");
+            getLong = eventClass.getMethod("getLong", String.class);
+            getDouble = eventClass.getMethod("getDouble", String.class);
+            getThread = eventClass.getMethod("getThread", String.class);
+            getStackTrace = eventClass.getMethod("getStackTrace");
+
+            Class<?> threadClass = Class.forName("jdk.jfr.consumer.RecordedThread");
+            getJavaName = threadClass.getMethod("getJavaName");
+            getJavaThreadId = threadClass.getMethod("getJavaThreadId");
+
+            getFrames = Class.forName("jdk.jfr.consumer.RecordedStackTrace").getMethod("getFrames");
+            Class<?> frameClass = Class.forName("jdk.jfr.consumer.RecordedFrame");
+            isJavaFrame = frameClass.getMethod("isJavaFrame");
+            getMethod = frameClass.getMethod("getMethod");
+            getLineNumber = frameClass.getMethod("getLineNumber");
+            Class<?> methodClass = Class.forName("jdk.jfr.consumer.RecordedMethod");
+            getType = methodClass.getMethod("getType");
+            getMethodName = methodClass.getMethod("getName");
+            getClassName = Class.forName("jdk.jfr.consumer.RecordedClass").getMethod("getName");
+        }
+    }
+}
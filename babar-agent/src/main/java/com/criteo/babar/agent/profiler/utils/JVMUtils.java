@@ -1,18 +1,23 @@
 package com.criteo.babar.agent.profiler.utils;
 
 import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
 import com.sun.management.OperatingSystemMXBean;
 
+import javax.management.ListenerNotFoundException;
 import javax.management.Notification;
 import javax.management.NotificationEmitter;
 import javax.management.NotificationListener;
 import javax.management.openmbean.CompositeData;
 import java.lang.management.*;
+import java.util.HashSet;
+import java.util.Set;
 
 public class JVMUtils {
 
     private static final String MINOR_GC_ACTION = "end of minor GC";
     private static final String MAJOR_GC_ACTION = "end of major GC";
+    private static final String CONCURRENT_CYCLE_ACTION = "end of GC cycle";
 
     private static final OperatingSystemMXBean operatingSystemMXBean = (com.sun.management.OperatingSystemMXBean)ManagementFactory.getOperatingSystemMXBean();
     private static final RuntimeMXBean runtimeMXBean = java.lang.management.ManagementFactory.getRuntimeMXBean();
@@ -46,10 +51,33 @@ public class JVMUtils {
     }
 
     /**
-     * Register to all notifications from the GC MXBeans.
-     * @param listener          A java NotificationListener
+     * Register to the notifications of the collections from the GC MXBeans, classified as minor or major collections.
+     * The concurrent cycles of the collectors such as ZGC or Shenandoah are not pauses and are ignored, and their pauses
+     * are minor collections unless their collector is named as a major one.
+     * @param listener          The listener of the durations of the collections
      */
     public static void registerGCListener(GCListener listener) {
+        registerGCNotificationListener((gcName, gcAction, gcInfo) -> {
+            if (MINOR_GC_ACTION.equals(gcAction)) {
+                listener.onMinorGc(gcInfo.getDuration());
+            }
+            else if (MAJOR_GC_ACTION.equals(gcAction)) {
+                listener.onMajorGc(gcInfo.getDuration());
+            }
+            else if (isPause(gcAction)) {
+                if (gcName.contains("Major")) listener.onMajorGc(gcInfo.getDuration());
+                else listener.onMinorGc(gcInfo.getDuration());
+            }
+        });
+    }
+
+    /**
+     * Register to all notifications from the GC MXBeans.
+     * @param listener          The listener of the collections, with their details
+     * @return                  The listener registered to the GC MXBeans, to unregister it with
+     *                          {@link #unregisterGCNotificationListener(NotificationListener)}
+     */
+    public static NotificationListener registerGCNotificationListener(GCNotificationListener listener) {
 
         // takes the GC listener and makes javax NotificationListener that filters GC notifications
         NotificationListener notificationListener = new NotificationListener() {
@@ -59,13 +87,7 @@ public class JVMUtils {
 
                 // get the GC info object
                 GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData)notification.getUserData());
-                String gcAction = info.getGcAction();
-                if (MINOR_GC_ACTION.equals(gcAction)) {
-                    listener.onMinorGc(info.getGcInfo().getDuration());
-                }
-                else if (MAJOR_GC_ACTION.equals(gcAction)) {
-                    listener.onMajorGc(info.getGcInfo().getDuration());
-                }
+                listener.onGc(info.getGcName(), info.getGcAction(), info.getGcInfo());
             }
         };
 
@@ -73,6 +95,29 @@ public class JVMUtils {
         for (GarbageCollectorMXBean bean: ManagementFactory.getGarbageCollectorMXBeans()) {
             ((NotificationEmitter)bean).addNotificationListener(notificationListener, null, null);
         }
+        return notificationListener;
+    }
+
+    /**
+     * Unregister from the GC MXBeans a listener returned by {@link #registerGCNotificationListener(GCNotificationListener)}
+     */
+    public static void unregisterGCNotificationListener(NotificationListener notificationListener) {
+        for (GarbageCollectorMXBean bean: ManagementFactory.getGarbageCollectorMXBeans()) {
+            try {
+                ((NotificationEmitter)bean).removeNotificationListener(notificationListener);
+            }
+            catch (ListenerNotFoundException e) {
+                // the collector was not there when the listener was registered
+            }
+        }
+    }
+
+    /**
+     * @param gcAction          The action of a GC notification
+     * @return                  False for the concurrent cycles, whose duration is not spent in a pause
+     */
+    public static boolean isPause(String gcAction) {
+        return !CONCURRENT_CYCLE_ACTION.equals(gcAction);
     }
 
     public interface GCListener {
@@ -80,6 +125,21 @@ public class JVMUtils {
         void onMajorGc(long duration);
     }
 
+    public interface GCNotificationListener {
+        void onGc(String gcName, String gcAction, GcInfo gcInfo);
+    }
+
+    /**
+     * Get the names of the memory pools of the heap
+     */
+    public static Set<String> getHeapPoolNames() {
+        Set<String> names = new HashSet<>();
+        for (MemoryPoolMXBean pool: ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) names.add(pool.getName());
+        }
+        return names;
+    }
+
     /**
      * Returns the pid of the current JVM process
      * @return              The process pid of this JVM
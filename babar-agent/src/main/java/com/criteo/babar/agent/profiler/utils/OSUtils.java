@@ -8,6 +8,10 @@ public class OSUtils {
 
     private static final OPERATING_SYSTEM OS;
 
+    // values of `getconf`, cached as forking a process for each sample is expensive
+    private static volatile long pageSizeBytes = -1L;
+    private static volatile long jiffiesPerSecond = -1L;
+
     public enum OPERATING_SYSTEM {
         UNKNOWN, LINUX, WINDOWS, MACOS;
     }
@@ -65,16 +69,24 @@ public class OSUtils {
 
     /**
      * Returns the memory page size. Usually 4096 bytes by default.
+     * The value does not change while the JVM runs, so `getconf` is only called once.
      */
     public static long getPageSizeBytes() throws IOException, IllegalAccessException {
-        return Long.parseLong( getConf("PAGESIZE").trim() );
+        if (pageSizeBytes < 0) {
+            pageSizeBytes = Long.parseLong( getConf("PAGESIZE").trim() );
+        }
+        return pageSizeBytes;
     }
 
     /**
      * Returns the number of clock ticks per seconds for the processor
+     * The value does not change while the JVM runs, so `getconf` is only called once.
      */
     public static long getJiffiesPerSecond() throws IOException, IllegalAccessException {
-        return Long.parseLong( getConf("CLK_TCK").trim() );
+        if (jiffiesPerSecond < 0) {
+            jiffiesPerSecond = Long.parseLong( getConf("CLK_TCK").trim() );
+        }
+        return jiffiesPerSecond;
     }
 
     /**
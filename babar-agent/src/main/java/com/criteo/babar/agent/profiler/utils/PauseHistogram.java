@@ -0,0 +1,73 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import java.util.Arrays;
+
+/**
+ * Counts positive durations in log-linear buckets, as an HDR histogram with one significant digit: the values below 16
+ * are counted exactly, and each power of two above is split in 16 buckets, so that the percentiles are within 1/16 of
+ * the recorded values whatever their magnitude, in a fixed amount of memory.
+ *
+ * This class is not thread-safe.
+ */
+public class PauseHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+    private long totalCount = 0L;
+    private long max = 0L;
+
+    /**
+     * Count a value, the negative ones being counted as 0
+     */
+    public void record(long value) {
+        value = Math.max(0L, value);
+        counts[bucket(value)]++;
+        totalCount++;
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @param percentile            The percentile, between 0 and 100
+     * @return                      The highest value of the bucket of the percentile, at most the max value recorded, or
+     *                              0 if no value was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long rank = Math.max(1L, (long)Math.ceil(percentile / 100D * totalCount));
+        long count = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= rank) return Math.min(max, highestValue(i));
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0L;
+        max = 0L;
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) return (int)value;
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        // the 5 most significant bits of the value are between 16 and 31
+        return shift * SUB_BUCKETS + (int)(value >>> shift);
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long)(bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,529 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses the content of /proc files directly from their raw bytes.
+ *
+ * Nothing is allocated while parsing: values are summed into accumulators that are re-used from one sample to the
+ * next, so that sampling a JVM with thousands of memory mappings does not create garbage in the profiled process.
+ * See http://man7.org/linux/man-pages/man5/proc.5.html for the format of the files.
+ *
+ * This class is not thread-safe, each reader should use its own instance.
+ */
+public class ProcFSParser {
+
+    private static final byte[] CPU = bytes("cpu");
+    private static final byte[] NET_DEV_HEADER = bytes("Inter-|");
+
+    private static final byte[] RCHAR = bytes("rchar");
+    private static final byte[] WCHAR = bytes("wchar");
+    private static final byte[] READ_BYTES = bytes("read_bytes");
+    private static final byte[] WRITE_BYTES = bytes("write_bytes");
+
+    private static final byte[] SIZE = bytes("Size");
+    private static final byte[] RSS = bytes("Rss");
+    private static final byte[] PSS = bytes("Pss");
+    private static final byte[] SHARED_CLEAN = bytes("Shared_Clean");
+    private static final byte[] SHARED_DIRTY = bytes("Shared_Dirty");
+    private static final byte[] PRIVATE_CLEAN = bytes("Private_Clean");
+    private static final byte[] PRIVATE_DIRTY = bytes("Private_Dirty");
+    private static final byte[] REFERENCED = bytes("Referenced");
+    private static final byte[] ANONYMOUS = bytes("Anonymous");
+
+    // fields of /proc/pid/stat, numbered from 1 as in the man page
+    private static final int STAT_PPID = 4;
+    private static final int STAT_UTIME = 14;
+    private static final int STAT_STIME = 15;
+    private static final int STAT_VSIZE = 23;
+    private static final int STAT_RSS = 24;
+
+    // current position of the parser in the buffer
+    private int pos;
+
+    /**
+     * Parse /proc/pid/stat and add its values to the accumulator.
+     * @param buf                   The buffer holding the file content from position 0
+     * @param length                The length of the content
+     * @param acc                   The accumulator to add values to
+     */
+    public void parsePidStat(ByteBuffer buf, int length, PidStatAccumulator acc) {
+        pos = skipProcessName(buf, length);
+        int field = STAT_PPID;
+        long ppid = -1L, utime = -1L, stime = -1L, vsize = -1L, rss = -1L;
+        while (field <= STAT_RSS && skipSpaces(buf, length) && buf.get(pos) != '\n') {
+            long value = parseLong(buf, length);
+            switch (field) {
+                case STAT_PPID: ppid = value; break;
+                case STAT_UTIME: utime = value; break;
+                case STAT_STIME: stime = value; break;
+                case STAT_VSIZE: vsize = value; break;
+                case STAT_RSS: rss = value; break;
+                default: break;
+            }
+            field++;
+        }
+        if (field <= STAT_RSS) {
+            throw new RuntimeException("Unable to parse stat line: `" + string(buf, length) + "` as it is too short");
+        }
+        acc.pid = parseFirstLong(buf, length);
+        acc.ppid = (int)ppid;
+        acc.userTicks += utime;
+        acc.systemTicks += stime;
+        acc.vMemBytes += vsize;
+        acc.rssPages += rss;
+        acc.processes++;
+    }
+
+    /**
+     * Parse the parent pid from /proc/pid/stat
+     * @param buf                   The buffer holding the file content from position 0
+     * @param length                The length of the content
+     * @return                      The parent pid
+     */
+    public int parseParentPid(ByteBuffer buf, int length) {
+        pos = skipProcessName(buf, length);
+        if (!skipSpaces(buf, length)) {
+            throw new RuntimeException("Unable to parse stat line: `" + string(buf, length) + "`");
+        }
+        return (int)parseLong(buf, length);
+    }
+
+    /**
+     * Position the parser after the state of the process, skipping the process name that may contain spaces
+     */
+    private int skipProcessName(ByteBuffer buf, int length) {
+        int nameEnd = length - 1;
+        while (nameEnd >= 0 && buf.get(nameEnd) != ')') nameEnd--;
+        if (nameEnd < 0) {
+            throw new RuntimeException("Unable to parse stat line: `" + string(buf, length) + "`");
+        }
+        pos = nameEnd + 1;
+        // skip state
+        if (skipSpaces(buf, length)) skipToken(buf, length);
+        return pos;
+    }
+
+    private int parseFirstLong(ByteBuffer buf, int length) {
+        pos = 0;
+        skipSpaces(buf, length);
+        return (int)parseLong(buf, length);
+    }
+
+    /**
+     * Parse the first (aggregated) cpu line of /proc/stat and set its values in the accumulator.
+     * @param buf                   The buffer holding the file content from position 0
+     * @param length                The length of the content
+     * @param acc                   The accumulator to set values to
+     */
+    public void parseStat(ByteBuffer buf, int length, CpuStatAccumulator acc) {
+        if (!startsWith(buf, 0, length, CPU)) {
+            throw new RuntimeException("Unexpected first line in output of /proc/stat:\n" + string(buf, length));
+        }
+        pos = CPU.length;
+        long[] ticks = acc.ticks;
+        int i = 0;
+        while (i < ticks.length && skipSpaces(buf, length) && buf.get(pos) != '\n') {
+            ticks[i++] = parseLong(buf, length);
+        }
+        if (i < CpuStatAccumulator.STEAL + 1) {
+            throw new RuntimeException("Unable to parse cpu line in output of /proc/stat:\n" + string(buf, length));
+        }
+        while (i < ticks.length) ticks[i++] = 0L;
+    }
+
+    /**
+     * Parse /proc/pid/io and add its values to the accumulator.
+     * @param buf                   The buffer holding the file content from position 0
+     * @param length                The length of the content
+     * @param acc                   The accumulator to add values to
+     */
+    public void parsePidIO(ByteBuffer buf, int length, PidIOAccumulator acc) {
+        long rchar = -1L, wchar = -1L, readBytes = -1L, writeBytes = -1L;
+        pos = 0;
+        while (pos < length) {
+            int keyStart = pos;
+            int keyEnd = indexOf(buf, pos, length, (byte)':');
+            if (keyEnd < 0) break;
+            pos = keyEnd + 1;
+            skipSpaces(buf, length);
+            if (matches(buf, keyStart, keyEnd, RCHAR)) rchar = parseLong(buf, length);
+            else if (matches(buf, keyStart, keyEnd, WCHAR)) wchar = parseLong(buf, length);
+            else if (matches(buf, keyStart, keyEnd, READ_BYTES)) readBytes = parseLong(buf, length);
+            else if (matches(buf, keyStart, keyEnd, WRITE_BYTES)) writeBytes = parseLong(buf, length);
+            skipLine(buf, length);
+        }
+        if (rchar < 0 || wchar < 0 || readBytes < 0 || writeBytes < 0) {
+            throw new RuntimeException("Missing field in output of /proc/pid/io:\n" + string(buf, length));
+        }
+        acc.rchar += rchar;
+        acc.wchar += wchar;
+        acc.readBytes += readBytes;
+        acc.writeBytes += writeBytes;
+    }
+
+    /**
+     * Parse /proc/pid/smaps and add the values of each mapping to the accumulator.
+     * @param buf                   The buffer holding the file content from position 0
+     * @param length                The length of the content
+     * @param acc                   The accumulator to add values to
+     */
+    public void parseSmaps(ByteBuffer buf, int length, SmapsAccumulator acc) {
+        boolean inMapping = false;
+        pos = 0;
+        while (pos < length) {
+            byte first = buf.get(pos);
+            if ((first >= '0' && first <= '9') || (first >= 'a' && first <= 'f')) {
+                // header of a new mapping: "address perms offset dev inode pathname"
+                if (inMapping) acc.endMapping();
+                acc.startMapping(parsePermission(buf, length));
+                inMapping = true;
+            }
+            else if (first >= 'A' && first <= 'Z' && inMapping) {
+                int keyStart = pos;
+                int keyEnd = indexOf(buf, pos, length, (byte)':');
+                if (keyEnd < 0) break;
+                pos = keyEnd + 1;
+                if (skipSpaces(buf, length) && isDigit(buf.get(pos))) {
+                    long value = parseLong(buf, length);
+                    if (matches(buf, keyStart, keyEnd, SIZE)) acc.size = value;
+                    else if (matches(buf, keyStart, keyEnd, RSS)) acc.rss = value;
+                    else if (matches(buf, keyStart, keyEnd, PSS)) acc.pss = value;
+                    else if (matches(buf, keyStart, keyEnd, SHARED_CLEAN)) acc.sharedClean = value;
+                    else if (matches(buf, keyStart, keyEnd, SHARED_DIRTY)) acc.sharedDirty = value;
+                    else if (matches(buf, keyStart, keyEnd, PRIVATE_CLEAN)) acc.privateClean = value;
+                    else if (matches(buf, keyStart, keyEnd, PRIVATE_DIRTY)) acc.privateDirty = value;
+                    else if (matches(buf, keyStart, keyEnd, REFERENCED)) acc.referenced = value;
+                    else if (matches(buf, keyStart, keyEnd, ANONYMOUS)) acc.anonymous = value;
+                }
+            }
+            skipLine(buf, length);
+        }
+        if (inMapping) acc.endMapping();
+    }
+
+    private int parsePermission(ByteBuffer buf, int length) {
+        skipToken(buf, length);
+        skipSpaces(buf, length);
+        int permission = 0;
+        for (int i = 0; i < 4 && pos < length; i++) {
+            permission = (permission << 8) | (buf.get(pos++) & 0xFF);
+        }
+        return permission;
+    }
+
+    /**
+     * Parse /proc/net/dev and add the received and transmitted bytes of the given devices to the accumulator.
+     * @param buf                   The buffer holding the file content from position 0
+     * @param length                The length of the content
+     * @param devices               The names of the devices to account for, without the trailing colon
+     * @param acc                   The accumulator to add values to
+     */
+    public void parseNetDev(ByteBuffer buf, int length, byte[][] devices, NetIOAccumulator acc) {
+        if (!startsWith(buf, 0, length, NET_DEV_HEADER)) {
+            throw new RuntimeException("Unexpected first line in output of /proc/dev/net:\n" + string(buf, length));
+        }
+        pos = 0;
+        // skip the two header lines
+        skipLine(buf, length);
+        skipLine(buf, length);
+        while (pos < length) {
+            skipSpaces(buf, length);
+            int nameStart = pos;
+            int nameEnd = indexOf(buf, pos, length, (byte)':');
+            if (nameEnd < 0) break;
+            acc.devicesNb++;
+            if (isOneOf(buf, nameStart, nameEnd, devices)) {
+                pos = nameEnd + 1;
+                long rx = 0L, tx = 0L;
+                int field = 0;
+                // receive: bytes packets errs drop fifo frame compressed multicast, then transmit: bytes ...
+                while (field <= 8 && skipSpaces(buf, length) && buf.get(pos) != '\n') {
+                    long value = parseLong(buf, length);
+                    if (field == 0) rx = value;
+                    else if (field == 8) tx = value;
+                    field++;
+                }
+                if (field > 8) {
+                    acc.rxBytes += rx;
+                    acc.txBytes += tx;
+                }
+            }
+            skipLine(buf, length);
+        }
+    }
+
+    private static boolean isOneOf(ByteBuffer buf, int start, int end, byte[][] values) {
+        for (byte[] value: values) {
+            if (matches(buf, start, end, value)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skip spaces and tabs, but not line breaks
+     * @return                      True if the end of the content has not been reached
+     */
+    private boolean skipSpaces(ByteBuffer buf, int length) {
+        while (pos < length) {
+            byte b = buf.get(pos);
+            if (b != ' ' && b != '\t') return true;
+            pos++;
+        }
+        return false;
+    }
+
+    private void skipToken(ByteBuffer buf, int length) {
+        while (pos < length) {
+            byte b = buf.get(pos);
+            if (b == ' ' || b == '\t' || b == '\n') return;
+            pos++;
+        }
+    }
+
+    private void skipLine(ByteBuffer buf, int length) {
+        while (pos < length && buf.get(pos) != '\n') pos++;
+        pos++;
+    }
+
+    /**
+     * Parse a base 10 number, accumulated in a long to avoid overflows on large values
+     */
+    private long parseLong(ByteBuffer buf, int length) {
+        boolean negative = false;
+        if (pos < length && buf.get(pos) == '-') {
+            negative = true;
+            pos++;
+        }
+        int start = pos;
+        long value = 0L;
+        while (pos < length) {
+            byte b = buf.get(pos);
+            if (!isDigit(b)) break;
+            value = value * 10L + (b - '0');
+            pos++;
+        }
+        if (pos == start) {
+            throw new RuntimeException("Expected a number at position " + start + " in:\n" + string(buf, length));
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int indexOf(ByteBuffer buf, int from, int length, byte value) {
+        for (int i = from; i < length; i++) {
+            byte b = buf.get(i);
+            if (b == value) return i;
+            if (b == '\n') return -1;
+        }
+        return -1;
+    }
+
+    private static boolean matches(ByteBuffer buf, int start, int end, byte[] value) {
+        return end - start == value.length && startsWith(buf, start, end, value);
+    }
+
+    private static boolean startsWith(ByteBuffer buf, int start, int length, byte[] value) {
+        if (length - start < value.length) return false;
+        for (int i = 0; i < value.length; i++) {
+            if (buf.get(start + i) != value[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Decode the content, only used to build error messages
+     */
+    private static String string(ByteBuffer buf, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = buf.get(i);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encode a 4 characters permission string such as "r-xs" as an int
+     */
+    public static int permission(String permission) {
+        int code = 0;
+        for (byte b: bytes(permission)) code = (code << 8) | (b & 0xFF);
+        return code;
+    }
+
+    /**
+     * Decode a permission encoded with {@link #permission(String)}
+     */
+    public static String permission(int code) {
+        return new String(new byte[]{(byte)(code >>> 24), (byte)(code >>> 16), (byte)(code >>> 8), (byte)code},
+                StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Sum of the /proc/pid/stat values of multiple processes
+     */
+    public static class PidStatAccumulator {
+        public int processes;
+        public int pid;                     // pid of the last parsed process
+        public int ppid;                    // parent pid of the last parsed process
+        public long userTicks;
+        public long systemTicks;
+        public long rssPages;
+        public long vMemBytes;
+
+        public void reset() {
+            processes = 0;
+            pid = -1;
+            ppid = -1;
+            userTicks = 0L;
+            systemTicks = 0L;
+            rssPages = 0L;
+            vMemBytes = 0L;
+        }
+    }
+
+    /**
+     * Values of the aggregated cpu line of /proc/stat
+     */
+    public static class CpuStatAccumulator {
+        static final int USER = 0;
+        static final int NICE = 1;
+        static final int SYSTEM = 2;
+        static final int IDLE = 3;
+        static final int IOWAIT = 4;
+        static final int IRQ = 5;
+        static final int SOFTIRQ = 6;
+        static final int STEAL = 7;
+
+        final long[] ticks = new long[STEAL + 1];
+
+        public long userTicks() { return ticks[USER]; }
+        public long niceTicks() { return ticks[NICE]; }
+        public long systemTicks() { return ticks[SYSTEM]; }
+        public long idleTicks() { return ticks[IDLE]; }
+        public long ioWaitTicks() { return ticks[IOWAIT]; }
+        public long irqTicks() { return ticks[IRQ]; }
+        public long softIrqTicks() { return ticks[SOFTIRQ]; }
+        public long stealTicks() { return ticks[STEAL]; }
+
+        public long getActiveTicks() {
+            return userTicks() + systemTicks() + niceTicks() + stealTicks() + irqTicks() + softIrqTicks();
+        }
+
+        public long getTotalTicks() {
+            return getActiveTicks() + idleTicks() + ioWaitTicks();
+        }
+    }
+
+    /**
+     * Sum of the /proc/pid/io values of multiple processes
+     */
+    public static class PidIOAccumulator {
+        public long rchar;
+        public long wchar;
+        public long readBytes;
+        public long writeBytes;
+
+        public void reset() {
+            rchar = 0L;
+            wchar = 0L;
+            readBytes = 0L;
+            writeBytes = 0L;
+        }
+    }
+
+    /**
+     * Sum of the /proc/net/dev values of multiple devices
+     */
+    public static class NetIOAccumulator {
+        public long rxBytes;
+        public long txBytes;
+        // number of devices listed, real or not
+        public int devicesNb;
+
+        public void reset() {
+            rxBytes = 0L;
+            txBytes = 0L;
+            devicesNb = 0;
+        }
+    }
+
+    /**
+     * Sum of the /proc/pid/smaps values of all the mappings of multiple processes, in kB.
+     *
+     * The values of the mapping being parsed are held in the fields of the accumulator and added to the totals when
+     * the end of the mapping is reached. The corrected RSS mimics YARN when using
+     * 'yarn.nodemanager.container-monitor.procfs-tree.smaps-based-rss.enabled': mappings with an ignored permission
+     * are left out and only min(Pss, Shared_Dirty) + Private_Dirty + Private_Clean is counted for the others.
+     */
+    public static class SmapsAccumulator {
+        private final int[] ignoredPermissions;
+
+        // current mapping
+        public int permission;
+        public long size;
+        public long rss;
+        public long pss;
+        public long sharedClean;
+        public long sharedDirty;
+        public long privateClean;
+        public long privateDirty;
+        public long referenced;
+        public long anonymous;
+
+        // totals
+        public long mappings;
+        public long totalRssKB;
+        public long totalPssKB;
+        public long correctedRssKB;
+
+        public SmapsAccumulator(String... ignoredPermissions) {
+            this.ignoredPermissions = new int[ignoredPermissions.length];
+            for (int i = 0; i < ignoredPermissions.length; i++) {
+                this.ignoredPermissions[i] = permission(ignoredPermissions[i]);
+            }
+        }
+
+        public void reset() {
+            mappings = 0L;
+            totalRssKB = 0L;
+            totalPssKB = 0L;
+            correctedRssKB = 0L;
+        }
+
+        void startMapping(int permission) {
+            this.permission = permission;
+            size = 0L;
+            rss = 0L;
+            pss = 0L;
+            sharedClean = 0L;
+            sharedDirty = 0L;
+            privateClean = 0L;
+            privateDirty = 0L;
+            referenced = 0L;
+            anonymous = 0L;
+        }
+
+        void endMapping() {
+            mappings++;
+            totalRssKB += rss;
+            totalPssKB += pss;
+            if (isPermissionAllowed()) {
+                correctedRssKB += Math.min(pss, sharedDirty) + privateDirty + privateClean;
+            }
+        }
+
+        public boolean isPermissionAllowed() {
+            for (int p: ignoredPermissions) {
+                if (p == permission) return false;
+            }
+            return true;
+        }
+    }
+}
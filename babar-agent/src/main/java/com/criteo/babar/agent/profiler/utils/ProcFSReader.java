@@ -0,0 +1,495 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the /proc filesystem directly instead of forking processes such as `cat` or `ps`.
+ *
+ * Files are opened once and kept open between samples: the proc files are re-generated by the kernel every time they
+ * are read from offset 0, so the same {@link FileChannel} can be re-used for every sample. The content is read in a
+ * direct buffer that is re-used as well and only grows when a file does not fit in it.
+ *
+ * This class is not thread-safe, each profiler should use its own instance.
+ */
+public class ProcFSReader implements Closeable {
+
+    private static final Path PROC_DIR = Paths.get("/proc");
+    private static final Path PROC_STAT = PROC_DIR.resolve("stat");
+    private static final Path PROC_NET_DEV = PROC_DIR.resolve("net/dev");
+    private static final Path SYS_CLASS_NET = Paths.get("/sys/class/net");
+    private static final String VIRTUAL_NET_DEVICES = "/devices/virtual/net/";
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    // the real network devices are listed again when the number of devices changes, or at least every minute
+    private static final long NET_DEVICES_REFRESH_NANOS = 60L * 1000L * 1000L * 1000L;
+
+    private final Map<Path, CachedChannel> channels = new HashMap<>();
+    private final ProcFSParser parser = new ProcFSParser();
+    private final ProcFSParser.PidStatAccumulator pidStat = new ProcFSParser.PidStatAccumulator();
+    private final ProcFSParser.PidIOAccumulator pidIO = new ProcFSParser.PidIOAccumulator();
+    private final ProcFSParser.NetIOAccumulator netIO = new ProcFSParser.NetIOAccumulator();
+    private final boolean hasChildrenFiles;
+    private final boolean hasSmapsRollup;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+    private byte[][] netDevices = null;
+    private int netDevicesNb = -1;
+    private long netDevicesNanos = 0L;
+
+    public ProcFSReader() {
+        // /proc/<pid>/task/<tid>/children requires a kernel built with CONFIG_PROC_CHILDREN
+        int self = JVMUtils.getPID();
+        this.hasChildrenFiles = Files.isReadable(PROC_DIR.resolve(self + "/task/" + self + "/children"));
+        // /proc/<pid>/smaps_rollup is available since linux 4.14
+        this.hasSmapsRollup = Files.isReadable(PROC_DIR.resolve(self + "/smaps_rollup"));
+    }
+
+    /**
+     * @return                      True if the kernel provides /proc/pid/smaps_rollup
+     */
+    public boolean hasSmapsRollup() {
+        return hasSmapsRollup;
+    }
+
+    /**
+     * Get the pids of all the processes in the process tree of the given pid, including this pid.
+     * @param rootPid               The root process of the tree
+     * @return                      An array of pids, starting with the root pid
+     */
+    public int[] getChildrenPids(int rootPid) throws IOException {
+        return hasChildrenFiles ? walkChildrenFiles(rootPid) : walkAllProcesses(rootPid);
+    }
+
+    /**
+     * Walk the tree using the /proc/<pid>/task/<tid>/children files of each thread of each process
+     */
+    private int[] walkChildrenFiles(int rootPid) throws IOException {
+        IntList pids = new IntList();
+        pids.add(rootPid);
+        for (int i = 0; i < pids.size(); i++) {
+            Path taskDir = PROC_DIR.resolve(pids.get(i) + "/task");
+            try (DirectoryStream<Path> tasks = Files.newDirectoryStream(taskDir)) {
+                for (Path task : tasks) {
+                    int length;
+                    try {
+                        // threads come and go, so their files are not kept open
+                        length = readOnce(task.resolve("children"));
+                    }
+                    catch (IOException e) {
+                        // the thread has exited since listing the directory
+                        continue;
+                    }
+                    int pid = 0;
+                    boolean inNumber = false;
+                    for (int j = 0; j < length; j++) {
+                        byte b = buffer.get(j);
+                        if (b >= '0' && b <= '9') {
+                            pid = pid * 10 + (b - '0');
+                            inNumber = true;
+                        }
+                        else if (inNumber) {
+                            pids.add(pid);
+                            pid = 0;
+                            inNumber = false;
+                        }
+                    }
+                    if (inNumber) pids.add(pid);
+                }
+            }
+            catch (NoSuchFileException e) {
+                // the process has exited since being listed
+            }
+        }
+        return pids.toArray();
+    }
+
+    /**
+     * Walk the tree by reading the parent pid of every process in /proc, as `ps --ppid` would do
+     */
+    private int[] walkAllProcesses(int rootPid) throws IOException {
+        IntList allPids = new IntList();
+        IntList allParents = new IntList();
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(PROC_DIR)) {
+            for (Path process : processes) {
+                int pid = parsePid(process.getFileName().toString());
+                if (pid <= 0) continue;
+                try {
+                    // processes are not kept open as all the processes of the host are listed here
+                    int length = readOnce(process.resolve("stat"));
+                    allParents.add(parser.parseParentPid(buffer, length));
+                    allPids.add(pid);
+                }
+                catch (IOException | RuntimeException e) {
+                    // the process has exited since listing the directory
+                }
+            }
+        }
+
+        IntList pids = new IntList();
+        pids.add(rootPid);
+        for (int i = 0; i < pids.size(); i++) {
+            int parent = pids.get(i);
+            for (int j = 0; j < allPids.size(); j++) {
+                if (allParents.get(j) == parent && allPids.get(j) != rootPid) pids.add(allPids.get(j));
+            }
+        }
+        return pids.toArray();
+    }
+
+    private static int parsePid(String s) {
+        int pid = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            pid = pid * 10 + (c - '0');
+        }
+        return pid;
+    }
+
+    /**
+     * Add the stat of the given pids to the accumulator. Processes that have exited since listing the pids are skipped.
+     * @param pids                  The pids of the process tree
+     * @param acc                   The accumulator to add values to
+     */
+    public void stat(int[] pids, ProcFSParser.PidStatAccumulator acc) throws IOException {
+        for (int pid : pids) {
+            try {
+                int length = read(pidFile(pid, "stat"));
+                parser.parsePidStat(buffer, length, acc);
+            }
+            catch (IOException e) {
+                if (isAlive(pid)) throw e;
+            }
+        }
+    }
+
+    /**
+     * Get the stat for a given pid
+     * @param pid                   The process pid
+     * @return                      A ProcPidStat object
+     */
+    public ProcFSUtils.ProcPidStat stat(int pid) throws IOException {
+        pidStat.reset();
+        parser.parsePidStat(buffer, read(pidFile(pid, "stat")), pidStat);
+        return new ProcFSUtils.ProcPidStat(pidStat.pid, pidStat.userTicks, pidStat.systemTicks, pidStat.rssPages, pidStat.vMemBytes);
+    }
+
+    /**
+     * Get the stat for the given pids. Processes that have exited since listing the pids are skipped.
+     * @param pids                  The pids of the process tree
+     * @return                      An array of ProcPidStat objects
+     */
+    public ProcFSUtils.ProcPidStat[] stat(int[] pids) throws IOException {
+        List<ProcFSUtils.ProcPidStat> stats = new ArrayList<>(pids.length);
+        for (int pid : pids) {
+            try {
+                stats.add(stat(pid));
+            }
+            catch (IOException e) {
+                if (isAlive(pid)) throw e;
+            }
+        }
+        return stats.toArray(new ProcFSUtils.ProcPidStat[stats.size()]);
+    }
+
+    /**
+     * Set the host-wide cpu statistics in the accumulator
+     * @param acc                   The accumulator to set values to
+     */
+    public void stat(ProcFSParser.CpuStatAccumulator acc) throws IOException {
+        parser.parseStat(buffer, read(PROC_STAT), acc);
+    }
+
+    /**
+     * Get the host-wide cpu statistics
+     * @return                      A ProcStat object
+     */
+    public ProcFSUtils.ProcStat stat() throws IOException {
+        ProcFSParser.CpuStatAccumulator acc = new ProcFSParser.CpuStatAccumulator();
+        stat(acc);
+        return new ProcFSUtils.ProcStat("cpu", acc.userTicks(), acc.systemTicks(), acc.niceTicks(), acc.idleTicks(),
+                acc.ioWaitTicks(), acc.irqTicks(), acc.softIrqTicks(), acc.stealTicks());
+    }
+
+    /**
+     * Add the io of the given pids to the accumulator. Processes that have exited since listing the pids are skipped.
+     * @param pids                  The pids of the process tree
+     * @param acc                   The accumulator to add values to
+     */
+    public void io(int[] pids, ProcFSParser.PidIOAccumulator acc) throws IOException {
+        for (int pid : pids) {
+            try {
+                int length = read(pidFile(pid, "io"));
+                parser.parsePidIO(buffer, length, acc);
+            }
+            catch (IOException e) {
+                if (isAlive(pid)) throw e;
+            }
+        }
+    }
+
+    public ProcFSUtils.ProcPidIO io(int pid) throws IOException {
+        pidIO.reset();
+        parser.parsePidIO(buffer, read(pidFile(pid, "io")), pidIO);
+        return new ProcFSUtils.ProcPidIO(pidIO.rchar, pidIO.wchar, pidIO.readBytes, pidIO.writeBytes);
+    }
+
+    public ProcFSUtils.ProcPidIO[] io(int[] pids) throws IOException {
+        List<ProcFSUtils.ProcPidIO> ios = new ArrayList<>(pids.length);
+        for (int pid : pids) {
+            try {
+                ios.add(io(pid));
+            }
+            catch (IOException e) {
+                if (isAlive(pid)) throw e;
+            }
+        }
+        return ios.toArray(new ProcFSUtils.ProcPidIO[ios.size()]);
+    }
+
+    /**
+     * Add the memory mappings of the given pids to the accumulator. Processes that have exited since listing the pids
+     * are skipped.
+     * @param pids                  The pids of the process tree
+     * @param acc                   The accumulator to add values to
+     */
+    public void smaps(int[] pids, ProcFSParser.SmapsAccumulator acc) throws IOException {
+        for (int pid : pids) {
+            try {
+                int length = read(pidFile(pid, "smaps"));
+                parser.parseSmaps(buffer, length, acc);
+            }
+            catch (IOException e) {
+                if (isAlive(pid)) throw e;
+            }
+        }
+    }
+
+    /**
+     * Add the memory mappings of the given pids, summed by the kernel into a single mapping per process, to the
+     * accumulator. Processes that have exited since listing the pids are skipped.
+     * The permissions of the summed mappings are lost, so the accumulator can not ignore any of them.
+     * @param pids                  The pids of the process tree
+     * @param acc                   The accumulator to add values to
+     */
+    public void smapsRollup(int[] pids, ProcFSParser.SmapsAccumulator acc) throws IOException {
+        for (int pid : pids) {
+            try {
+                int length = read(pidFile(pid, "smaps_rollup"));
+                parser.parseSmaps(buffer, length, acc);
+            }
+            catch (IOException e) {
+                if (isAlive(pid)) throw e;
+            }
+        }
+    }
+
+    public ProcFSUtils.ProcSmaps[] smaps(int pid) throws IOException {
+        List<ProcFSUtils.ProcSmaps> smaps = ProcFSUtils.parseSmaps(readString(pidFile(pid, "smaps")));
+        return smaps.toArray(new ProcFSUtils.ProcSmaps[smaps.size()]);
+    }
+
+    public ProcFSUtils.ProcSmaps[] smaps(int[] pids) throws IOException {
+        List<ProcFSUtils.ProcSmaps> smaps = new ArrayList<>();
+        for (int pid : pids) {
+            try {
+                smaps.addAll(Arrays.asList(smaps(pid)));
+            }
+            catch (IOException e) {
+                if (isAlive(pid)) throw e;
+            }
+        }
+        return smaps.toArray(new ProcFSUtils.ProcSmaps[smaps.size()]);
+    }
+
+    /**
+     * Add the bytes received and transmitted by the real network devices of the host to the accumulator
+     * @param acc                   The accumulator to add values to
+     */
+    public void netio(ProcFSParser.NetIOAccumulator acc) throws IOException {
+        long now = System.nanoTime();
+        if (netDevices == null || now - netDevicesNanos >= NET_DEVICES_REFRESH_NANOS) {
+            netDevices = getRealNetDevices();
+            netDevicesNanos = now;
+        }
+        int devicesNb = acc.devicesNb;
+        parser.parseNetDev(buffer, read(PROC_NET_DEV), netDevices, acc);
+        devicesNb = acc.devicesNb - devicesNb;
+        // a device was added or removed since the last sample, it may be a real one
+        if (netDevicesNb >= 0 && devicesNb != netDevicesNb) netDevices = null;
+        netDevicesNb = devicesNb;
+    }
+
+    public ProcFSUtils.ProcNetIO netio() throws IOException {
+        netIO.reset();
+        netio(netIO);
+        return new ProcFSUtils.ProcNetIO(netIO.rxBytes, netIO.txBytes);
+    }
+
+    /**
+     * List the network devices that are not virtual (loopback, bridges,...) using the links in /sys/class/net
+     */
+    private static byte[][] getRealNetDevices() throws IOException {
+        Set<String> devices = new HashSet<>();
+        try (DirectoryStream<Path> links = Files.newDirectoryStream(SYS_CLASS_NET)) {
+            for (Path link : links) {
+                if (!Files.isSymbolicLink(link)) continue;
+                if (!Files.readSymbolicLink(link).toString().contains(VIRTUAL_NET_DEVICES)) {
+                    devices.add(link.getFileName().toString());
+                }
+            }
+        }
+        return ProcFSUtils.toBytes(devices);
+    }
+
+    /**
+     * Close the channels that have not been read since the last call to this method, such as the ones of processes
+     * that have exited. Should be called once per sample.
+     */
+    public void releaseUnusedChannels() {
+        Iterator<CachedChannel> it = channels.values().iterator();
+        while (it.hasNext()) {
+            CachedChannel c = it.next();
+            if (!c.used) {
+                closeQuietly(c.channel);
+                it.remove();
+            }
+            else {
+                c.used = false;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (CachedChannel c : channels.values()) {
+            closeQuietly(c.channel);
+        }
+        channels.clear();
+    }
+
+    private static Path pidFile(int pid, String file) {
+        return PROC_DIR.resolve(pid + "/" + file);
+    }
+
+    private static boolean isAlive(int pid) {
+        return Files.exists(PROC_DIR.resolve(String.valueOf(pid)));
+    }
+
+    private String readString(Path path) throws IOException {
+        int length = read(path);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes, 0, length);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private int readOnce(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readFully(channel);
+        }
+    }
+
+    /**
+     * Read the whole content of a file into the buffer, re-using the channel opened for this path if any
+     * @return                      The number of bytes read, available from position 0 of the buffer
+     */
+    int read(Path path) throws IOException {
+        CachedChannel c = channels.get(path);
+        if (c == null) {
+            c = new CachedChannel(FileChannel.open(path, StandardOpenOption.READ));
+            channels.put(path, c);
+        }
+        c.used = true;
+        try {
+            return readFully(c.channel);
+        }
+        catch (IOException e) {
+            // the file can not be read anymore, e.g. if the process has exited
+            closeQuietly(c.channel);
+            channels.remove(path);
+            throw e;
+        }
+    }
+
+    private int readFully(FileChannel channel) throws IOException {
+        buffer.clear();
+        long position = 0L;
+        int n;
+        // proc files report a size of 0, so read until the end of the file is reached
+        while ((n = channel.read(buffer, position)) >= 0) {
+            position += n;
+            if (!buffer.hasRemaining()) {
+                ByteBuffer larger = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+        buffer.flip();
+        return buffer.limit();
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            // ignore, nothing can be done
+        }
+    }
+
+    private static class CachedChannel {
+        final FileChannel channel;
+        boolean used = true;
+
+        CachedChannel(FileChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * Growable list of primitive ints
+     */
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,16 +1,15 @@
 package com.criteo.babar.agent.profiler.utils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class ProcFSUtils {
 
@@ -29,8 +28,9 @@ public class ProcFSUtils {
      * @return                      An array of pids
      */
     public static int[] getChildrenPids(int rootPid) throws IOException {
-        String output = OSUtils.exec(new String[]{"ps", "-o pid --no-headers --ppid " + String.valueOf(rootPid)});
-        return parsePidsOutput(rootPid, output);
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.getChildrenPids(rootPid);
+        }
     }
 
     protected static int[] parsePidsOutput(int rootPid, String output) {
@@ -51,8 +51,9 @@ public class ProcFSUtils {
      * @return                      A ProcPidStat object
      */
     public static ProcPidStat stat(int pid) throws IOException {
-        String statLine = OSUtils.exec(new String[]{"cat", "/proc/" + pid + "/stat"});
-        return parseProcPidStat(statLine);
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.stat(pid);
+        }
     }
 
     /**
@@ -61,11 +62,9 @@ public class ProcFSUtils {
      * @return                      An array of ProcPidStat objects
      */
     public static ProcPidStat[] stat(int[] pids) throws IOException {
-        ProcPidStat[] stats = new ProcPidStat[pids.length];
-        for (int i = 0; i < pids.length; i++) {
-            stats[i] = stat(pids[i]);
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.stat(pids);
         }
-        return stats;
     }
 
     /**
@@ -75,151 +74,102 @@ public class ProcFSUtils {
      * @return                      A ProcPidStat object
      */
     protected static ProcPidStat parseProcPidStat(String statLine) throws RuntimeException {
-        String[] splits = statLine.split(" ");
-        if (splits.length < 44) {
-            throw new RuntimeException("Unable to parse stat line: `" + statLine + "` as it is too short");
-        }
-        try {
-            int pid = Integer.parseInt(splits[0]);
-            long utime = Long.parseLong(splits[13]);
-            long stime = Long.parseLong(splits[14]);
-            long vsize = Long.parseLong(splits[22]);
-            long rss = Long.parseLong(splits[23]);
-
-            return new ProcPidStat(pid, utime, stime, rss, vsize);
-        }
-        catch (NumberFormatException e) {
-            throw new RuntimeException("Unable to parse stat line: `" + statLine + "`");
-        }
+        ByteBuffer buf = wrap(statLine);
+        ProcFSParser.PidStatAccumulator acc = new ProcFSParser.PidStatAccumulator();
+        acc.reset();
+        new ProcFSParser().parsePidStat(buf, buf.limit(), acc);
+        return new ProcPidStat(acc.pid, acc.userTicks, acc.systemTicks, acc.rssPages, acc.vMemBytes);
     }
 
-    public static ProcStat stat() throws IOException {
-        String output = OSUtils.exec(new String[]{"cat", "/proc/stat"});
-        return parseProcStat(output);
+    /**
+     * Parse the parent pid from one line of /proc/pid/stat output.
+     * The process name is skipped using its closing parenthesis as it may contain spaces.
+     * @param statLine              The stat output line for a given process
+     * @return                      The pid of the parent process
+     */
+    protected static int parseParentPid(String statLine) throws RuntimeException {
+        ByteBuffer buf = wrap(statLine);
+        return new ProcFSParser().parseParentPid(buf, buf.limit());
     }
 
-    protected static ProcStat parseProcStat(String output) {
-        String[] lines = output.split("\n");
-        if (!lines[0].startsWith("cpu")) {
-            throw new RuntimeException("Unexpected first line in output of /proc/stat:\n" + output);
-        }
-
-        String[] cols = lines[0].split(" +");
-        if (cols.length < 10) {
-            throw new RuntimeException("Unable to parse cpu line in output of /proc/stat:\n" + lines[0]);
+    public static ProcStat stat() throws IOException {
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.stat();
         }
+    }
 
-        String cpu = cols[0];
-        long userTicks = Long.parseLong(cols[1]);
-        long niceTicks = Long.parseLong(cols[2]);
-        long systemTicks = Long.parseLong(cols[3]);
-        long idleTicks = Long.parseLong(cols[4]);
-        long ioWaitTicks = Long.parseLong(cols[5]);
-        long irqTicks = Long.parseLong(cols[6]);
-        long softIrqTicks = Long.parseLong(cols[7]);
-        long stealTicks = Long.parseLong(cols[8]);
-        return new ProcStat(cpu, userTicks, systemTicks, niceTicks, idleTicks, ioWaitTicks, irqTicks, softIrqTicks, stealTicks);
+    protected static ProcStat parseProcStat(String output) {
+        ByteBuffer buf = wrap(output);
+        ProcFSParser.CpuStatAccumulator acc = new ProcFSParser.CpuStatAccumulator();
+        new ProcFSParser().parseStat(buf, buf.limit(), acc);
+        return new ProcStat("cpu", acc.userTicks(), acc.systemTicks(), acc.niceTicks(), acc.idleTicks(),
+                acc.ioWaitTicks(), acc.irqTicks(), acc.softIrqTicks(), acc.stealTicks());
     }
 
     public static ProcPidIO io(int pid) throws IOException {
-        String output = OSUtils.exec(new String[]{"cat", "/proc/" + pid + "/io"});
-        return parsePidIO(output);
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.io(pid);
+        }
     }
 
     public static ProcPidIO[] io(int[] pids) throws IOException {
-        ProcPidIO[] ios = new ProcPidIO[pids.length];
-        for (int i = 0; i < pids.length; i++) {
-            ios[i] = io(pids[i]);
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.io(pids);
         }
-        return ios;
     }
 
     protected static ProcPidIO parsePidIO(String output) {
-        String[] lines = output.split("\n");
-        if (lines.length < 7) {
-            throw new RuntimeException("Unable to parse output of /proc/pid/io:\n" + output);
-        }
-
-        long rchar = -1;
-        long wchar = -1;
-        long readBytes = -1;
-        long writeBytes = -1;
-
-        for (String line: lines) {
-            if ("".equals(line)) continue;
-            String[] cols = line.split(": +");
-            if (cols.length < 2) {
-                throw new RuntimeException("Unable to parse line in output of /proc/pid/io:\n" + line);
-            }
-            String key = cols[0];
-            switch (key) {
-                case "rchar":
-                    rchar = Long.parseLong(cols[1]);
-                    break;
-                case "wchar":
-                    wchar = Long.parseLong(cols[1]);
-                    break;
-                case "read_bytes":
-                    readBytes = Long.parseLong(cols[1]);
-                    break;
-                case "write_bytes":
-                    writeBytes = Long.parseLong(cols[1]);
-                    break;
-            }
-        }
-
-        if (rchar < 0 || wchar < 0 || readBytes < 0 || writeBytes < 0) {
-            throw new RuntimeException("Missing field in output of /proc/pid/io:\n" + output);
-        }
-
-        return new ProcPidIO(rchar, wchar, readBytes, writeBytes);
+        ByteBuffer buf = wrap(output);
+        ProcFSParser.PidIOAccumulator acc = new ProcFSParser.PidIOAccumulator();
+        new ProcFSParser().parsePidIO(buf, buf.limit(), acc);
+        return new ProcPidIO(acc.rchar, acc.wchar, acc.readBytes, acc.writeBytes);
     }
 
     public static ProcNetIO netio() throws IOException {
-        String outputProcNetDev = OSUtils.exec(new String[]{"cat", "/proc/net/dev"});
-        String outputSysClassNet = OSUtils.exec(new String[]{"ls", "-l", "/sys/class/net"});
-        return parseNetIO(outputProcNetDev, outputSysClassNet);
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.netio();
+        }
     }
 
     protected static ProcNetIO parseNetIO(String outputProcNetDev, String outputSysClassNet) {
-    	Set<String> realDevices = parseRealDevices(outputSysClassNet);
-    	String[] lines = outputProcNetDev.split("\n");
-        if (!lines[0].startsWith("Inter-|")) {
-            throw new RuntimeException("Unexpected first line in output of /proc/dev/net:\n" + outputProcNetDev);
-        }
+        return parseNetIO(outputProcNetDev, parseRealDevices(outputSysClassNet));
+    }
 
-        if (lines.length < 2) {
-            throw new RuntimeException("Not enough lines in output of /proc/dev/net");
-        }
+    protected static ProcNetIO parseNetIO(String outputProcNetDev, Set<String> realDevices) {
+        ByteBuffer buf = wrap(outputProcNetDev);
+        ProcFSParser.NetIOAccumulator acc = new ProcFSParser.NetIOAccumulator();
+        new ProcFSParser().parseNetDev(buf, buf.limit(), toBytes(realDevices), acc);
+        return new ProcNetIO(acc.rxBytes, acc.txBytes);
+    }
 
-        long rxBytes = 0;
-        long txBytes = 0;
+    /**
+     * Parse the output of `ls -l /sys/class/net` to list the devices that are not virtual
+     * @return                      The names of the real devices
+     */
+    protected static Set<String> parseRealDevices(String outputSysClassNet) {
+        Set<String> realDevices = new HashSet<>();
+        String[] lines = outputSysClassNet.split("\n");
 
-        for(int i=2; i < lines.length; i++) {
-            String[] cols = lines[i].trim().split(" +"); //Trim leading spaces
+        for(String line : lines) {
+            String[] cols = line.split(" +");
 
-            if(cols.length == 17 && realDevices.contains(cols[0])) {
-                rxBytes += Long.parseLong(cols[1]);
-                txBytes += Long.parseLong(cols[9]);
+            if(cols.length == 11 && !cols[10].startsWith("../../devices/virtual/net/")) {
+                realDevices.add(cols[8]);
             }
         }
+        return realDevices;
+    }
 
-        return new ProcNetIO(rxBytes, txBytes);
-	}
-
-	protected static Set<String> parseRealDevices(String outputSysClassNet) {
-		Set<String> realDevices = new HashSet<>();
-		String[] lines = outputSysClassNet.split("\n");
-		
-		for(String line : lines) {
-			String[] cols = line.split(" +");
-			
-			if(cols.length == 11 && !cols[10].startsWith("../../devices/virtual/net/")) {
-				realDevices.add(cols[8]+":");
-			}
-		}
-		return realDevices;
-	}
+    static byte[][] toBytes(Set<String> values) {
+        byte[][] bytes = new byte[values.size()][];
+        int i = 0;
+        for (String v: values) bytes[i++] = ProcFSParser.bytes(v);
+        return bytes;
+    }
+
+    private static ByteBuffer wrap(String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.US_ASCII));
+    }
 
 	public static class ProcPidStat {
         public final int pid;
@@ -407,132 +357,36 @@ public class ProcFSUtils {
     }
 
     public static ProcSmaps[] smaps(int[] pids) throws IOException {
-        List<ProcSmaps> smaps = new ArrayList<>();
-        for (int i = 0; i < pids.length; i++) {
-            smaps.addAll(Arrays.asList(smaps(pids[i])));
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.smaps(pids);
         }
-        return smaps.toArray(new ProcSmaps[]{});
     }
 
     public static ProcSmaps[] smaps(int pid) throws IOException {
-        String output = OSUtils.exec(new String[]{"cat", "/proc/" + pid + "/smaps"});
-        return parseSmaps(output).toArray(new ProcSmaps[]{});
+        try (ProcFSReader reader = new ProcFSReader()) {
+            return reader.smaps(pid);
+        }
     }
 
     public static final String READ_ONLY_WITH_SHARED_PERMISSION = "r--s";
     public static final String READ_EXECUTE_WITH_SHARED_PERMISSION = "r-xs";
 
-    public enum MemInfo {
-        SIZE("Size"),
-        RSS("Rss"),
-        PSS("Pss"),
-        SHARED_CLEAN("Shared_Clean"),
-        SHARED_DIRTY("Shared_Dirty"),
-        PRIVATE_CLEAN("Private_Clean"),
-        PRIVATE_DIRTY("Private_Dirty"),
-        REFERENCED("Referenced"),
-        ANONYMOUS("Anonymous"),
-        ANON_HUGE_PAGES("AnonHugePages"),
-        SWAP("swap"),
-        KERNEL_PAGE_SIZE("kernelPageSize"),
-        MMU_PAGE_SIZE("mmuPageSize");
-
-        private String name;
-
-        private MemInfo(String name) {
-            this.name = name;
-        }
-
-        public static MemInfo getMemInfoByName(String name) {
-            String searchName = name.trim();
-            for (MemInfo info : MemInfo.values()) {
-                if (info.name.trim().equalsIgnoreCase(searchName)) {
-                    return info;
-                }
-            }
-            return null;
-        }
-    }
-
-    private static final Pattern ADDRESS_PATTERN = Pattern
-            .compile("([[a-f]|(0-9)]*)-([[a-f]|(0-9)]*)(\\s)*([rxwps\\-]*)");
-    private static final Pattern MEM_INFO_PATTERN = Pattern
-            .compile("(^[A-Z].*):[\\s ]*(.*)");
-
-    private static final String KB = "kB";
-
+    /**
+     * Parse the output of /proc/pid/smaps, one ProcSmaps object per mapping.
+     * Prefer {@link ProcFSParser#parseSmaps} to sum the mappings without allocating.
+     */
     protected static List<ProcSmaps> parseSmaps(String output) {
-        String[] lines = output.split("\n");
-
-        List<ProcSmaps> res = new ArrayList<>();
-        ProcSmaps.Builder builder = null;
-
-        for (String line : lines) {
-            line = line.trim();
-            Matcher address = ADDRESS_PATTERN.matcher(line);
-            if (address.find()) {
-                String permission = address.group(4).trim();
-                if (builder != null) {
-                    res.add(builder.build());
-                }
-                builder = ProcSmaps.newBuilder().permission(permission);
-                continue;
-            }
-            Matcher memInfo = MEM_INFO_PATTERN.matcher(line);
-            if (memInfo.find()) {
-                String key = memInfo.group(1).trim();
-                String value = memInfo.group(2).replace(KB, "").trim();
-
-                int val = 0;
-                try {
-                    val = Integer.parseInt(value.trim());
-                } catch (NumberFormatException ne) {
-                    continue;
-                }
-
-                MemInfo info = MemInfo.getMemInfoByName(key);
-                if (builder == null || info == null) {
-                    continue;
-                }
-
-                switch (info) {
-                    case SIZE:
-                        builder.size(val);
-                        break;
-                    case RSS:
-                        builder.rss(val);
-                        break;
-                    case PSS:
-                        builder.pss(val);
-                        break;
-                    case SHARED_CLEAN:
-                        builder.sharedClean(val);
-                        break;
-                    case SHARED_DIRTY:
-                        builder.sharedDirty(val);
-                        break;
-                    case PRIVATE_CLEAN:
-                        builder.privateClean(val);
-                        break;
-                    case PRIVATE_DIRTY:
-                        builder.privateDirty(val);
-                        break;
-                    case REFERENCED:
-                        builder.referenced(val);
-                        break;
-                    case ANONYMOUS:
-                        builder.anonymous(val);
-                        break;
-                    default:
-                        break;
-                }
+        final List<ProcSmaps> res = new ArrayList<>();
+        ProcFSParser.SmapsAccumulator acc = new ProcFSParser.SmapsAccumulator() {
+            @Override
+            void endMapping() {
+                super.endMapping();
+                res.add(new ProcSmaps(size, rss, pss, sharedClean, sharedDirty, privateClean, privateDirty,
+                        anonymous, referenced, ProcFSParser.permission(permission)));
             }
-        }
-
-        if (builder != null) {
-            res.add(builder.build());
-        }
-
+        };
+        ByteBuffer buf = wrap(output);
+        new ProcFSParser().parseSmaps(buf, buf.limit(), acc);
         return res;
     }
 }
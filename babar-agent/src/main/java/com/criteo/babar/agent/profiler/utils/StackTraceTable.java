@@ -0,0 +1,284 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns the stack traces sampled by the profilers into compact long ids.
+ *
+ * Thread names, tags and stack frames are interned into a frame table, where each distinct {@link StackTraceElement} is
+ * formatted only once. Stack traces are then interned into a trie of frames: a node is identified by its parent node
+ * and its frame, and the id of a trace is the id of its leaf node. Sampling a stack that was already seen therefore
+ * only costs a lookup per frame, and the trace label is only rendered when it is reported.
+ *
+ * The table is reset at every report, the frames and nodes of each reporting window being interned in a new generation
+ * whose number is kept in the high bits of the trace ids, so that the memory of the agent does not grow with all the
+ * threads and stacks seen during the life of the JVM, such as the task threads named after each task by Spark.
+ *
+ * The number of nodes of a generation is bounded so that workloads with a huge number of distinct stacks in a reporting
+ * window cannot exhaust the memory of the agent. Once it is reached, new frames are no longer interned until the next
+ * reset, and a stack that is not fully known is truncated to its longest interned prefix, so that its samples are still
+ * attributed to the methods that called it.
+ *
+ * The methods are synchronized since traces are interned by the sampling thread and rendered by the reporting one.
+ */
+public class StackTraceTable {
+
+    public static final long ROOT = 0L;
+    public static final char SEPARATOR = '|';
+
+    private static final long EMPTY_KEY = -1L;
+    private static final int ROOT_NODE = 0;
+
+    private final int maxNodes;
+
+    private Trie current = new Trie();
+    // the trie of the previous generation, kept to render the traces interned just before a reset
+    private Trie previous = null;
+    private int generation = 0;
+    private long truncated = 0L;
+
+    public StackTraceTable() {
+        this(1 << 18);
+    }
+
+    /**
+     * @param maxNodes              The maximum number of nodes of the trie of a generation, including the root
+     */
+    public StackTraceTable(int maxNodes) {
+        this.maxNodes = Math.max(2, maxNodes);
+    }
+
+    /**
+     * Intern a stack trace
+     * @param threadName            The name of the thread, interned as the first frame of the trace
+     * @param stack                 The stack, as returned by {@link Thread#getStackTrace()}
+     * @return                      The id of the trace, which is never {@link #ROOT} unless the table is full
+     */
+    public synchronized long intern(String threadName, StackTraceElement[] stack) {
+        return intern(threadName, null, stack, null);
+    }
+
+    /**
+     * Intern a stack trace with additional frames
+     * @param threadName            The name of the thread, interned as the first frame of the trace
+     * @param tag                   If not null, a frame interned between the thread name and the stack
+     * @param stack                 The stack, as returned by {@link Thread#getStackTrace()}
+     * @param leaf                  If not null, a frame interned after the most recent frame of the stack
+     * @return                      The id of the trace, which is never {@link #ROOT} unless the table is full
+     */
+    public synchronized long intern(String threadName, String tag, StackTraceElement[] stack, String leaf) {
+        int node = current.name(ROOT_NODE, threadName);
+        if (node < 0) {
+            truncated++;
+            return ROOT;
+        }
+        int next = tag == null ? node : current.name(node, tag);
+        // the stack trace starts with the most recent frame, whereas traces go from the root to the leaf
+        for (int i = stack.length - 1; i >= 0 && next >= 0; i--) {
+            node = next;
+            next = current.frame(node, stack[i]);
+        }
+        if (next >= 0 && leaf != null) {
+            node = next;
+            next = current.name(node, leaf);
+        }
+        if (next < 0) {
+            truncated++;
+            return id(node);
+        }
+        return id(next);
+    }
+
+    /**
+     * Render the label of a trace, with the frames separated by {@link #SEPARATOR}
+     * @param traceId               An id returned by {@link #intern(String, StackTraceElement[])} since the last but one
+     *                              {@link #reset()}
+     * @return                      The thread name followed by the frames from the root to the leaf, or null if the
+     *                              trace was interned before the last but one reset
+     */
+    public synchronized String render(long traceId) {
+        int traceGeneration = (int)(traceId >>> 32);
+        Trie trie = traceGeneration == generation ? current : traceGeneration == generation - 1 ? previous : null;
+        return trie == null ? null : trie.render((int)traceId);
+    }
+
+    /**
+     * Start a new generation of traces, so that the memory of the table is bounded by the traces of one reporting
+     * window rather than all the threads and stacks seen since the start. The traces of the previous generation can
+     * still be rendered until the next reset.
+     */
+    public synchronized void reset() {
+        previous = current;
+        current = new Trie();
+        generation++;
+    }
+
+    /**
+     * @return                      The number of distinct frames, thread names and tags interned since the last reset
+     */
+    public synchronized int getFramesNb() {
+        return current.framesNb;
+    }
+
+    /**
+     * @return                      The number of stacks that were truncated because the table is full
+     */
+    public synchronized long getTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return                      The number of nodes of the trie since the last reset, including the root
+     */
+    public synchronized int getNodesNb() {
+        return current.nodesNb;
+    }
+
+    private long id(int node) {
+        return node == ROOT_NODE ? ROOT : ((long)generation << 32) | node;
+    }
+
+    /**
+     * The frames and trie of nodes of a generation
+     */
+    private class Trie {
+
+        private final Map<StackTraceElement, Integer> frameIds = new HashMap<>();
+        private final Map<String, Integer> nameIds = new HashMap<>();
+        private String[] frames = new String[256];
+        private int framesNb = 0;
+
+        // trie nodes stored in parallel arrays, the root node has no parent nor frame
+        private int[] parents = new int[1024];
+        private int[] nodeFrames = new int[1024];
+        private int nodesNb = 1;
+
+        // open-addressed map of (parent << 32 | frame) to the child node
+        private long[] keys = new long[2048];
+        private int[] values = new int[2048];
+        private int mask = keys.length - 1;
+
+        Trie() {
+            Arrays.fill(keys, EMPTY_KEY);
+        }
+
+        // the child of the node for a thread name or a tag, or -1 if the table is full and it is unknown
+        int name(int parent, String name) {
+            Integer id = nameIds.get(name);
+            if (nodesNb >= maxNodes) return id == null ? -1 : find(parent, id);
+            if (id == null) {
+                id = addFrame(name);
+                nameIds.put(name, id);
+            }
+            return child(parent, id);
+        }
+
+        // the child of the node for a stack frame, or -1 if the table is full and it is unknown
+        int frame(int parent, StackTraceElement element) {
+            Integer id = frameIds.get(element);
+            if (nodesNb >= maxNodes) return id == null ? -1 : find(parent, id);
+            if (id == null) {
+                id = addFrame(formatFrame(element));
+                frameIds.put(element, id);
+            }
+            return child(parent, id);
+        }
+
+        String render(int leaf) {
+            if (leaf <= ROOT_NODE || leaf >= nodesNb) return null;
+            int depth = 0;
+            int length = 0;
+            for (int node = leaf; node != ROOT_NODE; node = parents[node]) {
+                depth++;
+                length += frames[nodeFrames[node]].length() + 1;
+            }
+            int[] path = new int[depth];
+            for (int node = leaf; node != ROOT_NODE; node = parents[node]) {
+                path[--depth] = nodeFrames[node];
+            }
+            StringBuilder sb = new StringBuilder(length);
+            for (int frame : path) {
+                if (sb.length() > 0) sb.append(SEPARATOR);
+                sb.append(frames[frame]);
+            }
+            return sb.toString();
+        }
+
+        private int addFrame(String frame) {
+            if (framesNb == frames.length) frames = Arrays.copyOf(frames, framesNb * 2);
+            frames[framesNb] = frame;
+            return framesNb++;
+        }
+
+        private int find(int parent, int frame) {
+            long key = key(parent, frame);
+            for (int i = hash(key) & mask; keys[i] != EMPTY_KEY; i = (i + 1) & mask) {
+                if (keys[i] == key) return values[i];
+            }
+            return -1;
+        }
+
+        private int child(int parent, int frame) {
+            long key = key(parent, frame);
+            int i = hash(key) & mask;
+            while (keys[i] != EMPTY_KEY) {
+                if (keys[i] == key) return values[i];
+                i = (i + 1) & mask;
+            }
+            int node = addNode(parent, frame);
+            keys[i] = key;
+            values[i] = node;
+            // keep the load factor under 0.5
+            if (nodesNb * 2 > keys.length) rehash();
+            return node;
+        }
+
+        private int addNode(int parent, int frame) {
+            if (nodesNb == parents.length) {
+                parents = Arrays.copyOf(parents, nodesNb * 2);
+                nodeFrames = Arrays.copyOf(nodeFrames, nodesNb * 2);
+            }
+            parents[nodesNb] = parent;
+            nodeFrames[nodesNb] = frame;
+            return nodesNb++;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            Arrays.fill(keys, EMPTY_KEY);
+            values = new int[oldValues.length * 2];
+            mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == EMPTY_KEY) continue;
+                int i = hash(oldKeys[j]) & mask;
+                while (keys[i] != EMPTY_KEY) i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private static long key(int parent, int frame) {
+        return ((long)parent << 32) | (frame & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        // murmur3 finalizer, to spread the frame ids that are mostly small consecutive ints
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int)key;
+    }
+
+    /**
+     * @param element               A frame of a stack
+     * @return                      The frame as it is rendered in the traces
+     */
+    public static String formatFrame(StackTraceElement element) {
+        return element.getClassName() + "." + element.getMethodName() + ":" + element.getLineNumber();
+    }
+}
@@ -0,0 +1,169 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import java.util.Arrays;
+
+/**
+ * Table of the state of threads when last sampled, such as their CPU times or allocated bytes, as a fixed number of
+ * long values and a group per thread, keyed on their ids.
+ *
+ * The table is open-addressed over primitive arrays, so that the deltas of all the threads are computed at every
+ * sample without boxing their ids nor allocating entries: only the threads started since the previous sample are
+ * inserted, and the table is only rebuilt when threads have died or it must grow.
+ *
+ * This class is not thread-safe.
+ */
+public class ThreadStateTable {
+
+    // thread ids are positive, so -1 marks the empty slots
+    private static final long EMPTY_KEY = -1L;
+
+    private final int valuesNb;
+
+    private long[] keys;
+    // the values of the thread in slot i are at i * valuesNb
+    private long[] values;
+    private long[] lastSeen;
+    private int[] groups;
+    private int size = 0;
+
+    /**
+     * @param expectedThreads       The number of threads expected, the table growing beyond it
+     * @param valuesNb              The number of values kept for each thread
+     */
+    public ThreadStateTable(int expectedThreads, int valuesNb) {
+        this.valuesNb = valuesNb;
+        allocate(Integer.highestOneBit(Math.max(2, expectedThreads) * 2 - 1) << 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param threadId              The id of a thread
+     * @return                      The slot of the thread, or -1 if it is not in the table
+     */
+    public int slot(long threadId) {
+        int mask = keys.length - 1;
+        for (int i = hash(threadId) & mask; ; i = (i + 1) & mask) {
+            if (keys[i] == threadId) return i;
+            if (keys[i] == EMPTY_KEY) return -1;
+        }
+    }
+
+    /**
+     * Insert a thread, whose values start at 0
+     * @param threadId              The id of the thread, which must not be in the table
+     * @param group                 The group of the thread
+     * @return                      The slot of the thread
+     */
+    public int insert(long threadId, int group) {
+        // keep the load factor under 0.5 so that probing stays short
+        if ((size + 1) * 2 > keys.length) rehash(keys.length * 2, Long.MIN_VALUE);
+        int slot = emptySlot(threadId);
+        keys[slot] = threadId;
+        groups[slot] = group;
+        size++;
+        return slot;
+    }
+
+    public int group(int slot) {
+        return groups[slot];
+    }
+
+    /**
+     * @return                      True if the thread was never marked as seen since it was inserted
+     */
+    public boolean isNew(int slot) {
+        return lastSeen[slot] == 0L;
+    }
+
+    /**
+     * Mark a thread as seen by a sample, so that it is kept by {@link #retain(long)}
+     * @param slot                  The slot of the thread
+     * @param sampleNb              The number of the sample, starting at 1
+     */
+    public void markSeen(int slot, long sampleNb) {
+        lastSeen[slot] = sampleNb;
+    }
+
+    public long get(int slot, int index) {
+        return values[slot * valuesNb + index];
+    }
+
+    public void set(int slot, int index, long value) {
+        values[slot * valuesNb + index] = value;
+    }
+
+    /**
+     * Set a counter of a thread, such as its CPU time, which only grows while the thread lives
+     * @param slot                  The slot of the thread
+     * @param index                 The index of the counter
+     * @param value                 The value of the counter since the thread started
+     * @return                      The increase of the counter since it was last updated, never negative
+     */
+    public long update(int slot, int index, long value) {
+        int i = slot * valuesNb + index;
+        long delta = Math.max(0L, value - values[i]);
+        values[i] = value;
+        return delta;
+    }
+
+    /**
+     * Add to a value of a thread
+     * @return                      The new value
+     */
+    public long add(int slot, int index, long delta) {
+        return values[slot * valuesNb + index] += delta;
+    }
+
+    /**
+     * Remove the threads not seen by a sample, which have died
+     * @param sampleNb              The number of the sample
+     */
+    public void retain(long sampleNb) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY && lastSeen[i] != sampleNb) {
+                rehash(keys.length, sampleNb);
+                return;
+            }
+        }
+    }
+
+    // rebuild the table with the given capacity, keeping the threads seen by the given sample, or all of them
+    private void rehash(int capacity, long sampleNb) {
+        long[] oldKeys = keys, oldValues = values, oldSeen = lastSeen;
+        int[] oldGroups = groups;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_KEY || (sampleNb != Long.MIN_VALUE && oldSeen[i] != sampleNb)) continue;
+            int slot = emptySlot(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            System.arraycopy(oldValues, i * valuesNb, values, slot * valuesNb, valuesNb);
+            lastSeen[slot] = oldSeen[i];
+            groups[slot] = oldGroups[i];
+            size++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        values = new long[capacity * valuesNb];
+        lastSeen = new long[capacity];
+        groups = new int[capacity];
+        size = 0;
+    }
+
+    private int emptySlot(long threadId) {
+        int mask = keys.length - 1;
+        int i = hash(threadId) & mask;
+        while (keys[i] != EMPTY_KEY) i = (i + 1) & mask;
+        return i;
+    }
+
+    private static int hash(long threadId) {
+        long h = threadId * 0x9E3779B97F4A7C15L;
+        return (int)(h ^ (h >>> 32));
+    }
+}
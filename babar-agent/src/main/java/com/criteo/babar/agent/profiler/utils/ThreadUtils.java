@@ -4,6 +4,7 @@ import com.sun.management.ThreadMXBean;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
@@ -13,6 +14,10 @@ public class ThreadUtils {
 
     private final static ThreadMXBean threadMxBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
 
+    // ids of the threads started by the agent, which should not be profiled. They are few and registered at the start,
+    // so they are copied on write and scanned without boxing the ids of the sampled threads
+    private static volatile long[] agentThreadIds = new long[0];
+
     private ThreadUtils() {
     }
 
@@ -42,4 +47,146 @@ public class ThreadUtils {
                 .filter(filter)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Get the state of the threads accepted by a filter, and their stack traces up to a given depth.
+     *
+     * Contrary to {@link #getAllThreads(boolean, boolean, Predicate)}, the stacks of the rejected threads are not
+     * walked: the name and state of all threads are read first without their stack, then the stacks are only
+     * requested for the accepted threads. The filter is applied again on the second result as the threads may have
+     * changed state in between.
+     *
+     * @param filter                Filter applied on the threads, whose stack traces are still empty
+     * @param maxDepth              The maximum number of frames to read from the top of the stacks
+     * @return                      A List of {@link ThreadInfo} for the accepted live threads
+     */
+    public static List<ThreadInfo> getThreads(final Predicate<ThreadInfo> filter, int maxDepth) {
+        ThreadInfo[] threads = threadMxBean.getThreadInfo(threadMxBean.getAllThreadIds(), 0);
+        long[] ids = new long[threads.length];
+        int idsNb = 0;
+        for (ThreadInfo thread : threads) {
+            // threads that died since their id was read are null
+            if (thread != null && filter.test(thread)) ids[idsNb++] = thread.getThreadId();
+        }
+        List<ThreadInfo> result = new ArrayList<>(idsNb);
+        if (idsNb == 0) return result;
+        for (ThreadInfo thread : threadMxBean.getThreadInfo(Arrays.copyOf(ids, idsNb), maxDepth)) {
+            if (thread != null && filter.test(thread)) result.add(thread);
+        }
+        return result;
+    }
+
+    /**
+     * Get the state of threads and their stack traces up to a given depth
+     * @param ids                   The ids of the threads
+     * @param maxDepth              The maximum number of frames to read from the top of the stacks
+     * @return                      A List of {@link ThreadInfo} for the threads still alive
+     */
+    public static List<ThreadInfo> getThreads(long[] ids, int maxDepth) {
+        List<ThreadInfo> result = new ArrayList<>(ids.length);
+        if (ids.length == 0) return result;
+        for (ThreadInfo thread : threadMxBean.getThreadInfo(ids, maxDepth)) {
+            if (thread != null) result.add(thread);
+        }
+        return result;
+    }
+
+    public static long[] getAllThreadIds() {
+        return threadMxBean.getAllThreadIds();
+    }
+
+    /**
+     * Enable the counting of the bytes allocated by each thread, if the JVM supports it
+     * @return                      True if the bytes allocated by each thread are counted
+     */
+    public static boolean enableThreadAllocatedMemory() {
+        if (!threadMxBean.isThreadAllocatedMemorySupported()) return false;
+        if (!threadMxBean.isThreadAllocatedMemoryEnabled()) threadMxBean.setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    /**
+     * @param ids                   The ids of threads
+     * @return                      The bytes allocated on the heap by each thread since it started, or -1 for the
+     *                              threads that are no longer alive
+     */
+    public static long[] getThreadAllocatedBytes(long[] ids) {
+        return threadMxBean.getThreadAllocatedBytes(ids);
+    }
+
+    /**
+     * Enable the measure of the CPU time of each thread, if the JVM supports it
+     * @return                      True if the CPU time of the threads is measured
+     */
+    public static boolean enableThreadCpuTime() {
+        if (!threadMxBean.isThreadCpuTimeSupported()) return false;
+        if (!threadMxBean.isThreadCpuTimeEnabled()) threadMxBean.setThreadCpuTimeEnabled(true);
+        return true;
+    }
+
+    /**
+     * @param ids                   The ids of threads
+     * @return                      The CPU time of each thread since it started in nanoseconds, read in a single call,
+     *                              or -1 for the threads that are no longer alive
+     */
+    public static long[] getThreadCpuTime(long[] ids) {
+        return threadMxBean.getThreadCpuTime(ids);
+    }
+
+    /**
+     * @param ids                   The ids of threads
+     * @return                      The CPU time in user mode of each thread since it started in nanoseconds, read in a
+     *                              single call, or -1 for the threads that are no longer alive
+     */
+    public static long[] getThreadUserTime(long[] ids) {
+        return threadMxBean.getThreadUserTime(ids);
+    }
+
+    /**
+     * Get the state of threads with their full stack traces and the monitors and synchronizers they hold
+     * @param ids                   The ids of the threads
+     * @return                      A List of {@link ThreadInfo} for the threads still alive
+     */
+    public static List<ThreadInfo> getThreadsWithLocks(long[] ids) {
+        List<ThreadInfo> result = new ArrayList<>(ids.length);
+        if (ids.length == 0) return result;
+        boolean lockedMonitors = threadMxBean.isObjectMonitorUsageSupported();
+        boolean lockedSynchronizers = threadMxBean.isSynchronizerUsageSupported();
+        for (ThreadInfo thread : threadMxBean.getThreadInfo(ids, lockedMonitors, lockedSynchronizers)) {
+            if (thread != null) result.add(thread);
+        }
+        return result;
+    }
+
+    /**
+     * Enable the measure of the time threads are blocked or waiting, if the JVM supports it
+     * @return                      True if the blocked and waited times of the threads are measured
+     */
+    public static boolean enableThreadContentionMonitoring() {
+        if (!threadMxBean.isThreadContentionMonitoringSupported()) return false;
+        if (!threadMxBean.isThreadContentionMonitoringEnabled()) threadMxBean.setThreadContentionMonitoringEnabled(true);
+        return true;
+    }
+
+    /**
+     * Register a thread started by the agent so that it is not profiled
+     * @param thread                The thread to register
+     */
+    public static synchronized void registerAgentThread(Thread thread) {
+        if (isAgentThread(thread.getId())) return;
+        long[] ids = Arrays.copyOf(agentThreadIds, agentThreadIds.length + 1);
+        ids[ids.length - 1] = thread.getId();
+        agentThreadIds = ids;
+    }
+
+    /**
+     * @param threadId              The id of a thread
+     * @return                      True if the thread was registered with {@link #registerAgentThread(Thread)}
+     */
+    public static boolean isAgentThread(long threadId) {
+        for (long id : agentThreadIds) {
+            if (id == threadId) return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,166 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counter of samples by trace, keyed on long trace ids.
+ *
+ * The counts are stored in an open-addressed table of primitives: a slot is claimed with a CAS on its key, then its
+ * count is incremented and its first timestamp lowered atomically, so that concurrent samplers never block each other.
+ *
+ * Two tables are used alternately: {@link #drain(Consumer)} switches the samplers to the other table, waits for the
+ * samplers still writing to the previous one to leave it, which only takes a few instructions, then reads and clears
+ * it. Reporting therefore never blocks sampling, and the tables are allocated once so a new reporting window does not
+ * start by re-growing a map.
+ *
+ * The number of distinct traces per window is bounded to keep the memory of the agent constant. Once it is reached,
+ * the samples of the traces not already counted are not recorded, but their number is returned by the next
+ * {@link #drain(Consumer)} so that they can be reported as overflow.
+ */
+public class TraceCounter {
+
+    // trace ids must not be 0, which marks the empty slots
+    private static final long EMPTY_KEY = 0L;
+
+    private final int maxTraces;
+    private volatile Table current;
+    private Table spare;
+
+    /**
+     * @param maxTraces             The maximum number of distinct traces counted between two drains
+     */
+    public TraceCounter(int maxTraces) {
+        this.maxTraces = Math.max(1, maxTraces);
+        // keep the load factor under 0.5 so that probing stays short
+        int capacity = Integer.highestOneBit(this.maxTraces * 2 - 1) << 1;
+        this.current = new Table(capacity);
+        this.spare = new Table(capacity);
+    }
+
+    /**
+     * Count samples of a trace
+     * @param traceId               The id of the trace, which must not be 0
+     * @param count                 The number of samples
+     * @param timestamp             The time of the samples
+     * @return                      False if the trace could not be counted as the maximum number of traces is reached
+     */
+    public boolean increment(long traceId, long count, long timestamp) {
+        Table table = enter();
+        try {
+            return table.increment(traceId, count, timestamp, maxTraces);
+        }
+        finally {
+            table.writers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Read and reset the counts. Concurrent drains are serialized.
+     * @param consumer              Called for each trace counted since the last drain
+     * @return                      The number of samples that could not be counted since the last drain
+     */
+    public synchronized long drain(Consumer consumer) {
+        Table table = current;
+        current = spare;
+        // samplers that entered the previous table before the switch are only incrementing a few counters
+        while (table.writers.get() != 0) {
+            Thread.yield();
+        }
+        for (int i = 0; i < table.capacity; i++) {
+            long key = table.keys.get(i);
+            if (key != EMPTY_KEY) {
+                consumer.accept(key, table.counts.get(i), table.firstTimestamps.get(i));
+            }
+        }
+        long overflow = table.overflow.get();
+        table.clear();
+        spare = table;
+        return overflow;
+    }
+
+    public int getMaxTraces() {
+        return maxTraces;
+    }
+
+    private Table enter() {
+        while (true) {
+            Table table = current;
+            table.writers.incrementAndGet();
+            // the table may have been switched before this writer was registered
+            if (table == current) return table;
+            table.writers.decrementAndGet();
+        }
+    }
+
+    public interface Consumer {
+        void accept(long traceId, long count, long firstTimestamp);
+    }
+
+    private static class Table {
+        final int capacity;
+        final int mask;
+        final AtomicLongArray keys;
+        final AtomicLongArray counts;
+        final AtomicLongArray firstTimestamps;
+        final AtomicInteger size = new AtomicInteger(0);
+        final AtomicLong overflow = new AtomicLong(0L);
+        final AtomicInteger writers = new AtomicInteger(0);
+
+        Table(int capacity) {
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            this.keys = new AtomicLongArray(capacity);
+            this.counts = new AtomicLongArray(capacity);
+            this.firstTimestamps = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                firstTimestamps.set(i, Long.MAX_VALUE);
+            }
+        }
+
+        boolean increment(long key, long count, long timestamp, int maxTraces) {
+            int i = hash(key) & mask;
+            while (true) {
+                long cur = keys.get(i);
+                if (cur == EMPTY_KEY) {
+                    // concurrent samplers may exceed the maximum by a few traces, which still fit in the table
+                    if (size.get() >= maxTraces) {
+                        overflow.addAndGet(count);
+                        return false;
+                    }
+                    if (!keys.compareAndSet(i, EMPTY_KEY, key)) continue;   // re-read the slot
+                    size.incrementAndGet();
+                    cur = key;
+                }
+                if (cur == key) {
+                    counts.addAndGet(i, count);
+                    long first;
+                    while ((first = firstTimestamps.get(i)) > timestamp &&
+                            !firstTimestamps.compareAndSet(i, first, timestamp)) { }
+                    return true;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < capacity; i++) {
+                if (keys.get(i) != EMPTY_KEY) {
+                    keys.set(i, EMPTY_KEY);
+                    counts.set(i, 0L);
+                    firstTimestamps.set(i, Long.MAX_VALUE);
+                }
+            }
+            size.set(0);
+            overflow.set(0L);
+        }
+
+        private static int hash(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return (int)key;
+        }
+    }
+}
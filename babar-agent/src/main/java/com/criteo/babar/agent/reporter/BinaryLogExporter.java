@@ -0,0 +1,107 @@
+package com.criteo.babar.agent.reporter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts the binary file written by the {@link BinaryReporter} to the text lines written by the {@link LogReporter}
+ * so that they can be read by the processor.
+ *
+ * Usage: java -cp babar-agent.jar com.criteo.babar.agent.reporter.BinaryLogExporter babar.bin [babar.log]
+ * The lines are written to the standard output if no output file is given.
+ */
+public class BinaryLogExporter {
+
+    private final Map<Integer, String> containers = new HashMap<>();
+    private final Map<Integer, String> metrics = new HashMap<>();
+    private final Map<Integer, String> labels = new HashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: BinaryLogExporter <input file> [<output file>]");
+            System.exit(1);
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(args[0]));
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     args.length > 1 ? new FileOutputStream(args[1]) : System.out, StandardCharsets.UTF_8))) {
+            long events = new BinaryLogExporter().export(in, out);
+            System.err.println("Exported " + events + " events");
+        }
+    }
+
+    /**
+     * Write the events of the binary input as text lines
+     * @param in                    The content written by a BinaryReporter
+     * @param out                   The writer of the lines
+     * @return                      The number of events written
+     */
+    public long export(InputStream in, Writer out) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[BinaryReporter.MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, BinaryReporter.MAGIC)) {
+            throw new IOException("Input is not a babar binary file");
+        }
+        int version = data.readInt();
+        if (version != BinaryReporter.VERSION) {
+            throw new IOException("Unsupported babar binary file version " + version);
+        }
+
+        long events = 0L;
+        try {
+            while (true) {
+                int length = data.readInt();
+                byte type = data.readByte();
+                switch (type) {
+                    case BinaryReporter.CONTAINER_RECORD:
+                        containers.put(data.readInt(), readString(data, length - 5));
+                        break;
+                    case BinaryReporter.METRIC_RECORD:
+                        metrics.put(data.readInt(), readString(data, length - 5));
+                        break;
+                    case BinaryReporter.LABEL_RECORD:
+                        labels.put(data.readInt(), readString(data, length - 5));
+                        break;
+                    case BinaryReporter.EVENT_RECORD:
+                        String container = containers.get(data.readInt());
+                        String metric = metrics.get(data.readInt());
+                        long time = data.readLong();
+                        double value = data.readDouble();
+                        int labelId = data.readInt();
+                        String label = labelId == BinaryReporter.EMPTY_LABEL ? "" : labels.get(labelId);
+                        out.write(LogReporter.LINE_PREFIX + LogReporter.LINE_SEPARATOR + container +
+                                LogReporter.LINE_SEPARATOR + metric + LogReporter.LINE_SEPARATOR + time +
+                                LogReporter.LINE_SEPARATOR + value + LogReporter.LINE_SEPARATOR + label + "\n");
+                        events++;
+                        break;
+                    default:
+                        // record written by a newer version
+                        data.skipBytes(length - 1);
+                }
+            }
+        }
+        catch (EOFException e) {
+            // end of the input. The last record may also be truncated if the JVM was killed while writing it
+        }
+        out.flush();
+        return events;
+    }
+
+    private static String readString(DataInputStream data, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
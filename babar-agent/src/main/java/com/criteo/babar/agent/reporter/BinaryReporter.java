@@ -0,0 +1,180 @@
+package com.criteo.babar.agent.reporter;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.ThreadUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reporter that queues the events in a lock-free ring buffer, from which a background thread writes them in batches
+ * to a binary file. Profilers only copy primitives and references into the buffer so that reporting does not
+ * allocate nor block on IO.
+ *
+ * The file starts with {@link #MAGIC} and {@link #VERSION} followed by records, each prefixed with its length so that
+ * readers can skip the records they do not know:
+ * <pre>
+ *   int length | byte type | payload
+ * </pre>
+ * Containers, metrics and labels are written once as dictionary records mapping an int id to a UTF-8 name, and are
+ * then referenced by their id in the events. The label id 0 is the empty label.
+ * See {@link BinaryLogExporter} to convert the file back to the text format of the {@link LogReporter}.
+ */
+public class BinaryReporter extends Reporter {
+
+    public static final String BUFFER_SIZE_KEY = "bufferSize";
+
+    public static final byte[] MAGIC = "BABARBIN".getBytes(StandardCharsets.US_ASCII);
+    public static final int VERSION = 1;
+
+    public static final byte CONTAINER_RECORD = 1;
+    public static final byte METRIC_RECORD = 2;
+    public static final byte LABEL_RECORD = 3;
+    public static final byte EVENT_RECORD = 4;
+
+    public static final int EVENT_LENGTH = 1 + 4 + 4 + 8 + 8 + 4;
+    public static final int EMPTY_LABEL = MetricRegistry.EMPTY_LABEL;
+
+    public static final String WRITER_THREAD_NAME = "babar-reporter";
+
+    private static final int CONTAINER_ID = 0;
+    private static final int BATCH_SIZE = 1024;
+    private static final long IDLE_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FLUSH_INTERVAL_MS = 1000L;
+
+    private final String logDir;
+    private final EventRingBuffer buffer;
+
+    // metrics are interned by the producers, labels only by the writer thread
+    private final MetricRegistry registry = new MetricRegistry();
+
+    private volatile boolean running = false;
+    private Thread writerThread;
+    private DataOutputStream out;
+
+    public BinaryReporter(AgentConfig config) {
+        super(config);
+        this.logDir = LogReporter.getLogDir(config);
+        this.buffer = new EventRingBuffer(config.getIntOrDefault(BUFFER_SIZE_KEY, 16384));
+    }
+
+    @Override
+    public void start() {
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logDir + "/babar.bin"), 1 << 16));
+            out.write(MAGIC);
+            out.writeInt(VERSION);
+            writeDictionary(CONTAINER_RECORD, CONTAINER_ID, container);
+            running = true;
+            writerThread = new Thread(new Writer(), WRITER_THREAD_NAME);
+            writerThread.setDaemon(true);
+            ThreadUtils.registerAgentThread(writerThread);
+            writerThread.start();
+        }
+        catch (IOException e) {
+            System.err.println("Exception thrown while starting reporter");
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void stop() {
+        try {
+            running = false;
+            if (writerThread != null) {
+                LockSupport.unpark(writerThread);
+                writerThread.join();
+            }
+            if (out != null) out.close();
+            if (buffer.getDropped() > 0) {
+                System.err.println(buffer.getDropped() + " events were dropped as the reporter buffer was full");
+            }
+        }
+        catch (IOException | InterruptedException e) {
+            System.err.println("Exception thrown while stopping reporter");
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void reportEvent(String metric, String label, double value, long time) {
+        buffer.offer(CONTAINER_ID, registry.getMetricId(metric), time, value, label);
+    }
+
+    private void writeDictionary(byte type, int id, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(1 + 4 + bytes.length);
+        out.writeByte(type);
+        out.writeInt(id);
+        out.write(bytes);
+    }
+
+    /**
+     * Drains the buffer to the file, writing the dictionary records of the metrics and labels as they are first seen
+     */
+    private class Writer implements Runnable, EventRingBuffer.Consumer {
+
+        private boolean[] writtenMetrics = new boolean[64];
+        // labels are interned to write the traces reported again only once
+        private int writtenLabels = EMPTY_LABEL + 1;
+        private long lastFlushMs = System.currentTimeMillis();
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    int n = buffer.drain(this, BATCH_SIZE);
+                    long now = System.currentTimeMillis();
+                    if (now - lastFlushMs >= FLUSH_INTERVAL_MS) {
+                        out.flush();
+                        lastFlushMs = now;
+                    }
+                    if (n == 0) LockSupport.parkNanos(IDLE_NS);
+                }
+                // write the last events reported by the profilers when stopping
+                while (buffer.drain(this, BATCH_SIZE) > 0) { }
+                out.flush();
+            }
+            catch (IOException e) {
+                System.err.println("Exception thrown while logging metric");
+                e.printStackTrace();
+            }
+        }
+
+        @Override
+        public void accept(int container, int metric, long time, double value, String label) {
+            try {
+                if (metric >= writtenMetrics.length) {
+                    writtenMetrics = Arrays.copyOf(writtenMetrics, Math.max(metric + 1, writtenMetrics.length * 2));
+                }
+                if (!writtenMetrics[metric]) {
+                    writeDictionary(METRIC_RECORD, metric, registry.getMetricName(metric));
+                    writtenMetrics[metric] = true;
+                }
+                int labelId = registry.getLabelId(label);
+                if (labelId >= writtenLabels) {
+                    // labels are only interned by this thread, so an unknown label always gets the greatest id
+                    writeDictionary(LABEL_RECORD, labelId, label);
+                    writtenLabels = labelId + 1;
+                }
+                out.writeInt(EVENT_LENGTH);
+                out.writeByte(EVENT_RECORD);
+                out.writeInt(container);
+                out.writeInt(metric);
+                out.writeLong(time);
+                out.writeDouble(value);
+                out.writeInt(labelId);
+            }
+            catch (IOException e) {
+                System.err.println("Exception thrown while logging metric");
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.criteo.babar.agent.reporter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring buffer of events, written by multiple producers and read by a single consumer.
+ *
+ * The events are stored in parallel arrays of primitives so that publishing an event does not allocate. A producer
+ * claims a sequence with a CAS on the tail, writes the fields of the slot then publishes it by setting the slot
+ * sequence. The consumer reads the slots in order and only moves the head once a batch has been read, which frees
+ * the slots for the producers. When the buffer is full, events are dropped and counted rather than blocking the
+ * profilers.
+ */
+public class EventRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+
+    private final int[] containers;
+    private final int[] metrics;
+    private final long[] times;
+    private final double[] values;
+    private final String[] labels;
+    // sequence + 1 of the event held by each slot once it is fully written
+    private final AtomicLongArray published;
+
+    private final AtomicLong tail = new AtomicLong(0L);
+    private final AtomicLong head = new AtomicLong(0L);
+    private final AtomicLong dropped = new AtomicLong(0L);
+
+    /**
+     * @param capacity              The number of events in the buffer, rounded up to a power of two
+     */
+    public EventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.containers = new int[size];
+        this.metrics = new int[size];
+        this.times = new long[size];
+        this.values = new double[size];
+        this.labels = new String[size];
+        this.published = new AtomicLongArray(size);
+    }
+
+    /**
+     * Add an event to the buffer. The label is stored by reference.
+     * @return                      False if the buffer is full and the event has been dropped
+     */
+    public boolean offer(int container, int metric, long time, double value, String label) {
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head.get() >= capacity) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+        while (!tail.compareAndSet(seq, seq + 1));
+
+        int i = (int)(seq & mask);
+        containers[i] = container;
+        metrics[i] = metric;
+        times[i] = time;
+        values[i] = value;
+        labels[i] = label;
+        published.lazySet(i, seq + 1);
+        return true;
+    }
+
+    /**
+     * Read the published events in order, up to the given number. Must only be called by the consumer thread.
+     * @param consumer              The consumer of the events
+     * @param maxEvents             The maximum number of events to read
+     * @return                      The number of events read
+     */
+    public int drain(Consumer consumer, int maxEvents) {
+        long start = head.get();
+        long seq = start;
+        while (seq - start < maxEvents) {
+            int i = (int)(seq & mask);
+            if (published.get(i) != seq + 1) break;
+            consumer.accept(containers[i], metrics[i], times[i], values[i], labels[i]);
+            // release the reference so that labels can be collected
+            labels[i] = null;
+            seq++;
+        }
+        if (seq != start) head.lazySet(seq);
+        return (int)(seq - start);
+    }
+
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return                      The number of events dropped because the buffer was full
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public interface Consumer {
+        void accept(int container, int metric, long time, double value, String label);
+    }
+}
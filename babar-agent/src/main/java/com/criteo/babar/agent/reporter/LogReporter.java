@@ -5,21 +5,50 @@ import com.criteo.babar.agent.config.AgentConfig;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Arrays;
 
+/**
+ * Reporter that writes the events as text lines in the log directory of the container.
+ *
+ * With the default 'text' format, each line holds all the names of the event:
+ * <pre>
+ *   BABAR  container  metric  time  value  label
+ * </pre>
+ * With the 'dictionary' format, the names are written once and the events refer to them by id:
+ * <pre>
+ *   BABAR_DICT  C  container           (starts the dictionary of the file)
+ *   BABAR_DICT  M  id  metric
+ *   BABAR_DICT  L  id  label
+ *   BABAR_ID  metricId  time  value  labelId
+ * </pre>
+ */
 public class LogReporter extends Reporter {
 
     public static final String LOG_DIR_KEY = "dir";
+    public static final String FORMAT_KEY = "format";
 
-    private final static String LINE_PREFIX = "BABAR";
-    private final static String LINE_SEPARATOR = "\t";
+    final static String LINE_PREFIX = "BABAR";
+    final static String LINE_SEPARATOR = "\t";
+    final static String DICTIONARY_LINE_PREFIX = "BABAR_DICT";
+    final static String ID_LINE_PREFIX = "BABAR_ID";
 
     private final String logDir;
+    private final boolean useDictionary;
+    private final MetricRegistry registry = new MetricRegistry();
+    private boolean[] writtenMetrics = new boolean[64];
+    private int writtenLabels = MetricRegistry.EMPTY_LABEL + 1;
     private BufferedWriter bw = null;
     private FileWriter fw = null;
 
     public LogReporter(AgentConfig config) {
         super(config);
         this.logDir = getLogDir(config);
+        String format = config.getStringOrDefault(FORMAT_KEY, "text");
+        switch (format) {
+            case "text": this.useDictionary = false; break;
+            case "dictionary": this.useDictionary = true; break;
+            default: throw new IllegalArgumentException("Unknown log format: " + format);
+        }
     }
 
     @Override
@@ -28,6 +57,7 @@ public class LogReporter extends Reporter {
             fw = new FileWriter(logDir +"/babar.log");
             bw = new BufferedWriter(fw);
             bw.newLine();
+            if (useDictionary) writeDictionary("C", container);
         }
         catch (IOException e) {
             System.err.println("Exception thrown while starting reporter");
@@ -36,7 +66,7 @@ public class LogReporter extends Reporter {
     }
 
     @Override
-    public void stop() {
+    public synchronized void stop() {
         try {
             bw.flush();
             bw.close();
@@ -49,14 +79,11 @@ public class LogReporter extends Reporter {
     }
 
     @Override
-    public void reportEvent(String metric, String label, Double value, Long time) {
-        String line = container + LINE_SEPARATOR + metric + LINE_SEPARATOR + time + LINE_SEPARATOR + value + LINE_SEPARATOR + label;
-        log(line);
-    }
-
-    private void log(String line) {
+    public synchronized void reportEvent(String metric, String label, double value, long time) {
+        // the profilers report from different threads, so lines are written under the lock of the reporter
         try {
-            bw.write(LINE_PREFIX + LINE_SEPARATOR + line + "\n");
+            if (useDictionary) writeWithIds(metric, label, value, time);
+            else write(metric, label, value, time);
         }
         catch (Exception e) {
             System.err.println("Exception thrown while logging metric");
@@ -64,7 +91,60 @@ public class LogReporter extends Reporter {
         }
     }
 
-    static private String getLogDir(AgentConfig config) {
+    private void write(String metric, String label, double value, long time) throws IOException {
+        bw.write(LINE_PREFIX);
+        bw.write(LINE_SEPARATOR);
+        bw.write(container);
+        bw.write(LINE_SEPARATOR);
+        bw.write(metric);
+        bw.write(LINE_SEPARATOR);
+        bw.write(Long.toString(time));
+        bw.write(LINE_SEPARATOR);
+        bw.write(Double.toString(value));
+        bw.write(LINE_SEPARATOR);
+        // as when the lines were concatenated, so that a null label does not leave a partial line
+        bw.write(String.valueOf(label));
+        bw.write('\n');
+    }
+
+    private void writeWithIds(String metric, String label, double value, long time) throws IOException {
+        int metricId = registry.getMetricId(metric);
+        if (metricId >= writtenMetrics.length) {
+            writtenMetrics = Arrays.copyOf(writtenMetrics, Math.max(metricId + 1, writtenMetrics.length * 2));
+        }
+        if (!writtenMetrics[metricId]) {
+            writeDictionary("M", metricId, metric);
+            writtenMetrics[metricId] = true;
+        }
+        int labelId = registry.getLabelId(label);
+        if (labelId >= writtenLabels) {
+            // labels are interned under the lock of the reporter, so an unknown label always gets the greatest id
+            writeDictionary("L", labelId, label);
+            writtenLabels = labelId + 1;
+        }
+        bw.write(ID_LINE_PREFIX);
+        bw.write(LINE_SEPARATOR);
+        bw.write(Integer.toString(metricId));
+        bw.write(LINE_SEPARATOR);
+        bw.write(Long.toString(time));
+        bw.write(LINE_SEPARATOR);
+        bw.write(Double.toString(value));
+        if (labelId != MetricRegistry.EMPTY_LABEL) {
+            bw.write(LINE_SEPARATOR);
+            bw.write(Integer.toString(labelId));
+        }
+        bw.write('\n');
+    }
+
+    private void writeDictionary(String kind, String name) throws IOException {
+        bw.write(DICTIONARY_LINE_PREFIX + LINE_SEPARATOR + kind + LINE_SEPARATOR + name + "\n");
+    }
+
+    private void writeDictionary(String kind, int id, String name) throws IOException {
+        bw.write(DICTIONARY_LINE_PREFIX + LINE_SEPARATOR + kind + LINE_SEPARATOR + id + LINE_SEPARATOR + name + "\n");
+    }
+
+    static String getLogDir(AgentConfig config) {
         String logDir = config.getString(LOG_DIR_KEY);
         if (logDir == null) logDir = System.getProperty("yarn.app.container.log.dir");
         if (logDir == null) logDir = System.getProperty("spark.yarn.app.container.log.dir");
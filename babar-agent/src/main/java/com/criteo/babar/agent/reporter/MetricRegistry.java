@@ -0,0 +1,86 @@
+package com.criteo.babar.agent.reporter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns the names of the metrics and the labels of the events into dense int ids, so that reporters can write each
+ * name once and then refer to it by its id.
+ *
+ * Metric ids are requested concurrently by all the profilers and are never forgotten, as there are only a few tens of
+ * metrics. Labels, which are mostly stack traces, are interned up to a bounded number: when it is reached, the known
+ * labels are forgotten and interned again with new ids. Ids are never re-used so that readers can keep all the names
+ * they have read. Reporters should only intern labels from a single thread, or under a lock, so that new label ids are
+ * always greater than the ones already returned.
+ */
+public class MetricRegistry {
+
+    public static final int EMPTY_LABEL = 0;
+
+    private final int maxLabels;
+
+    private final Map<String, Integer> metricIds = new ConcurrentHashMap<>();
+    private volatile String[] metricNames = new String[64];
+
+    private final Map<String, Integer> labelIds = new HashMap<>();
+    private int nextLabelId = EMPTY_LABEL + 1;
+
+    public MetricRegistry() {
+        this(1 << 16);
+    }
+
+    /**
+     * @param maxLabels             The maximum number of labels to keep interned
+     */
+    public MetricRegistry(int maxLabels) {
+        this.maxLabels = maxLabels;
+    }
+
+    /**
+     * Get the id of a metric, registering the metric if it is unknown
+     * @param metric                The name of the metric
+     * @return                      The id of the metric
+     */
+    public int getMetricId(String metric) {
+        Integer id = metricIds.get(metric);
+        return id != null ? id : registerMetric(metric);
+    }
+
+    private synchronized int registerMetric(String metric) {
+        Integer id = metricIds.get(metric);
+        if (id != null) return id;
+        int newId = metricIds.size();
+        String[] names = metricNames;
+        if (newId == names.length) names = Arrays.copyOf(names, names.length * 2);
+        names[newId] = metric;
+        // the volatile write publishes the name before the id is returned
+        metricNames = names;
+        metricIds.put(metric, newId);
+        return newId;
+    }
+
+    /**
+     * @param id                    An id returned by {@link #getMetricId(String)}
+     * @return                      The name of the metric
+     */
+    public String getMetricName(int id) {
+        return metricNames[id];
+    }
+
+    /**
+     * Get the id of a label, interning the label if it is unknown
+     * @param label                 The label, which may be empty
+     * @return                      The id of the label, or {@link #EMPTY_LABEL}
+     */
+    public synchronized int getLabelId(String label) {
+        if (label == null || label.isEmpty()) return EMPTY_LABEL;
+        Integer id = labelIds.get(label);
+        if (id != null) return id;
+        if (labelIds.size() >= maxLabels) labelIds.clear();
+        int newId = nextLabelId++;
+        labelIds.put(label, newId);
+        return newId;
+    }
+}
@@ -10,7 +10,19 @@ public abstract class Reporter {
 
     public abstract void start();
     public abstract void stop();
-    public abstract void reportEvent(String metric, String label, Double value, Long time);
+
+    /**
+     * Report the value of a metric. Implementations may be called concurrently by all the profilers.
+     * @param metric                The name of the metric
+     * @param label                 The label of the value, or an empty string
+     * @param value                 The value of the metric
+     * @param time                  The time of the measure in milliseconds
+     */
+    public abstract void reportEvent(String metric, String label, double value, long time);
+
+    public void reportEvent(String metric, String label, Double value, Long time) {
+        reportEvent(metric, label, value.doubleValue(), time.longValue());
+    }
 
     protected static final String container;
 
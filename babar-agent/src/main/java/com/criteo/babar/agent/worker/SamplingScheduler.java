@@ -1,5 +1,6 @@
 package com.criteo.babar.agent.worker;
 
+import com.criteo.babar.agent.profiler.utils.ThreadUtils;
 import com.google.common.util.concurrent.MoreExecutors;
 
 import java.util.Set;
@@ -29,6 +30,7 @@ public class SamplingScheduler {
         public Thread newThread(Runnable r) {
             Thread t = new Thread(r);
             t.setName(SCHEDULER_THREAD_PREFIX + "-" + t.getName());
+            ThreadUtils.registerAgentThread(t);
             return t;
         }
     }
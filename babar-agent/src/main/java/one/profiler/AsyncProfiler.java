@@ -0,0 +1,42 @@
+package one.profiler;
+
+import java.io.IOException;
+
+/**
+ * Minimal binding to the native library of async-profiler (https://github.com/jvm-profiling-tools/async-profiler).
+ *
+ * The class must keep this name for the JNI functions of the library to be bound to it. Only the command interface of
+ * the library is exposed, which is enough to start and stop profiling and to dump the collected stacks.
+ */
+public class AsyncProfiler {
+
+    private static AsyncProfiler instance;
+
+    private AsyncProfiler() {
+    }
+
+    /**
+     * Load the library if it is not already loaded
+     * @param libPath               The absolute path of libasyncProfiler.so
+     * @return                      The profiler instance
+     * @throws UnsatisfiedLinkError If the library cannot be loaded
+     */
+    public static synchronized AsyncProfiler getInstance(String libPath) {
+        if (instance == null) {
+            System.load(libPath);
+            instance = new AsyncProfiler();
+        }
+        return instance;
+    }
+
+    /**
+     * Execute a command, such as "start,event=cpu,interval=10000000", "stop" or "collapsed"
+     * @param command               The command, in the format of the agent arguments of async-profiler
+     * @return                      The output of the command
+     */
+    public String execute(String command) throws IllegalArgumentException, IllegalStateException, IOException {
+        return execute0(command);
+    }
+
+    private native String execute0(String command) throws IllegalArgumentException, IllegalStateException, IOException;
+}
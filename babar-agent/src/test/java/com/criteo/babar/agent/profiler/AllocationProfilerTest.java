@@ -0,0 +1,80 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class AllocationProfilerTest {
+
+    private final RecordingReporter reporter = new RecordingReporter();
+
+    // keeps the allocations from being eliminated
+    private static volatile Object sink;
+
+    @Test
+    public void bytesAttributedToAllocatingCallee() throws Exception {
+        assumeTrue(AllocationProfiler.isJFRSupported());
+        AllocationProfiler profiler = new AllocationProfiler(AgentConfig.parse("AllocationProfiler[eventsPerSecond=1000]"), reporter);
+        profiler.start(System.currentTimeMillis());
+        assertTrue(profiler.isStreaming());
+
+        // the thread spends most of its time in the busy loop, and only allocates in its callee
+        long end = System.currentTimeMillis() + 2000;
+        long sum = 0;
+        while (System.currentTimeMillis() < end) {
+            sum += busyLoop();
+            allocate();
+        }
+        profiler.stop(System.currentTimeMillis(), 0L);
+
+        double callee = bytes(t -> t.contains(".allocate:"));
+        double total = bytes(t -> true);
+        assertTrue(sum != 0);
+        assertTrue(total > 0);
+        assertTrue(callee + " of " + total + " bytes attributed to the callee", callee >= 0.9 * total);
+    }
+
+    @Test
+    public void fallbackCountsAllocatedBytes() throws Exception {
+        AllocationProfiler profiler = new AllocationProfiler(AgentConfig.parse("AllocationProfiler[jfr=false,intervalBytes=1048576]"), reporter);
+        profiler.start(System.currentTimeMillis());
+        assertFalse(profiler.isStreaming());
+
+        profiler.sample(System.currentTimeMillis(), 0L);
+        List<byte[]> allocated = new ArrayList<>();
+        for (int i = 0; i < 8; i++) allocated.add(new byte[1024 * 1024]);
+        profiler.sample(System.currentTimeMillis(), 0L);
+        profiler.report();
+
+        // the bytes are attributed to the stack of the thread when sampled, not to the allocation sites
+        assertEquals(8, allocated.size());
+        assertTrue(bytes(t -> true) >= 8 * 1024 * 1024);
+    }
+
+    // bytes reported for the traces of the current thread matching a predicate
+    private double bytes(Predicate<String> trace) {
+        String thread = Thread.currentThread().getName();
+        return reporter.get("ALLOC_TRACES").entrySet().stream()
+                .filter(e -> e.getKey().startsWith(thread + "|") && trace.test(e.getKey()))
+                .mapToDouble(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static long busyLoop() {
+        long x = 1;
+        for (int i = 0; i < 1000000; i++) x = x * 31 + i;
+        return x;
+    }
+
+    private static void allocate() {
+        for (int i = 0; i < 16; i++) sink = new byte[4096];
+    }
+}
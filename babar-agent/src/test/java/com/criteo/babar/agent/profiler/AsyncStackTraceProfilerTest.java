@@ -0,0 +1,38 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.StackTraceTable;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsyncStackTraceProfilerTest {
+
+    @Test
+    public void toTraceLabel() throws Exception {
+        StackTraceElement run = new StackTraceElement("java.lang.Thread", "run", "Thread.java", 750);
+        assertEquals("main|" + StackTraceTable.formatFrame(run) + "|Busy.spin:12",
+                AsyncStackTraceProfiler.toTraceLabel("[main tid=1234];java/lang/Thread.run:750;Busy.spin:12"));
+        assertEquals("main|java.lang.Thread.run|Busy.spin",
+                AsyncStackTraceProfiler.toTraceLabel("[main tid=1234];java/lang/Thread.run;Busy.spin"));
+        assertEquals("Executor task launch worker 0|__GI___poll|do_syscall_64_[k]",
+                AsyncStackTraceProfiler.toTraceLabel("[Executor task launch worker 0 tid=42];__GI___poll;do_syscall_64_[k]"));
+        assertEquals("main", AsyncStackTraceProfiler.toTraceLabel("[main tid=1]"));
+        assertEquals("a.B.c|d", AsyncStackTraceProfiler.toTraceLabel("a/B.c;d"));
+    }
+
+    @Test
+    public void fallbackWhenTheLibraryCannotBeLoaded() throws Exception {
+        RecordingReporter reporter = new RecordingReporter();
+        AsyncStackTraceProfiler profiler = new AsyncStackTraceProfiler(
+                AgentConfig.parse("AsyncStackTraceProfiler[libPath=/nonexistent/libasyncProfiler.so]"), reporter);
+        assertFalse(profiler.isNative());
+
+        profiler.start(System.currentTimeMillis());
+        // the ThreadMXBean sampling sees at least this thread
+        profiler.sample(System.currentTimeMillis(), 0L);
+        profiler.report();
+        assertTrue(reporter.get("CPU_TRACES").keySet().stream().anyMatch(t -> t.startsWith(Thread.currentThread().getName() + "|")));
+    }
+}
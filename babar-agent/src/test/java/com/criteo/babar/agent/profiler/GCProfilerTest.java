@@ -0,0 +1,54 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GCProfilerTest {
+
+    @Test
+    public void reportsPausesAndPoolsOfCollections() throws Exception {
+        RecordingReporter reporter = new RecordingReporter();
+        GCProfiler profiler = new GCProfiler(AgentConfig.parse("GCProfiler"), reporter);
+        profiler.start(System.currentTimeMillis());
+
+        List<byte[]> allocated = new ArrayList<>();
+        for (int i = 0; i < 8; i++) allocated.add(new byte[1024 * 1024]);
+        System.gc();
+        // the notifications of the collections are sent asynchronously
+        for (int i = 0; i < 50 && !reporter.metrics().contains("GC_PAUSE_COUNT"); i++) {
+            Thread.sleep(100);
+            profiler.sample(System.currentTimeMillis(), 100L);
+        }
+
+        assertEquals(8, allocated.size());
+        assertTrue(reporter.metrics().contains("GC_PAUSE_COUNT"));
+        assertTrue(reporter.metrics().contains("GC_PAUSE_MAX_MS"));
+        assertTrue(reporter.metrics().contains("GC_POOL_USED_AFTER_GC_BYTES"));
+        assertNotNull(reporter.get("GC_ALLOCATION_BYTES_PER_SEC", ""));
+    }
+
+    @Test
+    public void noCollectionsAfterStop() throws Exception {
+        RecordingReporter reporter = new RecordingReporter();
+        GCProfiler profiler = new GCProfiler(AgentConfig.parse("GCProfiler"), reporter);
+        profiler.start(System.currentTimeMillis());
+        System.gc();
+        for (int i = 0; i < 50 && !reporter.metrics().contains("GC_PAUSE_COUNT"); i++) {
+            Thread.sleep(100);
+            profiler.sample(System.currentTimeMillis(), 100L);
+        }
+        profiler.stop(System.currentTimeMillis(), 0L);
+
+        reporter.clear();
+        System.gc();
+        Thread.sleep(500);
+        profiler.sample(System.currentTimeMillis(), 500L);
+        assertEquals(0D, reporter.get("GC_PAUSE_COUNT").values().stream().mapToDouble(Double::doubleValue).sum(), 0D);
+    }
+}
@@ -0,0 +1,70 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class JFRProfilerTest {
+
+    private final RecordingReporter reporter = new RecordingReporter();
+
+    // keeps the allocations from being eliminated
+    private static volatile Object sink;
+
+    @Test
+    public void usesStackTraceProfilerConfigWhenSelectedInItsPlace() {
+        JFRProfiler profiler = new JFRProfiler(AgentConfig.parse("StackTraceProfiler[maxDepth=3]"), reporter);
+        assertEquals(3, profiler.maxDepth);
+    }
+
+    @Test
+    public void streamsExecutionSamples() throws Exception {
+        assumeTrue(JFRProfiler.isSupported());
+        JFRProfiler profiler = new JFRProfiler(AgentConfig.parse("JFRProfiler[profilingMs=10,metricsMs=100]"), reporter);
+        profiler.start(System.currentTimeMillis());
+        assertTrue(profiler.isStreaming());
+
+        long end = System.currentTimeMillis() + 2000;
+        long sum = 0;
+        while (System.currentTimeMillis() < end) {
+            sum += busyLoop();
+            allocate();
+        }
+        profiler.stop(System.currentTimeMillis(), 0L);
+
+        String thread = Thread.currentThread().getName();
+        assertTrue(sum != 0);
+        assertTrue(reporter.get("CPU_TRACES").keySet().stream()
+                .anyMatch(t -> t.startsWith(thread + "|") && t.contains(".busyLoop:")));
+        assertTrue(reporter.metrics().contains("JVM_CPU_USAGE"));
+        if (AllocationProfiler.isJFRSupported()) {
+            assertTrue(reporter.get("ALLOC_TRACES").entrySet().stream()
+                    .anyMatch(e -> e.getKey().startsWith(thread + "|") && e.getKey().contains(".allocate:") && e.getValue() > 0));
+        }
+    }
+
+    @Test
+    public void allocationsLeftToAllocationProfilerWhenEnabled() throws Exception {
+        assumeTrue(AllocationProfiler.isJFRSupported());
+        JFRProfiler profiler = new JFRProfiler(AgentConfig.parse("JFRProfiler[profilingMs=10],AllocationProfiler"), reporter);
+        profiler.start(System.currentTimeMillis());
+        long end = System.currentTimeMillis() + 500;
+        while (System.currentTimeMillis() < end) allocate();
+        profiler.stop(System.currentTimeMillis(), 0L);
+
+        assertFalse(reporter.metrics().contains("ALLOC_TRACES"));
+    }
+
+    private static long busyLoop() {
+        long x = 1;
+        for (int i = 0; i < 1000000; i++) x = x * 31 + i;
+        return x;
+    }
+
+    private static void allocate() {
+        for (int i = 0; i < 16; i++) sink = new byte[4096];
+    }
+}
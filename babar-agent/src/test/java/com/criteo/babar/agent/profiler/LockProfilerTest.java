@@ -0,0 +1,87 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.Assert.*;
+
+public class LockProfilerTest {
+
+    private final RecordingReporter reporter = new RecordingReporter();
+
+    @Test
+    public void blockedOnMonitor() throws Exception {
+        LockProfiler profiler = new LockProfiler(AgentConfig.parse("LockProfiler"), reporter);
+
+        Object lock = new Object();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread owner = new Thread(() -> {
+            synchronized (lock) {
+                locked.countDown();
+                awaitQuietly(release);
+            }
+        }, "owner-thread");
+        Thread blocked = new Thread(() -> {
+            synchronized (lock) { }
+        }, "blocked-thread");
+        owner.start();
+        locked.await();
+        blocked.start();
+        while (blocked.getState() != Thread.State.BLOCKED) Thread.yield();
+
+        profiler.sample(System.currentTimeMillis(), 0L);
+        Thread.sleep(100);
+        profiler.sample(System.currentTimeMillis(), 0L);
+        release.countDown();
+        owner.join();
+        blocked.join();
+        profiler.report();
+
+        assertTrue(reporter.get("LOCK_TRACES").entrySet().stream().anyMatch(e -> e.getKey().startsWith("blocked-thread|") &&
+                e.getKey().contains("|[lock java.lang.Object held at " + getClass().getName() + ".lambda$blockedOnMonitor$") &&
+                e.getValue() > 0));
+        assertTrue(reporter.get("LOCK_BLOCKED_MS", "java.lang.Object") > 0);
+    }
+
+    @Test
+    public void waitingOnOwnedLock() throws Exception {
+        LockProfiler profiler = new LockProfiler(AgentConfig.parse("LockProfiler"), reporter);
+
+        ReentrantLock lock = new ReentrantLock();
+        Thread waiting = new Thread(() -> {
+            lock.lock();
+            lock.unlock();
+        }, "waiting-thread");
+        lock.lock();
+        try {
+            waiting.start();
+            while (waiting.getState() != Thread.State.WAITING) Thread.yield();
+            profiler.sample(System.currentTimeMillis(), 0L);
+            Thread.sleep(100);
+            profiler.sample(System.currentTimeMillis(), 0L);
+        }
+        finally {
+            lock.unlock();
+        }
+        waiting.join();
+        profiler.report();
+
+        assertTrue(reporter.get("LOCK_TRACES").keySet().stream().anyMatch(t -> t.startsWith("waiting-thread|") &&
+                t.contains("|[lock java.util.concurrent.locks.ReentrantLock$NonfairSync held at ")));
+        assertTrue(reporter.get("LOCK_BLOCKED_MS", "java.util.concurrent.locks.ReentrantLock$NonfairSync") > 0);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
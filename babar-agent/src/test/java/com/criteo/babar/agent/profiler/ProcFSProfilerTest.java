@@ -0,0 +1,54 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.profiler.utils.ProcFSParser;
+import com.criteo.babar.agent.profiler.utils.ProcFSReader;
+import com.criteo.babar.agent.profiler.utils.ProcFSUtils;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+public class ProcFSProfilerTest {
+
+    @Test
+    public void fullSmapsReadAtFirstSampleThenEveryInterval() throws Exception {
+        // not available on systems other than linux
+        if (!ProcFSUtils.isAvailable()) return;
+
+        RecordingReporter reporter = new RecordingReporter();
+        int[] fullReads = {0};
+        ProcFSReader reader = new ProcFSReader() {
+            @Override
+            public boolean hasSmapsRollup() {
+                return true;
+            }
+            @Override
+            public void smaps(int[] pids, ProcFSParser.SmapsAccumulator acc) throws IOException {
+                fullReads[0]++;
+            }
+            @Override
+            public void smapsRollup(int[] pids, ProcFSParser.SmapsAccumulator acc) throws IOException {
+                // the kernel may not provide smaps_rollup
+            }
+        };
+        ProcFSProfiler profiler = new ProcFSProfiler(
+                AgentConfig.parse("ProcFSProfiler[profilingMs=100,smapsFullMs=1000]"), reporter, reader);
+
+        long timeMs = System.currentTimeMillis();
+        profiler.start(timeMs);
+        profiler.sample(timeMs, 100L);
+        assertEquals(1, fullReads[0]);
+        profiler.sample(timeMs + 500L, 500L);
+        assertEquals(1, fullReads[0]);
+        profiler.sample(timeMs + 1000L, 500L);
+        assertEquals(2, fullReads[0]);
+        profiler.sample(timeMs + 1500L, 500L);
+        assertEquals(2, fullReads[0]);
+        profiler.sample(timeMs + 2000L, 500L);
+        assertEquals(3, fullReads[0]);
+        profiler.stop(timeMs + 2000L, 0L);
+    }
+}
@@ -0,0 +1,49 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StackTraceProfilerTest {
+
+    private static final StackTraceElement[] STACK = new StackTraceElement[] {
+            new StackTraceElement("com.A", "b", "A.java", 2),
+            new StackTraceElement("com.A", "a", "A.java", 1)
+    };
+
+    private final RecordingReporter reporter = new RecordingReporter();
+
+    private static String task(int i) {
+        return "Executor task launch worker for task " + i;
+    }
+
+    @Test
+    public void newThreadsCountedAfterTableFilled() throws Exception {
+        // each task thread takes 3 nodes, so that the table is full after 5 tasks
+        StackTraceProfiler profiler = new StackTraceProfiler(AgentConfig.parse("StackTraceProfiler[maxNodes=16]"), reporter);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            profiler.countTrace(profiler.traceTable.intern(task(i), STACK), 1L, now);
+        }
+        profiler.report();
+        assertEquals(1D, reporter.get("CPU_TRACES", task(0) + "|com.A.a:1|com.A.b:2"), 0D);
+        assertEquals(5D, reporter.get("CPU_TRACES", StackTraceProfiler.DROPPED_TRACES_LABEL), 0D);
+
+        // a trace interned before the report but counted after it is still rendered by the next one
+        long late = profiler.traceTable.intern(task(4), STACK);
+        reporter.clear();
+        profiler.report();
+        profiler.countTrace(late, 1L, now);
+        for (int i = 10; i < 15; i++) {
+            profiler.countTrace(profiler.traceTable.intern(task(i), STACK), 1L, now);
+        }
+        profiler.report();
+        assertEquals(1D, reporter.get("CPU_TRACES", task(4) + "|com.A.a:1|com.A.b:2"), 0D);
+        for (int i = 10; i < 15; i++) {
+            assertEquals(1D, reporter.get("CPU_TRACES", task(i) + "|com.A.a:1|com.A.b:2"), 0D);
+        }
+        assertNull(reporter.get("CPU_TRACES", StackTraceProfiler.DROPPED_TRACES_LABEL));
+    }
+}
@@ -0,0 +1,50 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ThreadCPUProfilerTest {
+
+    @Test
+    public void cpuIsReportedByThreadGroup() throws Exception {
+        RecordingReporter reporter = new RecordingReporter();
+        ThreadCPUProfiler profiler = new ThreadCPUProfiler(AgentConfig.parse("ThreadCPUProfiler"), reporter);
+        profiler.start(System.currentTimeMillis());
+
+        Thread worker = new Thread(ThreadCPUProfilerTest::spin, "Executor task launch worker for task 0");
+        worker.start();
+        worker.join();
+        // the CPU of the worker, which died before the sample, is attributed to the native threads
+        profiler.sample(System.currentTimeMillis(), 200L);
+
+        Thread running = new Thread(() -> {
+            spin();
+            try {
+                Thread.sleep(500);
+            }
+            catch (InterruptedException e) {
+                // stop
+            }
+        }, "Executor task launch worker for task 1");
+        running.start();
+        Thread.sleep(300);
+        profiler.sample(System.currentTimeMillis(), 300L);
+        running.join();
+
+        Map<String, Double> cpuMs = reporter.get("THREAD_GROUP_CPU_TIME");
+        assertTrue(cpuMs.getOrDefault("task", 0D) >= 100D);
+        assertTrue(cpuMs.containsKey(ThreadCPUProfiler.JVM_NATIVE_GROUP));
+    }
+
+    private static void spin() {
+        long end = System.nanoTime() + 200 * 1000000L;
+        long x = 0L;
+        while (System.nanoTime() < end) x += System.nanoTime() % 7;
+        if (x == 42L) System.out.println(x);
+    }
+}
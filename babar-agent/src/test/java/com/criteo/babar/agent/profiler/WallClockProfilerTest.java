@@ -0,0 +1,36 @@
+package com.criteo.babar.agent.profiler;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import com.criteo.babar.agent.reporter.RecordingReporter;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class WallClockProfilerTest {
+
+    @Test
+    public void blockedThreadWithLockOwner() throws Exception {
+        RecordingReporter reporter = new RecordingReporter();
+        WallClockProfiler profiler = new WallClockProfiler(AgentConfig.parse("WallClockProfiler"), reporter);
+
+        Object lock = new Object();
+        Thread blocked = new Thread(() -> {
+            synchronized (lock) { }
+        }, "blocked-thread");
+        synchronized (lock) {
+            blocked.start();
+            while (blocked.getState() != Thread.State.BLOCKED) Thread.yield();
+            profiler.sample(System.currentTimeMillis(), 0L);
+        }
+        blocked.join();
+        profiler.report();
+
+        String owner = Thread.currentThread().getName();
+        Set<String> traces = reporter.get("WALL_TRACES").keySet();
+        assertTrue(traces.stream().anyMatch(t -> t.startsWith("blocked-thread|BLOCKED|") &&
+                t.endsWith("|[lock java.lang.Object owned by " + owner + "]")));
+        assertTrue(traces.stream().anyMatch(t -> t.startsWith(owner + "|RUNNABLE|")));
+    }
+}
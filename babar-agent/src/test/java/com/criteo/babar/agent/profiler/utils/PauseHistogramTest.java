@@ -0,0 +1,52 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PauseHistogramTest {
+
+    @Test
+    public void smallValuesAreExact() {
+        PauseHistogram histogram = new PauseHistogram();
+        for (long i = 1; i <= 10; i++) histogram.record(i);
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getValueAtPercentile(50D));
+        assertEquals(10, histogram.getValueAtPercentile(99D));
+        assertEquals(10, histogram.getMax());
+    }
+
+    @Test
+    public void largeValuesAreWithinOneSixteenth() {
+        PauseHistogram histogram = new PauseHistogram();
+        for (long i = 1; i <= 1000; i++) histogram.record(i * 10);
+
+        long p50 = histogram.getValueAtPercentile(50D);
+        long p99 = histogram.getValueAtPercentile(99D);
+        assertTrue(p50 >= 5000 && p50 <= 5000 + 5000 / 16);
+        assertTrue(p99 >= 9900 && p99 <= 10000);
+        assertEquals(10000, histogram.getMax());
+    }
+
+    @Test
+    public void bucketsAreContiguous() {
+        for (long value = 0; value < 1 << 20; value++) {
+            int bucket = PauseHistogram.bucket(value);
+            assertTrue(value <= PauseHistogram.highestValue(bucket));
+            assertTrue(bucket == 0 || value > PauseHistogram.highestValue(bucket - 1));
+        }
+        assertEquals(Long.MAX_VALUE, PauseHistogram.highestValue(PauseHistogram.bucket(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void resetClearsValues() {
+        PauseHistogram histogram = new PauseHistogram();
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99D));
+    }
+}
@@ -0,0 +1,143 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the byte-level {@link ProcFSParser} with parsing decoded strings into objects through {@link ProcFSUtils},
+ * over the fixtures of src/test/resources/procfs. The smaps fixture is repeated to get as many mappings as a
+ * typical JVM. Add `-prof gc` to the arguments to check that the parser does not allocate.
+ *
+ * Run with: java -cp target/test-classes:$(cat cp.txt) com.criteo.babar.agent.profiler.utils.ProcFSParserBenchmark
+ * after `mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt`
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcFSParserBenchmark {
+
+    private static final int SMAPS_REPEAT = 500;
+
+    private final ProcFSParser parser = new ProcFSParser();
+    private final ProcFSParser.PidStatAccumulator pidStat = new ProcFSParser.PidStatAccumulator();
+    private final ProcFSParser.CpuStatAccumulator cpuStat = new ProcFSParser.CpuStatAccumulator();
+    private final ProcFSParser.PidIOAccumulator pidIO = new ProcFSParser.PidIOAccumulator();
+    private final ProcFSParser.SmapsAccumulator smaps = new ProcFSParser.SmapsAccumulator("r--s", "r-xs");
+    private final ProcFSParser.NetIOAccumulator netIO = new ProcFSParser.NetIOAccumulator();
+    private final Set<String> devices = new HashSet<>(Arrays.asList("eth0", "wlan0"));
+    private final byte[][] devicesBytes = ProcFSUtils.toBytes(devices);
+
+    private ByteBuffer pidStatBuf, statBuf, pidIOBuf, smapsBuf, netDevBuf;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // the content is read from direct buffers as with the ProcFSReader
+        pidStatBuf = direct(ProcFSParserTest.fixture("pid_stat"), 1);
+        statBuf = direct(ProcFSParserTest.fixture("stat"), 1);
+        pidIOBuf = direct(ProcFSParserTest.fixture("pid_io"), 1);
+        smapsBuf = direct(ProcFSParserTest.fixture("smaps"), SMAPS_REPEAT);
+        netDevBuf = direct(ProcFSParserTest.fixture("net_dev"), 1);
+    }
+
+    @Benchmark
+    public long pidStatParser() {
+        pidStat.reset();
+        parser.parsePidStat(pidStatBuf, pidStatBuf.limit(), pidStat);
+        return pidStat.userTicks;
+    }
+
+    @Benchmark
+    public Object pidStatStrings() {
+        return ProcFSUtils.parseProcPidStat(string(pidStatBuf));
+    }
+
+    @Benchmark
+    public long statParser() {
+        parser.parseStat(statBuf, statBuf.limit(), cpuStat);
+        return cpuStat.getTotalTicks();
+    }
+
+    @Benchmark
+    public Object statStrings() {
+        return ProcFSUtils.parseProcStat(string(statBuf));
+    }
+
+    @Benchmark
+    public long pidIOParser() {
+        pidIO.reset();
+        parser.parsePidIO(pidIOBuf, pidIOBuf.limit(), pidIO);
+        return pidIO.readBytes;
+    }
+
+    @Benchmark
+    public Object pidIOStrings() {
+        return ProcFSUtils.parsePidIO(string(pidIOBuf));
+    }
+
+    @Benchmark
+    public long smapsParser() {
+        smaps.reset();
+        parser.parseSmaps(smapsBuf, smapsBuf.limit(), smaps);
+        return smaps.correctedRssKB;
+    }
+
+    @Benchmark
+    public Object smapsStrings() {
+        return ProcFSUtils.parseSmaps(string(smapsBuf));
+    }
+
+    @Benchmark
+    public long netDevParser() {
+        netIO.reset();
+        parser.parseNetDev(netDevBuf, netDevBuf.limit(), devicesBytes, netIO);
+        return netIO.rxBytes;
+    }
+
+    @Benchmark
+    public Object netDevStrings() {
+        return ProcFSUtils.parseNetIO(string(netDevBuf), devices);
+    }
+
+    private static ByteBuffer direct(ByteBuffer content, int repeat) {
+        ByteBuffer buf = ByteBuffer.allocateDirect(content.limit() * repeat);
+        for (int i = 0; i < repeat; i++) {
+            buf.put(content.duplicate());
+        }
+        buf.flip();
+        return buf;
+    }
+
+    private static String string(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.limit()];
+        buf.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ProcFSParserBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,160 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProcFSParserTest {
+
+    private final ProcFSParser parser = new ProcFSParser();
+
+    @Test
+    public void parsePidStat() throws Exception {
+        ByteBuffer buf = fixture("pid_stat");
+        ProcFSParser.PidStatAccumulator acc = new ProcFSParser.PidStatAccumulator();
+        acc.reset();
+        parser.parsePidStat(buf, buf.limit(), acc);
+        parser.parsePidStat(buf, buf.limit(), acc);
+
+        assertEquals(2, acc.processes);
+        assertEquals(3136, acc.pid);
+        assertEquals(3118, acc.ppid);
+        assertEquals(2 * 34820L, acc.userTicks);
+        assertEquals(2 * 24707L, acc.systemTicks);
+        assertEquals(2 * 205201408L, acc.vMemBytes);
+        assertEquals(2 * 573L, acc.rssPages);
+    }
+
+    @Test
+    public void parsePidStatWithSpacesInName() throws Exception {
+        ByteBuffer buf = wrap("3136 (a (b) c) S 3118 3136 3136 1026 3136 4194560 615 341 0 0 34820 24707 0 0 20 0 3 0 5545 205201408 573\n");
+        ProcFSParser.PidStatAccumulator acc = new ProcFSParser.PidStatAccumulator();
+        acc.reset();
+        parser.parsePidStat(buf, buf.limit(), acc);
+
+        assertEquals(3136, acc.pid);
+        assertEquals(3118, acc.ppid);
+        assertEquals(34820L, acc.userTicks);
+        assertEquals(573L, acc.rssPages);
+        assertEquals(3118, parser.parseParentPid(buf, buf.limit()));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void parsePidStatTooShort() throws Exception {
+        ByteBuffer buf = wrap("3136 (test) S 3118 3136 3136\n");
+        parser.parsePidStat(buf, buf.limit(), new ProcFSParser.PidStatAccumulator());
+    }
+
+    @Test
+    public void parseStat() throws Exception {
+        ByteBuffer buf = fixture("stat");
+        ProcFSParser.CpuStatAccumulator acc = new ProcFSParser.CpuStatAccumulator();
+        parser.parseStat(buf, buf.limit(), acc);
+
+        assertEquals(35457856L, acc.userTicks());
+        assertEquals(12475L, acc.niceTicks());
+        assertEquals(38956533L, acc.systemTicks());
+        assertEquals(336058048L, acc.idleTicks());
+        assertEquals(483830L, acc.ioWaitTicks());
+        assertEquals(0L, acc.irqTicks());
+        assertEquals(47316L, acc.softIrqTicks());
+        assertEquals(0L, acc.stealTicks());
+    }
+
+    @Test
+    public void parsePidIO() throws Exception {
+        ByteBuffer buf = fixture("pid_io");
+        ProcFSParser.PidIOAccumulator acc = new ProcFSParser.PidIOAccumulator();
+        acc.reset();
+        parser.parsePidIO(buf, buf.limit(), acc);
+
+        assertEquals(15206255L, acc.rchar);
+        assertEquals(1117L, acc.wchar);
+        assertEquals(880640L, acc.readBytes);
+        assertEquals(36864L, acc.writeBytes);
+    }
+
+    @Test
+    public void parseSmaps() throws Exception {
+        ByteBuffer buf = fixture("smaps");
+        ProcFSParser.SmapsAccumulator acc = new ProcFSParser.SmapsAccumulator("r--s", "r-xs");
+        acc.reset();
+        parser.parseSmaps(buf, buf.limit(), acc);
+
+        assertEquals(2L, acc.mappings);
+        assertEquals(836L + 12L, acc.totalRssKB);
+        assertEquals(836L + 12L, acc.totalPssKB);
+        // the second mapping is r--s and is ignored
+        assertEquals(836L, acc.correctedRssKB);
+        // the last mapping is still held in the accumulator
+        assertEquals("r--s", ProcFSParser.permission(acc.permission));
+        assertFalse(acc.isPermissionAllowed());
+    }
+
+    @Test
+    public void parseSmapsLargeValues() throws Exception {
+        // values over Integer.MAX_VALUE used to overflow
+        ByteBuffer buf = wrap("7f1ada0ca000-7f1ada19c000 rw-p 00000000 00:00 0 \n" +
+                "Size:           4294967296 kB\n" +
+                "Rss:            3000000000 kB\n" +
+                "Pss:            3000000000 kB\n" +
+                "Shared_Dirty:            0 kB\n" +
+                "Private_Clean:           0 kB\n" +
+                "Private_Dirty:  3000000000 kB\n" +
+                "VmFlags: rd wr mr mw me ac \n");
+        ProcFSParser.SmapsAccumulator acc = new ProcFSParser.SmapsAccumulator("r--s", "r-xs");
+        acc.reset();
+        parser.parseSmaps(buf, buf.limit(), acc);
+
+        assertEquals(4294967296L, acc.size);
+        assertEquals(3000000000L, acc.totalRssKB);
+        assertEquals(3000000000L, acc.correctedRssKB);
+        assertTrue(acc.isPermissionAllowed());
+    }
+
+    @Test
+    public void parseNetDev() throws Exception {
+        ByteBuffer buf = fixture("net_dev");
+        ProcFSParser.NetIOAccumulator acc = new ProcFSParser.NetIOAccumulator();
+        acc.reset();
+        parser.parseNetDev(buf, buf.limit(), new byte[][]{ProcFSParser.bytes("eth0"), ProcFSParser.bytes("wlan0")}, acc);
+
+        assertEquals(14333429324L, acc.rxBytes);
+        assertEquals(532837847L, acc.txBytes);
+        assertEquals(10, acc.devicesNb);
+    }
+
+    @Test
+    public void parseNetDevNoDevices() throws Exception {
+        ByteBuffer buf = fixture("net_dev");
+        ProcFSParser.NetIOAccumulator acc = new ProcFSParser.NetIOAccumulator();
+        acc.reset();
+        parser.parseNetDev(buf, buf.limit(), new byte[0][], acc);
+
+        assertEquals(0L, acc.rxBytes);
+        assertEquals(0L, acc.txBytes);
+        assertEquals(10, acc.devicesNb);
+    }
+
+    @Test
+    public void permission() throws Exception {
+        assertEquals("r-xs", ProcFSParser.permission(ProcFSParser.permission("r-xs")));
+    }
+
+    static ByteBuffer fixture(String name) throws IOException, URISyntaxException {
+        return ByteBuffer.wrap(Files.readAllBytes(Paths.get(ProcFSParserTest.class.getResource("/procfs/" + name).toURI())));
+    }
+
+    private static ByteBuffer wrap(String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,83 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of one sample of the ProcFSProfiler when forking `cat`, `ps` and `ls` as done previously, and
+ * when reading the /proc filesystem with a {@link ProcFSReader}.
+ *
+ * Run with: java -cp target/test-classes:$(cat cp.txt) com.criteo.babar.agent.profiler.utils.ProcFSReaderBenchmark
+ * after `mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt`
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcFSReaderBenchmark {
+
+    private int pid;
+    private ProcFSReader reader;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pid = JVMUtils.getPID();
+        reader = new ProcFSReader();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        reader.close();
+    }
+
+    @Benchmark
+    public void forkedProcesses(Blackhole bh) throws IOException {
+        String children = OSUtils.exec(new String[]{"ps", "-o pid --no-headers --ppid " + pid});
+        int[] pids = ProcFSUtils.parsePidsOutput(pid, children);
+        for (int p : pids) {
+            bh.consume(ProcFSUtils.parseProcPidStat(OSUtils.exec(new String[]{"cat", "/proc/" + p + "/stat"})));
+            bh.consume(ProcFSUtils.parsePidIO(OSUtils.exec(new String[]{"cat", "/proc/" + p + "/io"})));
+            bh.consume(ProcFSUtils.parseSmaps(OSUtils.exec(new String[]{"cat", "/proc/" + p + "/smaps"})));
+        }
+        bh.consume(ProcFSUtils.parseProcStat(OSUtils.exec(new String[]{"cat", "/proc/stat"})));
+        bh.consume(ProcFSUtils.parseNetIO(
+                OSUtils.exec(new String[]{"cat", "/proc/net/dev"}),
+                OSUtils.exec(new String[]{"ls", "-l", "/sys/class/net"})));
+    }
+
+    @Benchmark
+    public void procFSReader(Blackhole bh) throws IOException {
+        int[] pids = reader.getChildrenPids(pid);
+        bh.consume(reader.stat(pids));
+        bh.consume(reader.io(pids));
+        bh.consume(reader.smaps(pids));
+        bh.consume(reader.stat());
+        bh.consume(reader.netio());
+        reader.releaseUnusedChannels();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ProcFSReaderBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.junit.Test;
+
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProcFSReaderTest {
+
+    @Test
+    public void childrenPids() throws Exception {
+        // not available on systems other than linux
+        if (!ProcFSUtils.isAvailable()) return;
+
+        int self = JVMUtils.getPID();
+        try (ProcFSReader reader = new ProcFSReader()) {
+            int[] pids = reader.getChildrenPids(self);
+            assertTrue(pids.length >= 1);
+            assertEquals(self, pids[0]);
+        }
+    }
+
+    @Test
+    public void rereadWithSameChannel() throws Exception {
+        // not available on systems other than linux
+        if (!ProcFSUtils.isAvailable()) return;
+
+        int self = JVMUtils.getPID();
+        try (ProcFSReader reader = new ProcFSReader()) {
+            ProcFSUtils.ProcPidStat first = reader.stat(self);
+            ProcFSUtils.ProcPidStat second = reader.stat(self);
+            assertEquals(self, first.pid);
+            assertEquals(self, second.pid);
+            assertTrue(second.userTicks + second.systemTicks >= first.userTicks + first.systemTicks);
+        }
+    }
+
+    @Test
+    public void readLargerThanBuffer() throws Exception {
+        // not available on systems other than linux
+        if (!ProcFSUtils.isAvailable()) return;
+
+        int self = JVMUtils.getPID();
+        try (ProcFSReader reader = new ProcFSReader()) {
+            int length = reader.read(Paths.get("/proc/" + self + "/smaps"));
+            assertEquals(length, reader.buffer().limit());
+            assertTrue(reader.smaps(self).length > 0);
+        }
+    }
+
+    @Test
+    public void skipExitedProcesses() throws Exception {
+        // not available on systems other than linux
+        if (!ProcFSUtils.isAvailable()) return;
+
+        int self = JVMUtils.getPID();
+        try (ProcFSReader reader = new ProcFSReader()) {
+            // pids are at most 2^22 on 64 bits systems
+            ProcFSUtils.ProcPidStat[] stats = reader.stat(new int[]{self, Integer.MAX_VALUE});
+            assertEquals(1, stats.length);
+            assertEquals(self, stats[0].pid);
+        }
+    }
+
+    @Test
+    public void smapsRollup() throws Exception {
+        // not available on systems other than linux
+        if (!ProcFSUtils.isAvailable()) return;
+
+        try (ProcFSReader reader = new ProcFSReader()) {
+            if (!reader.hasSmapsRollup()) return;
+
+            int self = JVMUtils.getPID();
+            ProcFSParser.SmapsAccumulator acc = new ProcFSParser.SmapsAccumulator();
+            acc.reset();
+            reader.smapsRollup(new int[]{self, Integer.MAX_VALUE}, acc);
+            // a single summed mapping for the process
+            assertEquals(1L, acc.mappings);
+            assertTrue(acc.totalRssKB > 0);
+            assertTrue(acc.correctedRssKB > 0);
+        }
+    }
+}
@@ -29,6 +29,12 @@ public class ProcFSUtilsTest {
         assertEquals(573L, stat.rssPages);
     }
 
+    @Test
+    public void parseParentPid() throws Exception {
+        String statLine = "3136 (test process) S 3118 3136 3136 1026 3136 4194560 615 341 0 0 34820 24707 0 0 20 0 3 0 5545 205201408 573";
+        assertEquals(3118, ProcFSUtils.parseParentPid(statLine));
+    }
+
     @Test
     public void getChildrenPids() throws Exception {
         String output = " 3138\n 3148\n";
@@ -0,0 +1,101 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StackTraceTableTest {
+
+    private static StackTraceElement frame(String method, int line) {
+        return new StackTraceElement("com.A", method, "A.java", line);
+    }
+
+    @Test
+    public void renderFromRootToLeaf() throws Exception {
+        StackTraceTable table = new StackTraceTable();
+        long id = table.intern("main", new StackTraceElement[] {frame("c", 3), frame("b", 2), frame("a", 1)});
+        assertEquals("main|com.A.a:1|com.A.b:2|com.A.c:3", table.render(id));
+    }
+
+    @Test
+    public void sameTraceSameId() throws Exception {
+        StackTraceTable table = new StackTraceTable();
+        long id = table.intern("main", new StackTraceElement[] {frame("b", 2), frame("a", 1)});
+        // frames are interned by content, not by identity
+        assertEquals(id, table.intern("main", new StackTraceElement[] {frame("b", 2), frame("a", 1)}));
+        assertNotEquals(id, table.intern("other", new StackTraceElement[] {frame("b", 2), frame("a", 1)}));
+        assertNotEquals(id, table.intern("main", new StackTraceElement[] {frame("b", 3), frame("a", 1)}));
+        // main, other, a:1, b:2 and b:3
+        assertEquals(5, table.getFramesNb());
+    }
+
+    @Test
+    public void prefixesAreShared() throws Exception {
+        StackTraceTable table = new StackTraceTable();
+        long parent = table.intern("main", new StackTraceElement[] {frame("a", 1)});
+        long child = table.intern("main", new StackTraceElement[] {frame("b", 2), frame("a", 1)});
+        assertNotEquals(parent, child);
+        // root, thread, a, b
+        assertEquals(4, table.getNodesNb());
+        assertEquals("main|com.A.a:1", table.render(parent));
+        assertEquals("main|com.A.a:1|com.A.b:2", table.render(child));
+    }
+
+    @Test
+    public void manyTraces() throws Exception {
+        StackTraceTable table = new StackTraceTable();
+        long[] ids = new long[10000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = table.intern("t" + (i % 7), new StackTraceElement[] {frame("m" + i, i), frame("a", 1)});
+        }
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals("t" + (i % 7) + "|com.A.a:1|com.A.m" + i + ":" + i, table.render(ids[i]));
+        }
+    }
+
+    @Test
+    public void truncateWhenFull() throws Exception {
+        // root, thread, a and b
+        StackTraceTable table = new StackTraceTable(4);
+        long known = table.intern("main", new StackTraceElement[] {frame("b", 2), frame("a", 1)});
+        long truncated = table.intern("main", new StackTraceElement[] {frame("c", 3), frame("a", 1)});
+        assertEquals("main|com.A.a:1", table.render(truncated));
+        assertEquals(known, table.intern("main", new StackTraceElement[] {frame("b", 2), frame("a", 1)}));
+        assertEquals(StackTraceTable.ROOT, table.intern("other", new StackTraceElement[] {frame("a", 1)}));
+        assertEquals(2L, table.getTruncated());
+        assertEquals(4, table.getNodesNb());
+    }
+
+    @Test
+    public void tagAndLeaf() throws Exception {
+        StackTraceTable table = new StackTraceTable();
+        StackTraceElement[] stack = new StackTraceElement[] {frame("b", 2), frame("a", 1)};
+        long id = table.intern("main", "BLOCKED", stack, "[lock]");
+        assertEquals("main|BLOCKED|com.A.a:1|com.A.b:2|[lock]", table.render(id));
+        assertEquals("main|WAITING|com.A.a:1|com.A.b:2", table.render(table.intern("main", "WAITING", stack, null)));
+        assertEquals("main|com.A.a:1|com.A.b:2", table.render(table.intern("main", stack)));
+    }
+
+    @Test
+    public void resetStartsANewGeneration() throws Exception {
+        StackTraceTable table = new StackTraceTable(4);
+        StackTraceElement[] stack = new StackTraceElement[] {frame("b", 2), frame("a", 1)};
+        long first = table.intern("task 1", stack);
+        assertEquals(StackTraceTable.ROOT, table.intern("task 2", stack));
+
+        table.reset();
+        assertEquals(1, table.getNodesNb());
+        // the traces of the previous generation can still be rendered once they are drained
+        assertEquals("task 1|com.A.a:1|com.A.b:2", table.render(first));
+        long second = table.intern("task 2", stack);
+        assertNotEquals(StackTraceTable.ROOT, second);
+        assertNotEquals(first, second);
+        assertEquals("task 2|com.A.a:1|com.A.b:2", table.render(second));
+
+        table.reset();
+        // the same trace gets a new id in a new generation
+        assertNotEquals(second, table.intern("task 2", stack));
+        assertNull(table.render(first));
+        assertEquals("task 2|com.A.a:1|com.A.b:2", table.render(second));
+    }
+}
@@ -0,0 +1,60 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ThreadStateTableTest {
+
+    @Test
+    public void deltasAreComputedFromLastUpdate() {
+        ThreadStateTable table = new ThreadStateTable(4, 2);
+        int slot = table.insert(42L, 3);
+
+        assertEquals(slot, table.slot(42L));
+        assertEquals(-1, table.slot(43L));
+        assertEquals(3, table.group(slot));
+        assertTrue(table.isNew(slot));
+        assertEquals(100L, table.update(slot, 0, 100L));
+        table.markSeen(slot, 1L);
+        assertFalse(table.isNew(slot));
+        assertEquals(50L, table.update(slot, 0, 150L));
+        assertEquals(80L, table.update(slot, 1, 80L));
+        assertEquals(20L, table.update(slot, 1, 100L));
+        assertEquals(0L, table.update(slot, 1, 90L));
+        assertEquals(150L, table.get(slot, 0));
+        assertEquals(160L, table.add(slot, 0, 10L));
+    }
+
+    @Test
+    public void tableGrowsAndKeepsThreads() {
+        ThreadStateTable table = new ThreadStateTable(2, 3);
+        for (long id = 1; id <= 1000; id++) {
+            int slot = table.insert(id, (int)(id % 7));
+            table.set(slot, 0, id * 10);
+            table.set(slot, 2, -id);
+        }
+
+        assertEquals(1000, table.size());
+        for (long id = 1; id <= 1000; id++) {
+            int slot = table.slot(id);
+            assertEquals((int)(id % 7), table.group(slot));
+            assertEquals(10L, table.update(slot, 0, id * 10 + 10));
+            assertEquals(0L, table.get(slot, 1));
+            assertEquals(-id, table.get(slot, 2));
+        }
+    }
+
+    @Test
+    public void deadThreadsAreRemoved() {
+        ThreadStateTable table = new ThreadStateTable(16, 1);
+        for (long id = 1; id <= 10; id++) table.markSeen(table.insert(id, 0), 1L);
+        for (long id = 1; id <= 10; id += 2) table.markSeen(table.slot(id), 2L);
+        table.retain(2L);
+
+        assertEquals(5, table.size());
+        for (long id = 1; id <= 10; id++) {
+            assertEquals(id % 2 == 1, table.slot(id) >= 0);
+        }
+    }
+}
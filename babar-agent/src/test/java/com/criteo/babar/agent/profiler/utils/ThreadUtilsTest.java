@@ -0,0 +1,50 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.junit.Test;
+
+import java.lang.management.ThreadInfo;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ThreadUtilsTest {
+
+    @Test
+    public void getThreadsWithMaxDepth() throws Exception {
+        long self = Thread.currentThread().getId();
+        List<ThreadInfo> threads = ThreadUtils.getThreads(t -> t.getThreadId() == self, 2);
+        assertEquals(1, threads.size());
+        assertEquals(Thread.currentThread().getName(), threads.get(0).getThreadName());
+        assertEquals(2, threads.get(0).getStackTrace().length);
+    }
+
+    @Test
+    public void getThreadsFiltersOnState() throws Exception {
+        Thread waiting = new Thread(() -> {
+            try {
+                Thread.sleep(60000L);
+            }
+            catch (InterruptedException e) {
+                // stopped by the test
+            }
+        });
+        waiting.start();
+        try {
+            while (waiting.getState() != Thread.State.TIMED_WAITING) Thread.yield();
+            List<ThreadInfo> threads = ThreadUtils.getThreads(t -> t.getThreadState() == Thread.State.RUNNABLE, 10);
+            assertTrue(threads.stream().noneMatch(t -> t.getThreadId() == waiting.getId()));
+            assertTrue(threads.stream().anyMatch(t -> t.getThreadId() == Thread.currentThread().getId()));
+        }
+        finally {
+            waiting.interrupt();
+        }
+    }
+
+    @Test
+    public void agentThreads() throws Exception {
+        Thread thread = new Thread(() -> { });
+        assertFalse(ThreadUtils.isAgentThread(thread.getId()));
+        ThreadUtils.registerAgentThread(thread);
+        assertTrue(ThreadUtils.isAgentThread(thread.getId()));
+    }
+}
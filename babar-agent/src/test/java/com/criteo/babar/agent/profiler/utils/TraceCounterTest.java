@@ -0,0 +1,83 @@
+package com.criteo.babar.agent.profiler.utils;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class TraceCounterTest {
+
+    private static Map<Long, long[]> drain(TraceCounter counter) {
+        Map<Long, long[]> traces = new HashMap<>();
+        counter.drain((traceId, count, firstTimestamp) -> traces.put(traceId, new long[] {count, firstTimestamp}));
+        return traces;
+    }
+
+    @Test
+    public void countsAndFirstTimestamps() throws Exception {
+        TraceCounter counter = new TraceCounter(16);
+        assertTrue(counter.increment(1L, 1L, 200L));
+        assertTrue(counter.increment(1L, 2L, 100L));
+        assertTrue(counter.increment(Long.MAX_VALUE, 1L, 300L));
+        Map<Long, long[]> traces = drain(counter);
+        assertEquals(2, traces.size());
+        assertArrayEquals(new long[] {3L, 100L}, traces.get(1L));
+        assertArrayEquals(new long[] {1L, 300L}, traces.get(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void drainResetsTheCounts() throws Exception {
+        TraceCounter counter = new TraceCounter(16);
+        counter.increment(1L, 1L, 100L);
+        drain(counter);
+        assertTrue(drain(counter).isEmpty());
+        counter.increment(1L, 1L, 300L);
+        assertArrayEquals(new long[] {1L, 300L}, drain(counter).get(1L));
+    }
+
+    @Test
+    public void overflow() throws Exception {
+        TraceCounter counter = new TraceCounter(2);
+        assertTrue(counter.increment(1L, 1L, 100L));
+        assertTrue(counter.increment(2L, 1L, 100L));
+        assertFalse(counter.increment(3L, 5L, 100L));
+        // known traces are still counted
+        assertTrue(counter.increment(1L, 1L, 100L));
+        Map<Long, long[]> traces = new HashMap<>();
+        long dropped = counter.drain((traceId, count, firstTimestamp) -> traces.put(traceId, new long[] {count}));
+        assertEquals(5L, dropped);
+        assertEquals(2, traces.size());
+        assertEquals(2L, traces.get(1L)[0]);
+        // the next window starts empty
+        assertTrue(counter.increment(3L, 1L, 100L));
+        assertEquals(0L, counter.drain((traceId, count, firstTimestamp) -> { }));
+    }
+
+    @Test
+    public void concurrentIncrementsAndDrains() throws Exception {
+        TraceCounter counter = new TraceCounter(1024);
+        int threadsNb = 4;
+        int increments = 200000;
+        CountDownLatch done = new CountDownLatch(threadsNb);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        for (int t = 0; t < threadsNb; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < increments; i++) {
+                    if (!counter.increment(1 + (i % 100), 1L, i)) failed.set(true);
+                }
+                done.countDown();
+            }).start();
+        }
+        long[] total = new long[1];
+        while (done.getCount() > 0) {
+            counter.drain((traceId, count, firstTimestamp) -> total[0] += count);
+        }
+        counter.drain((traceId, count, firstTimestamp) -> total[0] += count);
+        assertFalse(failed.get());
+        assertEquals((long)threadsNb * increments, total[0]);
+    }
+}
@@ -0,0 +1,42 @@
+package com.criteo.babar.agent.reporter;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+
+import static org.junit.Assert.*;
+
+public class BinaryReporterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void exportAsLogLines() throws Exception {
+        File dir = folder.newFolder();
+        BinaryReporter reporter = new BinaryReporter(AgentConfig.parse("dir=" + dir.getAbsolutePath()));
+        reporter.start();
+        reporter.reportEvent("METRIC_A", "", 1.5D, 1000L);
+        reporter.reportEvent("METRIC_B", "thread|a.b:1|c.d:2", 2D, 1001L);
+        reporter.reportEvent("METRIC_A", "", Double.valueOf(3D), Long.valueOf(1002L));
+        reporter.reportEvent("METRIC_B", "thread|a.b:1|c.d:2", 4D, 1003L);
+        reporter.stop();
+
+        StringWriter out = new StringWriter();
+        try (InputStream in = new FileInputStream(new File(dir, "babar.bin"))) {
+            assertEquals(4L, new BinaryLogExporter().export(in, out));
+        }
+        String[] lines = out.toString().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("BABAR\t" + Reporter.container + "\tMETRIC_A\t1000\t1.5\t", lines[0]);
+        assertEquals("BABAR\t" + Reporter.container + "\tMETRIC_B\t1001\t2.0\tthread|a.b:1|c.d:2", lines[1]);
+        assertEquals("BABAR\t" + Reporter.container + "\tMETRIC_A\t1002\t3.0\t", lines[2]);
+        assertEquals("BABAR\t" + Reporter.container + "\tMETRIC_B\t1003\t4.0\tthread|a.b:1|c.d:2", lines[3]);
+    }
+}
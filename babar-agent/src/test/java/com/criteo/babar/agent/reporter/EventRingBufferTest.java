@@ -0,0 +1,110 @@
+package com.criteo.babar.agent.reporter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EventRingBufferTest {
+
+    @Test
+    public void capacityIsPowerOfTwo() throws Exception {
+        assertEquals(1024, new EventRingBuffer(1000).getCapacity());
+        assertEquals(1024, new EventRingBuffer(1024).getCapacity());
+        assertEquals(2, new EventRingBuffer(0).getCapacity());
+    }
+
+    @Test
+    public void drainInOrder() throws Exception {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        final List<String> events = new ArrayList<>();
+        EventRingBuffer.Consumer consumer = new EventRingBuffer.Consumer() {
+            @Override
+            public void accept(int container, int metric, long time, double value, String label) {
+                events.add(container + "," + metric + "," + time + "," + value + "," + label);
+            }
+        };
+
+        assertTrue(buffer.offer(0, 1, 10L, 1.5D, ""));
+        assertTrue(buffer.offer(0, 2, 11L, 2.5D, "a"));
+        assertEquals(1, buffer.drain(consumer, 1));
+        assertEquals(1, buffer.drain(consumer, 10));
+        assertEquals(0, buffer.drain(consumer, 10));
+        assertTrue(buffer.isEmpty());
+
+        assertEquals("0,1,10,1.5,", events.get(0));
+        assertEquals("0,2,11,2.5,a", events.get(1));
+    }
+
+    @Test
+    public void dropWhenFull() throws Exception {
+        EventRingBuffer buffer = new EventRingBuffer(2);
+        assertTrue(buffer.offer(0, 0, 0L, 0D, ""));
+        assertTrue(buffer.offer(0, 0, 1L, 0D, ""));
+        assertFalse(buffer.offer(0, 0, 2L, 0D, ""));
+        assertEquals(1L, buffer.getDropped());
+
+        assertEquals(2, buffer.drain(new SumConsumer(), 10));
+        assertTrue(buffer.offer(0, 0, 3L, 0D, ""));
+    }
+
+    @Test
+    public void concurrentProducers() throws Exception {
+        final EventRingBuffer buffer = new EventRingBuffer(256);
+        final int producers = 4;
+        final int eventsPerProducer = 100000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int metric = p;
+            threads[p] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < eventsPerProducer; i++) {
+                        // retry until the consumer frees some slots
+                        while (!buffer.offer(0, metric, i, 1D, "")) Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+
+        SumConsumer consumer = new SumConsumer(producers);
+        long expected = (long)producers * eventsPerProducer;
+        while (consumer.count < expected) {
+            if (buffer.drain(consumer, 64) == 0) Thread.yield();
+        }
+        for (Thread t: threads) t.join();
+
+        assertEquals(expected, consumer.count);
+        assertTrue(consumer.ordered);
+        assertTrue(buffer.isEmpty());
+    }
+
+    private static class SumConsumer implements EventRingBuffer.Consumer {
+        long count = 0L;
+        boolean ordered = true;
+        final long[] lastTimes;
+
+        SumConsumer() {
+            this(1);
+        }
+
+        SumConsumer(int metrics) {
+            lastTimes = new long[metrics];
+            Arrays.fill(lastTimes, -1L);
+        }
+
+        @Override
+        public void accept(int container, int metric, long time, double value, String label) {
+            count++;
+            if (metric < lastTimes.length) {
+                // events of a given producer are read in the order they were offered
+                if (time != lastTimes[metric] + 1) ordered = false;
+                lastTimes[metric] = time;
+            }
+        }
+    }
+}
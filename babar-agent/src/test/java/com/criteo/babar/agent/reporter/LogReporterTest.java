@@ -0,0 +1,60 @@
+package com.criteo.babar.agent.reporter;
+
+import com.criteo.babar.agent.config.AgentConfig;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LogReporterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void textFormat() throws Exception {
+        File dir = folder.newFolder();
+        LogReporter reporter = new LogReporter(AgentConfig.parse("dir=" + dir.getAbsolutePath()));
+        reporter.start();
+        reporter.reportEvent("METRIC_A", "", 1.5D, 1000L);
+        reporter.reportEvent("METRIC_B", "thread|a.b:1", 2D, 1001L);
+        reporter.reportEvent("METRIC_C", null, 3D, 1002L);
+        reporter.stop();
+
+        List<String> lines = Files.readAllLines(new File(dir, "babar.log").toPath(), StandardCharsets.UTF_8);
+        assertEquals(4, lines.size());
+        assertEquals("", lines.get(0));
+        assertEquals("BABAR\t" + Reporter.container + "\tMETRIC_A\t1000\t1.5\t", lines.get(1));
+        assertEquals("BABAR\t" + Reporter.container + "\tMETRIC_B\t1001\t2.0\tthread|a.b:1", lines.get(2));
+        assertEquals("BABAR\t" + Reporter.container + "\tMETRIC_C\t1002\t3.0\tnull", lines.get(3));
+    }
+
+    @Test
+    public void dictionaryFormat() throws Exception {
+        File dir = folder.newFolder();
+        LogReporter reporter = new LogReporter(AgentConfig.parse("dir=" + dir.getAbsolutePath() + ",format=dictionary"));
+        reporter.start();
+        reporter.reportEvent("METRIC_A", "", 1.5D, 1000L);
+        reporter.reportEvent("METRIC_B", "thread|a.b:1", 2D, 1001L);
+        reporter.reportEvent("METRIC_A", "", 3D, 1002L);
+        reporter.reportEvent("METRIC_B", "thread|a.b:1", 4D, 1003L);
+        reporter.stop();
+
+        List<String> lines = Files.readAllLines(new File(dir, "babar.log").toPath(), StandardCharsets.UTF_8);
+        assertEquals(9, lines.size());
+        assertEquals("BABAR_DICT\tC\t" + Reporter.container, lines.get(1));
+        assertEquals("BABAR_DICT\tM\t0\tMETRIC_A", lines.get(2));
+        assertEquals("BABAR_ID\t0\t1000\t1.5", lines.get(3));
+        assertEquals("BABAR_DICT\tM\t1\tMETRIC_B", lines.get(4));
+        assertEquals("BABAR_DICT\tL\t1\tthread|a.b:1", lines.get(5));
+        assertEquals("BABAR_ID\t1\t1001\t2.0\t1", lines.get(6));
+        assertEquals("BABAR_ID\t0\t1002\t3.0", lines.get(7));
+        assertEquals("BABAR_ID\t1\t1003\t4.0\t1", lines.get(8));
+    }
+}
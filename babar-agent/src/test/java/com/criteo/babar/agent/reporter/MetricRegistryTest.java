@@ -0,0 +1,47 @@
+package com.criteo.babar.agent.reporter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MetricRegistryTest {
+
+    @Test
+    public void denseMetricIds() throws Exception {
+        MetricRegistry registry = new MetricRegistry();
+        assertEquals(0, registry.getMetricId("A"));
+        assertEquals(1, registry.getMetricId("B"));
+        assertEquals(0, registry.getMetricId("A"));
+        assertEquals("A", registry.getMetricName(0));
+        assertEquals("B", registry.getMetricName(1));
+    }
+
+    @Test
+    public void manyMetrics() throws Exception {
+        MetricRegistry registry = new MetricRegistry();
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, registry.getMetricId("M" + i));
+        }
+        assertEquals("M150", registry.getMetricName(150));
+    }
+
+    @Test
+    public void labelIds() throws Exception {
+        MetricRegistry registry = new MetricRegistry();
+        assertEquals(MetricRegistry.EMPTY_LABEL, registry.getLabelId(""));
+        assertEquals(1, registry.getLabelId("a"));
+        assertEquals(2, registry.getLabelId("b"));
+        assertEquals(1, registry.getLabelId("a"));
+    }
+
+    @Test
+    public void labelIdsAreNotReused() throws Exception {
+        MetricRegistry registry = new MetricRegistry(2);
+        assertEquals(1, registry.getLabelId("a"));
+        assertEquals(2, registry.getLabelId("b"));
+        // the labels are forgotten once the limit is reached
+        assertEquals(3, registry.getLabelId("c"));
+        assertEquals(4, registry.getLabelId("a"));
+        assertEquals(3, registry.getLabelId("c"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.criteo.babar.agent.reporter;
+
+import com.criteo.babar.agent.config.AgentConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reporter recording the values reported by the profilers in memory, summed by metric and label, so that tests can
+ * check what was reported. The profilers may report from other threads, such as the GC notifications.
+ */
+public class RecordingReporter extends Reporter {
+
+    private final Map<String, Map<String, Double>> values = new HashMap<>();
+
+    public RecordingReporter() {
+        super(AgentConfig.parse(""));
+    }
+
+    @Override
+    public synchronized void reportEvent(String metric, String label, double value, long time) {
+        values.computeIfAbsent(metric, m -> new HashMap<>()).merge(label, value, Double::sum);
+    }
+
+    /**
+     * @return                      The sum of the values reported for each label of a metric, empty if none was
+     */
+    public synchronized Map<String, Double> get(String metric) {
+        return new HashMap<>(values.getOrDefault(metric, new HashMap<>()));
+    }
+
+    /**
+     * @return                      The sum of the values reported for a label of a metric, or null if none was
+     */
+    public synchronized Double get(String metric, String label) {
+        return get(metric).get(label);
+    }
+
+    /**
+     * @return                      The metrics reported
+     */
+    public synchronized Set<String> metrics() {
+        return new HashMap<>(values).keySet();
+    }
+
+    public synchronized void clear() {
+        values.clear();
+    }
+
+    @Override
+    public void start() { }
+
+    @Override
+    public void stop() { }
+}
@@ -1,49 +1,101 @@
 package com.criteo.babar.processor
 
-import org.apache.commons.lang3.mutable.MutableLong
-
 import scala.collection.mutable
-import scala.util.parsing.json.{JSON, JSONArray, JSONObject, JSONType}
 
 
 trait Transformation[-IN, +OUT] {
 
   def transform(value: IN): Iterable[OUT]
 
+  // the only metric kept by this transformation, if any
+  def filteredMetric: Option[String] = None
+
+  // the primitive view of this transformation, if it only maps the value and the time of the gauges, which lets the
+  // columnar aggregations be fed without copying the gauges
+  def columnar: Option[ColumnarTransform] = None
+
   def and[NOUT](next: Transformation[OUT, NOUT]): Transformation[IN, NOUT] = {
-    (value: IN) => this.transform(value).flatMap(next.transform)
+    val prev = this
+    new Transformation[IN, NOUT] {
+      override def transform(value: IN): Iterable[NOUT] = prev.transform(value).flatMap(next.transform)
+      override def filteredMetric: Option[String] = prev.filteredMetric.orElse(next.filteredMetric)
+      override val columnar: Option[ColumnarTransform] =
+        for (p <- prev.columnar; n <- next.columnar; c <- p.andThen(n)) yield c
+    }
   }
 
   def aggregate[NOUT](aggregation: Aggregation[OUT, NOUT]): Aggregation[IN, NOUT] = {
     val prev = this
-    new Aggregation[IN, NOUT] {
-      override def aggregate(value: IN): Unit = transform(value).foreach(aggregation.aggregate)
-      override def values(): Iterable[NOUT] = aggregation.values()
-      override def json(): Option[JSONType] = aggregation.json()
+    (columnar, aggregation) match {
+      // columnar transformations are only defined on gauges
+      case (Some(t), byContainer: AggregationByContainerAndTime) if t.precision > 0 =>
+        new ColumnarPipeline(t, byContainer, prev.filteredMetric).asInstanceOf[Aggregation[IN, NOUT]]
+      case _ => new TransformedAggregation(prev, aggregation)
     }
   }
 }
 
+/**
+ * Aggregates the values of a transformation
+ */
+class TransformedAggregation[IN, MID, OUT](val transformation: Transformation[IN, MID],
+                                           val aggregation: Aggregation[MID, OUT]) extends Aggregation[IN, OUT] {
+  override def aggregate(value: IN): Unit = transformation.transform(value).foreach(aggregation.aggregate)
+  override def values(): Iterable[OUT] = aggregation.values()
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = aggregation.writeJson(out, maxPoints)
+  override def filteredMetric: Option[String] = transformation.filteredMetric
+  override def merge(other: Aggregation[_, _]): Unit = {
+    aggregation.merge(other.asInstanceOf[TransformedAggregation[_, _, _]].aggregation)
+  }
+  override def save(out: CheckpointWriter): Unit = aggregation.save(out)
+  override def load(in: CheckpointReader): Unit = aggregation.load(in)
+}
+
+/**
+ * Primitive composition of the transformations mapping the value of the gauges, then discretizing their time if the
+ * precision is positive.
+ */
+case class ColumnarTransform(valueFn: Double => Double = identity, precision: Long = 0L) {
+
+  def andThen(next: ColumnarTransform): Option[ColumnarTransform] = {
+    // discretizing twice is only the same as discretizing with the last precision if it is a multiple of the first
+    if (precision > 0 && next.precision > 0 && next.precision % precision != 0) None
+    else {
+      val prevFn = valueFn
+      val nextFn = next.valueFn
+      Some(ColumnarTransform(v => nextFn(prevFn(v)), if (next.precision > 0) next.precision else precision))
+    }
+  }
+
+  def discretize(time: Long): Long = time - (time % precision)
+}
+
 case class FilterMetric(metric: String) extends Transformation[Gauge, Gauge] {
   override def transform(g: Gauge): Iterable[Gauge] = if (g.metric == metric) Some(g) else None
+  override def filteredMetric: Option[String] = Some(metric)
+  override def columnar: Option[ColumnarTransform] = Some(ColumnarTransform())
 }
 
 case class Cap(min: Double, max: Double) extends Transformation[Gauge, Gauge] {
+  private def cap(v: Double): Double = math.max(min, math.min(max, v))
   override def transform(g: Gauge): Iterable[Gauge] = {
-    Some(g.copy(value = math.max(0, math.min(1, g.value))))
+    Some(g.copy(value = cap(g.value)))
   }
+  override def columnar: Option[ColumnarTransform] = Some(ColumnarTransform(cap))
 }
 
 case class Scale(scale: Double) extends Transformation[Gauge, Gauge] {
   override def transform(g: Gauge): Iterable[Gauge] = {
     Some(g.copy(value = g.value * scale))
   }
+  override def columnar: Option[ColumnarTransform] = Some(ColumnarTransform(_ * scale))
 }
 
 case class DiscretizeTime(precision: Long) extends Transformation[Gauge, Gauge] {
   override def transform(g: Gauge): Iterable[Gauge] = {
     Some(g.copy(timestamp = g.timestamp - (g.timestamp % precision)))
   }
+  override def columnar: Option[ColumnarTransform] = Some(ColumnarTransform(precision = precision))
 }
 
 
@@ -53,25 +105,66 @@ trait Aggregation[-IN, +OUT] {
 
   def values(): Iterable[OUT]
 
-  def json(): Option[JSONType]
-
-  def and[NOUT](next: Aggregation[OUT, NOUT]): Aggregation[IN, NOUT] = {
-    val prev = this
+  /**
+   * Write the values of the aggregation as a JSON value, or nothing if there are none
+   * @param maxPoints           The max number of points of the time series, the longer ones being downsampled, or 0 to
+   *                            keep all the points
+   */
+  def writeJson(out: JsonWriter, maxPoints: Int): Unit
+
+  // the only metric aggregated, if any, used to dispatch the gauges to the aggregations of their metric
+  def filteredMetric: Option[String] = None
+
+  // the columnar pipeline receiving the gauges of this aggregation, if any, which can be fed directly
+  def columnar: Option[ColumnarPipeline] = None
+
+  /**
+   * Merge the state of an aggregation built the same way, but fed with other values, so that the values can be
+   * aggregated in parallel. Merges are associative, must happen before the values are read, and the other aggregation
+   * must not be used afterwards as its state may be shared.
+   */
+  def merge(other: Aggregation[_, _]): Unit
+
+  /**
+   * Write the state of the aggregation to a checkpoint, so that an aggregation built the same way can resume from it.
+   * The state is written before the values are read.
+   */
+  def save(out: CheckpointWriter): Unit
+
+  /**
+   * Read the state written by {@link #save} into this aggregation, before it aggregates any value
+   */
+  def load(in: CheckpointReader): Unit
+
+  def and[NOUT](next: Aggregation[OUT, NOUT]): Aggregation[IN, NOUT] = new ChainedAggregation(this, next)
+}
 
-    new Aggregation[IN, NOUT] {
-      override def aggregate(value: IN): Unit = {
-        prev.aggregate(value)
-      }
-      override def values(): Iterable[NOUT] = {
-        prev.values().foreach(next.aggregate)
-        next.values()
-      }
-      override def json(): Option[JSONType] = {
-        values()
-        next.json()
-      }
-    }
+/**
+ * Feeds the values of an aggregation to the next one when they are read
+ */
+class ChainedAggregation[IN, MID, OUT](val prev: Aggregation[IN, MID],
+                                       val next: Aggregation[MID, OUT]) extends Aggregation[IN, OUT] {
+  override def filteredMetric: Option[String] = prev.filteredMetric
+  override def columnar: Option[ColumnarPipeline] = prev.columnar
+  override def aggregate(value: IN): Unit = {
+    prev.aggregate(value)
+  }
+  override def values(): Iterable[OUT] = {
+    prev.values().foreach(next.aggregate)
+    next.values()
+  }
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    values()
+    next.writeJson(out, maxPoints)
+  }
+  override def merge(other: Aggregation[_, _]): Unit = {
+    val o = other.asInstanceOf[ChainedAggregation[_, _, _]]
+    prev.merge(o.prev)
+    next.merge(o.next)
   }
+  // the next aggregation is only fed when the values are read, after the checkpoint is written
+  override def save(out: CheckpointWriter): Unit = prev.save(out)
+  override def load(in: CheckpointReader): Unit = prev.load(in)
 }
 
 case class TrueIfAny() extends Aggregation[Gauge, Boolean] {
@@ -83,49 +176,310 @@ case class TrueIfAny() extends Aggregation[Gauge, Boolean] {
 
   override def values(): Iterable[Boolean] = Seq(isTrue).filter(_ == true)
 
-  override def json(): Option[JSONType] = if (isTrue) Some(JSONObject(Map("true" -> true))) else None
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    if (isTrue) out.beginObject().name("true").value(true).endObject()
+  }
+
+  override def merge(other: Aggregation[_, _]): Unit = {
+    isTrue ||= other.asInstanceOf[TrueIfAny].isTrue
+  }
+
+  override def save(out: CheckpointWriter): Unit = out.writeBoolean(isTrue)
+
+  override def load(in: CheckpointReader): Unit = {
+    isTrue = in.readBoolean()
+  }
 }
 
-class AggregationByContainerAndTime[ACC, OUT](val zero: ACC)(val fn: (ACC, Double) => ACC)(val fin: ACC => OUT) extends Aggregation[Gauge, ((String, Long), OUT)] {
+/**
+ * Aggregates the values of the gauges by container and time. The time of the gauges must be discretized.
+ *
+ * The values fed by a {@link ColumnarPipeline} are accumulated in primitive columns, one per container, indexed by the
+ * discretized time, with the number of values of each cell. Other gauges are accumulated in a map.
+ */
+class AggregationByContainerAndTime(val zero: Double)(val fn: (Double, Double) => Double)(val fin: (Double, Long) => Double)
+  extends Aggregation[Gauge, ((String, Long), Double)] {
 
-  private val map = mutable.Map[(String, Long), ACC]()
+  // columns indexed by the id of the containers
+  private var columns = new Array[TimeColumn](16)
+  private val map = mutable.Map[(String, Long), (Double, Long)]()
 
   override def aggregate(g: Gauge): Unit = {
-    val prev = map.getOrElseUpdate((g.container, g.timestamp), zero)
-    map.put((g.container, g.timestamp), fn(prev, g.value))
+    val (prev, count) = map.getOrElse((g.container, g.timestamp), (zero, 0L))
+    map.put((g.container, g.timestamp), (fn(prev, g.value), count + 1L))
   }
 
-  override def values(): Iterable[((String, Long), OUT)] = map.mapValues(fin)
+  /**
+   * Aggregate a value without allocating
+   * @param g                   The gauge, giving the container
+   * @param time                The time of the value, discretized with the given precision
+   * @param precision           The precision of the time
+   * @param value               The value
+   */
+  def aggregate(g: Gauge, time: Long, precision: Long, value: Double): Unit = {
+    val id = g.containerId
+    if (id < 0) {
+      aggregate(g.copy(timestamp = time, value = value))
+      return
+    }
+    if (id >= columns.length) columns = java.util.Arrays.copyOf(columns, math.max(id + 1, columns.length * 2))
+    var column = columns(id)
+    if (column == null) {
+      column = new TimeColumn(g.container, precision)
+      columns(id) = column
+    }
+    if (!column.add(time / precision, value, zero, fn)) {
+      // the time is too far from the other values of the container to fit in its column
+      aggregate(g.copy(timestamp = time, value = value))
+    }
+  }
 
-  override def json(): Option[JSONType] = {
-    val res = values()
-    if (res.isEmpty) return None
-
-    val byContainer = res
-      .map{ case ((container, time), value) => (container, time, value) }
-      .groupBy(_._1)
-      .map{ case (container, timeValues) =>
-          val times = timeValues.map(_._2).toList
-          val vals = timeValues.map(_._3).toList
-        container -> Map("time" -> JSONArray(times), "values" -> JSONArray(vals))
+  override def merge(other: Aggregation[_, _]): Unit = {
+    val o = other.asInstanceOf[AggregationByContainerAndTime]
+    // the ids of the containers are given by the same registry in both aggregations
+    if (o.columns.length > columns.length) columns = java.util.Arrays.copyOf(columns, o.columns.length)
+    o.columns.indices.foreach { id =>
+      val column = o.columns(id)
+      if (column != null) {
+        if (columns(id) == null) columns(id) = column
+        else column.cells.foreach { case (time, acc, count) =>
+          if (!columns(id).merge(time / column.precision, acc, count, fn)) mergeInMap((column.container, time), acc, count)
+        }
       }
-    Some(JSONObject(byContainer))
+    }
+    if (o.map.nonEmpty) {
+      val byName = columns.iterator.filter(_ != null).map(c => c.container -> c).toMap
+      o.map.foreach { case (key@(container, time), (acc, count)) =>
+        // the cell is in the column of its container if it fits in it
+        val merged = byName.get(container).exists(c => c.merge(time / c.precision, acc, count, fn))
+        if (!merged) mergeInMap(key, acc, count)
+      }
+    }
   }
+
+  override def save(out: CheckpointWriter): Unit = {
+    val nonEmpty = columns.filter(_ != null)
+    out.writeVarLong(nonEmpty.length)
+    nonEmpty.foreach { column =>
+      out.writeName(column.container)
+      out.writeVarLong(column.precision)
+      val cells = column.cells.toList
+      out.writeVarLong(cells.size)
+      // the buckets are increasing, so only their differences are written
+      var bucket = 0L
+      cells.foreach { case (time, acc, count) =>
+        out.writeSignedVarLong(time / column.precision - bucket)
+        out.writeDouble(acc)
+        out.writeVarLong(count)
+        bucket = time / column.precision
+      }
+    }
+    out.writeVarLong(map.size)
+    map.foreach { case ((container, time), (acc, count)) =>
+      out.writeName(container)
+      out.writeSignedVarLong(time)
+      out.writeDouble(acc)
+      out.writeVarLong(count)
+    }
+  }
+
+  override def load(in: CheckpointReader): Unit = {
+    val columnsNb = in.readVarLong().toInt
+    (0 until columnsNb).foreach { _ =>
+      val id = in.containers.id(in.readName())
+      val precision = in.readVarLong()
+      val column = new TimeColumn(in.containers.name(id), precision)
+      if (id >= columns.length) columns = java.util.Arrays.copyOf(columns, math.max(id + 1, columns.length * 2))
+      columns(id) = column
+      val cellsNb = in.readVarLong().toInt
+      var bucket = 0L
+      (0 until cellsNb).foreach { _ =>
+        bucket += in.readSignedVarLong()
+        val acc = in.readDouble()
+        // the cells were written by a column, so they fit in it
+        column.merge(bucket, acc, in.readVarLong(), fn)
+      }
+    }
+    val cellsNb = in.readVarLong().toInt
+    (0 until cellsNb).foreach { _ =>
+      val container = in.readName()
+      val time = in.readSignedVarLong()
+      val acc = in.readDouble()
+      mergeInMap((container, time), acc, in.readVarLong())
+    }
+  }
+
+  private def mergeInMap(key: (String, Long), acc: Double, count: Long): Unit = {
+    val merged = map.get(key) match {
+      case Some((prevAcc, prevCount)) => (fn(prevAcc, acc), prevCount + count)
+      case None => (acc, count)
+    }
+    map.put(key, merged)
+  }
+
+  override def values(): Iterable[((String, Long), Double)] = {
+    val fromColumns = columns.iterator.filter(_ != null).flatMap { column =>
+      column.cells.map { case (time, acc, count) => ((column.container, time), fin(acc, count)) }
+    }
+    val fromMap = map.iterator.map { case (key, (acc, count)) => (key, fin(acc, count)) }
+    (fromColumns ++ fromMap).toList
+  }
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    val nonEmpty = columns.filter(_ != null)
+    if (nonEmpty.isEmpty && map.isEmpty) return
+
+    // the cells that did not fit in the column of their container
+    val fromMap = map.toList.groupBy(_._1._1).mapValues(_.map { case ((_, time), (acc, count)) => (time, fin(acc, count)) })
+    out.beginObject()
+    nonEmpty.foreach { column =>
+      writeContainer(out, column.container, () =>
+        column.cells.map { case (time, acc, count) => (time, fin(acc, count)) } ++ fromMap.getOrElse(column.container, Nil))
+    }
+    (fromMap -- nonEmpty.map(_.container)).foreach { case (container, cells) =>
+      writeContainer(out, container, () => cells.iterator)
+    }
+    out.endObject()
+  }
+
+  private def writeContainer(out: JsonWriter, container: String, cells: () => Iterator[(Long, Double)]): Unit = {
+    out.name(container).beginObject()
+    out.name("time").beginArray()
+    cells().foreach { case (time, _) => out.value(time) }
+    out.endArray()
+    out.name("values").beginArray()
+    cells().foreach { case (_, value) => out.value(value) }
+    out.endArray()
+    out.endObject()
+  }
+}
+
+/**
+ * Values of a container in time buckets of the given precision, stored in an array starting at the first bucket.
+ * Cells without values have a count of 0.
+ */
+private[processor] class TimeColumn(val container: String, val precision: Long) {
+
+  import TimeColumn._
+
+  private var start = 0L
+  private var accs: Array[Double] = _
+  private var counts: Array[Long] = _
+
+  /**
+   * @return                    False if the bucket is too far from the other buckets of the column
+   */
+  def add(bucket: Long, value: Double, zero: Double, fn: (Double, Double) => Double): Boolean = {
+    if (!ensure(bucket)) return false
+    val i = (bucket - start).toInt
+    accs(i) = fn(if (counts(i) == 0L) zero else accs(i), value)
+    counts(i) += 1L
+    true
+  }
+
+  /**
+   * Merge a cell of another column
+   * @return                    False if the bucket is too far from the other buckets of the column
+   */
+  def merge(bucket: Long, acc: Double, count: Long, fn: (Double, Double) => Double): Boolean = {
+    if (!ensure(bucket)) return false
+    val i = (bucket - start).toInt
+    accs(i) = if (counts(i) == 0L) acc else fn(accs(i), acc)
+    counts(i) += count
+    true
+  }
+
+  // grow the column so that it includes the bucket, if it can
+  private def ensure(bucket: Long): Boolean = {
+    if (accs == null) {
+      start = bucket
+      accs = new Array[Double](INITIAL_SIZE)
+      counts = new Array[Long](INITIAL_SIZE)
+    }
+    if (bucket < start || bucket - start >= accs.length) {
+      val end = start + accs.length
+      val newStart = math.min(start, bucket)
+      val newEnd = math.max(end, bucket + 1)
+      if (newEnd - newStart > MAX_SIZE) return false
+      // grow by at least doubling on the side of the new bucket to amortize the copies
+      val newSize = math.min(MAX_SIZE, math.max(newEnd - newStart, 2L * accs.length)).toInt
+      val allocStart = if (bucket < start) end - newSize else start
+      val offset = (start - allocStart).toInt
+      val newAccs = new Array[Double](newSize)
+      val newCounts = new Array[Long](newSize)
+      System.arraycopy(accs, 0, newAccs, offset, accs.length)
+      System.arraycopy(counts, 0, newCounts, offset, counts.length)
+      start = allocStart
+      accs = newAccs
+      counts = newCounts
+    }
+    true
+  }
+
+  // (time, accumulated value, count) of the non-empty cells
+  def cells: Iterator[(Long, Double, Long)] = {
+    if (accs == null) Iterator.empty
+    else accs.indices.iterator.filter(counts(_) > 0L).map(i => ((start + i) * precision, accs(i), counts(i)))
+  }
+}
+
+private[processor] object TimeColumn {
+  val INITIAL_SIZE = 64
+  // about a week with a precision of 10s
+  val MAX_SIZE = 1 << 16
+}
+
+/**
+ * Feeds an {@link AggregationByContainerAndTime} with the values of the gauges mapped by a columnar transformation,
+ * without copying the gauges.
+ */
+class ColumnarPipeline(val transform: ColumnarTransform,
+                       val byContainer: AggregationByContainerAndTime,
+                       override val filteredMetric: Option[String]) extends Aggregation[Gauge, ((String, Long), Double)] {
+
+  private val valueFn = transform.valueFn
+
+  def precision: Long = transform.precision
+
+  override def aggregate(g: Gauge): Unit = {
+    if (filteredMetric.forall(_ == g.metric)) aggregate(g, transform.discretize(g.timestamp))
+  }
+
+  /**
+   * Aggregate a gauge of the filtered metric
+   * @param g                   The gauge
+   * @param time                The time of the gauge, already discretized with the precision of the pipeline
+   */
+  def aggregate(g: Gauge, time: Long): Unit = {
+    byContainer.aggregate(g, time, transform.precision, valueFn(g.value))
+  }
+
+  override def values(): Iterable[((String, Long), Double)] = byContainer.values()
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = byContainer.writeJson(out, maxPoints)
+
+  override def columnar: Option[ColumnarPipeline] = Some(this)
+
+  override def merge(other: Aggregation[_, _]): Unit = {
+    byContainer.merge(other.asInstanceOf[ColumnarPipeline].byContainer)
+  }
+
+  override def save(out: CheckpointWriter): Unit = byContainer.save(out)
+
+  override def load(in: CheckpointReader): Unit = byContainer.load(in)
 }
 
-case class OneByContainerAndTime() extends AggregationByContainerAndTime(0D)((_, _) => 1D)(identity)
+case class OneByContainerAndTime() extends AggregationByContainerAndTime(0D)((_, _) => 1D)((acc, _) => acc)
 
-case class MaxByContainerAndTime() extends AggregationByContainerAndTime(0D)(Math.max)(identity)
+case class MaxByContainerAndTime() extends AggregationByContainerAndTime(0D)(Math.max)((acc, _) => acc)
 
-case class MinByContainerAndTime() extends AggregationByContainerAndTime(0D)(Math.min)(identity)
+case class MinByContainerAndTime() extends AggregationByContainerAndTime(0D)(Math.min)((acc, _) => acc)
 
-case class AvgByContainerAndTime() extends AggregationByContainerAndTime((0D, 0L))(
-  { case ((sum, count), v) => (sum + v, count + 1L)})(
-  { case (sum, count) => sum / count })
+case class AvgByContainerAndTime() extends AggregationByContainerAndTime(0D)(_ + _)((sum, count) => sum / count)
 
-case class SumByContainerAndTime() extends AggregationByContainerAndTime(0D)((sum, v) => sum + v)(identity)
+case class SumByContainerAndTime() extends AggregationByContainerAndTime(0D)(_ + _)((acc, _) => acc)
 
-class AggregationOverAllContainersByTime[V, ACC, OUT](zero: ACC)(val acc: (ACC, V) => ACC)(val fin: ACC => OUT)  extends Aggregation[((String, Long), V), (Long, OUT)] {
+class AggregationOverAllContainersByTime[V, ACC, OUT](zero: => ACC)(val acc: (ACC, V) => ACC)(val combine: (ACC, ACC) => ACC)(val fin: ACC => OUT)  extends Aggregation[((String, Long), V), (Long, OUT)] {
 
   private val map = mutable.SortedMap[Long, ACC]()
 
@@ -136,37 +490,72 @@ class AggregationOverAllContainersByTime[V, ACC, OUT](zero: ACC)(val acc: (ACC,
     map.put(time, acc(prev, value))
   }
 
-  override def values(): Iterable[(Long, OUT)] = map.mapValues(fin)
+  override def values(): Iterable[(Long, OUT)] = map.toList.map { case (time, acc) => (time, fin(acc)) }
 
-  override def json(): Option[JSONType]  = {
+  override def merge(other: Aggregation[_, _]): Unit = {
+    other.asInstanceOf[AggregationOverAllContainersByTime[V, ACC, OUT]].map.foreach { case (time, value) =>
+      map.put(time, map.get(time).map(combine(_, value)).getOrElse(value))
+    }
+  }
+
+  // only fed with the values of the aggregation by container when they are read, after the checkpoint is written
+  override def save(out: CheckpointWriter): Unit = {}
+
+  override def load(in: CheckpointReader): Unit = {}
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
     val res = values()
-    if (res.isEmpty) return None
+    if (res.isEmpty) return
 
-    val times = res.map(_._1).toList
-    val vals = res.map(_._2).toList
-    Some(JSONObject(Map("time" -> JSONArray(times), "values" -> JSONArray(vals))))
+    val times = res.map(_._1).toArray
+    val vals = res.map { case (_, value) => value.asInstanceOf[Number].doubleValue() }.toArray
+    Downsampling.writeJson(out, times, Seq("values" -> vals), maxPoints)
   }
 }
 
 case class SumOverAllContainersByTime()
-  extends AggregationOverAllContainersByTime[Double, Double, Double](0D)((acc: Double, v: Double) => acc + v)(identity)
+  extends AggregationOverAllContainersByTime[Double, Double, Double](0D)((acc: Double, v: Double) => acc + v)(_ + _)(identity)
 
 case class MaxOverAllContainersByTime()
-  extends AggregationOverAllContainersByTime[Double, Double, Double](0D)(Math.max)(identity)
+  extends AggregationOverAllContainersByTime[Double, Double, Double](0D)(Math.max)(Math.max)(identity)
+
+/**
+ * Aggregates the values of all the containers by time in a {@link QuantileSketch}, so that the memory does not grow with
+ * the number of containers.
+ */
+class QuantileSketchOverAllContainersByTime[OUT](fin: QuantileSketch => OUT)
+  extends AggregationOverAllContainersByTime[Double, QuantileSketch, OUT](new QuantileSketch())(
+    (sketch, v) => { sketch.add(v); sketch })(
+    (sketch, other) => { sketch.merge(other); sketch })(
+    fin)
+
+case class MedianOverAllContainersByTime() extends QuantileSketchOverAllContainersByTime[Double](_.quantile(0.5))
+
+/**
+ * The p50, p90 and p99 percentiles and the max of the values of all the containers by time
+ */
+case class PercentilesOverAllContainersByTime()
+  extends QuantileSketchOverAllContainersByTime[Seq[Double]](sketch => PercentilesOverAllContainersByTime.QUANTILES.map(sketch.quantile) :+ sketch.max) {
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    val res = values()
+    if (res.isEmpty) return
 
-case class MedianOverAllContainersByTime()
-  extends AggregationOverAllContainersByTime[Double, Vector[Double], Double](Vector.empty)(
-    (acc, v) => acc :+ v)(
-    vec => {
-      val sorted = vec.sorted
-      val size = vec.size
-      if(size > 0) vec(size/2)
-      else 0D
+    val times = res.map(_._1).toArray
+    val series = PercentilesOverAllContainersByTime.NAMES.zipWithIndex.map { case (name, i) =>
+      name -> res.map { case (_, percentiles) => percentiles(i) }.toArray
     }
-  )
+    Downsampling.writeJson(out, times, series, maxPoints)
+  }
+}
+
+object PercentilesOverAllContainersByTime {
+  val QUANTILES = Seq(0.5, 0.9, 0.99)
+  val NAMES = Seq("p50", "p90", "p99", "max")
+}
 
 case class AccumulateOverAllContainersByTime() extends AggregationOverAllContainersByTime[Double, Double, Double](0D)(
-  (acc, v: Double) => acc + v)(identity) {
+  (acc, v: Double) => acc + v)(_ + _)(identity) {
 
   override def values(): Iterable[(Long, Double)] = {
     val res = super.values()
@@ -190,59 +579,258 @@ case class StartStopContainerTime() extends Aggregation[Gauge, (String, (Long, L
 
   override def values(): Iterable[(String, (Long, Long))] = map.toIterable
 
-  override def json(): Option[JSONType] = {
-    val res = values().toList.sortBy(_._2)
-    if (values().isEmpty) None
-    else Some(JSONArray(res.map{ case (container, (start, stop)) =>
-      JSONObject(Map(
-        "container" -> container,
-        "start" -> start,
-        "stop" -> stop
-      ))
-    }))
+  override def merge(other: Aggregation[_, _]): Unit = {
+    other.asInstanceOf[StartStopContainerTime].map.foreach { case (container, (start, stop)) =>
+      val merged = map.get(container) match {
+        case Some((prevStart, prevStop)) => (math.min(prevStart, start), math.max(prevStop, stop))
+        case None => (start, stop)
+      }
+      map.put(container, merged)
+    }
+  }
+
+  override def save(out: CheckpointWriter): Unit = {
+    out.writeVarLong(map.size)
+    map.foreach { case (container, (start, stop)) =>
+      out.writeName(container)
+      out.writeSignedVarLong(start)
+      out.writeVarLong(stop - start)
+    }
+  }
+
+  override def load(in: CheckpointReader): Unit = {
+    val nb = in.readVarLong().toInt
+    (0 until nb).foreach { _ =>
+      val container = in.readName()
+      val start = in.readSignedVarLong()
+      map.put(container, (start, start + in.readVarLong()))
+    }
+  }
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    if (map.isEmpty) return
+
+    out.beginArray()
+    values().toList.sortBy(_._2).foreach { case (container, (start, stop)) =>
+      out.beginObject()
+        .name("container").value(container)
+        .name("start").value(start)
+        .name("stop").value(stop)
+        .endObject()
+    }
+    out.endArray()
   }
 }
 
+/**
+ * Aggregates the traces of a profiler, labelled with the thread name then the frames, in a {@link TraceTree}. The
+ * traces with less samples than the min ratio of all the samples are pruned. So that the tree stays small, they are
+ * already pruned while aggregating, which may lose part of their samples.
+ */
 case class TracesAggregation(minSampleRatio: Double,
-                             maxDepth: Int) extends Aggregation[Gauge, TraceNode] {
+                             maxDepth: Int) extends Aggregation[Gauge, TraceTree] {
 
-  private val root = new TraceNode("root")
+  private val tree = new TraceTree(minSampleRatio * TracesAggregation.MAX_PRUNING_ERROR)
 
   override def aggregate(g: Gauge): Unit = {
-    val splits = g.label.split('|').drop(1) // drop thread name at start
+    aggregate(g.label, 1, g.value.toLong, g.timestamp) // skip thread name at start
+  }
 
-    if (splits.nonEmpty) {
-      val samplesCount = g.value.toLong
-      root.value.add(samplesCount)
+  /**
+   * @param skip                The number of fields of the label before the frames
+   */
+  def aggregate(label: String, skip: Int, samplesCount: Long, timestamp: Long): Unit = {
+    // methods too deep in the call stack are filtered out
+    tree.add(label, skip, maxDepth, samplesCount, timestamp)
+  }
+
+  override def values(): Iterable[TraceTree] = {
+    val minSamples = (tree.total * minSampleRatio).toLong
+    if (minSamples > 1) tree.prune(minSamples)
+    Some(tree)
+  }
+
+  def isEmpty: Boolean = tree.total == 0L
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    if (!isEmpty) values().head.writeJson(out)
+  }
+
+  override def merge(other: Aggregation[_, _]): Unit = {
+    tree.merge(other.asInstanceOf[TracesAggregation].tree)
+  }
+
+  override def save(out: CheckpointWriter): Unit = tree.save(out)
+
+  override def load(in: CheckpointReader): Unit = tree.load(in)
+}
 
-      // filter out methods too deep in the call stack
-      val filteredSplits = if (maxDepth > 0) splits.take(maxDepth) else splits
+object TracesAggregation {
+  // the samples a trace may lose by being pruned while aggregating, relative to the min samples of the traces kept
+  val MAX_PRUNING_ERROR = 0.5
+}
+
+/**
+ * Aggregates the traces of the WALL_TRACES metric, labelled with the thread name then the thread state, in one tree
+ * per state. Each tree is pruned on its own so that the states with few samples, such as BLOCKED, are kept.
+ */
+case class TracesByStateAggregation(minSampleRatio: Double,
+                                    maxDepth: Int) extends Aggregation[Gauge, (String, TraceTree)] {
+
+  private val states = mutable.Map[String, TracesAggregation]()
 
-      filteredSplits.foldLeft(root){ (parent, method) =>
-        val children = parent.children.getOrElseUpdate(method, new TraceNode(method, new MutableLong(g.timestamp)))
-        if (children.firstTimestamp.getValue > g.timestamp) children.firstTimestamp.setValue(g.timestamp)
-        children.value.add(samplesCount)
-        children
+  override def aggregate(g: Gauge): Unit = {
+    val label = g.label
+    val stateStart = label.indexOf(TraceTree.SEPARATOR) + 1
+    val stateEnd = if (stateStart > 0) label.indexOf(TraceTree.SEPARATOR, stateStart) else -1
+    if (stateEnd >= 0 && stateEnd < label.length - 1) {
+      states.getOrElseUpdate(label.substring(stateStart, stateEnd), TracesAggregation(minSampleRatio, maxDepth))
+        .aggregate(label, 2, g.value.toLong, g.timestamp) // skip thread name and state at start
+    }
+  }
+
+  override def values(): Iterable[(String, TraceTree)] = {
+    states.toList.sortBy(_._1).flatMap{ case (state, traces) => traces.values().map((state, _)) }
+  }
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    val nonEmpty = states.filter { case (_, traces) => !traces.isEmpty }
+    if (nonEmpty.isEmpty) return
+
+    out.beginObject()
+    nonEmpty.foreach { case (state, traces) =>
+      out.name(state)
+      traces.writeJson(out, maxPoints)
+    }
+    out.endObject()
+  }
+
+  override def merge(other: Aggregation[_, _]): Unit = {
+    other.asInstanceOf[TracesByStateAggregation].states.foreach { case (state, traces) =>
+      states.get(state) match {
+        case Some(prev) => prev.merge(traces)
+        case None => states.put(state, traces)
       }
     }
   }
 
-  override def values(): Iterable[TraceNode] = {
-    val minSamples = (root.value.getValue * minSampleRatio).toLong
-    if (minSamples > 1) pruneTooLittleSamples(root, minSamples)
-    Some(root)
+  override def save(out: CheckpointWriter): Unit = {
+    out.writeVarLong(states.size)
+    states.foreach { case (state, traces) =>
+      out.writeName(state)
+      traces.save(out)
+    }
   }
 
-  private def pruneTooLittleSamples(n: TraceNode, minSamples: Long): Unit = {
-    n.children.foreach{
-      case (key, node) if node.value.getValue < minSamples => n.children.remove(key)
-      case (key, node) => pruneTooLittleSamples(node, minSamples)
+  override def load(in: CheckpointReader): Unit = {
+    val nb = in.readVarLong().toInt
+    (0 until nb).foreach { _ =>
+      val traces = TracesAggregation(minSampleRatio, maxDepth)
+      states.put(in.readName(), traces)
+      traces.load(in)
     }
   }
+}
 
-  override def json(): Option[JSONType] = {
-    val res = values()
-    if (res.head.value.getValue == 0L) None
-    else Some(values().head.json())
+/**
+ * Sums the values of the gauges by label, such as the time blocked on each class of lock, and keeps the labels with the
+ * highest sums.
+ */
+case class SumByLabel(maxLabels: Int) extends Aggregation[Gauge, (String, Double)] {
+
+  private val sums = mutable.Map[String, Double]()
+
+  override def aggregate(g: Gauge): Unit = {
+    sums.put(g.label, sums.getOrElse(g.label, 0D) + g.value)
+  }
+
+  override def values(): Iterable[(String, Double)] = sums.toList.sortBy(-_._2).take(maxLabels)
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    if (sums.isEmpty) return
+
+    out.beginArray()
+    values().foreach { case (label, sum) =>
+      out.beginObject()
+        .name("label").value(label)
+        .name("value").value(sum)
+        .endObject()
+    }
+    out.endArray()
+  }
+
+  override def merge(other: Aggregation[_, _]): Unit = {
+    other.asInstanceOf[SumByLabel].sums.foreach { case (label, sum) =>
+      sums.put(label, sums.getOrElse(label, 0D) + sum)
+    }
+  }
+
+  override def save(out: CheckpointWriter): Unit = {
+    out.writeVarLong(sums.size)
+    sums.foreach { case (label, sum) =>
+      out.writeName(label)
+      out.writeDouble(sum)
+    }
+  }
+
+  override def load(in: CheckpointReader): Unit = {
+    val nb = in.readVarLong().toInt
+    (0 until nb).foreach { _ =>
+      sums.put(in.readName(), in.readDouble())
+    }
+  }
+}
+
+/**
+ * Aggregates the gauges of each label separately, such as the pauses of each garbage collector, with aggregations
+ * built the same way.
+ */
+case class ByLabel[OUT](build: () => Aggregation[Gauge, OUT]) extends Aggregation[Gauge, (String, OUT)] {
+
+  private val labels = mutable.Map[String, Aggregation[Gauge, OUT]]()
+
+  override def aggregate(g: Gauge): Unit = {
+    labels.getOrElseUpdate(g.label, build()).aggregate(g)
+  }
+
+  override def values(): Iterable[(String, OUT)] = {
+    labels.toList.sortBy(_._1).flatMap { case (label, aggregation) => aggregation.values().map((label, _)) }
+  }
+
+  override def writeJson(out: JsonWriter, maxPoints: Int): Unit = {
+    if (labels.isEmpty) return
+
+    out.beginObject()
+    labels.toList.sortBy(_._1).foreach { case (label, aggregation) =>
+      out.name(label)
+      aggregation.writeJson(out, maxPoints)
+    }
+    out.endObject()
+  }
+
+  override def merge(other: Aggregation[_, _]): Unit = {
+    other.asInstanceOf[ByLabel[OUT]].labels.foreach { case (label, aggregation) =>
+      labels.get(label) match {
+        case Some(prev) => prev.merge(aggregation)
+        case None => labels.put(label, aggregation)
+      }
+    }
+  }
+
+  override def save(out: CheckpointWriter): Unit = {
+    out.writeVarLong(labels.size)
+    labels.foreach { case (label, aggregation) =>
+      out.writeName(label)
+      aggregation.save(out)
+    }
+  }
+
+  override def load(in: CheckpointReader): Unit = {
+    val nb = in.readVarLong().toInt
+    (0 until nb).foreach { _ =>
+      val aggregation = build()
+      labels.put(in.readName(), aggregation)
+      aggregation.load(in)
+    }
   }
 }
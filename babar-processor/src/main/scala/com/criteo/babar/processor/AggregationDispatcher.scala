@@ -0,0 +1,54 @@
+package com.criteo.babar.processor
+
+/**
+ * Dispatches each gauge to the aggregations of its metric through an array indexed by the id of the metric, rather
+ * than having every aggregation compare the metric of every gauge. Aggregations that do not filter on a single
+ * metric receive all the gauges.
+ *
+ * The columnar pipelines of a metric are fed directly with the value of the gauge, its time being discretized once
+ * for all the pipelines sharing the same precision.
+ */
+class AggregationDispatcher(aggregations: Iterable[Aggregation[Gauge, _]], registry: NameRegistry) {
+
+  private val anyMetric: Array[Aggregation[Gauge, _]] = aggregations.filter(_.filteredMetric.isEmpty).toArray
+
+  private val (byMetric, columnarByMetric) = {
+    val filtered = aggregations
+      .filter(_.filteredMetric.isDefined)
+      .groupBy(agg => registry.id(agg.filteredMetric.get))
+    val byMetric: Array[Array[Aggregation[Gauge, _]]] = Array.tabulate(registry.size) { id =>
+      filtered.getOrElse(id, Nil).filter(_.columnar.isEmpty).toArray ++ anyMetric
+    }
+    // sorted by precision to discretize the time only when it changes
+    val columnarByMetric: Array[Array[ColumnarPipeline]] = Array.tabulate(registry.size) { id =>
+      filtered.getOrElse(id, Nil).flatMap(_.columnar).toArray.sortBy(_.precision)
+    }
+    (byMetric, columnarByMetric)
+  }
+
+  def dispatch(g: Gauge): Unit = {
+    val known = g.metricId >= 0 && g.metricId < byMetric.length
+    val aggs = if (known) byMetric(g.metricId) else anyMetric
+    var i = 0
+    while (i < aggs.length) {
+      aggs(i).aggregate(g)
+      i += 1
+    }
+
+    if (known) {
+      val pipelines = columnarByMetric(g.metricId)
+      var precision = 0L
+      var time = 0L
+      i = 0
+      while (i < pipelines.length) {
+        val pipeline = pipelines(i)
+        if (pipeline.precision != precision) {
+          precision = pipeline.precision
+          time = g.timestamp - (g.timestamp % precision)
+        }
+        pipeline.aggregate(g, time)
+        i += 1
+      }
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package com.criteo.babar.processor
+
+import java.io.{BufferedInputStream, BufferedOutputStream, DataInputStream, DataOutputStream, IOException}
+import java.nio.charset.StandardCharsets
+import java.util.zip.{GZIPInputStream, GZIPOutputStream}
+
+import com.criteo.babar.processor.LineParser.Dictionary
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileSystem, Path}
+
+import scala.collection.mutable
+
+/**
+ * State of the aggregation of log files, with which a later run resumes the aggregation where this one stopped, so that
+ * only the data appended to the files since then is read.
+ *
+ * For each file, the checkpoint holds the offset up to which it was read, which is the end of a line, the dictionary
+ * of the container being read at this offset, and a checksum of the bytes before it to detect files that were rewritten
+ * rather than appended to. The state of the aggregations is written before their values are read.
+ *
+ * @param files                 The state of the files read, by path
+ * @param aggregations          The aggregations of all the files read
+ */
+class Checkpoint(val files: Map[String, Checkpoint.FileState],
+                 val aggregations: Map[String, Aggregation[Gauge, _]])
+
+object Checkpoint {
+
+  val MAGIC = "BABAR_CHECKPOINT"
+  val VERSION = 2
+
+  /**
+   * @param offset              The position after the last line read
+   * @param checksum            The checksum of the bytes before the offset
+   * @param dictionary          The dictionary of the lines at the offset
+   */
+  case class FileState(offset: Long, checksum: Long, dictionary: Dictionary)
+
+  /**
+   * Read a checkpoint into new aggregations, if it can be resumed
+   * @param checkpointPath      The path of the checkpoint
+   * @param settings            The settings of the aggregations, which must be the ones of the checkpoint
+   * @param aggregations        New aggregations, built the same way as the ones of the checkpoint
+   * @param containers          The registry of the containers of the aggregations
+   * @return                    The checkpoint, or None if there is none, or if it cannot be resumed because the settings
+   *                            changed or a file was rewritten
+   */
+  def read(checkpointPath: String,
+           settings: String,
+           aggregations: Map[String, Aggregation[Gauge, _]],
+           containers: NameRegistry): Option[Checkpoint] = {
+    val path = new Path(checkpointPath)
+    val fs = FileSystem.get(path.toUri, new Configuration())
+    if (!fs.exists(path)) {
+      println(s"No checkpoint at $checkpointPath, aggregating the logs from the start")
+      return None
+    }
+    val in = new CheckpointReader(new DataInputStream(new BufferedInputStream(new GZIPInputStream(fs.open(path)))), containers)
+    try {
+      if (in.readString() != MAGIC || in.readVarLong() != VERSION) {
+        println(s"Unknown checkpoint format at $checkpointPath, aggregating the logs from the start")
+        return None
+      }
+      if (in.readString() != settings) {
+        println(s"The settings changed since the checkpoint at $checkpointPath, aggregating the logs from the start")
+        return None
+      }
+      val files = (0 until in.readVarLong().toInt).map { _ =>
+        val file = in.readString()
+        val offset = in.readVarLong()
+        val checksum = in.readLong()
+        file -> FileState(offset, checksum, readDictionary(in))
+      }.toMap
+      val rewritten = files.find { case (file, state) => !isAppendedTo(file, state) }
+      if (rewritten.isDefined) {
+        println(s"${rewritten.get._1} was rewritten since the checkpoint at $checkpointPath, aggregating the logs from the start")
+        return None
+      }
+      aggregations.toList.sortBy(_._1).foreach { case (_, aggregation) => aggregation.load(in) }
+      Some(new Checkpoint(files, aggregations))
+    }
+    finally {
+      in.close()
+    }
+  }
+
+  /**
+   * Write a checkpoint, replacing the previous one once it is complete
+   */
+  def write(checkpointPath: String, settings: String, checkpoint: Checkpoint): Unit = {
+    val path = new Path(checkpointPath)
+    val tmpPath = new Path(checkpointPath + ".tmp")
+    val fs = FileSystem.get(path.toUri, new Configuration())
+    val out = new CheckpointWriter(new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(fs.create(tmpPath, true)))))
+    try {
+      out.writeString(MAGIC)
+      out.writeVarLong(VERSION)
+      out.writeString(settings)
+      out.writeVarLong(checkpoint.files.size)
+      checkpoint.files.toList.sortBy(_._1).foreach { case (file, state) =>
+        out.writeString(file)
+        out.writeVarLong(state.offset)
+        out.writeLong(state.checksum)
+        writeDictionary(out, state.dictionary)
+      }
+      checkpoint.aggregations.toList.sortBy(_._1).foreach { case (_, aggregation) => aggregation.save(out) }
+    }
+    finally {
+      out.close()
+    }
+    if (fs.exists(path)) fs.delete(path, false)
+    if (!fs.rename(tmpPath, path)) throw new IOException(s"Could not rename $tmpPath to $path")
+  }
+
+  // a file that no longer exists is kept in the checkpoint, as its data still is
+  private def isAppendedTo(file: String, state: FileState): Boolean = {
+    val path = new Path(file)
+    val fs = FileSystem.get(path.toUri, new Configuration())
+    !fs.exists(path) ||
+      (HDFSUtils.length(file) >= state.offset && HDFSUtils.checksum(file, state.offset) == state.checksum)
+  }
+
+  private def writeDictionary(out: CheckpointWriter, dictionary: Dictionary): Unit = {
+    out.writeName(dictionary.container)
+    out.writeVarLong(dictionary.metrics.size)
+    dictionary.metrics.foreach(out.writeName)
+    out.writeVarLong(dictionary.labels.size)
+    dictionary.labels.foreach { case (id, label) =>
+      out.writeSignedVarLong(id)
+      out.writeString(label)
+    }
+  }
+
+  private def readDictionary(in: CheckpointReader): Dictionary = {
+    val container = in.readName()
+    val metrics = (0 until in.readVarLong().toInt).map(_ => in.readName()).toList
+    val labels = (0 until in.readVarLong().toInt).map(_ => in.readSignedVarLong() -> in.readString()).toMap
+    Dictionary(container, metrics, labels)
+  }
+}
+
+/**
+ * Writes the state of aggregations compactly: the integers are written with a variable length, and each name is
+ * written once, then referred to by its index.
+ */
+class CheckpointWriter(out: DataOutputStream) {
+
+  private val names = mutable.HashMap[String, Long]()
+
+  def writeBoolean(value: Boolean): Unit = out.writeBoolean(value)
+
+  def writeLong(value: Long): Unit = out.writeLong(value)
+
+  def writeDouble(value: Double): Unit = out.writeDouble(value)
+
+  /**
+   * Write a positive integer in groups of 7 bits, the lowest first
+   */
+  def writeVarLong(value: Long): Unit = {
+    var v = value
+    while ((v & ~0x7FL) != 0L) {
+      out.writeByte(((v & 0x7F) | 0x80).toInt)
+      v >>>= 7
+    }
+    out.writeByte(v.toInt)
+  }
+
+  // zig-zag encoding, so that small negative integers are short too
+  def writeSignedVarLong(value: Long): Unit = writeVarLong((value << 1) ^ (value >> 63))
+
+  def writeBytes(bytes: Array[Byte]): Unit = {
+    writeVarLong(bytes.length)
+    out.write(bytes)
+  }
+
+  def writeString(value: String): Unit = writeBytes(value.getBytes(StandardCharsets.UTF_8))
+
+  /**
+   * Write a name that is likely to be written again, or null
+   */
+  def writeName(name: String): Unit = {
+    if (name == null) writeVarLong(0L)
+    else names.get(name) match {
+      case Some(index) => writeVarLong(index + 2)
+      case None =>
+        names.put(name, names.size)
+        writeVarLong(1L)
+        writeString(name)
+    }
+  }
+
+  def close(): Unit = out.close()
+}
+
+/**
+ * Reads the state of aggregations written by a {@link CheckpointWriter}
+ * @param containers            The registry giving the ids of the containers read
+ */
+class CheckpointReader(in: DataInputStream, val containers: NameRegistry) {
+
+  private val names = mutable.ArrayBuffer[String]()
+
+  def readBoolean(): Boolean = in.readBoolean()
+
+  def readLong(): Long = in.readLong()
+
+  def readDouble(): Double = in.readDouble()
+
+  def readVarLong(): Long = {
+    var value = 0L
+    var shift = 0
+    var b = in.readUnsignedByte()
+    while ((b & 0x80) != 0) {
+      value |= (b & 0x7FL) << shift
+      shift += 7
+      b = in.readUnsignedByte()
+    }
+    value | (b.toLong << shift)
+  }
+
+  def readSignedVarLong(): Long = {
+    val v = readVarLong()
+    (v >>> 1) ^ -(v & 1L)
+  }
+
+  def readBytes(): Array[Byte] = {
+    val bytes = new Array[Byte](readVarLong().toInt)
+    in.readFully(bytes)
+    bytes
+  }
+
+  def readString(): String = new String(readBytes(), StandardCharsets.UTF_8)
+
+  def readName(): String = {
+    readVarLong() match {
+      case 0L => null
+      case 1L =>
+        val name = readString()
+        names += name
+        name
+      case index => names((index - 2).toInt)
+    }
+  }
+
+  def close(): Unit = in.close()
+}
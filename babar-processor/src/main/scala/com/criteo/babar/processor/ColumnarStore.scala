@@ -0,0 +1,471 @@
+package com.criteo.babar.processor
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream, DataInputStream, DataOutputStream, IOException}
+import java.nio.charset.StandardCharsets
+import java.util.Comparator
+import java.util.zip.{DeflaterOutputStream, InflaterInputStream}
+
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FSDataOutputStream, FileSystem, Path}
+
+import scala.collection.mutable
+
+/**
+ * Columnar store of the gauges parsed from logs, from which reports can be built again with other settings without
+ * parsing the logs.
+ *
+ * The gauges are stored in blocks of a single metric, sorted by container and time, and each column of a block is
+ * encoded on its own: the containers as runs, the timestamps as deltas of deltas, the values as the XOR of their bits
+ * with the previous value as in Gorilla, and the labels compressed with zlib. The names of the containers and the
+ * labels are written once per block, then referred to by their index.
+ *
+ * The footer at the end of the file holds the metric, the time range and the position of each block, so that only the
+ * blocks of the metrics and the time range read are decoded.
+ */
+object ColumnarStore {
+
+  val MAGIC = "BABAR_STORE"
+  val VERSION = 1
+  // gauges per block, which bounds the memory of the writers
+  val BLOCK_SIZE = 16384
+
+  /**
+   * @param metric              The metric of the gauges of the block
+   * @param minTime             The min timestamp of the gauges
+   * @param maxTime             The max timestamp of the gauges
+   * @param size                The number of gauges
+   * @param offset              The position of the block in the file
+   * @param length              The length of the block, in bytes
+   */
+  case class Block(metric: String, minTime: Long, maxTime: Long, size: Int, offset: Long, length: Int)
+
+  /**
+   * The gauges read from a store
+   * @param metrics             The metrics read, or None to read all of them
+   * @param start               The min timestamp of the gauges read
+   * @param end                 The max timestamp of the gauges read
+   */
+  case class Predicate(metrics: Option[Set[String]], start: Long = Long.MinValue, end: Long = Long.MaxValue) {
+
+    def matches(block: Block): Boolean = {
+      metrics.forall(_.contains(block.metric)) && block.maxTime >= start && block.minTime <= end
+    }
+
+    def matches(timestamp: Long): Boolean = timestamp >= start && timestamp <= end
+  }
+
+  /**
+   * @return                    Whether a file is a store rather than a log
+   */
+  def isStore(filePath: String): Boolean = {
+    val path = new Path(filePath)
+    val fs = FileSystem.get(path.toUri, new Configuration())
+    val magic = MAGIC.getBytes(StandardCharsets.UTF_8)
+    if (fs.getFileStatus(path).getLen < magic.length) return false
+    val in = fs.open(path)
+    try {
+      val bytes = new Array[Byte](magic.length)
+      in.readFully(0L, bytes)
+      java.util.Arrays.equals(bytes, magic)
+    }
+    finally {
+      in.close()
+    }
+  }
+}
+
+/**
+ * Writes gauges to a store. The gauges are added to buffers, one for each thread, which write the blocks of the store
+ * as they fill up.
+ */
+class ColumnarStoreWriter(val filePath: String) {
+
+  import ColumnarStore._
+
+  private val out: FSDataOutputStream = {
+    val path = new Path(filePath)
+    FileSystem.get(path.toUri, new Configuration()).create(path, true)
+  }
+  private val blocks = mutable.ArrayBuffer[Block]()
+
+  out.write(MAGIC.getBytes(StandardCharsets.UTF_8))
+  out.writeInt(VERSION)
+
+  def newBuffer(): ColumnarStoreBuffer = new ColumnarStoreBuffer(this)
+
+  private[processor] def write(metric: String, minTime: Long, maxTime: Long, size: Int, bytes: Array[Byte]): Unit = synchronized {
+    blocks += Block(metric, minTime, maxTime, size, out.getPos, bytes.length)
+    out.write(bytes)
+  }
+
+  /**
+   * Write the footer, once all the buffers are flushed
+   */
+  def close(): Unit = synchronized {
+    val footerOffset = out.getPos
+    val footer = new CheckpointWriter(out)
+    footer.writeVarLong(blocks.size)
+    blocks.foreach { block =>
+      footer.writeName(block.metric)
+      footer.writeSignedVarLong(block.minTime)
+      footer.writeVarLong(block.maxTime - block.minTime)
+      footer.writeVarLong(block.size)
+      footer.writeVarLong(block.offset)
+      footer.writeVarLong(block.length)
+    }
+    out.writeLong(footerOffset)
+    out.write(MAGIC.getBytes(StandardCharsets.UTF_8))
+    out.close()
+  }
+}
+
+/**
+ * Buffers the gauges of a thread by metric, and writes the block of a metric when it is full
+ */
+class ColumnarStoreBuffer(writer: ColumnarStoreWriter) {
+
+  private val blocks = mutable.HashMap[String, BlockBuilder]()
+
+  def add(g: Gauge): Unit = {
+    val block = blocks.getOrElseUpdate(g.metric, new BlockBuilder(g.metric))
+    block.add(g)
+    if (block.size == ColumnarStore.BLOCK_SIZE) write(block)
+  }
+
+  /**
+   * Write the blocks that are not full
+   */
+  def flush(): Unit = blocks.values.filter(_.size > 0).foreach(write)
+
+  private def write(block: BlockBuilder): Unit = {
+    writer.write(block.metric, block.minTime, block.maxTime, block.size, block.encode())
+    block.clear()
+  }
+}
+
+/**
+ * The columns of the block of a metric being buffered. They grow up to the size of a block, so that the metrics with
+ * few gauges, which are most of them, do not take the memory of full blocks in each thread.
+ */
+private[processor] class BlockBuilder(val metric: String) {
+
+  private var containers = new Array[String](BlockBuilder.INITIAL_CAPACITY)
+  private var timestamps = new Array[Long](BlockBuilder.INITIAL_CAPACITY)
+  private var values = new Array[Double](BlockBuilder.INITIAL_CAPACITY)
+  private var labels = new Array[String](BlockBuilder.INITIAL_CAPACITY)
+  var size = 0
+  var minTime: Long = Long.MaxValue
+  var maxTime: Long = Long.MinValue
+
+  def add(g: Gauge): Unit = {
+    if (size == containers.length) grow()
+    containers(size) = g.container
+    timestamps(size) = g.timestamp
+    values(size) = g.value
+    labels(size) = g.label
+    minTime = math.min(minTime, g.timestamp)
+    maxTime = math.max(maxTime, g.timestamp)
+    size += 1
+  }
+
+  private def grow(): Unit = {
+    val capacity = math.min(ColumnarStore.BLOCK_SIZE, containers.length * 2)
+    containers = java.util.Arrays.copyOf(containers, capacity)
+    timestamps = java.util.Arrays.copyOf(timestamps, capacity)
+    values = java.util.Arrays.copyOf(values, capacity)
+    labels = java.util.Arrays.copyOf(labels, capacity)
+  }
+
+  def clear(): Unit = {
+    java.util.Arrays.fill(containers.asInstanceOf[Array[AnyRef]], 0, size, null)
+    java.util.Arrays.fill(labels.asInstanceOf[Array[AnyRef]], 0, size, null)
+    size = 0
+    minTime = Long.MaxValue
+    maxTime = Long.MinValue
+  }
+
+  def encode(): Array[Byte] = {
+    val order = Array.tabulate[Integer](size)(Int.box)
+    java.util.Arrays.sort(order, new Comparator[Integer] {
+      override def compare(a: Integer, b: Integer): Int = {
+        val c = containers(a).compareTo(containers(b))
+        if (c != 0) c else java.lang.Long.compare(timestamps(a), timestamps(b))
+      }
+    })
+    val bytes = new ByteArrayOutputStream()
+    val out = new CheckpointWriter(new DataOutputStream(bytes))
+
+    // containers, as runs of the same container
+    val runStarts = (0 until size).filter(i => i == 0 || containers(order(i)) != containers(order(i - 1)))
+    out.writeVarLong(runStarts.size)
+    runStarts.zip(runStarts.drop(1) :+ size).foreach { case (start, end) =>
+      out.writeName(containers(order(start)))
+      out.writeVarLong(end - start)
+    }
+
+    // timestamps, as deltas of deltas in each run, which are 0 for regular samples
+    var prevTime = 0L
+    var prevDelta = 0L
+    var run = 0
+    var i = 0
+    while (i < size) {
+      val time = timestamps(order(i))
+      if (run < runStarts.size && runStarts(run) == i) {
+        out.writeSignedVarLong(time - minTime)
+        prevDelta = 0L
+        run += 1
+      }
+      else {
+        val delta = time - prevTime
+        out.writeSignedVarLong(delta - prevDelta)
+        prevDelta = delta
+      }
+      prevTime = time
+      i += 1
+    }
+
+    out.writeBytes(Gorilla.encode(order.map(values(_))))
+
+    // labels, which only the traces have
+    val hasLabels = order.exists(labels(_).nonEmpty)
+    out.writeBoolean(hasLabels)
+    if (hasLabels) {
+      val labelBytes = new ByteArrayOutputStream()
+      val labelsOut = new CheckpointWriter(new DataOutputStream(new DeflaterOutputStream(labelBytes)))
+      order.foreach(i => labelsOut.writeName(labels(i)))
+      labelsOut.close()
+      out.writeBytes(labelBytes.toByteArray)
+    }
+    out.close()
+    bytes.toByteArray
+  }
+}
+
+private[processor] object BlockBuilder {
+  val INITIAL_CAPACITY = 256
+}
+
+/**
+ * Reads the gauges of a store
+ */
+class ColumnarStoreReader(filePath: String) {
+
+  import ColumnarStore._
+
+  private val path = new Path(filePath)
+  private val fs = FileSystem.get(path.toUri, new Configuration())
+
+  val blocks: Seq[Block] = {
+    val length = fs.getFileStatus(path).getLen
+    val magic = MAGIC.getBytes(StandardCharsets.UTF_8)
+    val in = fs.open(path)
+    try {
+      val tail = new Array[Byte](8 + magic.length)
+      in.readFully(length - tail.length, tail)
+      if (!java.util.Arrays.equals(java.util.Arrays.copyOfRange(tail, 8, tail.length), magic)) {
+        throw new IOException(s"$filePath is not a complete store")
+      }
+      in.seek(magic.length)
+      if (in.readInt() != VERSION) throw new IOException(s"Unknown store version in $filePath")
+      in.seek(new DataInputStream(new ByteArrayInputStream(tail)).readLong())
+      val footer = new CheckpointReader(in, null)
+      (0 until footer.readVarLong().toInt).map { _ =>
+        val metric = footer.readName()
+        val minTime = footer.readSignedVarLong()
+        Block(metric, minTime, minTime + footer.readVarLong(), footer.readVarLong().toInt, footer.readVarLong(),
+          footer.readVarLong().toInt)
+      }
+    }
+    finally {
+      in.close()
+    }
+  }
+
+  /**
+   * Read the gauges of blocks matching a predicate
+   * @param blocks              The blocks read
+   * @param predicate           The predicate of the gauges read
+   * @param registry            The registry of the ids of the metrics
+   * @param containers          The registry of the ids of the containers
+   * @param progress            Called with the number of bytes of each block read
+   * @param fn                  Called with each gauge read
+   */
+  def read(blocks: Seq[Block],
+           predicate: Predicate,
+           registry: NameRegistry,
+           containers: NameRegistry,
+           progress: Long => Unit)(fn: Gauge => Unit): Unit = {
+    val in = fs.open(path)
+    try {
+      blocks.filter(predicate.matches).foreach { block =>
+        val bytes = new Array[Byte](block.length)
+        in.readFully(block.offset, bytes)
+        decode(block, bytes, predicate, registry.id(block.metric), containers, fn)
+        progress(block.length)
+      }
+    }
+    finally {
+      in.close()
+    }
+  }
+
+  private def decode(block: Block,
+                     bytes: Array[Byte],
+                     predicate: Predicate,
+                     metricId: Int,
+                     containers: NameRegistry,
+                     fn: Gauge => Unit): Unit = {
+    val in = new CheckpointReader(new DataInputStream(new ByteArrayInputStream(bytes)), containers)
+
+    val runsNb = in.readVarLong().toInt
+    val runContainers = new Array[String](runsNb)
+    val runLengths = new Array[Int](runsNb)
+    (0 until runsNb).foreach { run =>
+      runContainers(run) = in.readName()
+      runLengths(run) = in.readVarLong().toInt
+    }
+
+    val timestamps = new Array[Long](block.size)
+    var i = 0
+    (0 until runsNb).foreach { run =>
+      var prevDelta = 0L
+      (0 until runLengths(run)).foreach { j =>
+        if (j == 0) timestamps(i) = block.minTime + in.readSignedVarLong()
+        else {
+          prevDelta += in.readSignedVarLong()
+          timestamps(i) = timestamps(i - 1) + prevDelta
+        }
+        i += 1
+      }
+    }
+
+    val values = Gorilla.decode(in.readBytes(), block.size)
+
+    val labels = if (in.readBoolean()) {
+      val labelsIn = new CheckpointReader(
+        new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(in.readBytes()))), containers)
+      Array.fill(block.size)(labelsIn.readName())
+    }
+    else Array.fill(block.size)("")
+
+    i = 0
+    (0 until runsNb).foreach { run =>
+      val container = runContainers(run)
+      val containerId = containers.id(container)
+      (0 until runLengths(run)).foreach { _ =>
+        if (predicate.matches(timestamps(i))) {
+          fn(Gauge(container, block.metric, timestamps(i), values(i), labels(i), metricId, containerId))
+        }
+        i += 1
+      }
+    }
+  }
+}
+
+/**
+ * Compresses series of doubles as in Gorilla: each value is written as the XOR of its bits with the ones of the
+ * previous value, which is 0 when the value does not change, and otherwise has few meaningful bits between its leading
+ * and trailing zeros when the values are close. These bits are written in the same window as the previous ones when
+ * they fit in it.
+ */
+private[processor] object Gorilla {
+
+  def encode(values: Array[Double]): Array[Byte] = {
+    val out = new BitWriter()
+    var prev = 0L
+    var prevLeading = -1
+    var prevTrailing = 0
+    var i = 0
+    while (i < values.length) {
+      val bits = java.lang.Double.doubleToRawLongBits(values(i))
+      if (i == 0) out.write(bits, 64)
+      else {
+        val xor = bits ^ prev
+        if (xor == 0L) out.write(0L, 1)
+        else {
+          val leading = math.min(java.lang.Long.numberOfLeadingZeros(xor), 31)
+          val trailing = java.lang.Long.numberOfTrailingZeros(xor)
+          if (prevLeading >= 0 && leading >= prevLeading && trailing >= prevTrailing) {
+            out.write(2L, 2)
+            out.write(xor >>> prevTrailing, 64 - prevLeading - prevTrailing)
+          }
+          else {
+            val meaningful = 64 - leading - trailing
+            out.write(3L, 2)
+            out.write(leading, 5)
+            out.write(meaningful - 1, 6)
+            out.write(xor >>> trailing, meaningful)
+            prevLeading = leading
+            prevTrailing = trailing
+          }
+        }
+      }
+      prev = bits
+      i += 1
+    }
+    out.toByteArray
+  }
+
+  def decode(bytes: Array[Byte], size: Int): Array[Double] = {
+    val in = new BitReader(bytes)
+    val values = new Array[Double](size)
+    var prev = 0L
+    var leading = 0
+    var trailing = 0
+    var i = 0
+    while (i < size) {
+      if (i == 0) prev = in.read(64)
+      else if (in.read(1) == 1L) {
+        if (in.read(1) == 1L) {
+          leading = in.read(5).toInt
+          val meaningful = in.read(6).toInt + 1
+          trailing = 64 - leading - meaningful
+        }
+        prev ^= in.read(64 - leading - trailing) << trailing
+      }
+      values(i) = java.lang.Double.longBitsToDouble(prev)
+      i += 1
+    }
+    values
+  }
+
+  private class BitWriter {
+    private var bytes = new Array[Byte](1024)
+    private var size = 0L
+
+    // write the given number of lowest bits of a value, the highest first
+    def write(value: Long, bitsNb: Int): Unit = {
+      var remaining = bitsNb
+      while (remaining > 0) {
+        val index = (size >>> 3).toInt
+        if (index == bytes.length) bytes = java.util.Arrays.copyOf(bytes, bytes.length * 2)
+        val free = 8 - (size & 7).toInt
+        val n = math.min(free, remaining)
+        val chunk = ((value >>> (remaining - n)) & ((1L << n) - 1)).toInt
+        bytes(index) = (bytes(index) | (chunk << (free - n))).toByte
+        remaining -= n
+        size += n
+      }
+    }
+
+    def toByteArray: Array[Byte] = java.util.Arrays.copyOf(bytes, ((size + 7) >>> 3).toInt)
+  }
+
+  private class BitReader(bytes: Array[Byte]) {
+    private var position = 0L
+
+    def read(bitsNb: Int): Long = {
+      var res = 0L
+      var remaining = bitsNb
+      while (remaining > 0) {
+        val available = 8 - (position & 7).toInt
+        val n = math.min(available, remaining)
+        val chunk = ((bytes((position >>> 3).toInt) & 0xFF) >>> (available - n)) & ((1 << n) - 1)
+        res = (res << n) | chunk
+        remaining -= n
+        position += n
+      }
+      res
+    }
+  }
+}
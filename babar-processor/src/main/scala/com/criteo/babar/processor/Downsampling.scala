@@ -0,0 +1,120 @@
+package com.criteo.babar.processor
+
+/**
+ * Downsamples time series to min/max envelopes, so that the charts of the report draw a bounded number of points while
+ * keeping the peaks visible.
+ *
+ * The times are grouped in buckets aligned on multiples of their width, which is the smallest interval between two
+ * times multiplied by a power of two, so that series with the same times are downsampled to the same times and can
+ * still be stacked. Each bucket is drawn as two points, at its start and its middle, holding the min and the max of the
+ * series in the bucket in the order they happened.
+ *
+ * @param times                 The sorted times of the series
+ * @param maxPoints             The max number of points of the downsampled series, or 0 to keep all the points
+ */
+class Downsampling(times: Array[Long], maxPoints: Int) {
+
+  // the width of the buckets, or 0 if the series are kept whole
+  val width: Long = {
+    if (maxPoints <= 0 || times.length <= maxPoints) 0L
+    else {
+      var interval = Long.MaxValue
+      var i = 1
+      while (i < times.length) {
+        if (times(i) > times(i - 1)) interval = math.min(interval, times(i) - times(i - 1))
+        i += 1
+      }
+      val maxBuckets = math.max(1, maxPoints / 2)
+      var w = interval
+      while (times.last / w - times.head / w + 1 > maxBuckets) w *= 2
+      w
+    }
+  }
+
+  // the index of the first time of each bucket, then the number of times
+  private val bounds: Array[Int] = {
+    if (width == 0L) Array(0, times.length)
+    else {
+      val res = Array.newBuilder[Int]
+      var i = 0
+      while (i < times.length) {
+        if (i == 0 || times(i) / width != times(i - 1) / width) res += i
+        i += 1
+      }
+      res += times.length
+      res.result()
+    }
+  }
+
+  def isDownsampled: Boolean = width > 0L
+
+  def downsampledTimes: Array[Long] = {
+    if (!isDownsampled) return times
+    val res = new Array[Long](2 * (bounds.length - 1))
+    var b = 0
+    while (b < bounds.length - 1) {
+      val start = times(bounds(b)) / width * width
+      res(2 * b) = start
+      res(2 * b + 1) = start + width / 2
+      b += 1
+    }
+    res
+  }
+
+  /**
+   * @param values              The values of a series at each of the times
+   * @return                    The values of the series at each of the downsampled times
+   */
+  def downsample(values: Array[Double]): Array[Double] = {
+    if (!isDownsampled) return values
+    val res = new Array[Double](2 * (bounds.length - 1))
+    var b = 0
+    while (b < bounds.length - 1) {
+      var min = bounds(b)
+      var max = bounds(b)
+      var i = bounds(b) + 1
+      while (i < bounds(b + 1)) {
+        if (values(i) < values(min)) min = i
+        if (values(i) > values(max)) max = i
+        i += 1
+      }
+      res(2 * b) = values(math.min(min, max))
+      res(2 * b + 1) = values(math.max(min, max))
+      b += 1
+    }
+    res
+  }
+}
+
+object Downsampling {
+
+  /**
+   * Write series with the same times as a JSON object of the times and the values of each series, by name. The series
+   * with more points than the max are downsampled, and the object then also holds the full series, as the same object
+   * compressed, so that the report can draw them when zooming in.
+   */
+  def writeJson(out: JsonWriter, times: Array[Long], series: Seq[(String, Array[Double])], maxPoints: Int): Unit = {
+    val downsampling = new Downsampling(times, maxPoints)
+    out.beginObject()
+    writeFields(out, downsampling.downsampledTimes, series.map { case (name, values) => (name, downsampling.downsample(values)) })
+    if (downsampling.isDownsampled) {
+      out.name("full").compressedValue { full =>
+        full.beginObject()
+        writeFields(full, times, series)
+        full.endObject()
+      }
+    }
+    out.endObject()
+  }
+
+  private def writeFields(out: JsonWriter, times: Array[Long], series: Seq[(String, Array[Double])]): Unit = {
+    out.name("time").beginArray()
+    times.foreach(time => out.value(time))
+    out.endArray()
+    series.foreach { case (name, values) =>
+      out.name(name).beginArray()
+      values.foreach(value => out.value(value))
+      out.endArray()
+    }
+  }
+}
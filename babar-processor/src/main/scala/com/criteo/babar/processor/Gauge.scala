@@ -6,12 +6,16 @@ case class Gauge(container: String,
                  metric: String,
                  timestamp: Long,
                  value: Double,
-                 label: String) {
+                 label: String,
+                 metricId: Int = Gauge.UNKNOWN_METRIC,
+                 containerId: Int = Gauge.UNKNOWN_CONTAINER) {
 }
 
 object Gauge {
 
   val LINE_SEPARATOR = "\t"
+  val UNKNOWN_METRIC: Int = -1
+  val UNKNOWN_CONTAINER: Int = -1
 
   def tryParse(line: String): Try[Gauge] = {
     val splits = line.split(LINE_SEPARATOR)
@@ -1,49 +1,102 @@
 package com.criteo.babar.processor
 
-import java.io.{BufferedReader, InputStreamReader}
-import java.nio.charset.{Charset, StandardCharsets}
-import java.util.Collections
+import java.util.zip.CRC32
 
 import org.apache.hadoop.conf.Configuration
 import org.apache.hadoop.fs.{FileSystem, Path}
 
 object HDFSUtils {
 
-  private def readAsStream(fs: FileSystem, path: Path): Stream[String] = {
-    val in = fs.open(path)
-    val buf = new BufferedReader(new InputStreamReader(in))
-    Stream
-      .cons(buf.readLine, Stream.continually(buf.readLine))
-      .takeWhile(_ != null)
+  // bytes read backwards at once to find the end of the last line of a file
+  private val TAIL_SIZE = 64 * 1024
+  // bytes before an offset that identify the content of a file up to it
+  private val CHECKSUM_SIZE = 4096
+
+  /**
+   * @param patterns            Paths or glob patterns
+   * @return                    The paths of the files matching the patterns, sorted for each pattern
+   */
+  def listFiles(patterns: Seq[String]): Seq[String] = {
+    patterns.flatMap { pattern =>
+      val path = new Path(pattern)
+      val statuses = FileSystem.get(path.toUri, new Configuration()).globStatus(path)
+      if (statuses == null || statuses.isEmpty) throw new IllegalArgumentException(s"No such file: $pattern")
+      statuses.filter(_.isFile).map(_.getPath.toString).sorted
+    }.distinct
   }
 
-  def readAsStreamWithProgressBar(filePath: String): Stream[String] = {
+  def length(filePath: String): Long = {
     val path = new Path(filePath)
-    val fs = FileSystem.get(path.toUri, new Configuration())
-    val totalByteSize = fs.getFileStatus(path).getLen
-    val charset = Charset.forName("UTF-8")
-
-    var readBytes = 0
-    var percent = 0
-    var nextMilestone = 1
-
-    readAsStream(fs, path)
-      .map{ line =>
-        readBytes += line.getBytes(charset).length
-        percent = Math.ceil(readBytes.toDouble / totalByteSize * 100).toInt
-
-        if (percent >= nextMilestone) {
-          nextMilestone = Math.floor(percent + 1).toInt
-          val s = new StringBuilder()
-            .append('\r')
-            .append(f"$percent%3d%% [")
-            .append(String.join("", Collections.nCopies(percent, "=")))
-            .append('>')
-            .append(String.join("", Collections.nCopies(100 - percent, " ")))
-            .append(']')
-          System.out.print(s)
-        }
-        line
+    FileSystem.get(path.toUri, new Configuration()).getFileStatus(path).getLen
+  }
+
+  /**
+   * @return                    The position after the last newline of a file, or 0 if it has none, so that a line
+   *                            being written is left out
+   */
+  def lastLineEnd(filePath: String, length: Long): Long = {
+    val path = new Path(filePath)
+    val in = FileSystem.get(path.toUri, new Configuration()).open(path)
+    try {
+      val buf = new Array[Byte](TAIL_SIZE)
+      var to = length
+      while (to > 0) {
+        val from = math.max(0L, to - TAIL_SIZE)
+        in.readFully(from, buf, 0, (to - from).toInt)
+        var i = (to - from).toInt - 1
+        while (i >= 0 && buf(i) != '\n') i -= 1
+        if (i >= 0) return from + i + 1
+        to = from
       }
+      0L
+    }
+    finally {
+      in.close()
+    }
+  }
+
+  /**
+   * @return                    The checksum of the bytes just before the offset of a file, which tells whether the
+   *                            file was rewritten rather than appended to since it was read up to this offset
+   */
+  def checksum(filePath: String, offset: Long): Long = {
+    val path = new Path(filePath)
+    val in = FileSystem.get(path.toUri, new Configuration()).open(path)
+    try {
+      val from = math.max(0L, offset - CHECKSUM_SIZE)
+      val buf = new Array[Byte]((offset - from).toInt)
+      in.readFully(from, buf, 0, buf.length)
+      val crc = new CRC32()
+      crc.update(buf, 0, buf.length)
+      crc.getValue
+    }
+    finally {
+      in.close()
+    }
+  }
+
+  /**
+   * Read the lines of a byte range of a file
+   * @param filePath            The path of the file
+   * @param start               The start of the range, in bytes
+   * @param end                 The end of the range, in bytes
+   * @param isSegmentStart      Whether a line can start a range
+   * @param progress            Called with the number of bytes of the range read
+   * @param resume              Whether the range resumes the reading of the segment before it
+   * @param fileEnd             The position where the reading of the file stops
+   * @see                       LineSource
+   */
+  def readSplit(filePath: String,
+                start: Long,
+                end: Long,
+                isSegmentStart: (Array[Byte], Int, Int) => Boolean,
+                progress: Long => Unit,
+                resume: Boolean = false,
+                fileEnd: Long = Long.MaxValue): LineSource = {
+    val path = new Path(filePath)
+    val fs = FileSystem.get(path.toUri, new Configuration())
+    val in = fs.open(path)
+    if (start > 0) in.seek(start - 1)
+    new LineSource(in, start, end, isSegmentStart, progress, resume, fileEnd)
   }
 }
@@ -1,42 +1,52 @@
 package com.criteo.babar.processor
 
-import java.io.{BufferedReader, FileInputStream, FileOutputStream, FileReader, InputStream, InputStreamReader, OutputStreamWriter}
+import java.io.{BufferedWriter, FileOutputStream, InputStreamReader, OutputStreamWriter, Reader, Writer}
+import java.nio.charset.StandardCharsets
 
 object IOUtils {
 
   private val REPLACE_PATTERN = "{{DATA}}"
-
-  def copyFromResources(inputPath: String, outputPath: String, data: String): Unit = {
-    var is: InputStream = null
-    var isr: InputStreamReader = null
-    var in: BufferedReader = null
-
-    var fos: FileOutputStream = null
-    var out: OutputStreamWriter = null
-
+  private val BUFFER_SIZE = 1 << 16
+
+  /**
+   * Write a file from a template of the resources, with the data written in place of its {{DATA}} marker. The parts of
+   * the template before and after the marker are copied around the data, which is written to the file as it is
+   * generated.
+   * @param inputPath           The path of the template in the resources
+   * @param outputPath          The path of the file
+   * @param writeData           Writes the data
+   */
+  def writeFromResources(inputPath: String, outputPath: String)(writeData: Writer => Unit): Unit = {
+    val template = readResource(inputPath)
+    val index = template.indexOf(REPLACE_PATTERN)
+    val out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputPath), StandardCharsets.UTF_8), BUFFER_SIZE)
     try {
-      is = getClass.getClassLoader.getResourceAsStream(inputPath)
-      isr = new InputStreamReader(is, "UTF-8")
-      in = new BufferedReader(isr)
-
-      fos = new FileOutputStream(outputPath)
-      out = new OutputStreamWriter(fos, "UTF8")
-
-      var line = in.readLine()
-      while (line != null) {
-        out.write(line.replace(REPLACE_PATTERN, data))
-        out.write('\n')
-        line = in.readLine()
+      if (index < 0) out.write(template)
+      else {
+        out.write(template, 0, index)
+        writeData(out)
+        out.write(template, index + REPLACE_PATTERN.length, template.length - index - REPLACE_PATTERN.length)
       }
     }
     finally {
-      if (isr != null) isr.close()
-      if (is != null) is.close()
-
-      if (out != null) out.close()
-      if (fos != null) fos.close()
-
+      out.close()
     }
   }
 
+  private def readResource(path: String): String = {
+    val in: Reader = new InputStreamReader(getClass.getClassLoader.getResourceAsStream(path), StandardCharsets.UTF_8)
+    try {
+      val res = new StringBuilder()
+      val buf = new Array[Char](BUFFER_SIZE)
+      var read = in.read(buf)
+      while (read >= 0) {
+        res.appendAll(buf, 0, read)
+        read = in.read(buf)
+      }
+      res.toString()
+    }
+    finally {
+      in.close()
+    }
+  }
 }
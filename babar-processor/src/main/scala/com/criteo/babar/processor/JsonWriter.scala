@@ -0,0 +1,177 @@
+package com.criteo.babar.processor
+
+import java.io.{BufferedWriter, Closeable, OutputStream, OutputStreamWriter, Writer}
+import java.nio.charset.StandardCharsets
+import java.util.Base64
+import java.util.zip.DeflaterOutputStream
+
+/**
+ * Writes JSON to a stream as it is generated, so that the data of a report is never held in memory as a whole.
+ *
+ * The name of a field is only written with its value, so that a field can be left out by writing no value after its
+ * name. The strings are escaped so that they can be inlined in a script of an HTML page.
+ */
+class JsonWriter(out: Writer) extends Closeable {
+
+  // whether the object or array of each level has a value yet
+  private var hasValue = new Array[Boolean](16)
+  private var depth = 0
+  private var pendingName: String = _
+
+  def beginObject(): JsonWriter = begin('{')
+
+  def endObject(): JsonWriter = end('}')
+
+  def beginArray(): JsonWriter = begin('[')
+
+  def endArray(): JsonWriter = end(']')
+
+  /**
+   * Set the name of the next value of the current object
+   */
+  def name(name: String): JsonWriter = {
+    pendingName = name
+    this
+  }
+
+  def value(value: String): JsonWriter = {
+    beforeValue()
+    if (value == null) out.write("null") else writeString(value)
+    this
+  }
+
+  def value(value: Long): JsonWriter = {
+    beforeValue()
+    out.write(java.lang.Long.toString(value))
+    this
+  }
+
+  // as JSON.stringify, the values that are not finite are written as null
+  def value(value: Double): JsonWriter = {
+    beforeValue()
+    out.write(if (value.isNaN || value.isInfinite) "null" else java.lang.Double.toString(value))
+    this
+  }
+
+  def value(value: Boolean): JsonWriter = {
+    beforeValue()
+    out.write(if (value) "true" else "false")
+    this
+  }
+
+  /**
+   * Write binary data as a base64 string, encoded as it is written
+   * @param writeBytes          Writes the data to the stream it is given, and closes it
+   */
+  def binaryValue(writeBytes: OutputStream => Unit): JsonWriter = {
+    beforeValue()
+    out.write('"')
+    val base64 = Base64.getEncoder.wrap(new CharsOutputStream())
+    try {
+      writeBytes(base64)
+    }
+    finally {
+      base64.close()
+    }
+    out.write('"')
+    this
+  }
+
+  /**
+   * Write JSON compressed with zlib, as a base64 string
+   * @param writeJson           Writes a JSON value to the writer it is given
+   */
+  def compressedValue(writeJson: JsonWriter => Unit): JsonWriter = binaryValue { bytes =>
+    val compressed = new JsonWriter(new BufferedWriter(new OutputStreamWriter(new DeflaterOutputStream(bytes), StandardCharsets.UTF_8)))
+    try {
+      writeJson(compressed)
+    }
+    finally {
+      compressed.close()
+    }
+  }
+
+  def flush(): Unit = out.flush()
+
+  override def close(): Unit = out.close()
+
+  private def begin(c: Char): JsonWriter = {
+    beforeValue()
+    out.write(c)
+    depth += 1
+    if (depth == hasValue.length) hasValue = java.util.Arrays.copyOf(hasValue, depth * 2)
+    hasValue(depth) = false
+    this
+  }
+
+  private def end(c: Char): JsonWriter = {
+    // a name without value is left out
+    pendingName = null
+    depth -= 1
+    out.write(c)
+    this
+  }
+
+  private def beforeValue(): Unit = {
+    if (depth > 0) {
+      if (hasValue(depth)) out.write(',')
+      hasValue(depth) = true
+    }
+    if (pendingName != null) {
+      writeString(pendingName)
+      out.write(':')
+      pendingName = null
+    }
+  }
+
+  // writes the ASCII bytes of base64 as chars, leaving the writer open when closed
+  private class CharsOutputStream extends OutputStream {
+    private val chars = new Array[Char](1024)
+
+    override def write(b: Int): Unit = out.write(b)
+
+    override def write(bytes: Array[Byte], offset: Int, length: Int): Unit = {
+      var from = offset
+      while (from < offset + length) {
+        val n = math.min(chars.length, offset + length - from)
+        var i = 0
+        while (i < n) {
+          chars(i) = bytes(from + i).toChar
+          i += 1
+        }
+        out.write(chars, 0, n)
+        from += n
+      }
+    }
+  }
+
+  private def writeString(s: String): Unit = {
+    out.write('"')
+    var from = 0
+    var i = 0
+    while (i < s.length) {
+      val c = s.charAt(i)
+      val escaped = c match {
+        case '"' => "\\\""
+        case '\\' => "\\\\"
+        case '\n' => "\\n"
+        case '\r' => "\\r"
+        case '\t' => "\\t"
+        // so that "</script>" cannot end the script inlining the data
+        case '<' => "\\u003c"
+        // line terminators in JavaScript strings
+        case _ if c == 0x2028 || c == 0x2029 => f"\\u${c.toInt}%04x"
+        case _ if c < ' ' => f"\\u${c.toInt}%04x"
+        case _ => null
+      }
+      if (escaped != null) {
+        out.write(s, from, i - from)
+        out.write(escaped)
+        from = i + 1
+      }
+      i += 1
+    }
+    out.write(s, from, s.length - from)
+    out.write('"')
+  }
+}
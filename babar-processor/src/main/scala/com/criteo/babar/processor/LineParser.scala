@@ -0,0 +1,353 @@
+package com.criteo.babar.processor
+
+import java.nio.charset.StandardCharsets
+
+import scala.collection.mutable
+import scala.util.Try
+
+/**
+ * Parses the lines written by the agent, in both formats of the LogReporter:
+ *  - "BABAR  container  metric  time  value  label" lines holding all the names
+ *  - "BABAR_ID  metricId  time  value  labelId" lines referring to the names written in "BABAR_DICT" lines of the same
+ *    file. A "BABAR_DICT  C  container" line starts the dictionary of a new file, which is how the logs of the
+ *    containers are separated in aggregated logs.
+ * The ids of the metrics are resolved once per file into the ids of the metrics registry, and the containers are
+ * given the ids of the containers registry.
+ *
+ * The lines are parsed from their bytes: the numbers are read without decoding them, and the names of the metrics and
+ * the containers are only decoded the first time they are read. Only the labels and the dictionary lines are decoded.
+ */
+class LineParser(registry: NameRegistry, containers: NameRegistry) {
+
+  import LineParser._
+
+  // dictionary of the current file
+  private var container: String = ""
+  private var containerId: Int = Gauge.UNKNOWN_CONTAINER
+  private val metricIds = mutable.ArrayBuffer[Int]()
+  private val labels = mutable.LongMap[String]()
+
+  private val metricNames = new NameCache(registry)
+  private val containerNames = new NameCache(containers)
+  private val fields = new Fields()
+
+  def parse(line: String): Option[Gauge] = {
+    if (line == null) None
+    else {
+      val bytes = line.getBytes(StandardCharsets.UTF_8)
+      parse(bytes, 0, bytes.length)
+    }
+  }
+
+  /**
+   * Parse a line given as a slice of bytes
+   */
+  def parse(bytes: Array[Byte], offset: Int, length: Int): Option[Gauge] = {
+    if (startsWith(bytes, offset, length, LINE_PREFIX_BYTES)) parseLine(bytes, offset, length)
+    else if (startsWith(bytes, offset, length, ID_LINE_PREFIX_BYTES)) parseIdLine(bytes, offset, length)
+    else if (startsWith(bytes, offset, length, DICTIONARY_LINE_PREFIX_BYTES)) {
+      parseDictionaryLine(new String(bytes, offset, length, StandardCharsets.UTF_8))
+      None
+    }
+    else None
+  }
+
+  private def parseLine(bytes: Array[Byte], offset: Int, length: Int): Option[Gauge] = {
+    val nb = fields.split(bytes, offset + LINE_PREFIX_BYTES.length, offset + length)
+    if (nb < 4) return None
+    try {
+      val metricId = metricNames.id(bytes, fields.start(1), fields.end(1))
+      val containerId = containerNames.id(bytes, fields.start(0), fields.end(0))
+      Some(Gauge(
+        container = containers.name(containerId),
+        metric = registry.name(metricId),
+        timestamp = parseLong(bytes, fields.start(2), fields.end(2)),
+        value = parseDouble(bytes, fields.start(3), fields.end(3)),
+        label = if (nb == 5) fields.decode(bytes, 4) else "",
+        metricId = metricId,
+        containerId = containerId
+      ))
+    }
+    catch {
+      case _: NumberFormatException => None
+    }
+  }
+
+  private def parseIdLine(bytes: Array[Byte], offset: Int, length: Int): Option[Gauge] = {
+    val nb = fields.split(bytes, offset + ID_LINE_PREFIX_BYTES.length, offset + length)
+    if (nb < 3) return None
+    try {
+      val fileMetricId = parseLong(bytes, fields.start(0), fields.end(0)).toInt
+      if (fileMetricId < 0 || fileMetricId >= metricIds.size || metricIds(fileMetricId) < 0) return None
+      val id = metricIds(fileMetricId)
+      val label = if (nb == 4) labels.get(parseLong(bytes, fields.start(3), fields.end(3))) else Some("")
+      label.map { l =>
+        Gauge(
+          container = container,
+          metric = registry.name(id),
+          timestamp = parseLong(bytes, fields.start(1), fields.end(1)),
+          value = parseDouble(bytes, fields.start(2), fields.end(2)),
+          label = l,
+          metricId = id,
+          containerId = containerId
+        )
+      }
+    }
+    catch {
+      case _: NumberFormatException => None
+    }
+  }
+
+  /**
+   * The dictionary of the file being parsed, with which the parsing can be resumed after the last line parsed
+   */
+  def dictionary: Dictionary = {
+    Dictionary(container, metricIds.map(id => if (id < 0) null else registry.name(id)).toList, labels.toMap)
+  }
+
+  /**
+   * Resume the parsing of a file after the lines giving a dictionary
+   */
+  def resume(dictionary: Dictionary): Unit = {
+    if (dictionary.container.nonEmpty) {
+      containerId = containers.id(dictionary.container)
+      container = containers.name(containerId)
+    }
+    metricIds.clear()
+    metricIds ++= dictionary.metrics.map(metric => if (metric == null) -1 else registry.id(metric))
+    labels.clear()
+    dictionary.labels.foreach { case (id, label) => labels.put(id, label) }
+  }
+
+  private def parseDictionaryLine(line: String): Unit = {
+    val splits = line.substring(DICTIONARY_LINE_PREFIX.length).split(SEPARATOR, 3)
+    Try {
+      splits(0) match {
+        case "C" =>
+          containerId = containers.id(splits(1))
+          container = containers.name(containerId)
+          metricIds.clear()
+          labels.clear()
+        case "M" =>
+          val fileMetricId = splits(1).toInt
+          while (metricIds.size <= fileMetricId) metricIds += -1
+          metricIds(fileMetricId) = registry.id(splits(2))
+        case "L" =>
+          labels.put(splits(1).toLong, splits(2))
+        case _ =>
+      }
+    }
+  }
+}
+
+object LineParser {
+  val SEPARATOR = "\t"
+  val LINE_PREFIX: String = "BABAR" + SEPARATOR
+  val ID_LINE_PREFIX: String = "BABAR_ID" + SEPARATOR
+  val DICTIONARY_LINE_PREFIX: String = "BABAR_DICT" + SEPARATOR
+  val CONTAINER_LINE_PREFIX: String = DICTIONARY_LINE_PREFIX + "C" + SEPARATOR
+
+  /**
+   * The names given to the ids of a file by its dictionary lines
+   * @param container           The container of the file, or "" if there is none
+   * @param metrics             The metrics by id, null for the ids without a metric
+   * @param labels              The labels by id
+   */
+  case class Dictionary(container: String, metrics: Seq[String], labels: Map[Long, String])
+
+  val EMPTY_DICTIONARY = Dictionary("", Nil, Map.empty)
+
+  private val LINE_PREFIX_BYTES = LINE_PREFIX.getBytes(StandardCharsets.UTF_8)
+  private val ID_LINE_PREFIX_BYTES = ID_LINE_PREFIX.getBytes(StandardCharsets.UTF_8)
+  private val DICTIONARY_LINE_PREFIX_BYTES = DICTIONARY_LINE_PREFIX.getBytes(StandardCharsets.UTF_8)
+  private val CONTAINER_LINE_PREFIX_BYTES = CONTAINER_LINE_PREFIX.getBytes(StandardCharsets.UTF_8)
+
+  // powers of 10 that are exact doubles
+  private val POWERS_OF_TEN = Array.tabulate(23)(math.pow(10, _))
+  private val MAX_EXACT_MANTISSA = 1L << 53
+
+  /**
+   * @return                    True if the line can be parsed without the lines before it: either a line holding all
+   *                            the names, or the dictionary line starting the lines of a container
+   */
+  def isSegmentStart(bytes: Array[Byte], offset: Int, length: Int): Boolean = {
+    startsWith(bytes, offset, length, LINE_PREFIX_BYTES) || startsWith(bytes, offset, length, CONTAINER_LINE_PREFIX_BYTES)
+  }
+
+  private def startsWith(bytes: Array[Byte], offset: Int, length: Int, prefix: Array[Byte]): Boolean = {
+    if (length < prefix.length) return false
+    var i = 0
+    while (i < prefix.length) {
+      if (bytes(offset + i) != prefix(i)) return false
+      i += 1
+    }
+    true
+  }
+
+  private[processor] def parseLong(bytes: Array[Byte], from: Int, to: Int): Long = {
+    val negative = from < to && bytes(from) == '-'
+    var i = if (negative) from + 1 else from
+    if (i == to || to - i > 18) throw new NumberFormatException(new String(bytes, from, to - from, StandardCharsets.UTF_8))
+    var res = 0L
+    while (i < to) {
+      val digit = bytes(i) - '0'
+      if (digit < 0 || digit > 9) throw new NumberFormatException(new String(bytes, from, to - from, StandardCharsets.UTF_8))
+      res = res * 10 + digit
+      i += 1
+    }
+    if (negative) -res else res
+  }
+
+  /**
+   * Parse a decimal number, such as "12.5" or "1.073741824E9" as written by Double.toString. Numbers with an exact
+   * mantissa and a small exponent are multiplied or divided by an exact power of 10, which rounds them exactly like
+   * Double.parseDouble. Others are parsed with it.
+   */
+  private[processor] def parseDouble(bytes: Array[Byte], from: Int, to: Int): Double = {
+    val negative = from < to && bytes(from) == '-'
+    var i = if (negative) from + 1 else from
+    var mantissa = 0L
+    var decimals = -1
+    var digits = 0
+    var exact = i < to
+    while (exact && i < to && bytes(i) != 'E') {
+      val b = bytes(i)
+      if (b == '.' && decimals < 0) decimals = 0
+      else if (b >= '0' && b <= '9' && digits < 18) {
+        mantissa = mantissa * 10 + (b - '0')
+        digits += 1
+        if (decimals >= 0) decimals += 1
+      }
+      else exact = false
+      i += 1
+    }
+    var exponent = -math.max(0, decimals)
+    if (exact && i < to) {
+      val e = parseExponent(bytes, i + 1, to)
+      if (e == Int.MinValue) exact = false else exponent += e
+    }
+    if (exact && digits > 0 && mantissa < MAX_EXACT_MANTISSA && math.abs(exponent) < POWERS_OF_TEN.length) {
+      val res =
+        if (exponent < 0) mantissa / POWERS_OF_TEN(-exponent)
+        else mantissa * POWERS_OF_TEN(exponent)
+      if (negative) -res else res
+    }
+    else java.lang.Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1))
+  }
+
+  // the exponent, or Int.MinValue if it is not a small integer
+  private def parseExponent(bytes: Array[Byte], from: Int, to: Int): Int = {
+    val negative = from < to && bytes(from) == '-'
+    var i = if (negative) from + 1 else from
+    if (i == to || to - i > 3) return Int.MinValue
+    var res = 0
+    while (i < to) {
+      val digit = bytes(i) - '0'
+      if (digit < 0 || digit > 9) return Int.MinValue
+      res = res * 10 + digit
+      i += 1
+    }
+    if (negative) -res else res
+  }
+
+  /**
+   * Positions of the fields of a line separated by tabs. As with String.split, the empty fields at the end of the line
+   * are not counted.
+   */
+  private class Fields {
+    private val starts = new Array[Int](MAX_FIELDS)
+    private val ends = new Array[Int](MAX_FIELDS)
+
+    // the number of fields, or more than MAX_FIELDS if there are more
+    def split(bytes: Array[Byte], from: Int, to: Int): Int = {
+      var nb = 0
+      var fieldStart = from
+      var i = from
+      while (i <= to) {
+        if (i == to || bytes(i) == '\t') {
+          if (nb < MAX_FIELDS) {
+            starts(nb) = fieldStart
+            ends(nb) = i
+          }
+          nb += 1
+          fieldStart = i + 1
+        }
+        i += 1
+      }
+      while (nb > 0 && nb <= MAX_FIELDS && starts(nb - 1) == ends(nb - 1)) nb -= 1
+      nb
+    }
+
+    def start(field: Int): Int = starts(field)
+
+    def end(field: Int): Int = ends(field)
+
+    def decode(bytes: Array[Byte], field: Int): String = {
+      new String(bytes, starts(field), ends(field) - starts(field), StandardCharsets.UTF_8)
+    }
+  }
+
+  private val MAX_FIELDS = 8
+}
+
+/**
+ * Resolves the names read as bytes into the ids of a registry, decoding each name only the first time it is read.
+ */
+private[processor] class NameCache(registry: NameRegistry) {
+
+  private var keys = new Array[Array[Byte]](64)
+  private var ids = new Array[Int](64)
+  private var size = 0
+
+  def id(bytes: Array[Byte], from: Int, to: Int): Int = {
+    var i = NameCache.hash(bytes, from, to) & (keys.length - 1)
+    while (keys(i) != null) {
+      if (NameCache.equals(keys(i), bytes, from, to)) return ids(i)
+      i = (i + 1) & (keys.length - 1)
+    }
+    val id = registry.id(new String(bytes, from, to - from, StandardCharsets.UTF_8))
+    keys(i) = java.util.Arrays.copyOfRange(bytes, from, to)
+    ids(i) = id
+    size += 1
+    // keep the load factor under 0.5
+    if (size * 2 > keys.length) rehash()
+    id
+  }
+
+  private def rehash(): Unit = {
+    val oldKeys = keys
+    val oldIds = ids
+    keys = new Array[Array[Byte]](oldKeys.length * 2)
+    ids = new Array[Int](oldIds.length * 2)
+    for (j <- oldKeys.indices if oldKeys(j) != null) {
+      var i = NameCache.hash(oldKeys(j), 0, oldKeys(j).length) & (keys.length - 1)
+      while (keys(i) != null) i = (i + 1) & (keys.length - 1)
+      keys(i) = oldKeys(j)
+      ids(i) = oldIds(j)
+    }
+  }
+}
+
+private object NameCache {
+
+  def hash(bytes: Array[Byte], from: Int, to: Int): Int = {
+    var h = 0
+    var i = from
+    while (i < to) {
+      h = 31 * h + bytes(i)
+      i += 1
+    }
+    // spread the bits of names that only differ by their last characters
+    h ^ (h >>> 16)
+  }
+
+  def equals(key: Array[Byte], bytes: Array[Byte], from: Int, to: Int): Boolean = {
+    if (key.length != to - from) return false
+    var i = 0
+    while (i < key.length) {
+      if (key(i) != bytes(from + i)) return false
+      i += 1
+    }
+    true
+  }
+}
@@ -0,0 +1,165 @@
+package com.criteo.babar.processor
+
+import java.io.{Closeable, InputStream}
+
+/**
+ * Reads the lines of a byte range of a stream into a reused buffer, without decoding them, so that reading a log takes
+ * constant memory whatever its size. The buffer only grows to hold the longest line.
+ *
+ * The lines are read from the first line starting a segment at or after the start of the range, up to the first line
+ * starting a segment at or after its end, so that the consecutive ranges of a file read each line exactly once. The
+ * progress is given by the position in the stream.
+ *
+ * A range resuming the reading of a file where a previous reading stopped, at the start of a line, rather reads its
+ * first lines as the continuation of the segment read before it.
+ *
+ * @param in                    The stream, positioned one byte before the start of the range, or at 0
+ * @param start                 The start of the range, in bytes
+ * @param end                   The end of the range, in bytes
+ * @param isSegmentStart        Whether a line, given as a slice of bytes, can start a range
+ * @param progress              Called with the number of bytes of the range read
+ * @param resume                Whether the range starts at the start of a line continuing the segment before it
+ * @param streamEnd             The position in the stream where reading stops, such as the end of the last complete
+ *                              line of a file still being written
+ */
+class LineSource(in: InputStream,
+                 start: Long,
+                 end: Long,
+                 isSegmentStart: (Array[Byte], Int, Int) => Boolean,
+                 progress: Long => Unit,
+                 resume: Boolean = false,
+                 streamEnd: Long = Long.MaxValue) extends Closeable {
+
+  import LineSource._
+
+  private var buf = new Array[Byte](BUFFER_SIZE)
+  // position in the stream of the first byte of the buffer
+  private var bufStart = math.max(0L, start - 1)
+  // offset of the next line in the buffer, and number of bytes read in it
+  private var pos = 0
+  private var limit = 0
+  private var eof = false
+  private var started = false
+  private var done = false
+  private var streamEndReached = false
+  private var reported = start
+
+  // the current line
+  private var lineStart = 0L
+  private var lineOffset = 0
+  private var lineLength = 0
+
+  /**
+   * Read the next line of the range
+   * @return                    False once the range is read
+   */
+  def next(): Boolean = {
+    if (done) return false
+    if (!started) {
+      started = true
+      if (start > 0 && resume) {
+        // only the newline before the range belongs to the previous range
+        readLine()
+      }
+      else if (start > 0) {
+        // the line overlapping the start of the range, or only the newline before it, belongs to the previous range
+        readLine()
+        // so do the lines up to the start of the next segment
+        var found = readLine()
+        while (found && lineStart < end && !isSegmentStart(buf, lineOffset, lineLength)) found = readLine()
+        return if (!found || lineStart >= end) finish() else true
+      }
+    }
+    if (!readLine()) {
+      streamEndReached = true
+      finish()
+    }
+    else if (lineStart >= end && isSegmentStart(buf, lineOffset, lineLength)) finish()
+    else true
+  }
+
+  /**
+   * @return                    True once the lines of the range were read up to the end of the stream, which is not
+   *                            the case of a range only skipping the lines before the end that belong to the previous
+   *                            range
+   */
+  def reachedStreamEnd: Boolean = streamEndReached
+
+  // the bytes of the current line are only valid until the next call to next()
+  def buffer: Array[Byte] = buf
+
+  def offset: Int = lineOffset
+
+  def length: Int = lineLength
+
+  override def close(): Unit = {
+    finish()
+    in.close()
+  }
+
+  private def finish(): Boolean = {
+    done = true
+    reportProgress(0L)
+    false
+  }
+
+  private def readLine(): Boolean = {
+    var scan = pos
+    while (true) {
+      while (scan < limit && buf(scan) != '\n') scan += 1
+      if (scan < limit) {
+        setLine(pos, scan)
+        pos = scan + 1
+        reportProgress(PROGRESS_STEP)
+        return true
+      }
+      val scanned = scan - pos
+      if (eof || !fill()) {
+        // the last line may not end with a newline
+        if (pos == limit) return false
+        setLine(pos, limit)
+        pos = limit
+        return true
+      }
+      scan = pos + scanned
+    }
+    false
+  }
+
+  private def setLine(from: Int, to: Int): Unit = {
+    lineStart = bufStart + from
+    lineOffset = from
+    lineLength = if (to > from && buf(to - 1) == '\r') to - from - 1 else to - from
+  }
+
+  // move the current line to the beginning of the buffer, growing it if the line fills it, then read after it
+  private def fill(): Boolean = {
+    if (pos > 0) {
+      System.arraycopy(buf, pos, buf, 0, limit - pos)
+      bufStart += pos
+      limit -= pos
+      pos = 0
+    }
+    if (limit == buf.length) buf = java.util.Arrays.copyOf(buf, buf.length * 2)
+    val max = math.min(buf.length - limit, streamEnd - bufStart - limit).toInt
+    val read = if (max <= 0) -1 else in.read(buf, limit, max)
+    if (read < 0) eof = true
+    else limit += read
+    !eof
+  }
+
+  // only the bytes within the range are counted, the bytes read after it are counted by the next range
+  private def reportProgress(minStep: Long): Unit = {
+    val position = math.max(start, math.min(end, bufStart + pos))
+    if (position - reported >= math.max(1L, minStep)) {
+      progress(position - reported)
+      reported = position
+    }
+  }
+}
+
+object LineSource {
+  val BUFFER_SIZE: Int = 1 << 16
+  // bytes read between two updates of the progress
+  val PROGRESS_STEP: Long = 1L << 20
+}
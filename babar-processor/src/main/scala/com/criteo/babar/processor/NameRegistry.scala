@@ -0,0 +1,38 @@
+package com.criteo.babar.processor
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Gives each name, such as a metric or a container, a dense id so that gauges can be dispatched to the aggregations of
+ * their metric, or accumulated in the columns of their container, through arrays indexed by the id. The names are
+ * interned: all the gauges of a metric or a container share the same name instance.
+ *
+ * A registry can be shared by the threads aggregating the log in parallel, so that the ids are the same in all their
+ * aggregations: looking up a known name does not lock, only registering a new one does.
+ */
+class NameRegistry {
+
+  private val ids = new ConcurrentHashMap[String, Integer]()
+  @volatile private var names = new Array[String](64)
+  @volatile private var count = 0
+
+  def id(name: String): Int = {
+    val id = ids.get(name)
+    if (id != null) id else register(name)
+  }
+
+  private def register(name: String): Int = synchronized {
+    val id = ids.get(name)
+    if (id != null) return id
+    if (count == names.length) names = java.util.Arrays.copyOf(names, count * 2)
+    names(count) = name.intern()
+    // the name is written before its id is published
+    ids.put(name, count)
+    count += 1
+    count - 1
+  }
+
+  def name(id: Int): String = names(id)
+
+  def size: Int = count
+}
@@ -0,0 +1,158 @@
+package com.criteo.babar.processor
+
+import java.util.concurrent.{ConcurrentHashMap, ForkJoinPool, RecursiveTask}
+
+import com.criteo.babar.processor.LineParser.Dictionary
+
+/**
+ * Aggregates logs with several threads, in a fork-join pool.
+ *
+ * The logs are split in byte ranges no larger than the split size. Each range is read, parsed and aggregated by a task
+ * with its own aggregations, and the aggregations of the tasks are merged two by two as they are joined. The metrics
+ * and the containers are registered in registries shared by all the tasks so that their ids are the same in all the
+ * aggregations.
+ *
+ * The ranges are aligned on the lines starting a segment of the log, which can be parsed without the lines before
+ * them: either the lines holding all their names, or the dictionary lines starting the lines of a container in
+ * aggregated logs, as the lines with ids can only be parsed with the dictionary of their container. A log read from an
+ * offset where a previous aggregation stopped is rather resumed with the dictionary of the lines at this offset.
+ *
+ * Columnar stores are rather split in groups of blocks. The gauges read, before they are filtered, can be exported to
+ * a store, each task writing its own blocks.
+ */
+class ParallelAggregator(parallelism: Int,
+                         buildAggregations: () => Map[String, Aggregation[Gauge, _]],
+                         filter: Gauge => Option[Gauge],
+                         export: Option[ColumnarStoreWriter] = None,
+                         minSplitSize: Long = ParallelAggregator.MIN_SPLIT_SIZE) {
+
+  import ParallelAggregator._
+
+  val registry = new NameRegistry()
+  val containers = new NameRegistry()
+
+  private val dictionaries = new ConcurrentHashMap[String, Dictionary]()
+
+  def aggregate(filePath: String): Map[String, Aggregation[Gauge, _]] = {
+    aggregate(Seq(Input(filePath, 0L, HDFSUtils.length(filePath))))
+  }
+
+  def aggregate(inputs: Seq[Input]): Map[String, Aggregation[Gauge, _]] = {
+    val length = inputs.map(input => input.end - input.start).sum
+    val splitSize = math.max(minSplitSize, length / (math.max(1, parallelism) * SPLITS_PER_THREAD) + 1)
+    val splits = inputs.filter(input => input.end > input.start).flatMap { input =>
+      (input.start until input.end by splitSize).map(start => Split(input, start, math.min(input.end, start + splitSize)))
+    }
+    val progress = new ProgressBar(length)
+    run(splits.toIndexedSeq)(aggregateSplit(_, progress))
+  }
+
+  /**
+   * Aggregate the gauges of a columnar store matching a predicate, only reading the blocks that may match it
+   */
+  def aggregateStore(filePath: String, predicate: ColumnarStore.Predicate): Map[String, Aggregation[Gauge, _]] = {
+    val reader = new ColumnarStoreReader(filePath)
+    val blocks = reader.blocks.filter(predicate.matches)
+    val progress = new ProgressBar(blocks.map(_.length.toLong).sum)
+    val groups = blocks.grouped(math.max(1, blocks.size / (math.max(1, parallelism) * SPLITS_PER_THREAD))).toIndexedSeq
+    run(groups) { group =>
+      val aggregations = buildAggregations()
+      val dispatcher = new AggregationDispatcher(aggregations.values, registry)
+      val buffer = export.map(_.newBuffer())
+      reader.read(group, predicate, registry, containers, progress.advance) { g =>
+        buffer.foreach(_.add(g))
+        filter(g).foreach(dispatcher.dispatch)
+      }
+      buffer.foreach(_.flush())
+      aggregations
+    }
+  }
+
+  /**
+   * @return                    The dictionary of the lines at the end of an input that was aggregated, if any
+   */
+  def dictionary(filePath: String): Option[Dictionary] = Option(dictionaries.get(filePath))
+
+  private def run[S](splits: IndexedSeq[S])(aggregateSplit: S => Map[String, Aggregation[Gauge, _]]): Map[String, Aggregation[Gauge, _]] = {
+    if (splits.isEmpty) return buildAggregations()
+    val pool = new ForkJoinPool(math.max(1, parallelism))
+    try {
+      pool.invoke(new AggregationTask(splits, aggregateSplit))
+    }
+    finally {
+      pool.shutdown()
+    }
+  }
+
+  private class AggregationTask[S](splits: IndexedSeq[S], aggregateSplit: S => Map[String, Aggregation[Gauge, _]])
+    extends RecursiveTask[Map[String, Aggregation[Gauge, _]]] {
+
+    override def compute(): Map[String, Aggregation[Gauge, _]] = {
+      if (splits.size == 1) aggregateSplit(splits.head)
+      else {
+        val (leftSplits, rightSplits) = splits.splitAt(splits.size / 2)
+        val left = new AggregationTask(leftSplits, aggregateSplit)
+        left.fork()
+        val right = new AggregationTask(rightSplits, aggregateSplit).compute()
+        merge(left.join(), right)
+      }
+    }
+  }
+
+  private def aggregateSplit(split: Split, progress: ProgressBar): Map[String, Aggregation[Gauge, _]] = {
+    val input = split.input
+    val aggregations = buildAggregations()
+    val dispatcher = new AggregationDispatcher(aggregations.values, registry)
+    val parser = new LineParser(registry, containers)
+    // the first range of an input starting after 0 resumes the segment before it
+    val resume = split.start == input.start && input.start > 0
+    if (resume) parser.resume(input.dictionary)
+    val buffer = export.map(_.newBuffer())
+    val lines = HDFSUtils.readSplit(input.filePath, split.start, split.end, LineParser.isSegmentStart, progress.advance,
+      resume, input.end)
+    try {
+      while (lines.next()) {
+        parser.parse(lines.buffer, lines.offset, lines.length).foreach { g =>
+          buffer.foreach(_.add(g))
+          filter(g).foreach(dispatcher.dispatch)
+        }
+      }
+      // the last lines of an input are read by the range before the last one when no segment starts in the last one,
+      // so the dictionary at the end is the one of the range that read up to the end
+      if (lines.reachedStreamEnd) dictionaries.put(input.filePath, parser.dictionary)
+    }
+    finally {
+      lines.close()
+    }
+    buffer.foreach(_.flush())
+    aggregations
+  }
+}
+
+object ParallelAggregator {
+
+  // smaller ranges are not worth the cost of their aggregations
+  val MIN_SPLIT_SIZE: Long = 64L * 1024L * 1024L
+  // more ranges than threads balance the load when the segments are uneven
+  val SPLITS_PER_THREAD = 4
+
+  /**
+   * A log to aggregate from an offset
+   * @param filePath            The path of the log
+   * @param start               The offset to start from, at the start of a line
+   * @param end                 The offset to stop at
+   * @param dictionary          The dictionary of the lines at the start offset
+   */
+  case class Input(filePath: String, start: Long, end: Long, dictionary: Dictionary = LineParser.EMPTY_DICTIONARY)
+
+  private case class Split(input: Input, start: Long, end: Long)
+
+  /**
+   * Merge the aggregations of the right ranges into the aggregations of the left ones
+   */
+  def merge(left: Map[String, Aggregation[Gauge, _]],
+            right: Map[String, Aggregation[Gauge, _]]): Map[String, Aggregation[Gauge, _]] = {
+    left.foreach { case (key, aggregation) => aggregation.merge(right(key)) }
+    left
+  }
+}
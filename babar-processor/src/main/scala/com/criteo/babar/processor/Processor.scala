@@ -3,10 +3,10 @@ package com.criteo.babar.processor
 import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
 
+import com.criteo.babar.processor.Checkpoint.FileState
+import com.criteo.babar.processor.ParallelAggregator.Input
 import org.rogach.scallop.ScallopConf
 
-import scala.util.parsing.json.JSONObject
-
 class Conf(arguments: Seq[String]) extends ScallopConf(arguments) {
   private val formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss")
 
@@ -15,30 +15,79 @@ class Conf(arguments: Seq[String]) extends ScallopConf(arguments) {
   val containers = opt[String](short = 'c', descr = "if set, only metrics of containers matching these prefixes are aggregated (comma-separated)", default = Some(""))
   val maxTracesDepth = opt[Int](short = 'd', descr = "max depth of stack traces", default = Some(100))
   val minTracesRatio = opt[Double](short = 'r', descr = "min ratio of appearance in profiles for traces to be kept", default = Some(0.00005))
-  val logFile = trailArg[String](descr = "the log file to open")
+  val parallelism = opt[Int](short = 'p', descr = "number of threads aggregating the log (default: number of cores)", default = Some(Runtime.getRuntime.availableProcessors()))
+  val maxPoints = opt[Int](short = 'm', descr = "max number of points of each time series of the report, longer series being downsampled to min/max envelopes (0 to keep all points)", default = Some(2000))
+  val startTime = opt[Long](short = 's', descr = "if set, only metrics logged at or after this time (in ms since epoch) are aggregated")
+  val endTime = opt[Long](short = 'e', descr = "if set, only metrics logged at or before this time (in ms since epoch) are aggregated")
+  val exportStore = opt[String](short = 'x', descr = "if set, path of a columnar store to which the metrics read are exported, which can then be given instead of the logs to build other reports quickly")
+  val checkpoint = opt[String](short = 'k', descr = "if set, path of a checkpoint of the aggregations from which only the data appended to the logs is aggregated, updated after each run")
+  val logFiles = trailArg[List[String]](descr = "the log files or columnar stores to open, as paths or glob patterns")
   verify()
 }
 
 object Processor {
 
-  val LINE_PREFIX: String = "BABAR\t"
-  val LINE_SEPARATOR = "\t"
-  val LINE_PREFIX_LENGTH: Int = LINE_PREFIX.length
-
   val REPORT_TEMPLATE_FILE = "index.html"
+  // the number of locks and call sites shown in the report, by time blocked
+  val MAX_LOCK_LABELS = 50
 
   def main(args: Array[String]): Unit = {
 
     // parse arguments
     val conf = new Conf(args)
-    val timePrecMs = conf.timePrecision()
+    val containers = conf.containers().split(',').toSet
+    val startTime = conf.startTime.getOrElse(Long.MinValue)
+    val endTime = conf.endTime.getOrElse(Long.MaxValue)
+    val (stores, logFiles) = HDFSUtils.listFiles(conf.logFiles()).partition(ColumnarStore.isStore)
+    if (conf.checkpoint.isDefined && (stores.nonEmpty || conf.exportStore.isDefined)) {
+      throw new IllegalArgumentException("A checkpoint can only be used to aggregate logs, without exporting them")
+    }
+    val build = () => buildAggregations(conf.timePrecision(), conf.minTracesRatio(), conf.maxTracesDepth())
+    val export = conf.exportStore.toOption.map(new ColumnarStoreWriter(_))
+    val aggregator = new ParallelAggregator(conf.parallelism(), build, filterGauge(containers, startTime, endTime), export)
+
+    val aggregations = conf.checkpoint.toOption match {
+      case Some(checkpointPath) =>
+        val settings = s"time precision: ${conf.timePrecision()}, containers: ${conf.containers()}, " +
+          s"start time: $startTime, end time: $endTime, " +
+          s"min traces ratio: ${conf.minTracesRatio()}, max traces depth: ${conf.maxTracesDepth()}, " +
+          s"aggregations: ${build().keys.toList.sorted.mkString(", ")}"
+        aggregateFromCheckpoint(checkpointPath, settings, logFiles, aggregator, build)
+      case None =>
+        println("Start aggregating...")
+        val fromLogs = aggregator.aggregate(logFiles.map(file => Input(file, 0L, HDFSUtils.length(file))))
+        // all the metrics are read when they are exported
+        val metrics = build().values.map(_.filteredMetric)
+        val predicate = ColumnarStore.Predicate(
+          if (export.isEmpty && metrics.forall(_.isDefined)) Some(metrics.flatten.toSet) else None, startTime, endTime)
+        val res = stores.foldLeft(fromLogs) { (aggs, store) =>
+          ParallelAggregator.merge(aggs, aggregator.aggregateStore(store, predicate))
+        }
+        println("\nDone aggregating")
+        res
+    }
+    export.foreach { store =>
+      store.close()
+      println(s"Done writing store to ${store.filePath}")
+    }
+
+    println("Building report")
+    IOUtils.writeFromResources(REPORT_TEMPLATE_FILE, conf.outputFile()) { out =>
+      writeJSON(aggregations, new JsonWriter(out), conf.maxPoints())
+    }
+    println(s"Done writing report to ${conf.outputFile()}")
+  }
+
+  /**
+   * Aggregations to perform on the input stream
+   */
+  def buildAggregations(timePrecMs: Long, minTracesRatio: Double, maxTracesDepth: Int): Map[String, Aggregation[Gauge, _]] = {
     val sec = 1 / 1000D
     val timePrecSec = timePrecMs * sec
     val MB = 1D / 1024D / 1024D
     val MBSec = timePrecSec * MB
 
-    // Aggregations to perform on the input stream
-    val aggregations = Map[String, Aggregation[Gauge, _]](
+    Map[String, Aggregation[Gauge, _]](
       // ----------------------------- General ----------------------------------
       "containers" ->
         (FilterMetric("JVM_CPU_TIME") and DiscretizeTime(timePrecMs)
@@ -110,15 +159,15 @@ object Processor {
       "max proc host CPU load" ->
         (FilterMetric("PROC_HOST_CPU_LOAD") and DiscretizeTime(timePrecMs)
           aggregate AvgByContainerAndTime() and MaxOverAllContainersByTime()),
-      "median proc host CPU load" ->
+      "percentiles proc host CPU load" ->
         (FilterMetric("PROC_HOST_CPU_LOAD") and DiscretizeTime(timePrecMs)
-          aggregate AvgByContainerAndTime() and MedianOverAllContainersByTime()),
+          aggregate AvgByContainerAndTime() and PercentilesOverAllContainersByTime()),
       "max proc tree CPU load" ->
         (FilterMetric("PROC_TREE_CPU_LOAD") and DiscretizeTime(timePrecMs)
           aggregate AvgByContainerAndTime() and MaxOverAllContainersByTime()),
-      "median proc tree CPU load" ->
+      "percentiles proc tree CPU load" ->
         (FilterMetric("PROC_TREE_CPU_LOAD") and DiscretizeTime(timePrecMs)
-          aggregate AvgByContainerAndTime() and MedianOverAllContainersByTime()),
+          aggregate AvgByContainerAndTime() and PercentilesOverAllContainersByTime()),
       "median proc tree user CPU load" ->
         (FilterMetric("PROC_TREE_USER_MODE_CPU_LOAD") and DiscretizeTime(timePrecMs)
           aggregate AvgByContainerAndTime() and MedianOverAllContainersByTime()),
@@ -128,19 +177,29 @@ object Processor {
       "accumulated proc tree CPU time" ->
         (FilterMetric("PROC_TREE_CPU_TIME") and DiscretizeTime(timePrecMs) and Scale(sec)
           aggregate SumByContainerAndTime() and AccumulateOverAllContainersByTime()),
+      // by thread group
+      "total CPU cores usage by thread group" ->
+        (FilterMetric("THREAD_GROUP_CORES_USAGE") aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate AvgByContainerAndTime() and SumOverAllContainersByTime())),
+      "total CPU user cores usage by thread group" ->
+        (FilterMetric("THREAD_GROUP_USER_CORES_USAGE") aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate AvgByContainerAndTime() and SumOverAllContainersByTime())),
+      "accumulated CPU time by thread group" ->
+        (FilterMetric("THREAD_GROUP_CPU_TIME") and Scale(sec) aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate SumByContainerAndTime() and AccumulateOverAllContainersByTime())),
       // ---------------------------- CPU using JVM data -------------------------------
       "max JVM host CPU load" ->
         (FilterMetric("JVM_HOST_CPU_USAGE") and DiscretizeTime(timePrecMs)
           aggregate AvgByContainerAndTime() and MaxOverAllContainersByTime()),
-      "median JVM host CPU load" ->
+      "percentiles JVM host CPU load" ->
         (FilterMetric("JVM_HOST_CPU_USAGE") and DiscretizeTime(timePrecMs)
-          aggregate AvgByContainerAndTime() and MedianOverAllContainersByTime()),
+          aggregate AvgByContainerAndTime() and PercentilesOverAllContainersByTime()),
       "max JVM CPU load" ->
         (FilterMetric("JVM_CPU_USAGE") and DiscretizeTime(timePrecMs)
           aggregate AvgByContainerAndTime() and MaxOverAllContainersByTime()),
-      "median JVM CPU load" ->
+      "percentiles JVM CPU load" ->
         (FilterMetric("JVM_CPU_USAGE") and DiscretizeTime(timePrecMs)
-          aggregate AvgByContainerAndTime() and MedianOverAllContainersByTime()),
+          aggregate AvgByContainerAndTime() and PercentilesOverAllContainersByTime()),
       "accumulated JVM CPU time" ->
         (FilterMetric("JVM_CPU_TIME") and DiscretizeTime(timePrecMs) and Scale(sec)
           aggregate SumByContainerAndTime() and AccumulateOverAllContainersByTime()),
@@ -148,9 +207,9 @@ object Processor {
       "max GC ratio" ->
         (FilterMetric("JVM_GC_RATIO") and Cap(0D, 1D) and DiscretizeTime(timePrecMs)
           aggregate AvgByContainerAndTime() and MaxOverAllContainersByTime()),
-      "median GC ratio" ->
+      "percentiles GC ratio" ->
         (FilterMetric("JVM_GC_RATIO") and Cap(0D, 1D) and DiscretizeTime(timePrecMs)
-          aggregate AvgByContainerAndTime() and MedianOverAllContainersByTime()),
+          aggregate AvgByContainerAndTime() and PercentilesOverAllContainersByTime()),
       "median minor GC ratio" ->
         (FilterMetric("JVM_MINOR_GC_RATIO") and Cap(0D, 1D) and DiscretizeTime(timePrecMs)
           aggregate AvgByContainerAndTime() and MedianOverAllContainersByTime()),
@@ -160,6 +219,36 @@ object Processor {
       "accumulated GC CPU time" ->
         (FilterMetric("JVM_GC_CPU_TIME") and DiscretizeTime(timePrecMs) and Scale(sec)
           aggregate SumByContainerAndTime() and AccumulateOverAllContainersByTime()),
+      // pauses, by collector
+      "max GC pause p99 ms by collector" ->
+        (FilterMetric("GC_PAUSE_P99_MS") aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate MaxByContainerAndTime() and MaxOverAllContainersByTime())),
+      "max GC pause max ms by collector" ->
+        (FilterMetric("GC_PAUSE_MAX_MS") aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate MaxByContainerAndTime() and MaxOverAllContainersByTime())),
+      "median GC pause p50 ms by collector" ->
+        (FilterMetric("GC_PAUSE_P50_MS") aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate MaxByContainerAndTime() and MedianOverAllContainersByTime())),
+      "total GC pauses by collector" ->
+        (FilterMetric("GC_PAUSE_COUNT") aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate SumByContainerAndTime() and SumOverAllContainersByTime())),
+      // allocation and promotion rates
+      "total GC allocation MB / sec" ->
+        (FilterMetric("GC_ALLOCATION_BYTES_PER_SEC") and Scale(MB) and DiscretizeTime(timePrecMs)
+          aggregate AvgByContainerAndTime() and SumOverAllContainersByTime()),
+      "max GC allocation MB / sec" ->
+        (FilterMetric("GC_ALLOCATION_BYTES_PER_SEC") and Scale(MB) and DiscretizeTime(timePrecMs)
+          aggregate AvgByContainerAndTime() and MaxOverAllContainersByTime()),
+      "total GC promotion MB / sec" ->
+        (FilterMetric("GC_PROMOTION_BYTES_PER_SEC") and Scale(MB) and DiscretizeTime(timePrecMs)
+          aggregate AvgByContainerAndTime() and SumOverAllContainersByTime()),
+      "max GC promotion MB / sec" ->
+        (FilterMetric("GC_PROMOTION_BYTES_PER_SEC") and Scale(MB) and DiscretizeTime(timePrecMs)
+          aggregate AvgByContainerAndTime() and MaxOverAllContainersByTime()),
+      // occupancy of the memory pools after the collections, by pool
+      "max GC pool used after GC MB by pool" ->
+        (FilterMetric("GC_POOL_USED_AFTER_GC_BYTES") and Scale(MB) aggregate ByLabel(() => DiscretizeTime(timePrecMs)
+          aggregate MaxByContainerAndTime() and MaxOverAllContainersByTime())),
       // ----------------------------------- IO -------------------------------------
       // max
       "max proc peak read bytes / sec" ->
@@ -174,19 +263,19 @@ object Processor {
       "max proc peak disk write bytes / sec" ->
         (FilterMetric("PROC_TREE_WRITE_BYTES_PER_SEC") and DiscretizeTime(timePrecMs) and Scale(sec)
           aggregate MaxByContainerAndTime() and MaxOverAllContainersByTime()),
-      // median
-      "median proc peak read bytes / sec" ->
+      // percentiles
+      "percentiles proc peak read bytes / sec" ->
         (FilterMetric("PROC_TREE_RCHAR_PER_SEC") and DiscretizeTime(timePrecMs) and Scale(sec)
-          aggregate MaxByContainerAndTime() and MedianOverAllContainersByTime()),
-      "median proc peak write bytes / sec" ->
+          aggregate MaxByContainerAndTime() and PercentilesOverAllContainersByTime()),
+      "percentiles proc peak write bytes / sec" ->
         (FilterMetric("PROC_TREE_WCHAR_PER_SEC") and DiscretizeTime(timePrecMs) and Scale(sec)
-          aggregate MaxByContainerAndTime() and MedianOverAllContainersByTime()),
-      "median proc peak disk read bytes / sec" ->
+          aggregate MaxByContainerAndTime() and PercentilesOverAllContainersByTime()),
+      "percentiles proc peak disk read bytes / sec" ->
         (FilterMetric("PROC_TREE_READ_BYTES_PER_SEC") and DiscretizeTime(timePrecMs) and Scale(sec)
-          aggregate MaxByContainerAndTime() and MedianOverAllContainersByTime()),
-      "median proc peak disk write bytes / sec" ->
+          aggregate MaxByContainerAndTime() and PercentilesOverAllContainersByTime()),
+      "percentiles proc peak disk write bytes / sec" ->
         (FilterMetric("PROC_TREE_WRITE_BYTES_PER_SEC") and DiscretizeTime(timePrecMs) and Scale(sec)
-          aggregate MaxByContainerAndTime() and MedianOverAllContainersByTime()),
+          aggregate MaxByContainerAndTime() and PercentilesOverAllContainersByTime()),
       // accumulated
       "accumulated proc read bytes" ->
         (FilterMetric("PROC_TREE_RCHAR") and DiscretizeTime(timePrecMs)
@@ -214,42 +303,69 @@ object Processor {
       // ------------------------------ Traces ----------------------------------
       "traces" ->
         (FilterMetric("CPU_TRACES")
-          aggregate TracesAggregation(conf.minTracesRatio(), conf.maxTracesDepth())),
+          aggregate TracesAggregation(minTracesRatio, maxTracesDepth)),
+      "wall traces" ->
+        (FilterMetric("WALL_TRACES")
+          aggregate TracesByStateAggregation(minTracesRatio, maxTracesDepth)),
+      "alloc traces" ->
+        (FilterMetric("ALLOC_TRACES")
+          aggregate TracesAggregation(minTracesRatio, maxTracesDepth)),
+      "lock traces" ->
+        (FilterMetric("LOCK_TRACES")
+          aggregate TracesAggregation(minTracesRatio, maxTracesDepth)),
+      "blocked ms by lock" ->
+        (FilterMetric("LOCK_BLOCKED_MS") aggregate SumByLabel(MAX_LOCK_LABELS)),
+      "blocked ms by lock call site" ->
+        (FilterMetric("LOCK_CALL_SITE_BLOCKED_MS") aggregate SumByLabel(MAX_LOCK_LABELS)),
       // profilers
       "isJvmProfiler" -> (FilterMetric("JVM_CPU_TIME") aggregate TrueIfAny()),
       "isProcFSProfiler" -> (FilterMetric("PROC_TREE_CPU_TIME") aggregate TrueIfAny()),
-      "isStackTracesProfiler" -> (FilterMetric("CPU_TRACES") aggregate TrueIfAny())
+      "isStackTracesProfiler" -> (FilterMetric("CPU_TRACES") aggregate TrueIfAny()),
+      "isWallClockProfiler" -> (FilterMetric("WALL_TRACES") aggregate TrueIfAny()),
+      "isAllocationProfiler" -> (FilterMetric("ALLOC_TRACES") aggregate TrueIfAny()),
+      "isLockProfiler" -> (FilterMetric("LOCK_TRACES") aggregate TrueIfAny()),
+      "isGCProfiler" -> (FilterMetric("GC_PAUSE_COUNT") aggregate TrueIfAny()),
+      "isThreadCPUProfiler" -> (FilterMetric("THREAD_GROUP_CPU_TIME") aggregate TrueIfAny())
     )
+  }
 
-    val containers = conf.containers().split(',').toSet
-
-    println("Start aggregating...")
-    HDFSUtils
-      .readAsStreamWithProgressBar(conf.logFile())
-      .flatMap(parseLine)
-      .flatMap(filterContainer(containers)) // use flatMap as filter materializes the entire stream in-memory
-      .foreach{ gauge =>
-        aggregations.values.foreach(_.aggregate(gauge))
+  /**
+   * Aggregate the data appended to the logs since the checkpoint, or all the logs if there is none, then update the
+   * checkpoint with the aggregations before their values are read. The lines being written at the end of the logs are
+   * left for the next run.
+   */
+  def aggregateFromCheckpoint(checkpointPath: String,
+                              settings: String,
+                              logFiles: Seq[String],
+                              aggregator: ParallelAggregator,
+                              build: () => Map[String, Aggregation[Gauge, _]]): Map[String, Aggregation[Gauge, _]] = {
+    val checkpoint = Checkpoint.read(checkpointPath, settings, build(), aggregator.containers)
+    val previousFiles = checkpoint.map(_.files).getOrElse(Map.empty)
+    val inputs = logFiles.map { file =>
+      val end = HDFSUtils.lastLineEnd(file, HDFSUtils.length(file))
+      previousFiles.get(file) match {
+        case Some(state) => Input(file, state.offset, end, state.dictionary)
+        case None => Input(file, 0L, end)
       }
-    println("\nDone aggregating")
+    }
 
-    println("Building report")
-    val json = buildJSON(aggregations)
-    IOUtils.copyFromResources(REPORT_TEMPLATE_FILE, conf.outputFile(), json.toString())
-    println(s"Done writing report to ${conf.outputFile()}")
-  }
+    println(s"Start aggregating ${inputs.map(input => math.max(0L, input.end - input.start)).sum} new bytes...")
+    val newAggregations = aggregator.aggregate(inputs)
+    val aggregations = checkpoint.map(c => ParallelAggregator.merge(c.aggregations, newAggregations)).getOrElse(newAggregations)
+    println("\nDone aggregating")
 
-  protected def parseLine(line: String): Option[Gauge] = {
-    if (line != null && line.startsWith(LINE_PREFIX)) {
-      Gauge.tryParse(line.drop(LINE_PREFIX_LENGTH)).toOption
-    }
-    else {
-      None
+    val files = previousFiles ++ inputs.map { input =>
+      val dictionary = aggregator.dictionary(input.filePath).getOrElse(input.dictionary)
+      input.filePath -> FileState(input.end, HDFSUtils.checksum(input.filePath, input.end), dictionary)
     }
+    Checkpoint.write(checkpointPath, settings, new Checkpoint(files, aggregations))
+    println(s"Done writing checkpoint to $checkpointPath")
+    aggregations
   }
 
-  def filterContainer(containers: Set[String])(gauge: Gauge): Option[Gauge] = {
-    if (containers.isEmpty || containers.exists(c => gauge.container.startsWith(c))) {
+  def filterGauge(containers: Set[String], startTime: Long, endTime: Long)(gauge: Gauge): Option[Gauge] = {
+    if ((containers.isEmpty || containers.exists(c => gauge.container.startsWith(c)))
+      && gauge.timestamp >= startTime && gauge.timestamp <= endTime) {
       Some(gauge)
     }
     else {
@@ -257,8 +373,45 @@ object Processor {
     }
   }
 
-  def buildJSON(aggregations: Map[String, Aggregation[_, _]]): JSONObject = {
-    val jsons = aggregations.flatMap{ case (key, agg) => agg.json().map((key, _))}
-    JSONObject(jsons)
+  /**
+   * The section of the report showing the values of an aggregation, whose values are compressed with the ones of the
+   * other aggregations of the section
+   */
+  def section(key: String): String = key match {
+    case "containers" | "containers timeline" => "containers"
+    case k if k.startsWith("is") => "profilers"
+    case k if k.contains("traces") || k.contains("lock") => "traces"
+    case k if k.contains("GC") => "gc"
+    case k if k.contains("CPU") => "cpu"
+    case k if k.contains("bytes") => "io"
+    case _ => "memory"
+  }
+
+  /**
+   * Write the values of the aggregations as a JSON object with the section of each aggregation, by key, and the
+   * sections, by name. Each section is a JSON object of the values of its aggregations, by key, compressed with zlib
+   * and encoded in base64, so that the report only parses the sections it shows.
+   * @param maxPoints           The max number of points of each time series, the longer ones being downsampled, or 0
+   *                            to keep all the points
+   */
+  def writeJSON(aggregations: Map[String, Aggregation[_, _]], out: JsonWriter, maxPoints: Int): Unit = {
+    out.beginObject()
+    out.name("index").beginObject()
+    aggregations.keys.toList.sorted.foreach(key => out.name(key).value(section(key)))
+    out.endObject()
+    out.name("sections").beginObject()
+    aggregations.groupBy { case (key, _) => section(key) }.toList.sortBy(_._1).foreach { case (name, sectionAggregations) =>
+      out.name(name).compressedValue { sectionOut =>
+        sectionOut.beginObject()
+        sectionAggregations.foreach { case (key, agg) =>
+          sectionOut.name(key)
+          agg.writeJson(sectionOut, maxPoints)
+        }
+        sectionOut.endObject()
+      }
+    }
+    out.endObject()
+    out.endObject()
+    out.flush()
   }
 }
@@ -0,0 +1,33 @@
+package com.criteo.babar.processor
+
+import java.util.Collections
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Prints the progress of the reading of the log on the console. The progress can be updated by several threads.
+ */
+class ProgressBar(totalByteSize: Long) {
+
+  private val readBytes = new AtomicLong(0L)
+  @volatile private var printedPercent = 0
+
+  def advance(bytes: Long): Unit = {
+    val read = readBytes.addAndGet(bytes)
+    val percent = if (totalByteSize <= 0) 100 else Math.ceil(read.toDouble / totalByteSize * 100).toInt
+    if (percent > printedPercent) print(math.min(100, percent))
+  }
+
+  private def print(percent: Int): Unit = synchronized {
+    if (percent > printedPercent) {
+      printedPercent = percent
+      val s = new StringBuilder()
+        .append('\r')
+        .append(f"$percent%3d%% [")
+        .append(String.join("", Collections.nCopies(percent, "=")))
+        .append('>')
+        .append(String.join("", Collections.nCopies(100 - percent, " ")))
+        .append(']')
+      System.out.print(s)
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.criteo.babar.processor
+
+/**
+ * Mergeable sketch of a distribution of values, giving its quantiles with a bounded relative error, as DDSketch.
+ *
+ * The first values are kept as they are, so that the quantiles of a few values are exact. Beyond that, the values are
+ * counted in buckets of exponentially growing sizes: the bucket i holds the values in (γ^(i-1), γ^i], with
+ * γ = (1 + α) / (1 - α), so that any value of a bucket is estimated within the relative accuracy α. The number of
+ * buckets is bounded by collapsing the buckets of the smallest absolute values, which only affects their accuracy.
+ * The memory of a sketch is therefore bounded whatever the number of values. The minimum and maximum are exact.
+ *
+ * Sketches with the same accuracy are merged by adding their counts, which is associative.
+ */
+class QuantileSketch(val relativeAccuracy: Double = QuantileSketch.DEFAULT_ACCURACY,
+                     val maxBuckets: Int = QuantileSketch.DEFAULT_MAX_BUCKETS) {
+
+  import QuantileSketch._
+
+  private val gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy)
+  private val logGamma = math.log(gamma)
+
+  // exact values, until there are more than MAX_EXACT_VALUES
+  private var exact = new Array[Double](4)
+  private var exactCount = 0
+  private var positives: BucketStore = _
+  private var negatives: BucketStore = _
+  private var zeros = 0L
+
+  private var _count = 0L
+  private var _min = Double.PositiveInfinity
+  private var _max = Double.NegativeInfinity
+
+  def add(value: Double): Unit = {
+    if (value.isNaN) return
+    _count += 1
+    _min = math.min(_min, value)
+    _max = math.max(_max, value)
+    if (exact != null) {
+      if (exactCount == exact.length) {
+        if (exactCount < MAX_EXACT_VALUES) exact = java.util.Arrays.copyOf(exact, exactCount * 2)
+        else toBuckets()
+      }
+      if (exact != null) {
+        exact(exactCount) = value
+        exactCount += 1
+        return
+      }
+    }
+    addToBuckets(value, 1L)
+  }
+
+  def merge(other: QuantileSketch): Unit = {
+    if (other._count == 0L) return
+    _count += other._count
+    _min = math.min(_min, other._min)
+    _max = math.max(_max, other._max)
+    if (exact != null && other.exact != null && exactCount + other.exactCount <= MAX_EXACT_VALUES) {
+      if (exactCount + other.exactCount > exact.length) exact = java.util.Arrays.copyOf(exact, exactCount + other.exactCount)
+      System.arraycopy(other.exact, 0, exact, exactCount, other.exactCount)
+      exactCount += other.exactCount
+      return
+    }
+    if (exact != null) toBuckets()
+    if (other.exact != null) {
+      var i = 0
+      while (i < other.exactCount) {
+        addToBuckets(other.exact(i), 1L)
+        i += 1
+      }
+    }
+    else {
+      zeros += other.zeros
+      other.positives.foreach(positives.add)
+      other.negatives.foreach(negatives.add)
+    }
+  }
+
+  def count: Long = _count
+
+  def min: Double = if (_count == 0L) 0D else _min
+
+  def max: Double = if (_count == 0L) 0D else _max
+
+  /**
+   * @param q                   The quantile, between 0 and 1
+   * @return                    The value of rank q * count among the sorted values, so that the quantile 0.5 of an
+   *                            even number of values is the upper median, or 0 if there are no values
+   */
+  def quantile(q: Double): Double = {
+    if (_count == 0L) return 0D
+    val rank = math.min(_count - 1, math.max(0L, (q * _count).toLong))
+    if (rank == _count - 1) return _max
+    if (rank == 0L) return _min
+    if (exact != null) {
+      java.util.Arrays.sort(exact, 0, exactCount)
+      return exact(rank.toInt)
+    }
+    // negative values from the lowest, then zeros, then positive values from the lowest
+    var seen = 0L
+    val fromNegatives = negatives.find(rank, descending = true)
+    if (fromNegatives != Int.MinValue) return clamp(-value(fromNegatives))
+    seen += negatives.total
+    if (rank < seen + zeros) return 0D
+    seen += zeros
+    clamp(value(positives.find(rank - seen, descending = false)))
+  }
+
+  private def toBuckets(): Unit = {
+    positives = new BucketStore(maxBuckets)
+    negatives = new BucketStore(maxBuckets)
+    var i = 0
+    while (i < exactCount) {
+      addToBuckets(exact(i), 1L)
+      i += 1
+    }
+    exact = null
+    exactCount = 0
+  }
+
+  private def addToBuckets(value: Double, count: Long): Unit = {
+    if (value > MIN_INDEXABLE_VALUE) positives.add(index(value), count)
+    else if (value < -MIN_INDEXABLE_VALUE) negatives.add(index(-value), count)
+    else zeros += count
+  }
+
+  private def index(value: Double): Int = math.ceil(math.log(value) / logGamma).toInt
+
+  // the value of a bucket within the relative accuracy of all the values it holds
+  private def value(index: Int): Double = 2 * math.pow(gamma, index) / (gamma + 1)
+
+  private def clamp(value: Double): Double = math.max(_min, math.min(_max, value))
+}
+
+object QuantileSketch {
+
+  val DEFAULT_ACCURACY = 0.01
+  // covers 17 orders of magnitude with the default accuracy, and the arrays only cover the buckets used
+  val DEFAULT_MAX_BUCKETS = 2048
+  val MAX_EXACT_VALUES = 64
+  val MIN_INDEXABLE_VALUE = 1e-12
+}
+
+/**
+ * Counts of the buckets between the lowest and the highest index, stored in an array. If this range exceeds the
+ * maximum number of buckets, the lowest buckets are collapsed into the lowest one kept.
+ */
+private class BucketStore(maxBuckets: Int) {
+
+  private var counts = new Array[Long](0)
+  // index of the first bucket of the array
+  private var offset = 0
+  private var minIndex = 0
+  private var maxIndex = 0
+  var total = 0L
+
+  def add(index: Int, count: Long): Unit = {
+    if (count == 0L) return
+    var i = index
+    if (total == 0L) {
+      resize(i, i, i, i)
+    }
+    else if (i < minIndex || i > maxIndex) {
+      var newMin = math.min(minIndex, i)
+      val newMax = math.max(maxIndex, i)
+      if (newMax.toLong - newMin + 1 > maxBuckets) {
+        newMin = newMax - maxBuckets + 1
+        i = math.max(i, newMin)
+      }
+      val collapsed = collapse(newMin)
+      resize(math.max(minIndex, newMin), maxIndex, newMin, newMax)
+      counts(newMin - offset) += collapsed
+    }
+    counts(i - offset) += count
+    total += count
+  }
+
+  // callback for each non-empty bucket, with its index and count
+  def foreach(f: (Int, Long) => Unit): Unit = {
+    if (total == 0L) return
+    var i = minIndex
+    while (i <= maxIndex) {
+      if (counts(i - offset) > 0L) f(i, counts(i - offset))
+      i += 1
+    }
+  }
+
+  /**
+   * @return                    The index of the bucket holding the value of the given rank, or Int.MinValue if the
+   *                            rank is beyond the values of this store
+   */
+  def find(rank: Long, descending: Boolean): Int = {
+    if (rank >= total) return Int.MinValue
+    var seen = 0L
+    var i = if (descending) maxIndex else minIndex
+    while (true) {
+      seen += counts(i - offset)
+      if (seen > rank) return i
+      i = if (descending) i - 1 else i + 1
+    }
+    Int.MinValue
+  }
+
+  // remove the buckets below the new minimum, and return their count to add to the new minimum
+  private def collapse(newMin: Int): Long = {
+    var collapsed = 0L
+    var i = minIndex
+    while (i < newMin && i <= maxIndex) {
+      collapsed += counts(i - offset)
+      counts(i - offset) = 0L
+      i += 1
+    }
+    collapsed
+  }
+
+  // make the array cover the new range, keeping the buckets between from and to
+  private def resize(from: Int, to: Int, newMin: Int, newMax: Int): Unit = {
+    if (counts.length == 0 || newMin < offset || newMax >= offset + counts.length) {
+      val span = newMax - newMin + 1
+      // grow by at least doubling on the side of the new buckets to amortize the copies
+      val size = math.max(span, math.min(maxBuckets, math.max(8, counts.length * 2)))
+      val newOffset = if (counts.length > 0 && newMin < offset) newMax - size + 1 else newMin
+      val newCounts = new Array[Long](size)
+      if (counts.length > 0 && total > 0L && from <= to) {
+        System.arraycopy(counts, from - offset, newCounts, from - newOffset, to - from + 1)
+      }
+      counts = newCounts
+      offset = newOffset
+    }
+    minIndex = newMin
+    maxIndex = newMax
+  }
+}
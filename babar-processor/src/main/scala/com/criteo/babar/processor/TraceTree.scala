@@ -0,0 +1,340 @@
+package com.criteo.babar.processor
+
+import scala.collection.mutable
+
+/**
+ * Tree of the sampled stack traces, from the root to the leaves, with the number of samples of each node and the first
+ * time it was sampled.
+ *
+ * The nodes are stored in primitive arrays indexed by their id, a parent always having a lower id than its children.
+ * The frames are interned into ids, read from the labels without splitting them, and the children are found in an
+ * open-addressed table of the ids of the nodes, hashed by their parent and their frame.
+ *
+ * So that the memory does not grow with the number of samples, the nodes with few samples are pruned while aggregating,
+ * as in lossy counting: each node has, besides its count, a bound of the samples it may have lost by being pruned
+ * before, and the nodes whose count and bound are at most the max error times the total are pruned with their
+ * children. The counts of the nodes kept are thus underestimated by at most this error.
+ *
+ * @param maxError              The ratio of the total samples a node may lose by pruning while aggregating, or 0 to
+ *                              only prune on demand
+ */
+class TraceTree(maxError: Double) {
+
+  import TraceTree._
+
+  private val frameNames = new FrameTable()
+
+  private var size = 0
+  private var frames = new Array[Int](INITIAL_SIZE)
+  private var parents = new Array[Int](INITIAL_SIZE)
+  private var counts = new Array[Long](INITIAL_SIZE)
+  private var firstTimestamps = new Array[Long](INITIAL_SIZE)
+  private var lostBounds = new Array[Long](INITIAL_SIZE)
+  // ids of the nodes but the root, -1 for the empty slots
+  private var slots = Array.fill(2 * INITIAL_SIZE)(-1)
+
+  // the most samples a node missing from the tree may have had
+  private var maxLost = 0L
+  private var pruneAt = MIN_PRUNING_SIZE
+
+  newNode(-1, frameNames.id(ROOT), 0L)
+
+  def total: Long = counts(ROOT_ID)
+
+  def nodesNb: Int = size
+
+  /**
+   * Add the samples of a trace
+   * @param label               The frames of the trace from the root, separated by '|'
+   * @param skip                The number of fields of the label before the frames, such as the thread name
+   * @param maxDepth            The max number of frames kept, or 0 to keep all of them
+   * @param samples             The number of samples
+   * @param timestamp           The time of the samples
+   */
+  def add(label: String, skip: Int, maxDepth: Int, samples: Long, timestamp: Long): Unit = {
+    var from = 0
+    var skipped = 0
+    while (skipped < skip && from >= 0) {
+      val separator = label.indexOf(SEPARATOR, from)
+      from = if (separator < 0) -1 else separator + 1
+      skipped += 1
+    }
+    // traces without frames are ignored
+    if (from < 0 || from >= label.length) return
+
+    counts(ROOT_ID) += samples
+    var node = ROOT_ID
+    var depth = 0
+    while (from < label.length && (maxDepth <= 0 || depth < maxDepth)) {
+      var to = label.indexOf(SEPARATOR, from)
+      if (to < 0) to = label.length
+      node = child(node, frameNames.id(label, from, to), timestamp)
+      counts(node) += samples
+      from = to + 1
+      depth += 1
+    }
+    if (size >= pruneAt) pruneWhileAggregating()
+  }
+
+  /**
+   * Merge the samples of another tree
+   */
+  def merge(other: TraceTree): Unit = {
+    val sizeBefore = size
+    val merged = new java.util.BitSet(sizeBefore)
+    // ids in this tree of the nodes of the other tree, whose parents come first
+    val ids = new Array[Int](other.size)
+    counts(ROOT_ID) += other.counts(ROOT_ID)
+    var i = 1
+    while (i < other.size) {
+      val frame = frameNames.id(other.frameNames.name(other.frames(i)))
+      val node = child(ids(other.parents(i)), frame, other.firstTimestamps(i))
+      if (node < sizeBefore) merged.set(node)
+      counts(node) += other.counts(i)
+      // a node missing from one of the trees may have been pruned from it
+      lostBounds(node) += other.lostBounds(i)
+      ids(i) = node
+      i += 1
+    }
+    i = 1
+    while (i < sizeBefore) {
+      if (!merged.get(i)) lostBounds(i) += other.maxLost
+      i += 1
+    }
+    maxLost += other.maxLost
+    if (size >= pruneAt) pruneWhileAggregating()
+  }
+
+  /**
+   * Prune the nodes with less samples than the given count, with their children
+   */
+  def prune(minSamples: Long): Unit = prune(node => counts(node) < minSamples)
+
+  /**
+   * Write the tree as nested JSON objects with the name, the value and the children of each node, the children sorted
+   * by the first time they were sampled
+   */
+  def writeJson(out: JsonWriter): Unit = {
+    // the children of each node, linked from the first one
+    val firstChildren = Array.fill(size)(-1)
+    val nextSiblings = new Array[Int](size)
+    var i = size - 1
+    while (i > ROOT_ID) {
+      nextSiblings(i) = firstChildren(parents(i))
+      firstChildren(parents(i)) = i
+      i -= 1
+    }
+    writeJson(out, ROOT_ID, firstChildren, nextSiblings)
+  }
+
+  private def writeJson(out: JsonWriter, node: Int, firstChildren: Array[Int], nextSiblings: Array[Int]): Unit = {
+    val nodeChildren = mutable.ArrayBuffer[Int]()
+    var child = firstChildren(node)
+    while (child >= 0) {
+      nodeChildren += child
+      child = nextSiblings(child)
+    }
+    out.beginObject()
+      .name("name").value(frameNames.name(frames(node)))
+      .name("value").value(counts(node))
+      .name("children").beginArray()
+    nodeChildren.sortBy(firstTimestamps(_)).foreach(writeJson(out, _, firstChildren, nextSiblings))
+    out.endArray().endObject()
+  }
+
+  /**
+   * Write the nodes in the order of their ids, so that the parents are read before their children
+   */
+  def save(out: CheckpointWriter): Unit = {
+    out.writeVarLong(size)
+    out.writeVarLong(maxLost)
+    out.writeVarLong(counts(ROOT_ID))
+    var i = 1
+    while (i < size) {
+      out.writeVarLong(i - parents(i))
+      out.writeName(frameNames.name(frames(i)))
+      out.writeSignedVarLong(firstTimestamps(i) - firstTimestamps(parents(i)))
+      out.writeVarLong(counts(i))
+      out.writeVarLong(lostBounds(i))
+      i += 1
+    }
+  }
+
+  /**
+   * Read the nodes written by {@link #save} into this tree, before it aggregates any trace
+   */
+  def load(in: CheckpointReader): Unit = {
+    val nodesNb = in.readVarLong().toInt
+    maxLost = in.readVarLong()
+    counts(ROOT_ID) = in.readVarLong()
+    var i = 1
+    while (i < nodesNb) {
+      val parent = i - in.readVarLong().toInt
+      val frame = frameNames.id(in.readName())
+      val node = newNode(parent, frame, firstTimestamps(parent) + in.readSignedVarLong())
+      counts(node) = in.readVarLong()
+      lostBounds(node) = in.readVarLong()
+      i += 1
+    }
+  }
+
+  // the child of a node with the given frame, created if needed
+  private def child(parent: Int, frame: Int, timestamp: Long): Int = {
+    var slot = hash(parent, frame) & (slots.length - 1)
+    while (slots(slot) >= 0) {
+      val node = slots(slot)
+      if (parents(node) == parent && frames(node) == frame) {
+        if (firstTimestamps(node) > timestamp) firstTimestamps(node) = timestamp
+        return node
+      }
+      slot = (slot + 1) & (slots.length - 1)
+    }
+    newNode(parent, frame, timestamp)
+  }
+
+  private def newNode(parent: Int, frame: Int, timestamp: Long): Int = {
+    if (size == frames.length) grow()
+    val node = size
+    size += 1
+    frames(node) = frame
+    parents(node) = parent
+    counts(node) = 0L
+    firstTimestamps(node) = timestamp
+    lostBounds(node) = maxLost
+    if (2 * size > slots.length) rehash(slots.length * 2)
+    else if (parent >= 0) index(node)
+    node
+  }
+
+  private def index(node: Int): Unit = {
+    var slot = hash(parents(node), frames(node)) & (slots.length - 1)
+    while (slots(slot) >= 0) slot = (slot + 1) & (slots.length - 1)
+    slots(slot) = node
+  }
+
+  private def rehash(capacity: Int): Unit = {
+    slots = Array.fill(capacity)(-1)
+    var node = ROOT_ID + 1
+    while (node < size) {
+      index(node)
+      node += 1
+    }
+  }
+
+  private def hash(parent: Int, frame: Int): Int = {
+    // finalizer of MurmurHash3
+    var h = (parent.toLong << 32) | (frame & 0xFFFFFFFFL)
+    h ^= h >>> 33
+    h *= 0xff51afd7ed558ccdL
+    h ^= h >>> 33
+    h *= 0xc4ceb9fe1a85ec53L
+    h ^= h >>> 33
+    h.toInt
+  }
+
+  private def grow(): Unit = {
+    val newLength = frames.length * 2
+    frames = java.util.Arrays.copyOf(frames, newLength)
+    parents = java.util.Arrays.copyOf(parents, newLength)
+    counts = java.util.Arrays.copyOf(counts, newLength)
+    firstTimestamps = java.util.Arrays.copyOf(firstTimestamps, newLength)
+    lostBounds = java.util.Arrays.copyOf(lostBounds, newLength)
+  }
+
+  private def pruneWhileAggregating(): Unit = {
+    val threshold = (maxError * counts(ROOT_ID)).toLong
+    if (threshold > 0) prune(node => counts(node) + lostBounds(node) <= threshold)
+    // pruning again only when the tree doubles amortizes the cost of pruning
+    pruneAt = math.max(MIN_PRUNING_SIZE, 2 * size)
+  }
+
+  // remove the nodes matching the predicate and their children, moving the nodes kept to the lowest ids
+  private def prune(isPruned: Int => Boolean): Unit = {
+    val ids = new Array[Int](size)
+    var kept = 1
+    var i = 1
+    while (i < size) {
+      val parent = ids(parents(i))
+      if (parent < 0 || isPruned(i)) {
+        ids(i) = -1
+        maxLost = math.max(maxLost, counts(i) + lostBounds(i))
+      }
+      else {
+        ids(i) = kept
+        frames(kept) = frames(i)
+        parents(kept) = parent
+        counts(kept) = counts(i)
+        firstTimestamps(kept) = firstTimestamps(i)
+        lostBounds(kept) = lostBounds(i)
+        kept += 1
+      }
+      i += 1
+    }
+    size = kept
+    var capacity = 2 * INITIAL_SIZE
+    while (capacity < 2 * size) capacity *= 2
+    rehash(capacity)
+  }
+}
+
+object TraceTree {
+  val ROOT = "root"
+  val SEPARATOR = '|'
+
+  private val ROOT_ID = 0
+  private val INITIAL_SIZE = 64
+  private val MIN_PRUNING_SIZE = 1 << 16
+}
+
+/**
+ * Interns the frames of the traces into dense ids, looking them up from a slice of a label so that only new frames are
+ * copied.
+ */
+private[processor] class FrameTable {
+
+  private var names = new Array[String](64)
+  private var count = 0
+  // ids of the names by hash, -1 for the empty slots
+  private var slots = Array.fill(128)(-1)
+
+  def id(name: String): Int = id(name, 0, name.length)
+
+  def id(label: String, from: Int, to: Int): Int = {
+    val h = hash(label, from, to)
+    var slot = h & (slots.length - 1)
+    while (slots(slot) >= 0) {
+      val name = names(slots(slot))
+      if (name.length == to - from && label.regionMatches(from, name, 0, to - from)) return slots(slot)
+      slot = (slot + 1) & (slots.length - 1)
+    }
+    if (count == names.length) names = java.util.Arrays.copyOf(names, count * 2)
+    names(count) = label.substring(from, to)
+    slots(slot) = count
+    count += 1
+    if (2 * count > slots.length) rehash()
+    count - 1
+  }
+
+  def name(id: Int): String = names(id)
+
+  private def hash(s: String, from: Int, to: Int): Int = {
+    var h = 0
+    var i = from
+    while (i < to) {
+      h = 31 * h + s.charAt(i)
+      i += 1
+    }
+    h ^ (h >>> 16)
+  }
+
+  private def rehash(): Unit = {
+    slots = Array.fill(slots.length * 2)(-1)
+    var id = 0
+    while (id < count) {
+      var slot = hash(names(id), 0, names(id).length) & (slots.length - 1)
+      while (slots(slot) >= 0) slot = (slot + 1) & (slots.length - 1)
+      slots(slot) = id
+      id += 1
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.criteo.babar.processor
+
+import java.io.{BufferedWriter, File, FileOutputStream, OutputStreamWriter, StringWriter}
+import java.nio.charset.StandardCharsets
+
+import scala.util.Random
+
+/**
+ * Measures the time spent parsing and aggregating a synthetic log, with the aggregations of the processor.
+ *
+ * The log is generated once with the metrics logged by the JVMProfiler and the ProcFSProfiler every second by each
+ * container, and traces every minute. The log is first only parsed, then parsed and aggregated, so that the time of
+ * the aggregation is the difference between both runs, and finally aggregated in parallel with all the cores.
+ *
+ * The log is read in constant memory: running the benchmark with a heap smaller than the log, such as -Xmx256m with
+ * the default size, checks that nothing retains the lines read.
+ *
+ * Usage: AggregationBenchmark [size in MB (default 2048)] [containers (default 500)] [log file]
+ */
+object AggregationBenchmark {
+
+  val METRICS = Seq(
+    "JVM_CPU_TIME", "JVM_CPU_USAGE", "JVM_HOST_CPU_USAGE", "JVM_GC_CPU_TIME", "JVM_GC_RATIO", "JVM_MINOR_GC_RATIO",
+    "JVM_MAJOR_GC_RATIO", "JVM_HEAP_MEMORY_USED_BYTES", "JVM_HEAP_MEMORY_COMMITTED_BYTES",
+    "JVM_OFF_HEAP_MEMORY_USED_BYTES", "JVM_OFF_HEAP_MEMORY_COMMITTED_BYTES", "JVM_MEMORY_RESERVED_BYTES",
+    "PROC_TREE_RSS_MEMORY_BYTES", "PROC_TREE_SMAPS_CORRECTED_RSS_BYTES", "PROC_HOST_CPU_LOAD", "PROC_TREE_CPU_LOAD",
+    "PROC_TREE_USER_MODE_CPU_LOAD", "PROC_TREE_KERNEL_MODE_CPU_LOAD", "PROC_TREE_CPU_TIME", "PROC_TREE_RCHAR",
+    "PROC_TREE_WCHAR", "PROC_TREE_READ_BYTES", "PROC_TREE_WRITE_BYTES", "PROC_TREE_RCHAR_PER_SEC",
+    "PROC_TREE_WCHAR_PER_SEC", "PROC_TREE_READ_BYTES_PER_SEC", "PROC_TREE_WRITE_BYTES_PER_SEC",
+    "PROC_TREE_RXBYTES_PER_SEC", "PROC_TREE_TXBYTES_PER_SEC")
+
+  val TRACES = Seq(
+    "main|java.lang.Thread.run:750|org.apache.spark.executor.Executor$TaskRunner.run:338|org.apache.spark.scheduler.Task.run:109",
+    "main|java.lang.Thread.run:750|org.apache.spark.executor.Executor$TaskRunner.run:338|java.io.FileInputStream.read:-2",
+    "main|java.lang.Thread.run:750|org.apache.hadoop.hdfs.DFSInputStream.read:903|sun.nio.ch.EPollArrayWrapper.epollWait:-2")
+
+  def main(args: Array[String]): Unit = {
+    val sizeMB = if (args.length > 0) args(0).toLong else 2048L
+    val containersNb = if (args.length > 1) args(1).toInt else 500
+    val file = new File(if (args.length > 2) args(2) else System.getProperty("java.io.tmpdir") + "/babar-benchmark.log")
+
+    if (!file.exists()) {
+      println(s"Generating a log of $sizeMB MB for $containersNb containers in $file")
+      generate(file, sizeMB * 1024L * 1024L, containersNb)
+    }
+
+    val parseMs = run(file, aggregate = false)
+    println(s"Parsing only: $parseMs ms")
+    val totalMs = run(file, aggregate = true)
+    println(s"Parsing and aggregating: $totalMs ms")
+    println(s"Aggregating: ${totalMs - parseMs} ms")
+
+    val threads = Runtime.getRuntime.availableProcessors()
+    val start = System.currentTimeMillis()
+    val aggregations = new ParallelAggregator(
+      threads, () => Processor.buildAggregations(10000L, 0.00005, 100), Some(_)).aggregate(file.getPath)
+    Processor.writeJSON(aggregations, new JsonWriter(new StringWriter()), 2000)
+    println(s"\nParsing and aggregating with $threads threads: ${System.currentTimeMillis() - start} ms")
+  }
+
+  private def run(file: File, aggregate: Boolean): Long = {
+    val aggregations = Processor.buildAggregations(10000L, 0.00005, 100)
+    val registry = new NameRegistry()
+    val dispatcher = new AggregationDispatcher(aggregations.values, registry)
+    val parser = new LineParser(registry, new NameRegistry())
+
+    val start = System.currentTimeMillis()
+    val lines = HDFSUtils.readSplit(file.getPath, 0L, file.length(), LineParser.isSegmentStart, _ => ())
+    var gauges = 0L
+    try {
+      while (lines.next()) {
+        parser.parse(lines.buffer, lines.offset, lines.length).foreach { g =>
+          gauges += 1
+          if (aggregate) dispatcher.dispatch(g)
+        }
+      }
+    }
+    finally {
+      lines.close()
+    }
+    if (aggregate) Processor.writeJSON(aggregations, new JsonWriter(new StringWriter()), 2000)
+    val elapsedMs = System.currentTimeMillis() - start
+
+    System.gc()
+    val usedMB = (Runtime.getRuntime.totalMemory() - Runtime.getRuntime.freeMemory()) / 1024 / 1024
+    println(s"$gauges gauges in $elapsedMs ms (${gauges * 1000 / math.max(1L, elapsedMs)} gauges/s), $usedMB MB of heap used")
+    elapsedMs
+  }
+
+  private def generate(file: File, sizeBytes: Long, containersNb: Int): Unit = {
+    val random = new Random(42L)
+    val out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), 1 << 16)
+    val containers = (0 until containersNb).map(i => f"container_1514203639546_124445_01_$i%06d")
+    val startMs = 1514203639000L
+    var written = 0L
+    var second = 0L
+    try {
+      // the logs of each container are written one after the other in aggregated logs, by chunks of an hour here
+      while (written < sizeBytes) {
+        containers.foreach { container =>
+          var s = 0
+          while (s < 3600 && written < sizeBytes) {
+            val time = startMs + (second + s) * 1000L + random.nextInt(1000)
+            METRICS.foreach { metric =>
+              // sizes are logged in bytes, and written with an exponent by the agent
+              val value = if (metric.contains("BYTES")) random.nextInt(Int.MaxValue).toDouble else random.nextDouble()
+              val line = s"BABAR\t$container\t$metric\t$time\t$value\t\n"
+              out.write(line)
+              written += line.length
+            }
+            if (s % 60 == 0) TRACES.foreach { trace =>
+              val line = s"BABAR\t$container\tCPU_TRACES\t$time\t${random.nextInt(3000)}.0\t$trace\n"
+              out.write(line)
+              written += line.length
+            }
+            s += 1
+          }
+        }
+        second += 3600
+      }
+    }
+    finally {
+      out.close()
+    }
+  }
+}
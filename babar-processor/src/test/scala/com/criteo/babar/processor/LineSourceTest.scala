@@ -0,0 +1,80 @@
+package com.criteo.babar.processor
+
+import java.io.InputStream
+import java.lang.management.ManagementFactory
+import java.nio.charset.StandardCharsets
+
+import org.junit.Assert._
+import org.junit.Test
+
+class LineSourceTest {
+
+  private val LINES = (0 until 100).map(i => s"BABAR\tcontainer_${i % 7}\tJVM_CPU_TIME\t${1000L * i}\t$i\t\n").mkString
+  private val LONG_LINE = "BABAR\tcontainer_0\tCPU_TRACES\t1000\t1\tmain" + "|com.A.a:1" * 20000 + "\n"
+
+  // a log repeating the same lines, with a long line in the middle, generated as it is read without allocating
+  private class GeneratedLog(blocks: Int) extends InputStream {
+    private val lines = LINES.getBytes(StandardCharsets.UTF_8)
+    private val longLine = LONG_LINE.getBytes(StandardCharsets.UTF_8)
+    private val longLineStart = blocks / 2 * lines.length.toLong
+    val length: Long = blocks * lines.length.toLong + longLine.length
+    private var pos = 0L
+
+    override def read(): Int = throw new UnsupportedOperationException()
+
+    override def read(b: Array[Byte], off: Int, len: Int): Int = {
+      if (pos >= length) return -1
+      var n = 0
+      while (n < len && pos < length) {
+        val inLongLine = pos >= longLineStart && pos < longLineStart + longLine.length
+        val bytes = if (inLongLine) longLine else lines
+        val offset =
+          if (inLongLine) pos - longLineStart
+          else if (pos < longLineStart) pos % lines.length
+          else (pos - longLineStart - longLine.length) % lines.length
+        val count = math.min(len - n, bytes.length - offset).toInt
+        System.arraycopy(bytes, offset.toInt, b, off + n, count)
+        n += count
+        pos += count
+      }
+      n
+    }
+  }
+
+  private val threads = ManagementFactory.getThreadMXBean.asInstanceOf[com.sun.management.ThreadMXBean]
+
+  // read a log, checking that the buffer never holds more than the longest line, and return the bytes allocated
+  private def read(blocks: Int): Long = {
+    val log = new GeneratedLog(blocks)
+    val allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId)
+    val lines = new LineSource(log, 0L, log.length, LineParser.isSegmentStart, _ => ())
+    var maxLength = 0
+    var maxBuffer = 0
+    var read = 0L
+    try {
+      while (lines.next()) {
+        maxLength = math.max(maxLength, lines.length)
+        maxBuffer = math.max(maxBuffer, lines.buffer.length)
+        read += lines.length + 1
+      }
+    }
+    finally {
+      lines.close()
+    }
+    assertEquals(log.length, read)
+    assertEquals(LONG_LINE.length - 1, maxLength)
+    // the buffer only doubles to hold the longest line
+    assertTrue(s"buffer of $maxBuffer bytes", maxBuffer <= math.max(LineSource.BUFFER_SIZE, 2 * LONG_LINE.length))
+    threads.getThreadAllocatedBytes(Thread.currentThread().getId) - allocated
+  }
+
+  @Test
+  def readInBoundedMemory(): Unit = {
+    // about 30 MB then 300 MB of lines
+    val small = read(7000)
+    val large = read(70000)
+    // reading 10 times more lines does not allocate more than a few buffers
+    assertTrue(s"$small bytes allocated for the small log, $large for the large one",
+      large < small + 4 * LineSource.BUFFER_SIZE + 2 * LONG_LINE.length)
+  }
+}
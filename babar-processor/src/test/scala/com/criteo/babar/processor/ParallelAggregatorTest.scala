@@ -0,0 +1,55 @@
+package com.criteo.babar.processor
+
+import java.io.{File, FileOutputStream, OutputStreamWriter}
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+
+import org.junit.Assert._
+import org.junit.Test
+
+class ParallelAggregatorTest {
+
+  private val build = () => Map[String, Aggregation[Gauge, _]](
+    "count" -> (FilterMetric("JVM_CPU_TIME") aggregate SumByLabel(10)))
+
+  // a log in the dictionary format, each line with a value of 1
+  private def append(file: File, container: Option[String], lines: Int): Unit = {
+    val out = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)
+    try {
+      container.foreach { c =>
+        out.write(s"BABAR_DICT\tC\t$c\n")
+        out.write("BABAR_DICT\tM\t0\tJVM_CPU_TIME\n")
+      }
+      (0 until lines).foreach(i => out.write(s"BABAR_ID\t0\t${1000L * i}\t1\n"))
+    }
+    finally {
+      out.close()
+    }
+  }
+
+  private def count(aggregations: Map[String, Aggregation[Gauge, _]]): Double = {
+    aggregations("count").values().collect { case (_, sum: Double) => sum }.sum
+  }
+
+  @Test
+  def resumeAfterSplitsWithoutSegmentStart(): Unit = {
+    val dir = Files.createTempDirectory("babar-checkpoint").toFile
+    val log = new File(dir, "log")
+    val checkpoint = new File(dir, "checkpoint").getPath
+    append(log, Some("container_1"), 10)
+    // the lines of the last container span several splits, the last ones starting no segment
+    append(log, Some("container_2"), 5000)
+    val splitSize = log.length() / 8
+
+    val first = Processor.aggregateFromCheckpoint(checkpoint, "test", Seq(log.getPath),
+      new ParallelAggregator(2, build, Some(_), minSplitSize = splitSize), build)
+    assertEquals(5010D, count(first), 0D)
+
+    append(log, None, 100)
+    val aggregator = new ParallelAggregator(2, build, Some(_), minSplitSize = splitSize)
+    val resumed = Checkpoint.read(checkpoint, "test", build(), aggregator.containers)
+    assertEquals("container_2", resumed.get.files(log.getPath).dictionary.container)
+    val second = Processor.aggregateFromCheckpoint(checkpoint, "test", Seq(log.getPath), aggregator, build)
+    assertEquals(5110D, count(second), 0D)
+  }
+}
@@ -1 +1 @@
-window.data = {"median proc tree user CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.0808888086408044, 0.08891255010048753, 0.026023617242856168, 0.025022448926687885, 0.02390411759635717, 0.03340617261272993, 0.025733078399543426, 0.027111952561372353, 0.027389481626317557, 0.029381525377499218, 0.025626274165707164, 0.02642507874673818, 0.02481380875275211, 0.037725312100184205, 0.02482820668715259, 0.022839540013662524, 0.0473000755405439, 0.04625959167979858, 0.05133783157161911, 0.048726564949079246, 0.04546650222769178, 0.05468283763197651, 0.06901240896096657, 0.05053380173416459, 0.07818579925884347, 0.0635517863580155, 0.06849390476013037, 0.049263209564254166, 0.037263994208825015, 0.05774571694795603, 0.04647476092035437, 0.05294546195189418, 0.05346933231192617, 0.025056442931589862, 0.023889553815184157, 0.04217015161456824, 0.041525824498253865, 0.044638667236819474, 0.04383673731992274, 0.03458796550313935, 0.045481958124921715, 0.02398352872567396, 0.03086434080301668, 0.03256067695854201, 0.024352177038618618, 0.023241737002425877, 0.04444245721078477, 0.03672675993611553, 0.03767392000025396, 0.031176849528208983, 0.03170789413503686, 0.04022300879969222, 0.035345892153894796, 0.03248261395391803, 0.034933892150353314, 0.034009059271678105, 0.044341176956069234, 0.023033838873961453, 0.022739510173764195, 0.02380628885638378, 0.02339610821671929, 0.02406890206878924, 0.023251156057895968, 0.024768319363729425, 0.038710986580324874, 0.035061167279212324, 0.03270232144986025, 0.028419661541372397, 0.03450352130735872, 0.04690247235820729, 0.033922116893410806, 0.034572671435234625, 0.03186352363898815, 0.0205594344238915]}, "max proc peak disk write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [232.4871001031992, 38229.333333333336, 48809.26200274348, 69544.18376722817, 32.669990029910274, 32.833667334669336, 32.768, 109862.912, 24.576, 87760.89600000001, 108113.92, 106663.936, 98041.5935935936, 20.459540459540463, 24.576, 32.768, 24.6006006006006, 10883.072, 86122.496, 102301.696, 111751.168, 94695.424, 88641.53600000001, 57409.536, 54472.704, 28.7007007007007, 28.91294117647059, 42.01025641025641, 95186.944, 89874.432, 56741.888, 47079.424, 48951.296, 24.576, 42.666666666666664, 24.576, 84992.0, 122978.304, 24.576, 40.96, 117309.44, 24.576, 113120.79920079921, 116129.792, 99201.024, 24.74924471299094, 16.384, 24.429423459244532, 16.384, 109605.85014985016, 12.288, 24.6006006006006, 19.83535108958838, 63.34020618556701, 44.52173913043478, 14.447971781305116, 24.551448551448555, 85790.94505494507, 8.192, 8.192, 5324.8, 8.192, 8.233165829145728, 28.500994035785286, 8.200200200200202, 11.838150289017342, 16.302487562189057, 8.192, 8.393442622950818, 16.318725099601593, 8.17564870259481, 8.200200200200202, 11293.666333666337, 86863.872]}, "median minor GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.01325, 0.006502902902902903, 0.01, 0.06058762088974855, 0.0315786917740337, 0.0078, 0.0114, 0.011099999999999999, 0.0112, 0.013000000000000001, 0.0068000000000000005, 0.0125, 0.0058, 0.006927748132337247, 0.0381, 0.0098, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0173000056000056, 0.0, 0.0, 0.0, 0.0, 0.008900000000000002, 0.008722222222222223, 0.006994926719278467, 0.0021999999999999997, 0.0, 0.0, 0.0094, 0.0, 0.008693706293706294, 0.0, 0.0017142857142857144, 0.009302702702702703, 0.014249293119698397, 0.0, 0.0, 0.0, 0.005, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.008146964856230033, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.007000000000000001, 0.0046]}, "max proc peak disk read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [69.42372881355932, 4.0594648166501495, 0.0, 0.0, 126.54994850669414, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8413.849548645938, 8466.432, 8422.297188755021, 8551.078491335371, 8388.608, 8388.608, 14696.448, 8466.432, 8397.005005005007, 8388.608, 8388.608, 14696.448, 8466.432, 8388.608, 8388.608, 8388.608, 8388.608, 5731.1297405189625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8388.608, 8388.608, 5845.719860627178, 8388.608, 164.49799196787149, 8388.608, 2785.062416998672, 8388.608, 8388.608, 8388.608, 6492.730650154798, 8447.742195367573, 8388.608, 8397.005005005007, 8363.51744765703, 0.0, 8380.227772227774, 8388.608, 8380.227772227774, 8380.227772227774, 8371.864271457085, 8380.227772227774, 8388.608, 8388.608, 8388.608, 8380.227772227774, 8388.608, 8388.608, 6065.515545914678, 8388.608, 8388.608, 4288.0, 0.0, 0.0, 0.0, 0.0]}, "max proc tree CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.08886396051102072, 0.09192539183640036, 0.06852613450313576, 0.05227330224830181, 0.05439236010067665, 0.042941501205965744, 0.04025919354111663, 0.03295709374820193, 0.040043590227178, 0.05066168932719027, 0.04788689832174755, 0.05057450782898491, 0.036359522395729246, 0.06495053158678601, 0.05672536540150308, 0.09223642310370621, 0.06805513489550889, 0.06340190453072035, 0.08785157723668793, 0.0744018429188752, 0.06082385676649663, 0.08617878454733045, 0.07171331430414633, 0.07741305534444169, 0.07942545241414269, 0.07174464532414285, 0.0790951156023041, 0.07279030175989733, 0.07358262804822323, 0.08279898217878226, 0.05876047363371393, 0.09006449340626066, 0.08132998510429565, 0.06931362859718193, 0.060970235346783884, 0.08737271460902421, 0.0676645958115425, 0.06956285302238756, 0.054755370478588264, 0.05313190706574378, 0.06193320730635393, 0.04948614031014211, 0.048043810500709806, 0.0504766443577072, 0.042752051914697116, 0.0450516197780811, 0.05090600069075074, 0.052284212486282344, 0.04241093488528287, 0.04095768981056705, 0.03568814073840445, 0.041112178405529005, 0.03914841689601602, 0.047352766817312646, 0.038456928180788955, 0.034399071278905506, 0.04576539504598891, 0.026113810730760936, 0.023514640777742714, 0.024497503686805387, 0.024108617323259224, 0.024550666986417273, 0.02358619086510877, 0.025938277602791472, 0.03987393293964638, 0.03586969915168241, 0.03387824597157011, 0.029741142715327462, 0.03675635534738431, 0.04933548945630608, 0.03495026220228909, 0.03549405855238927, 0.03427162433080786, 0.02270594777606154]}, "accumulated RSS memory" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [127979.56883990574, 460173.1986142113, 852245.4946014272, 1213483.912570177, 1559663.334445177, 1908591.670382677, 2259841.939913927, 2613442.0113424985, 2948722.4449362485, 3285991.8277487485, 3625189.8707174985, 3966068.334584686, 4288700.072865936, 4614482.065053436, 4942843.928334686, 5273806.912709686, 5606683.639272186, 5941080.467397186, 6276557.943959686, 6614245.272084686, 6953600.010365936, 7294184.81418538, 7615994.65793538, 7918715.00949788, 8222811.25168538, 8507687.114966631, 8793545.009497881, 9080030.692657603, 9366856.800612148, 9654054.183858676, 9917368.715108676, 1.0160763312764926E7, 1.0404310519796176E7, 1.062765028790697E7, 1.085087004962572E7, 1.107407059650072E7, 1.129728065900072E7, 1.152059141681322E7, 1.171900487775072E7, 1.191761103400072E7, 1.2116264561902506E7, 1.2290063112683756E7, 1.2463822534558756E7, 1.2612910285674827E7, 1.2712168875518577E7, 1.2786499504424827E7, 1.2860843965362327E7, 1.2935192199737327E7, 1.3009565523956077E7, 1.3083963945831077E7, 1.3133536916356646E7, 1.3183115514012896E7, 1.3232702870349701E7, 1.328230288881561E7, 1.333191240834686E7, 1.338152924037811E7, 1.343117079115936E7, 1.348082777553436E7, 1.350557109194061E7, 1.353029968959686E7, 1.355498761928436E7, 1.357967273647186E7, 1.360435843569061E7, 1.362904792787811E7, 1.365375113490936E7, 1.367846688100311E7, 1.370319052553436E7, 1.372792002553436E7, 1.375265432240936E7, 1.37774025808729E7, 1.380216523321665E7, 1.38269352371229E7, 1.38517374558729E7, 1.38765592058729E7]}, "total reserved" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [53760.0, 53760.0, 51200.0, 46080.0, 43520.0, 43520.0, 43520.0, 43520.0, 40960.0, 40960.0, 40960.0, 40960.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 35840.0, 33280.0, 33280.0, 30720.0, 30720.0, 30720.0, 30720.0, 30720.0, 28160.0, 25600.0, 25600.0, 23040.0, 23040.0, 23040.0, 23040.0, 23040.0, 20480.0, 20480.0, 20480.0, 17920.0, 17920.0, 15360.0, 10240.0, 7680.0, 7680.0, 7680.0, 7680.0, 7680.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0]}, "max proc host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.9548529631603954, 0.948673530645125, 0.9601553664906383, 0.9879488826128162, 0.9881004083288243, 0.9876664384360867, 0.9891506307051123, 0.9837611574232137, 0.9689714851463143, 0.9546473300200022, 0.9733735105920303, 0.9928888708471992, 0.9918092302986251, 0.9963575756904625, 0.9953599642246486, 0.9705583195917544, 0.9518338293305822, 0.9277801197526194, 0.9558274816292155, 0.9492846043450145, 0.9458833535126802, 0.9405235550955237, 0.9408211258026723, 0.9415603721331987, 0.9284326319089878, 0.9250423185813148, 0.929837883594538, 0.9193673849303314, 0.9178316211806974, 0.928720844371591, 0.9392819997740606, 0.9268174703607505, 0.9495721489553877, 0.9612811729682527, 0.9429399411196592, 0.921842714050797, 0.9194363763204333, 0.923092802610277, 0.9434260141690478, 0.9600392791738382, 0.9438958600302128, 0.9382482839422439, 0.9424128670719714, 0.9516204131468132, 0.9357046981148438, 0.9147639319191712, 0.9129552444795719, 0.9271833641066356, 0.9360780354680814, 0.9453796159558482, 0.978275537944135, 0.9731926663523411, 0.9327690919678595, 0.9061531625676682, 0.901595248029232, 0.9403070346986405, 0.9098158879531828, 0.8785920940175569, 0.903941376167745, 0.9023500078133413, 0.8986890249518144, 0.8988798831584017, 0.9141259982446893, 0.9410304596269012, 0.936210159037777, 0.9301667077850515, 0.9360970536685758, 0.9196789501078857, 0.8968093901125198, 0.8743256003613027, 0.8775051846942009, 0.87357632106558, 0.911539452674648, 0.9256708691901407]}, "median proc host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.2281682033892451, 0.6461831366099824, 0.3731231475320313, 0.9879488826128162, 0.9556157411813562, 0.4897574649672909, 0.4092377420310019, 0.2494788581844969, 0.14752689760957763, 0.9546473300200022, 0.2183461364281015, 0.4924858409303109, 0.39666829506209494, 0.3791684131185776, 0.9953599642246486, 0.7250757196367261, 0.6194576555570693, 0.5633079623426449, 0.5332491629308393, 0.267483358417613, 0.5791899428507037, 0.5931293486293041, 0.44803138335424836, 0.6539626133997637, 0.1019520523265585, 0.6043231301460158, 0.17949252863371504, 0.5491525005684754, 0.7318737048605282, 0.30837159259446134, 0.6698677399090665, 0.6498125091758653, 0.6751111178982501, 0.17211176256801516, 0.2048456849569496, 0.21289630619789252, 0.1535450976107457, 0.923092802610277, 0.7578022092120029, 0.1831804607319706, 0.7143105856239645, 0.39143186312951805, 0.9424128670719714, 0.24740339810555226, 0.3883530330980809, 0.8979284265263286, 0.9066943638794116, 0.9126903069268618, 0.33560734752638915, 0.6931562017957148, 0.978275537944135, 0.9569872519164522, 0.9284223945425877, 0.9061531625676682, 0.9001303407650347, 0.8991178308963029, 0.9098158879531828, 0.8785920940175569, 0.903941376167745, 0.9023500078133413, 0.8986890249518144, 0.8988798831584017, 0.9141259982446893, 0.9410304596269012, 0.936210159037777, 0.9301667077850515, 0.9360970536685758, 0.9196789501078857, 0.8968093901125198, 0.8743256003613027, 0.8775051846942009, 0.87357632106558, 0.911539452674648, 0.9256708691901407]}, "max proc peak write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [3933.266666666667, 38782.116666666676, 49297.67215363512, 70048.4946401225, 459.50429447852764, 441.31418522860497, 380.4303153611394, 110229.298, 377.409, 88114.69, 108477.61, 107027.933, 98405.82182182182, 1341.897810218978, 521.7888730385165, 670.9707495429616, 3870.515789473684, 11227.582, 86488.673, 102660.959, 112111.986, 95057.007, 89004.308, 57774.111000000004, 54840.608, 2080.685393258427, 912.9975728155341, 1929.0, 95550.893, 90228.642, 57108.840000000004, 58621.809195402304, 51002.778, 51000.179000000004, 2389.3766233766232, 1882.6237113402062, 85320.019, 123382.621, 867.6850574712644, 51209.64435564436, 117575.583, 35150.18706467662, 113488.76323676326, 116502.522, 99568.527, 1863.78391959799, 646.4265734265736, 751.3876739562625, 17930.453093812375, 109976.97302697304, 1866.2551020408164, 1261.3275862068967, 905.5157384987893, 1948.1907216494844, 2054.076086956522, 680.5504587155963, 43381.938, 86163.60039960041, 378.00100000000003, 377.957, 5670.535, 377.957, 378.8110552763819, 377.0731462925852, 589.0159744408945, 543.0187861271677, 1725.570093457944, 631.5807560137458, 476.139896373057, 2175.023668639053, 1135.5493827160494, 16302.765234765238, 21819.749711649365, 87239.163]}, "accumulated used off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [8649.384546279907, 25436.45473150223, 44303.074128578926, 61918.642266701485, 78758.1839537132, 95638.4384321678, 112599.54410691145, 129566.42528454118, 145598.15737835222, 161661.9018088942, 177754.33064190202, 193865.6521884566, 209148.57758823686, 224418.27139011674, 239691.8222171431, 254989.6684924727, 270303.4977542525, 285626.4792148238, 300967.12161747273, 316304.67683140095, 331632.2440463668, 346968.55820003804, 361473.7517806655, 375149.4254180556, 388831.8545867568, 401677.07615200337, 414536.74859157857, 427394.5045442017, 440261.35312430206, 453190.3061730081, 465012.9980065042, 476020.94994131866, 487041.5585372727, 497232.51814725803, 507433.7300765793, 517639.2231033127, 527861.5180633347, 538094.484633871, 547160.6396479091, 556254.6290430507, 565380.3692076713, 573338.6709425956, 581342.8788359672, 588233.2216508214, 592795.2817628209, 596173.8192002599, 599553.7552735631, 602938.3656785314, 606338.4785096471, 609760.3984137202, 612022.0900030757, 614283.2310553218, 616545.5451727534, 618808.3235554883, 621071.0937886426, 623337.4871220776, 625631.7210469433, 627944.0353910769, 629079.2936613406, 630214.6877577151, 631350.5059263553, 632486.4729826297, 633622.4443724002, 634761.5588896121, 635902.579733118, 637044.2385694827, 638186.2818510379, 639328.2770140017, 640470.1530344333, 641613.8919718112, 642760.1762506808, 643909.7547495211, 645081.0706446017, 646256.9872858371]}, "isJvmProfiler" : {"true" : true}, "total RSS memory" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [24542.8671875, 38467.125, 39659.83203125, 36369.171875, 34754.24609375, 34982.0859375, 35276.35546875, 35439.88671875, 33599.2890625, 33836.89453125, 34011.6796875, 34180.046875, 32440.859375, 32736.328125, 32920.96484375, 33209.37890625, 33364.75390625, 33494.8125, 33596.38671875, 33854.02734375, 33984.71875, 34146.62890625, 32230.16015625, 30313.68359375, 30458.5, 28513.0078125, 28624.40234375, 28658.6875, 28706.44140625, 28729.0703125, 26341.89453125, 24346.9453125, 24364.4609375, 22343.85546875, 22331.4921875, 22333.1875, 22331.71484375, 22335.53515625, 19843.6875, 19864.42578125, 19866.3984375, 17386.0390625, 17381.74609375, 14912.13671875, 9928.9609375, 7434.265625, 7434.58984375, 7434.95703125, 7438.56640625, 7441.53125, 4957.375, 4958.06640625, 4958.99609375, 4960.2734375, 4961.40625, 4962.125, 4965.15625, 4966.171875, 2474.3671875, 2474.3515625, 2471.87890625, 2468.5390625, 2468.58984375, 2469.10546875, 2471.3828125, 2471.91796875, 2472.42578125, 2473.05859375, 2473.5390625, 2476.04296875, 2476.7421875, 2478.8203125, 2482.23046875, 2482.2734375]}, "max anonymous page bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1919.24609375, 1980.43359375, 2080.5078125, 2103.69921875, 2104.75390625, 2110.00390625, 2130.4296875, 2146.5859375, 2167.8671875, 2193.90625, 2219.1171875, 2234.609375, 2301.6484375, 2343.7734375, 2354.58203125, 2373.58984375, 2388.01953125, 2395.85546875, 2405.5625, 2418.4296875, 2424.046875, 2440.078125, 2452.65234375, 2459.40234375, 2466.4140625, 2466.74609375, 2466.81640625, 2467.53125, 2468.0546875, 2468.3671875, 2468.4375, 2468.48828125, 2469.5234375, 2469.5234375, 2469.46875, 2471.34765625, 2464.4609375, 2464.8125, 2464.859375, 2464.89453125, 2464.984375, 2464.984375, 2464.96875, 2458.78515625, 2458.47265625, 2454.14453125, 2454.1796875, 2454.3125, 2454.36328125, 2454.46875, 2454.55859375, 2454.5625, 2454.52734375, 2454.609375, 2454.6171875, 2454.61328125, 2456.66015625, 2456.7421875, 2439.546875, 2439.46484375, 2436.9921875, 2433.59765625, 2433.6171875, 2434.19921875, 2436.4375, 2437.203125, 2437.921875, 2438.2421875, 2438.58984375, 2441.12890625, 2441.765625, 2444.65625, 2446.7578125, 2446.80078125]}, "total used heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [16613.585075378418, 29871.666618347168, 31355.712516784668, 29035.945838928223, 27050.86328125, 27335.945190429688, 27549.2430267334, 27217.887580871582, 25787.55771636963, 26211.260147094727, 26095.97031402588, 26134.68044281006, 25201.98641204834, 24676.567489624023, 25037.696350097656, 25160.492568969727, 25752.791732788086, 25690.230545043945, 25921.459114074707, 26066.73415374756, 26268.916015625, 26106.858016967773, 24743.161277770996, 23101.11823272705, 22925.96630859375, 21141.17197418213, 21508.89395904541, 21532.82127380371, 21677.037254333496, 21571.090446472168, 19703.28520965576, 17734.431266784668, 17241.690879821777, 15709.188735961914, 15412.465209960938, 15653.902160644531, 15701.004211425781, 15601.908103942871, 14274.042663574219, 14211.589057922363, 13940.01887512207, 12288.970054626465, 12092.887062072754, 10114.185134887695, 6730.603630065918, 5270.23747253418, 5274.225898742676, 5282.613059997559, 5312.375747680664, 5216.604064941406, 3508.4236755371094, 3543.985664367676, 3541.526870727539, 3576.8008346557617, 3499.642967224121, 3606.5864486694336, 3600.9003982543945, 3275.1018142700195, 1681.8248291015625, 1669.4458389282227, 1722.2901992797852, 1732.0581588745117, 1703.5592498779297, 1717.1098251342773, 1729.0329055786133, 1751.8208312988281, 1695.338508605957, 1778.685447692871, 1704.9708786010742, 1744.2445373535156, 1697.6659317016602, 1771.970962524414, 1766.2781372070312, 1650.3584060668945]}, "accumulated proc disk read bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [4096.0, 8192.0, 8192.0, 8192.0, 143360.0, 143360.0, 143360.0, 143360.0, 143360.0, 143360.0, 143360.0, 2.3293952E7, 4.0280064E7, 6.5462272E7, 8.2239488E7, 1.1579392E8, 1.49348352E8, 1.78245632E8, 2.0348928E8, 2.37043712E8, 2.70598144E8, 3.12541184E8, 3.41368832E8, 3.66678016E8, 3.9184384E8, 4.25398272E8, 4.50564096E8, 4.84118528E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 5.04541184E8, 5.12946176E8, 5.2140032E8, 5.29788928E8, 5.29952768E8, 5.38341376E8, 5.46729984E8, 5.55118592E8, 5.635072E8, 5.71895808E8, 5.80284416E8, 5.88673024E8, 5.97061632E8, 6.0545024E8, 6.13838848E8, 6.13838848E8, 6.22227456E8, 6.30616064E8, 6.39004672E8, 6.47397376E8, 6.55785984E8, 6.64174592E8, 6.80951808E8, 6.89340416E8, 6.97729024E8, 7.06121728E8, 7.14510336E8, 7.22898944E8, 7.31287552E8, 7.3967616E8, 7.48064768E8, 7.53004544E8, 7.53004544E8, 7.53004544E8, 7.53004544E8, 7.53004544E8]}, "median proc peak read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [456548.63043478265, 3402.449, 5080.794, 2925.806613226453, 3379.7417417417414, 2338.039, 4688.535, 2325.949, 2717.82, 1813.796, 2603.034, 2457.9500000000003, 2608.058, 2480.661, 1838.6248216833098, 4954.558, 2342.338, 2471.513, 2347.2092092092093, 2544.430844553244, 13217.908, 2126.2090163934427, 2471.517, 2140.346629986245, 2757.8988764044943, 6534.196629213483, 2601.3047058823527, 2212.189, 3918.909819639279, 2338.702, 2210.8326653306617, 2776.635846372689, 2292.3926886792456, 2602.785, 2580.049, 2750.771396396396, 2658.589439655172, 2099.448051948052, 2300.7305389221556, 2333.2490000000003, 2339.226, 2607.3973973973975, 5115.80112044818, 1694.1253687315632, 2473.559, 2093.221327967807, 1943.2930000000001, 1945.3043043043044, 2525.334, 2751.664021164021, 3892.6632653061224, 1947.6736736736739, 2776.7134146341464, 2486.1666666666665, 3158.2892307692305, 2871.1240000000003, 1389.338, 1940.199, 1944.874, 1944.1901901901902, 1943.1090000000002, 1938.218, 1948.3206030150754, 1940.27, 1822.6339017051155, 1941.118, 4101.294392523365, 2866.768, 1986.0809426229507, 4535.739644970415, 2861.043912175649, 1938.693, 916.4659746251442, 5185.9800000000005]}, "max used heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1496.0718612670898, 1675.8906326293945, 1676.350601196289, 1683.9777603149414, 1657.8328399658203, 1717.8273544311523, 1720.7607345581055, 1710.9806594848633, 1725.8095932006836, 1722.361717224121, 1716.933937072754, 1728.1061172485352, 1772.769027709961, 1757.7164688110352, 1769.7581100463867, 1763.3184356689453, 1783.166000366211, 1793.5485610961914, 1809.3613662719727, 1818.1492156982422, 1826.1580963134766, 1825.3929061889648, 1833.216896057129, 1828.0484924316406, 1850.8810119628906, 1856.991844177246, 1876.3406600952148, 1876.3291702270508, 1908.3199157714844, 1858.6975860595703, 1840.7701873779297, 1858.8858795166016, 1845.3076858520508, 1851.8481521606445, 1840.2326583862305, 1844.333251953125, 1860.4551849365234, 1855.8119812011719, 1862.527687072754, 1848.589225769043, 1848.885643005371, 1827.8921966552734, 1785.786521911621, 1798.024772644043, 1792.2458190917969, 1847.7609405517578, 1853.606918334961, 1823.0056991577148, 1793.5102920532227, 1860.6786651611328, 1830.2296905517578, 1851.1719284057617, 1789.8897171020508, 1863.1744232177734, 1819.9352951049805, 1818.1992492675781, 1846.0782470703125, 1695.4044876098633, 1681.8248291015625, 1669.4458389282227, 1722.2901992797852, 1732.0581588745117, 1703.5592498779297, 1717.1098251342773, 1729.0329055786133, 1751.8208312988281, 1695.338508605957, 1778.685447692871, 1704.9708786010742, 1744.2445373535156, 1697.6659317016602, 1771.970962524414, 1766.2781372070312, 1650.3584060668945]}, "median JVM host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.25917021692997766, 0.6460906664849275, 0.3729905544560774, 0.9880690810940991, 0.9556625810678613, 0.49011134766253495, 0.41420863861523216, 0.24944092152635822, 0.14756833629336366, 0.9546069133112128, 0.21830045283366323, 0.4923607734525297, 0.39597273177423575, 0.37965920127872704, 0.9951449943326744, 0.7256626303097692, 0.6194901211167921, 0.5632889622773919, 0.5336142141916118, 0.2676162430987213, 0.5802101204894197, 0.5932471888997564, 0.4481517026630747, 0.6538547179228018, 0.101878804222998, 0.6050763398251029, 0.17943048467272663, 0.549245130136196, 0.732504276263312, 0.3083784140121112, 0.6698589565583712, 0.6495572454910741, 0.67510952447643, 0.17211584687655473, 0.20486523331124573, 0.21281733383731014, 0.15357738999819198, 0.9231783696847302, 0.7553905189291846, 0.18318796267887977, 0.7143549626293975, 0.39152506055921366, 0.9424290358242047, 0.24659182941266802, 0.38817282117275365, 0.8979931022226403, 0.9072223356252082, 0.9124357158091089, 0.335421999390923, 0.6925308874645615, 0.9789600503472369, 0.9570468760736863, 0.9285426591700249, 0.9061672075932687, 0.900542803516232, 0.8991762005143347, 0.9097775783007638, 0.8787584461745241, 0.9038614146672677, 0.9022295361969939, 0.8987102971380867, 0.8990005840584148, 0.9139996903178969, 0.9410363155019711, 0.9362598259625663, 0.929997917067982, 0.9333622413255822, 0.9196643319202714, 0.8967568337793371, 0.7922150387665683, 0.877498991811984, 0.8737144627378541, 0.9113619014852408, 0.9280682630777213]}, "max GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.06988457769939252, 0.08544736842105263, 0.106, 0.06058762088974855, 0.04751082735808558, 0.036329437229437225, 0.052628228228228234, 0.033821944550101145, 0.04198331668331669, 0.03228691308691309, 0.05628259577905881, 0.06073003003003004, 0.034722522522522524, 0.1783321867321867, 0.10137108737004977, 0.16977901234567902, 0.14755241460541815, 0.15269466192170816, 0.1522, 0.11628868868868869, 0.1686421052631579, 0.16198613017034263, 0.12400674157303371, 0.13373337363966142, 0.2, 0.198, 0.17875632899337962, 0.1988103568929321, 0.2, 0.1665757111597374, 0.15315893385982232, 0.20489600912200684, 0.19997671381936888, 0.16229216173897026, 0.14759307479224376, 0.1842, 0.1570281124497992, 0.2449925925925926, 0.14036811819595646, 0.16766501176224902, 0.17868372649475264, 0.17070841198229236, 0.2, 0.14509685230024214, 0.11903380759014097, 0.13641404685231331, 0.14045350688915045, 0.14271457085828343, 0.15413034821838614, 0.1382796963946869, 0.12807259890257475, 0.16071687160740003, 0.2, 0.18080000000000002, 0.1456591093117409, 0.09706493506493506, 0.10125465271096339, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.08385185185185184, 0.0046]}, "accumulated proc tree CPU time" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [412.77000000000004, 1023.95, 1449.0, 1747.9, 2004.78, 2252.71, 2496.96, 2720.63, 2939.13, 3169.21, 3403.65, 3618.73, 3813.84, 4042.33, 4276.45, 4602.83, 4890.0599999999995, 5180.5199999999995, 5506.73, 5844.5199999999995, 6154.66, 6494.5, 6795.04, 7090.7, 7397.61, 7697.98, 8008.259999999999, 8304.779999999999, 8642.199999999999, 8959.409999999998, 9186.439999999999, 9427.859999999999, 9643.989999999998, 9820.369999999997, 9992.709999999997, 10194.679999999997, 10364.099999999997, 10525.049999999997, 10689.339999999998, 10850.899999999998, 11021.149999999998, 11162.759999999998, 11287.699999999999, 11374.48, 11447.24, 11505.21, 11565.599999999999, 11623.89, 11677.099999999999, 11722.169999999998, 11761.329999999998, 11800.049999999997, 11837.469999999998, 11883.079999999998, 11925.159999999998, 11959.039999999997, 11995.869999999997, 12015.319999999998, 12026.549999999997, 12038.249999999998, 12049.759999999998, 12061.479999999998, 12072.749999999998, 12085.159999999998, 12105.519999999999, 12123.22, 12141.88, 12156.98, 12171.76, 12217.36, 12236.52, 12253.48, 12270.13, 12275.05]}, "isProcFSProfiler" : {"true" : true}, "accumulated anonymous page bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [122224.45366753475, 447926.8920355903, 833658.8892834596, 1189198.0181897096, 1529846.6314709596, 1873130.5142834596, 2218724.3345959596, 2566692.6113816737, 2896641.6777879237, 3228548.1895066737, 3562337.9824754237, 3897774.4688035487, 4215325.136772299, 4536043.632866049, 4859332.550834799, 5185268.765678549, 5513130.035209799, 5842456.683647299, 6172837.011772299, 6505456.617241049, 6839718.066459799, 7175234.437119521, 7492348.194932021, 7790696.171494521, 8090406.963161188, 8371181.478786188, 8652935.68581744, 8935265.47878619, 9217957.743345847, 9501018.16869307, 9760539.94603682, 1.000049326244307E7, 1.0240596465134041E7, 1.0460844220460746E7, 1.0680969720460746E7, 1.0901056029054496E7, 1.1121151661866996E7, 1.1341361551189912E7, 1.1537031547283662E7, 1.1732868769939912E7, 1.1928733861457769E7, 1.2100096259895269E7, 1.2271418654426519E7, 1.2418416209672054E7, 1.2516282947953304E7, 1.2589574229203304E7, 1.2662876694047054E7, 1.2736190963578304E7, 1.2809528510453304E7, 1.2882887881113026E7, 1.2931765986581776E7, 1.2980650510019276E7, 1.3029541351599138E7, 1.307844480685482E7, 1.312735965060482E7, 1.317628556466732E7, 1.322523825607357E7, 1.3274199578618214E7, 1.3298594465336964E7, 1.3322974172368214E7, 1.3347313387211964E7, 1.3371648980961964E7, 1.3395984961430714E7, 1.3420325277836964E7, 1.3444678848149464E7, 1.3469047125493214E7, 1.3493424230961964E7, 1.3517805441899464E7, 1.3542190480961964E7, 1.356658996012863E7, 1.359100477653488E7, 1.361542836247238E7, 1.363988335075363E7, 1.366435030387863E7]}, "median proc tree CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.08633227202301508, 0.09192539183640036, 0.026842606363397376, 0.026187286961788337, 0.024803948068379888, 0.03424399952117764, 0.026445248382778487, 0.028658985798764296, 0.028270465819844777, 0.03067583784192643, 0.02604567653788677, 0.02753930452814356, 0.025234028260379637, 0.03854986832300422, 0.025353194247970022, 0.023446574911493673, 0.04821891990254655, 0.046765030987112446, 0.05217944710370389, 0.04971848949482606, 0.046444120950127295, 0.056572815782597895, 0.07171331430414633, 0.052495793987514805, 0.07942545241414269, 0.06560295157584217, 0.07053464496518987, 0.05046463308195722, 0.03871771366962401, 0.058582559454267116, 0.04733742317893287, 0.05433193021990218, 0.054205701168077595, 0.025769777417118982, 0.025843951715374385, 0.043078250928022914, 0.043358633909620095, 0.04533187695689757, 0.04474696323402248, 0.03628326020479039, 0.04662174751242869, 0.02438342900832733, 0.032304031071413594, 0.03520734026676008, 0.025214546043696273, 0.024408482252756776, 0.045238547257289166, 0.0373051431341828, 0.038177588093998585, 0.0335487768841752, 0.032557172303359284, 0.041112178405529005, 0.03618803980646274, 0.033664547151562745, 0.035901720506591246, 0.034399071278905506, 0.04576539504598891, 0.0239347623257532, 0.023514640777742714, 0.024497503686805387, 0.024108617323259224, 0.024550666986417273, 0.02358619086510877, 0.025938277602791472, 0.03987393293964638, 0.03586969915168241, 0.03387824597157011, 0.029741142715327462, 0.03675635534738431, 0.04933548945630608, 0.03495026220228909, 0.03549405855238927, 0.03427162433080786, 0.02270594777606154]}, "total committed off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1359.2734375, 1954.5, 1993.4375, 1845.75, 1766.0625, 1773.8125, 1781.875, 1783.5, 1687.6875, 1688.125, 1689.75, 1691.6875, 1606.25, 1606.25, 1606.9375, 1607.1875, 1607.9375, 1608.625, 1609.8125, 1609.8125, 1609.8125, 1611.375, 1524.625, 1438.625, 1438.625, 1351.75, 1351.75, 1351.75, 1355.0, 1356.4375, 1238.125, 1152.3125, 1153.375, 1068.75, 1068.75, 1068.75, 1071.25, 1071.5, 950.375, 953.125, 953.375, 834.0, 839.25, 720.25, 476.625, 353.3125, 353.3125, 353.3125, 355.8125, 356.0625, 235.375, 235.375, 235.375, 235.375, 235.625, 235.875, 238.875, 239.125, 117.1875, 117.1875, 117.1875, 117.1875, 117.1875, 117.625, 117.8125, 117.8125, 117.8125, 117.8125, 117.8125, 118.375, 118.375, 120.9375, 121.375, 121.375]}, "accumulated used heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [74423.81090164183, 293302.51636038884, 560807.2498444836, 807325.6692094128, 1038381.6620759289, 1271519.8927735607, 1509682.4230698864, 1743769.93549926, 1967385.3944760056, 2192350.358976433, 2418845.3555050585, 2647295.1259117816, 2865545.387737343, 3079577.0134239886, 3298138.1527748797, 3517195.698703835, 3739118.75156028, 3960853.7659798358, 4184315.8726235125, 4408930.379215309, 4634783.2214394305, 4859548.349330971, 5074000.845447609, 5273653.829708168, 5473229.187323322, 5657320.112234821, 5842548.724272479, 6032190.113408052, 6219743.684890624, 6409684.632953097, 6580514.072291781, 6733554.505618502, 6886119.094999403, 7022622.9600069765, 7157315.374878192, 7294756.46954372, 7431270.741058612, 7568778.139928444, 7694391.839414223, 7817380.835462197, 7940482.264657056, 8047079.9332361575, 8151818.637368238, 8241127.096082314, 8301048.909062966, 8346663.309301003, 8392750.593152627, 8438994.988172159, 8485651.44756852, 8531762.68419928, 8562163.805569768, 8593237.854458928, 8624643.660557019, 8656032.077514527, 8686507.541160462, 8718390.725501893, 8748619.040016053, 8776791.374780806, 8791678.724878462, 8806217.958688887, 8821215.817430647, 8836387.365465315, 8851417.882501753, 8866723.301088484, 8881670.780824812, 8896685.16051689, 8911488.912164839, 8926985.443239363, 8941953.692360075, 8956577.450326435, 8971434.943994038, 8986840.251969807, 9001963.124513142, 9016779.703813069]}, "total anonymous page bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [23915.578125, 37806.80078125, 39021.5859375, 35789.36328125, 34194.84765625, 34417.4296875, 34717.203125, 34874.15234375, 33068.625, 33298.2421875, 33471.984375, 33636.35546875, 31932.765625, 32227.234375, 32417.47265625, 32706.5078125, 32859.90625, 32985.2421875, 33087.53125, 33349.46484375, 33475.125, 33640.83203125, 31756.0390625, 29873.1484375, 30014.53515625, 28103.83203125, 28211.86328125, 28241.953125, 28293.90234375, 28315.8203125, 25963.69140625, 24003.3671875, 24021.1875, 22036.1171875, 22019.23828125, 22022.34765625, 22020.17578125, 22025.99609375, 19569.34765625, 19586.04296875, 19587.328125, 17142.62890625, 17137.73828125, 14702.76953125, 9789.76953125, 7329.73046875, 7330.6953125, 7332.03515625, 7335.45703125, 7336.54296875, 4888.15625, 4888.75390625, 4889.32421875, 4890.5859375, 4892.16796875, 4893.046875, 4896.20703125, 4896.2890625, 2439.546875, 2439.46484375, 2436.9921875, 2433.59765625, 2433.6171875, 2434.19921875, 2436.4375, 2437.203125, 2437.921875, 2438.2421875, 2438.58984375, 2441.12890625, 2441.765625, 2444.65625, 2446.7578125, 2446.80078125]}, "total committed heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [41223.0, 41697.5, 39801.0, 35930.0, 33902.5, 33747.5, 33623.5, 33581.5, 31497.0, 31509.0, 31541.0, 31575.0, 29555.0, 29589.0, 29617.5, 29645.0, 29666.5, 29689.5, 29703.5, 29723.5, 29733.0, 29739.0, 27689.0, 25646.5, 25646.5, 23605.5, 23605.5, 23604.5, 23604.0, 23603.0, 21652.0, 19585.0, 19574.0, 17528.5, 17516.0, 17494.5, 17498.5, 17392.0, 15560.0, 15529.0, 15492.5, 13554.0, 13545.5, 11618.0, 7757.5, 5834.5, 5817.0, 5806.5, 5800.0, 5810.0, 3889.5, 3889.5, 3889.5, 3889.5, 3889.5, 3889.5, 3889.5, 3860.5, 1941.0, 1937.5, 1945.5, 1950.5, 1944.0, 1945.0, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1929.5]}, "max proc peak read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [538941.5135135136, 13022.50402414487, 11739.076923076922, 5083.196, 5343.039, 5211.808, 5211.808, 5340.841, 5260.036363636364, 5094.9310000000005, 73370.376, 72984.194, 4600.7570000000005, 5149.525547445255, 5217.378, 5086.147, 10667.284210526315, 4957.134, 5203.3460000000005, 5088.504, 68653.028, 71383.107, 70883.474, 58042.248, 55682.952000000005, 6534.196629213483, 4960.6720000000005, 4960.6720000000005, 6030.476510067115, 57121.448000000004, 57776.806000000004, 47819.046, 48804.652, 8104.765957446809, 5834.694805194806, 4608.778350515464, 2658.589439655172, 2605.884, 4410.052873563219, 3091.4314115308152, 3247.7088607594933, 5159.14406779661, 5115.80112044818, 2881.430141287284, 4753.1274509803925, 4484.542713567839, 2542.497267759563, 2433.3729662077594, 3079.488114104596, 4456.034682080925, 3892.6632653061224, 3086.941379310345, 2803.09200968523, 9389.288659793814, 4195.239130434782, 2871.1240000000003, 1844.662, 2407.4382284382286, 1944.874, 1944.1901901901902, 1943.1090000000002, 1938.218, 1948.3206030150754, 1940.27, 1822.6339017051155, 1941.118, 4101.294392523365, 2866.768, 1986.0809426229507, 4535.739644970415, 2861.043912175649, 1938.693, 916.4659746251442, 5185.9800000000005]}, "median GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.052000000000000005, 0.033630030030030025, 0.01, 0.06058762088974855, 0.0315786917740337, 0.0078, 0.0114, 0.011099999999999999, 0.0112, 0.013000000000000001, 0.0068000000000000005, 0.0125, 0.0058, 0.06413134455752696, 0.0381, 0.0098, 0.09438181818181819, 0.07980000000000001, 0.10389999999999999, 0.0785488270658965, 0.10983174143753013, 0.09519999999999999, 0.11140000000000001, 0.1098415316725176, 0.11663709943838785, 0.1688, 0.12670532969944734, 0.0937, 0.0173000056000056, 0.0847, 0.10744165621079046, 0.11423360518548835, 0.12082899921197793, 0.008900000000000002, 0.008722222222222223, 0.07186200676437429, 0.06495770924062806, 0.2449925925925926, 0.09497581009796534, 0.0376, 0.10874025256511444, 0.008693706293706294, 0.2, 0.02671116110486189, 0.009302702702702703, 0.014249293119698397, 0.14045350688915045, 0.14271457085828343, 0.042600000000000006, 0.043500000000000004, 0.12132860201520818, 0.16071687160740003, 0.2, 0.10215001686465729, 0.10750703121322389, 0.08654109950406247, 0.10125465271096339, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.08385185185185184, 0.0046]}, "accumulated proc disk write bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [4009984.0, 2.8340224E7, 1.1196416E8, 2.08941056E8, 2.0953088E8, 2.1016576E8, 2.11099648E8, 4.40004608E8, 4.40602624E8, 5.29178624E8, 1.115414528E9, 2.273697792E9, 2.803347456E9, 2.803884032E9, 2.804441088E9, 2.805211136E9, 2.805764096E9, 2.817175552E9, 3.391746048E9, 3.840372736E9, 5.065580544E9, 6.438219776E9, 7.499431936E9, 8.014163968E9, 8.132640768E9, 8.133087232E9, 8.133525504E9, 8.134135808E9, 8.568221696E9, 9.693671424E9, 1.0683133952E10, 1.101228032E10, 1.111109632E10, 1.1111493632E10, 1.1111858176E10, 1.1112194048E10, 1.1197628416E10, 1.1413499904E10, 1.141379072E10, 1.1414142976E10, 1.1733798912E10, 1.1734093824E10, 1.2062019584E10, 1.2703756288E10, 1.302757376E10, 1.3027721216E10, 1.3027848192E10, 1.3027934208E10, 1.3028102144E10, 1.3346451456E10, 1.3346533376E10, 1.3346635776E10, 1.3346705408E10, 1.334677504E10, 1.3346889728E10, 1.3346963456E10, 1.3347057664E10, 1.3676023808E10, 1.3676064768E10, 1.3676097536E10, 1.3681455104E10, 1.368147968E10, 1.3681512448E10, 1.3681569792E10, 1.3681606656E10, 1.3681639424E10, 1.3681692672E10, 1.3681733632E10, 1.3681758208E10, 1.3681819648E10, 1.3681852416E10, 1.368188928E10, 1.369325568E10, 1.3998583808E10]}, "traces" : {"name" : "root", "value" : 3694717, "children" : [{"name" : "org.apache.spark.executor.CoarseGrainedExecutorBackend.main:-1", "value" : 9249, "children" : [{"name" : "org.apache.spark.executor.CoarseGrainedExecutorBackend$.main:284", "value" : 8215, "children" : [{"name" : "org.apache.spark.executor.CoarseGrainedExecutorBackend$.run:188", "value" : 7181, "children" : [{"name" : "org.apache.spark.deploy.SparkHadoopUtil.runAsSparkUser:66", "value" : 3759, "children" : [{"name" : "org.apache.hadoop.security.UserGroupInformation.doAs:1920", "value" : 3756, "children" : [{"name" : "javax.security.auth.Subject.doAs:422", "value" : 3750, "children" : [{"name" : "java.security.AccessController.doPrivileged:-2", "value" : 3750, "children" : [{"name" : "org.apache.spark.deploy.SparkHadoopUtil$$anon$2.run:66", "value" : 3750, "children" : [{"name" : "org.apache.spark.deploy.SparkHadoopUtil$$anon$2.run:67", "value" : 3750, "children" : []}]}]}]}]}]}]}]}]}, {"name" : "java.lang.Thread.run:748", "value" : 3678626, "children" : [{"name" : "io.netty.util.concurrent.DefaultThreadFactory$DefaultRunnableDecorator.run:144", "value" : 2811220, "children" : [{"name" : "io.netty.util.concurrent.SingleThreadEventExecutor$2.run:131", "value" : 2811015, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.run:392", "value" : 2801827, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.select:747", "value" : 2801538, "children" : [{"name" : "sun.nio.ch.SelectorImpl.select:97", "value" : 2801531, "children" : [{"name" : "sun.nio.ch.SelectorImpl.lockAndDoSelect:86", "value" : 2801516, "children" : [{"name" : "sun.nio.ch.EPollSelectorImpl.doSelect:93", "value" : 2801145, "children" : [{"name" : "sun.nio.ch.EPollArrayWrapper.poll:269", "value" : 2801117, "children" : [{"name" : "sun.nio.ch.EPollArrayWrapper.epollWait:-2", "value" : 2801117, "children" : []}]}]}]}]}]}]}, {"name" : "io.netty.channel.nio.NioEventLoop.run:442", "value" : 6084, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.processSelectedKeys:480", "value" : 6071, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.processSelectedKeysOptimized:566", "value" : 6059, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.processSelectedKey:643", "value" : 5945, "children" : []}]}]}]}]}]}, {"name" : "java.util.concurrent.ThreadPoolExecutor$Worker.run:624", "value" : 510061, "children" : [{"name" : "java.util.concurrent.ThreadPoolExecutor.runWorker:1149", "value" : 509592, "children" : [{"name" : "org.apache.spark.executor.Executor$TaskRunner.run:338", "value" : 490602, "children" : [{"name" : "org.apache.spark.scheduler.Task.run:108", "value" : 490142, "children" : [{"name" : "org.apache.spark.scheduler.ShuffleMapTask.runTask:53", "value" : 422779, "children" : [{"name" : "org.apache.spark.scheduler.ShuffleMapTask.runTask:96", "value" : 420387, "children" : [{"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.write:167", "value" : 43137, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 31855, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 31315, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 31030, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificUnsafeProjection.apply:-1", "value" : 30610, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificUnsafeProjection.apply:-1", "value" : 30582, "children" : []}]}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.insertRecordIntoSorter:246", "value" : 7247, "children" : [{"name" : "org.apache.spark.shuffle.sort.ShuffleExternalSorter.insertRecord:389", "value" : 4161, "children" : [{"name" : "org.apache.spark.unsafe.Platform.copyMemory:210", "value" : 4157, "children" : []}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.write:166", "value" : 329632, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 328008, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 327957, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 327936, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.hasNext:105", "value" : 327884, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.nextIterator:174", "value" : 19566, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.org$apache$spark$sql$execution$datasources$FileScanRDD$$anon$$readCurrentFile:124", "value" : 19566, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetFileFormat$$anonfun$buildReaderWithPartitionValues$1.apply:345", "value" : 19566, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetFileFormat$$anonfun$buildReaderWithPartitionValues$1.apply:389", "value" : 17118, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.initialize:142", "value" : 16719, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.initializeInternalReader:165", "value" : 6906, "children" : [{"name" : "org.apache.parquet.hadoop.util.HadoopInputFile.fromPath:38", "value" : 5926, "children" : [{"name" : "org.apache.hadoop.fs.Path.getFileSystem:296", "value" : 5926, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.get:387", "value" : 5925, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.get:2834", "value" : 5921, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.getInternal:2852", "value" : 5916, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.access$200:98", "value" : 5916, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.createFileSystem:2815", "value" : 4982, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem.initialize:168", "value" : 4965, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem$1.<init>:168", "value" : 4952, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.InodeTree.<init>:334", "value" : 4465, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.InodeTree.createLink:261", "value" : 4461, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem$1.getTargetFileSystem:168", "value" : 4457, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem$1.getTargetFileSystem:174", "value" : 4457, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ChRootedFileSystem.<init>:103", "value" : 4451, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.get:387", "value" : 4450, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.get:2834", "value" : 4444, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.getInternal:2852", "value" : 4420, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.access$200:98", "value" : 4420, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.createFileSystem:2815", "value" : 4420, "children" : [{"name" : "org.apache.hadoop.hdfs.DistributedFileSystem.initialize:155", "value" : 4395, "children" : [{"name" : "org.apache.hadoop.hdfs.DFSClient.<init>:671", "value" : 4290, "children" : [{"name" : "org.apache.hadoop.hdfs.DFSClient.<init>:728", "value" : 3853, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.hadoop.ParquetRecordReader.initializeInternalReader:164", "value" : 6031, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.open:562", "value" : 6003, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.<init>:649", "value" : 5504, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.readFooter:516", "value" : 4405, "children" : []}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.nextIterator:177", "value" : 28784, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.hasNext:105", "value" : 28784, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.RecordReaderIterator.hasNext:39", "value" : 28784, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.nextKeyValue:209", "value" : 28784, "children" : [{"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.nextKeyValue:222", "value" : 28600, "children" : [{"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.checkRead:137", "value" : 23829, "children" : [{"name" : "org.apache.parquet.io.MessageColumnIO.getRecordReader:107", "value" : 23829, "children" : [{"name" : "org.apache.parquet.filter2.compat.FilterCompat$NoOpFilter.accept:155", "value" : 23809, "children" : [{"name" : "org.apache.parquet.io.MessageColumnIO$1.visit:107", "value" : 23809, "children" : [{"name" : "org.apache.parquet.io.MessageColumnIO$1.visit:145", "value" : 23798, "children" : [{"name" : "org.apache.parquet.io.RecordReaderImplementation.<init>:272", "value" : 23398, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReadStoreImpl.getColumnReader:77", "value" : 23389, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReadStoreImpl.newMemColumnReader:82", "value" : 23308, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.<init>:358", "value" : 13321, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.consume:642", "value" : 13321, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.checkRead:530", "value" : 13181, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPage:538", "value" : 12610, "children" : [{"name" : "org.apache.parquet.column.page.DataPageV1.accept:96", "value" : 12606, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:538", "value" : 12605, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:541", "value" : 12601, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.access$300:61", "value" : 12600, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPageV1:592", "value" : 10745, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput.toByteBuffer:203", "value" : 10743, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput$StreamBytesInput.toByteArray:252", "value" : 10665, "children" : [{"name" : "java.io.DataInputStream.readFully:169", "value" : 10664, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 10662, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.read:105", "value" : 10657, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.decompress:111", "value" : 10396, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.decompress:228", "value" : 10100, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.inflateBytesDirect:-2", "value" : 10100, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.<init>:344", "value" : 7972, "children" : [{"name" : "org.apache.parquet.column.Encoding$4.initDictionary:150", "value" : 7972, "children" : [{"name" : "org.apache.parquet.column.Encoding$1.initDictionary:91", "value" : 5089, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.PlainValuesDictionary$PlainBinaryDictionary.<init>:73", "value" : 5087, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.PlainValuesDictionary$PlainBinaryDictionary.<init>:90", "value" : 4558, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput.toByteBuffer:203", "value" : 4558, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput$StreamBytesInput.toByteArray:252", "value" : 4546, "children" : [{"name" : "java.io.DataInputStream.readFully:169", "value" : 4545, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 4544, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.read:105", "value" : 4535, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.decompress:111", "value" : 4449, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.decompress:228", "value" : 4275, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.inflateBytesDirect:-2", "value" : 4275, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.checkRead:127", "value" : 4620, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.readNextRowGroup:764", "value" : 3959, "children" : []}]}]}]}]}]}]}, {"name" : "org.apache.spark.sql.execution.datasources.RecordReaderIterator.hasNext:39", "value" : 279145, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.nextKeyValue:209", "value" : 279144, "children" : [{"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.nextKeyValue:226", "value" : 276313, "children" : [{"name" : "org.apache.parquet.io.RecordReaderImplementation.read:407", "value" : 67979, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.writeCurrentValueToConverter:371", "value" : 60879, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readValue:465", "value" : 60866, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$2$2.read:225", "value" : 10680, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.DictionaryValuesReader.readDouble:103", "value" : 9761, "children" : []}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$1.read:167", "value" : 9987, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.DictionaryValuesReader.readValueDictionaryId:76", "value" : 9965, "children" : []}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$2$3.read:244", "value" : 21598, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.DictionaryValuesReader.readInteger:112", "value" : 20840, "children" : []}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.writeCurrentValueToConverter:372", "value" : 7099, "children" : []}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:421", "value" : 44515, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRecordMaterializer.getCurrentRecord:33", "value" : 44515, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRecordMaterializer.getCurrentRecord:40", "value" : 44505, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.currentRecord:176", "value" : 44499, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificUnsafeProjection.apply:-1", "value" : 44456, "children" : []}]}]}]}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:415", "value" : 17052, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.end:195", "value" : 6863, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter$$anon$6.set:306", "value" : 6863, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.SpecificInternalRow.copy:227", "value" : 5318, "children" : []}]}]}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:409", "value" : 107470, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.consume:642", "value" : 96585, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.checkRead:532", "value" : 83840, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readRepetitionAndDefinitionLevels:518", "value" : 41707, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$ValuesReaderIntIterator.nextInt:669", "value" : 6773, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridValuesReader.readInteger:63", "value" : 6537, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridDecoder.readInt:66", "value" : 6190, "children" : []}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readRepetitionAndDefinitionLevels:519", "value" : 42132, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$ValuesReaderIntIterator.nextInt:669", "value" : 18735, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridValuesReader.readInteger:63", "value" : 17909, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridDecoder.readInt:66", "value" : 16176, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridDecoder.readNext:102", "value" : 5510, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 5448, "children" : []}]}]}]}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.checkRead:530", "value" : 8571, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPage:538", "value" : 8434, "children" : [{"name" : "org.apache.parquet.column.page.DataPageV1.accept:96", "value" : 8434, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:538", "value" : 8433, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:541", "value" : 8433, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.access$300:61", "value" : 8433, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPageV1:592", "value" : 8398, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput.toByteBuffer:203", "value" : 8398, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput$StreamBytesInput.toByteArray:252", "value" : 8321, "children" : [{"name" : "java.io.DataInputStream.readFully:169", "value" : 8321, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 8320, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.read:105", "value" : 8317, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.decompress:111", "value" : 8092, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.decompress:228", "value" : 8013, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.inflateBytesDirect:-2", "value" : 8011, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:401", "value" : 11072, "children" : []}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:393", "value" : 11756, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.start:201", "value" : 9464, "children" : []}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:420", "value" : 11434, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.end:192", "value" : 10531, "children" : []}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:419", "value" : 4715, "children" : []}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 8384, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 8383, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 8383, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 7939, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 7939, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 7939, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 7938, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 7938, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 7938, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 7670, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 7670, "children" : [{"name" : "org.apache.spark.sql.execution.FileSourceScanExec$$anonfun$21.apply:322", "value" : 7670, "children" : [{"name" : "org.apache.spark.sql.execution.FileSourceScanExec$$anonfun$21.apply:323", "value" : 7669, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.UnsafeProjection$.create:114", "value" : 7625, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.UnsafeProjection$.create:120", "value" : 7615, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.UnsafeProjection$.create:130", "value" : 7525, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator.generate:930", "value" : 7505, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateUnsafeProjection$.create:32", "value" : 7359, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateUnsafeProjection$.create:366", "value" : 7359, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateUnsafeProjection$.create:412", "value" : 5383, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$.compile:946", "value" : 5077, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$LocalLoadingCache.get:4874", "value" : 5076, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache.getOrLoad:4004", "value" : 5076, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache.get:4000", "value" : 5070, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$Segment.get:2257", "value" : 5070, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$Segment.lockedGetOrLoad:2342", "value" : 5032, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$Segment.loadSync:2379", "value" : 5027, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$LoadingValueReference.loadFuture:3599", "value" : 5021, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$$anon$1.load:1064", "value" : 5021, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$$anon$1.load:1067", "value" : 5004, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$.org$apache$spark$sql$catalyst$expressions$codegen$CodeGenerator$$doCompile:1000", "value" : 4765, "children" : [{"name" : "org.codehaus.commons.compiler.Cookable.cook:91", "value" : 4765, "children" : [{"name" : "org.codehaus.janino.SimpleCompiler.cook:196", "value" : 4764, "children" : [{"name" : "org.codehaus.janino.ClassBodyEvaluator.cook:229", "value" : 3697, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.write:169", "value" : 39232, "children" : [{"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.closeAndWriteOutput:209", "value" : 34775, "children" : [{"name" : "org.apache.spark.shuffle.sort.ShuffleExternalSorter.closeAndGetSpills:405", "value" : 34764, "children" : [{"name" : "org.apache.spark.shuffle.sort.ShuffleExternalSorter.writeSortedFile:201", "value" : 31163, "children" : [{"name" : "org.apache.spark.storage.DiskBlockObjectWriter.write:252", "value" : 30658, "children" : [{"name" : "net.jpountz.lz4.LZ4BlockOutputStream.write:158", "value" : 30632, "children" : [{"name" : "net.jpountz.lz4.LZ4BlockOutputStream.flushBufferedData:190", "value" : 22813, "children" : [{"name" : "net.jpountz.lz4.LZ4Compressor.compress:70", "value" : 22812, "children" : [{"name" : "net.jpountz.lz4.LZ4JNICompressor.compress:36", "value" : 22808, "children" : [{"name" : "net.jpountz.lz4.LZ4JNI.LZ4_compress_limitedOutput:-2", "value" : 22808, "children" : []}]}]}]}, {"name" : "net.jpountz.lz4.LZ4BlockOutputStream.flushBufferedData:205", "value" : 3705, "children" : []}]}]}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.closeAndWriteOutput:216", "value" : 4407, "children" : [{"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.mergeSpills:277", "value" : 4405, "children" : []}]}]}]}]}, {"name" : "org.apache.spark.scheduler.ResultTask.runTask:87", "value" : 66526, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 12080, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 12079, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 12079, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 12059, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 12059, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 12059, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 11368, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 11368, "children" : [{"name" : "org.apache.spark.sql.execution.DeserializeToObjectExec$$anonfun$2.apply:101", "value" : 11368, "children" : [{"name" : "org.apache.spark.sql.execution.DeserializeToObjectExec$$anonfun$2.apply:102", "value" : 11368, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator.generate:927", "value" : 11359, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator.generate:930", "value" : 10884, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$.create:36", "value" : 10806, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$.create:142", "value" : 7726, "children" : [{"name" : "scala.collection.immutable.List.map:296", "value" : 7725, "children" : [{"name" : "scala.collection.TraversableLike$class.map:234", "value" : 7725, "children" : [{"name" : "scala.collection.immutable.List.foreach:392", "value" : 7725, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7725, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7725, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$$anonfun$3.apply:142", "value" : 7725, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$$anonfun$3.apply:145", "value" : 7719, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression.genCode:103", "value" : 7711, "children" : [{"name" : "scala.Option.getOrElse:121", "value" : 7711, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:103", "value" : 7711, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:106", "value" : 7711, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.CreateExternalRow.doGenCode:857", "value" : 7671, "children" : [{"name" : "scala.collection.immutable.List.map:296", "value" : 7669, "children" : [{"name" : "scala.collection.TraversableLike$class.map:234", "value" : 7669, "children" : [{"name" : "scala.collection.immutable.List.foreach:392", "value" : 7669, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7669, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7669, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.CreateExternalRow$$anonfun$14.apply:857", "value" : 7668, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.CreateExternalRow$$anonfun$14.apply:858", "value" : 7642, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression.genCode:103", "value" : 7640, "children" : [{"name" : "scala.Option.getOrElse:121", "value" : 7640, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:103", "value" : 7640, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:106", "value" : 7613, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.Invoke.doGenCode:246", "value" : 7216, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.Invoke.org$apache$spark$sql$catalyst$expressions$objects$Invoke$$encodedFunctionName:193", "value" : 7214, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.Invoke.org$apache$spark$sql$catalyst$expressions$objects$Invoke$$encodedFunctionName$lzycompute:193", "value" : 7214, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.SparkContext$$anonfun$runJob$5.apply:2069", "value" : 54444, "children" : [{"name" : "org.apache.spark.SparkContext$$anonfun$runJob$5.apply:2069", "value" : 54444, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$foreach$1$$anonfun$apply$28.apply:918", "value" : 54444, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$foreach$1$$anonfun$apply$28.apply:918", "value" : 54444, "children" : [{"name" : "scala.collection.AbstractIterator.foreach:1334", "value" : 54444, "children" : [{"name" : "scala.collection.Iterator$class.foreach:891", "value" : 54444, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 36736, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 36464, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificSafeProjection.apply:-1", "value" : 33319, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificSafeProjection.apply3_16$:-1", "value" : 5493, "children" : []}]}]}]}, {"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17540, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17539, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17535, "children" : [{"name" : "org.apache.spark.InterruptibleIterator.hasNext:37", "value" : 17501, "children" : [{"name" : "org.apache.spark.util.CompletionIterator.hasNext:32", "value" : 17499, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17491, "children" : [{"name" : "scala.collection.Iterator$$anon$12.hasNext:441", "value" : 17048, "children" : [{"name" : "scala.collection.Iterator$$anon$12.nextCur:435", "value" : 17047, "children" : [{"name" : "org.apache.spark.storage.ShuffleBlockFetcherIterator.next:61", "value" : 16962, "children" : [{"name" : "org.apache.spark.storage.ShuffleBlockFetcherIterator.next:421", "value" : 15803, "children" : [{"name" : "org.apache.spark.util.Utils$.copyStream:348", "value" : 15794, "children" : [{"name" : "org.apache.spark.util.Utils$.tryWithSafeFinally:1337", "value" : 15791, "children" : [{"name" : "org.apache.spark.util.Utils$$anonfun$copyStream$1.apply:327", "value" : 15791, "children" : [{"name" : "org.apache.spark.util.Utils$$anonfun$copyStream$1.apply:327", "value" : 15788, "children" : [{"name" : "org.apache.spark.util.Utils$$anonfun$copyStream$1.apply$mcJ$sp:340", "value" : 14083, "children" : [{"name" : "org.apache.spark.io.LZ4BlockInputStream.read:137", "value" : 14053, "children" : [{"name" : "org.apache.spark.io.LZ4BlockInputStream.read:125", "value" : 14041, "children" : [{"name" : "org.apache.spark.io.LZ4BlockInputStream.refill:206", "value" : 10529, "children" : [{"name" : "net.jpountz.lz4.LZ4JNIFastDecompressor.decompress:37", "value" : 10523, "children" : [{"name" : "net.jpountz.lz4.LZ4JNI.LZ4_decompress_fast:-2", "value" : 10522, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "java.lang.UNIXProcess$$Lambda$7\/250370634.run:-1", "value" : 15206, "children" : [{"name" : "java.lang.UNIXProcess.lambda$initStreams$3:289", "value" : 13248, "children" : [{"name" : "java.lang.UNIXProcess.waitForProcessExit:-2", "value" : 13237, "children" : []}]}]}]}]}, {"name" : "org.apache.hadoop.net.unix.DomainSocketWatcher$2.run:509", "value" : 356873, "children" : [{"name" : "org.apache.hadoop.net.unix.DomainSocketWatcher.access$900:52", "value" : 356873, "children" : [{"name" : "org.apache.hadoop.net.unix.DomainSocketWatcher.doPoll0:-2", "value" : 356873, "children" : []}]}]}]}]}, "max committed heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1963.0, 2018.0, 2023.0, 2029.5, 2033.5, 2037.5, 2041.0, 2043.0, 2043.5, 2045.5, 2045.5, 2045.5, 2046.0, 2045.5, 2045.5, 2045.5, 2046.0, 2046.0, 2045.5, 2046.0, 2046.0, 2046.0, 2045.5, 2045.5, 2045.5, 2045.5, 2045.5, 2045.5, 2046.0, 2045.5, 2045.5, 2044.0, 2044.0, 1954.5, 1954.5, 1954.5, 1954.5, 1954.5, 1954.5, 1954.5, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1937.0, 1941.0, 1937.5, 1945.5, 1950.5, 1944.0, 1945.0, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1929.5]}, "accumulated reserved" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [537600.0, 1075200.0, 1587200.0, 2048000.0, 2483200.0, 2918400.0, 3353600.0, 3788800.0, 4198400.0, 4608000.0, 5017600.0, 5427200.0, 5811200.0, 6195200.0, 6579200.0, 6963200.0, 7347200.0, 7731200.0, 8115200.0, 8499200.0, 8883200.0, 9267200.0, 9625600.0, 9958400.0, 1.02912E7, 1.05984E7, 1.09056E7, 1.12128E7, 1.152E7, 1.18272E7, 1.21088E7, 1.23648E7, 1.26208E7, 1.28512E7, 1.30816E7, 1.3312E7, 1.35424E7, 1.37728E7, 1.39776E7, 1.41824E7, 1.43872E7, 1.45664E7, 1.47456E7, 1.48992E7, 1.50016E7, 1.50784E7, 1.51552E7, 1.5232E7, 1.53088E7, 1.53856E7, 1.54368E7, 1.5488E7, 1.55392E7, 1.55904E7, 1.56416E7, 1.56928E7, 1.5744E7, 1.57952E7, 1.58208E7, 1.58464E7, 1.5872E7, 1.58976E7, 1.59232E7, 1.59488E7, 1.59744E7, 1.6E7, 1.60256E7, 1.60512E7, 1.60768E7, 1.61024E7, 1.6128E7, 1.61536E7, 1.61792E7, 1.62048E7]}, "median proc tree kernel CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.00544346338221068, 0.0030128417359128233, 8.189891205412057E-4, 0.001164838035100455, 8.998304720227188E-4, 8.378269084477064E-4, 7.121699832350582E-4, 0.0015470332373919424, 8.809841935272138E-4, 0.0012943124644272095, 4.1940237217960715E-4, 0.001114225781405386, 4.202195076275299E-4, 8.245562228200215E-4, 5.249875608174364E-4, 6.070348978311475E-4, 9.188443620026549E-4, 5.054393073138704E-4, 8.416155320847832E-4, 9.919245457468136E-4, 9.776187224355157E-4, 0.0018899781506213932, 0.0027009053431797632, 0.0019619922533502115, 0.0012396531552992182, 0.00205116521782667, 0.0020407402050594972, 0.0012014235177030493, 0.0014537194607989895, 8.368425063111053E-4, 8.626622585784915E-4, 0.0013864682680079913, 7.363688561514185E-4, 7.133344855291191E-4, 0.001954397900190228, 9.080993134546741E-4, 0.0018328094113662363, 6.932097200780901E-4, 9.102259140997283E-4, 0.0016952947016510365, 0.0011397893875069803, 3.9990028265337154E-4, 0.0014396902683969093, 0.0026466633082180752, 8.623690050776524E-4, 0.0011667452503309008, 7.960900465043896E-4, 5.78383198067272E-4, 5.03668093744613E-4, 0.0023719273559662233, 8.492781683224198E-4, 8.891696058367827E-4, 8.421476525679414E-4, 0.001181933197644713, 9.678283562379291E-4, 3.900120072274032E-4, 0.0014242180899196823, 9.00923451791742E-4, 7.751306039785203E-4, 6.912148304216122E-4, 7.125091065399314E-4, 4.8176491762803094E-4, 3.3503480721280203E-4, 0.0011699582390620484, 0.001162946359321515, 8.085318724700852E-4, 0.0011759245217098603, 0.0013214811739550667, 0.0022528340400255935, 0.002433017098098789, 0.0010281453088782885, 9.213871171546368E-4, 0.002408100691819706, 0.002146513352170041]}, "containers" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [21.0, 21.0, 20.0, 18.0, 17.0, 17.0, 17.0, 17.0, 16.0, 16.0, 16.0, 16.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 14.0, 13.0, 13.0, 12.0, 12.0, 12.0, 12.0, 12.0, 11.0, 10.0, 10.0, 9.0, 9.0, 9.0, 9.0, 9.0, 8.0, 8.0, 8.0, 7.0, 7.0, 6.0, 4.0, 3.0, 3.0, 3.0, 3.0, 3.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0]}, "max RSS memory" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1949.4453125, 2012.6796875, 2113.71484375, 2136.9375, 2138.9765625, 2141.21875, 2163.9453125, 2181.203125, 2201.640625, 2228.15234375, 2253.67578125, 2267.91796875, 2336.2578125, 2378.43359375, 2386.3984375, 2405.51171875, 2419.48046875, 2429.55859375, 2440.3359375, 2452.40234375, 2458.0, 2474.9140625, 2487.45703125, 2491.3984375, 2501.02734375, 2501.49609375, 2501.65234375, 2502.02734375, 2502.5625, 2502.8515625, 2503.08203125, 2503.17578125, 2504.12890625, 2504.14453125, 2504.14453125, 2506.22265625, 2499.37890625, 2499.671875, 2499.7734375, 2499.79296875, 2499.84765625, 2499.88671875, 2499.8984375, 2494.19140625, 2493.24609375, 2488.921875, 2488.96875, 2489.0390625, 2489.109375, 2489.26171875, 2489.34375, 2489.35546875, 2489.30859375, 2489.328125, 2489.3515625, 2489.37109375, 2491.30078125, 2491.91796875, 2474.3671875, 2474.3515625, 2471.87890625, 2468.5390625, 2468.58984375, 2469.10546875, 2471.3828125, 2471.91796875, 2472.42578125, 2473.05859375, 2473.5390625, 2476.04296875, 2476.7421875, 2478.8203125, 2482.23046875, 2482.2734375]}, "median proc peak write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [2722.2826086956525, 374.73, 367.6543456543457, 377.8562628336756, 368.57615230460925, 371.21, 372.824, 374.528, 374.737, 374.71242484969946, 375.367, 376.346, 377.41200000000003, 432.31500572737684, 521.7888730385165, 367.636, 394.3315508021391, 375.879, 382.32135728542914, 449.23133414932687, 531.9348769898697, 374.558, 375.373, 517.6024759284732, 457.63046192259674, 2080.685393258427, 483.6010296010296, 376.298, 375.306, 373.95, 457.10763454317896, 615.539837398374, 440.35495283018867, 375.899, 375.8668012108981, 421.97409909909913, 85320.019, 597.3441558441558, 560.7200598802395, 372.303, 499.34515688949523, 376.896, 1058.6750700280113, 116502.522, 375.752, 391.04144527098833, 646.4265734265736, 751.3876739562625, 17930.453093812375, 109976.97302697304, 1866.2551020408164, 429.97724687144483, 563.655487804878, 586.1939102564103, 1150.7015384615386, 680.5504587155963, 19735.119880119884, 377.462, 378.00100000000003, 377.957, 5670.535, 377.957, 378.8110552763819, 377.0731462925852, 589.0159744408945, 543.0187861271677, 1725.570093457944, 631.5807560137458, 476.139896373057, 2175.023668639053, 1135.5493827160494, 16302.765234765238, 21819.749711649365, 87239.163]}, "accumulated GC CPU time" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [23.328146931950155, 60.24841527603745, 70.60903173246078, 75.22372610345815, 79.2444487143863, 83.02277255604609, 87.63486648509326, 91.19264208782778, 94.75539170294286, 98.54027041872355, 103.82148790608638, 108.74174426550555, 112.33288118602727, 125.69243075746043, 145.3357805891843, 220.45181844073423, 247.88543740826464, 274.02919848633917, 315.9748574019738, 352.121998586384, 392.82680321659507, 478.42999772346207, 532.3730149080856, 583.9109591177395, 633.7263402543896, 686.3165586622081, 732.5983027865435, 783.4535443966979, 845.9080594049254, 906.464299735255, 946.2883325696049, 990.5884124989348, 1017.2837439884954, 1058.202782069253, 1080.7450086059935, 1127.8364315522574, 1141.7464870337733, 1172.7033244182016, 1204.5162030757647, 1235.8964894025337, 1278.0160831302887, 1306.7570998043711, 1318.534243286636, 1326.3458699175155, 1345.665177744172, 1356.6509983503986, 1371.485664804923, 1377.3288648152557, 1387.2828338021407, 1402.6110804886357, 1416.8898661848798, 1432.2381634090464, 1438.4659840425663, 1450.7548505576872, 1463.6969674446432, 1471.64628613391, 1479.6923146256056, 1479.8811746256056, 1479.9993446256055, 1480.1920046256055, 1480.3625446256056, 1480.5407946256055, 1480.6945346256055, 1481.1891446256054, 1485.6283612697564, 1491.7312640767739, 1497.4834922489551, 1501.0455809813495, 1503.6780103375684, 1512.6584828310115, 1517.4507011038302, 1521.21054110383, 1522.5668114742004, 1522.5939514742004]}, "median proc peak disk write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [208.89600000000002, 12.3003003003003, 12.288, 16.416833667334668, 8.208416833667334, 8.192, 24.576, 24.576, 24.576, 16.384, 8.192, 8.192, 28.672, 9.383734249713632, 8.216649949849549, 20.48, 8.200200200200202, 24.576, 8.192, 12.288, 24.551448551448555, 24.576, 12.288, 11.268225584594225, 32.768, 28.7007007007007, 28.91294117647059, 8.192, 12.324974924774324, 8.192, 20.445923460898502, 16.384, 9.660377358490567, 16.384, 8.266397578203835, 9.225225225225225, 84992.0, 8.192, 12.288, 8.192, 8.192, 8.200200200200202, 45.893557422969195, 116129.792, 8.192, 24.74924471299094, 8.192, 24.429423459244532, 12.263473053892216, 109605.85014985016, 11.314917127071825, 24.6006006006006, 8.183816183816186, 11.719599427753936, 25.206153846153846, 14.447971781305116, 24.551448551448555, 24.576, 8.192, 8.192, 5324.8, 8.192, 8.233165829145728, 28.500994035785286, 8.200200200200202, 11.838150289017342, 16.302487562189057, 8.192, 8.393442622950818, 16.318725099601593, 8.17564870259481, 8.200200200200202, 11293.666333666337, 86863.872]}, "max reserved" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0]}, "max used off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [90.61585235595703, 109.63790130615234, 112.15086364746094, 112.69998931884766, 112.14875793457031, 112.83755493164062, 113.38492584228516, 113.11190795898438, 112.40503692626953, 112.93431854248047, 112.9676513671875, 114.06664276123047, 114.07213592529297, 113.90390014648438, 113.89197540283203, 113.93387603759766, 113.99158477783203, 114.03985595703125, 114.031982421875, 114.05233001708984, 113.8211669921875, 113.21047973632812, 113.19216918945312, 113.23550415039062, 113.18094635009766, 113.75486755371094, 113.7462158203125, 113.73445892333984, 114.60865783691406, 116.06848907470703, 114.74274444580078, 114.78754425048828, 114.79589080810547, 114.92125701904297, 114.99311828613281, 115.00267028808594, 116.58847045898438, 116.89564514160156, 115.04983520507812, 117.93190002441406, 118.91099548339844, 116.1313247680664, 117.71900939941406, 118.66669464111328, 118.97746276855469, 113.89420318603516, 114.08903503417969, 114.61378479003906, 115.54617309570312, 116.27674865722656, 114.7444076538086, 114.66485595703125, 114.67845916748047, 114.67845916748047, 114.6902847290039, 114.74134826660156, 117.38682556152344, 117.95182800292969, 113.52818298339844, 113.54750061035156, 113.59082794189453, 113.60027313232422, 113.6001968383789, 114.04338836669922, 114.16368103027344, 114.16748046875, 114.21587371826172, 114.21587371826172, 114.1888198852539, 114.62452697753906, 114.66044616699219, 117.36605072021484, 117.49633026123047, 117.66243743896484]}, "total used off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1328.7190628051758, 1898.8935089111328, 1925.584228515625, 1774.3260879516602, 1690.2401657104492, 1694.9998931884766, 1701.7690505981445, 1701.1520462036133, 1605.9892272949219, 1610.639045715332, 1612.3819274902344, 1613.7604293823242, 1530.9021377563477, 1528.8992309570312, 1529.9497528076172, 1532.5154571533203, 1532.5938339233398, 1534.3413009643555, 1536.0914154052734, 1534.7230834960938, 1535.3645095825195, 1535.7367935180664, 1451.4697647094727, 1369.3337860107422, 1368.6822357177734, 1285.483741760254, 1286.8644104003906, 1286.5953216552734, 1290.9333038330078, 1295.9256973266602, 1184.4340057373047, 1102.0367279052734, 1103.5496292114258, 1020.5060806274414, 1020.2510375976562, 1020.8250427246094, 1023.6613845825195, 1023.9366455078125, 907.7322082519531, 911.7077865600586, 913.3065185546875, 798.5236358642578, 804.7850494384766, 692.2577362060547, 456.8341979980469, 337.9034423828125, 338.11297607421875, 338.6678466796875, 341.7617416381836, 342.4802932739258, 226.22286987304688, 226.15787506103516, 226.27523803710938, 226.2907485961914, 226.32384490966797, 227.09398651123047, 230.91275024414062, 231.47775268554688, 113.52818298339844, 113.54750061035156, 113.59082794189453, 113.60027313232422, 113.6001968383789, 114.04338836669922, 114.16368103027344, 114.16748046875, 114.21587371826172, 114.21587371826172, 114.1888198852539, 114.62452697753906, 114.66044616699219, 117.36605072021484, 117.49633026123047, 117.66243743896484]}, "median JVM CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.08403211805555555, 0.09070034617951286, 0.026583333333333337, 0.02622147790459045, 0.024746966909969477, 0.03408333333333334, 0.0263125, 0.0285625, 0.028125, 0.03060416666666666, 0.025875000000000002, 0.027249999999999996, 0.025020833333333336, 0.038168939671433616, 0.025916666666666664, 0.023312499999999996, 0.047666246139941255, 0.04620833333333333, 0.0516875, 0.049300100876874094, 0.04730620307805781, 0.05624922997946612, 0.07050000000000001, 0.051953107731993645, 0.07887854947327122, 0.06509705960729019, 0.06977918894413189, 0.04987498360415027, 0.038353996895663565, 0.058354166666666665, 0.046891955967637025, 0.05382749203624302, 0.053821091088855896, 0.02558333333333333, 0.02557738065473214, 0.04278989111970755, 0.043032040819885174, 0.045277511047320126, 0.04517558093700238, 0.036145833333333335, 0.0462186340126261, 0.024144514707014706, 0.03213698002047496, 0.0349061664355355, 0.024981694898361564, 0.024329008971549805, 0.04667410083619698, 0.037173343418378225, 0.037851300080466735, 0.03299147176892655, 0.030480854739058774, 0.041092715999854514, 0.03618679854909012, 0.03355054816664604, 0.03576159735281237, 0.03417291033890341, 0.045639425144573906, 0.023791462999796335, 0.02339583333333333, 0.024374999999999997, 0.023979166666666666, 0.024416666666666666, 0.02345833333333333, 0.025875, 0.039775801992569276, 0.03592307904497577, 0.03391910951457796, 0.029654420999916387, 0.03656400349031987, 0.05334548505150046, 0.03467954647131446, 0.03530904512154513, 0.03415770362498649, 0.02169642857142857]}, "containers timeline" : [{"container" : "24-8a-07-bb-dd-50.pa4.hpc.criteo.preprod_WlX7wyd0", "start" : 1527619771967, "stop" : 1527619887657}, {"container" : "24-8a-07-77-70-10.pa4.hpc.criteo.preprod_VCkmWgB0", "start" : 1527619772000, "stop" : 1527619987463}, {"container" : "24-8a-07-df-4a-b0.pa4.hpc.criteo.preprod_YNtbnCtI", "start" : 1527619772161, "stop" : 1527620175478}, {"container" : "7c-fe-90-a5-e6-f0.pa4.hpc.criteo.preprod_PhYTctaU", "start" : 1527619772311, "stop" : 1527619803965}, {"container" : "7c-fe-90-b1-9c-c0.pa4.hpc.criteo.preprod_HXSUE9pt", "start" : 1527619772731, "stop" : 1527619786331}, {"container" : "24-8a-07-d6-9b-40.pa4.hpc.criteo.preprod_Kr4J5FW9", "start" : 1527619772807, "stop" : 1527620206485}, {"container" : "ec-0d-9a-00-50-c0.pa4.hpc.criteo.preprod_3KpQtgrR", "start" : 1527619773185, "stop" : 1527619790250}, {"container" : "7c-fe-90-be-c8-c0.pa4.hpc.criteo.preprod_JMJsIGGj", "start" : 1527619773293, "stop" : 1527619998932}, {"container" : "24-8a-07-77-68-30.pa4.hpc.criteo.preprod_YlPVKOWt", "start" : 1527619773446, "stop" : 1527619846196}, {"container" : "7c-fe-90-a5-e1-b0.pa4.hpc.criteo.preprod_Xw84woxV", "start" : 1527619773605, "stop" : 1527620264984}, {"container" : "7c-fe-90-b1-fd-f0.pa4.hpc.criteo.preprod_0PjFko3d", "start" : 1527619773664, "stop" : 1527620199216}, {"container" : "e4-1d-2d-e2-2b-10.pa4.hpc.criteo.preprod_HDwRSGe2", "start" : 1527619773950, "stop" : 1527619797680}, {"container" : "24-8a-07-df-5b-00.pa4.hpc.criteo.preprod_kdf5Yp7X", "start" : 1527619774063, "stop" : 1527620205862}, {"container" : "ec-0d-9a-00-22-e0.pa4.hpc.criteo.preprod_JA10zwB8", "start" : 1527619774224, "stop" : 1527620011994}, {"container" : "7c-fe-90-a5-e3-10.pa4.hpc.criteo.preprod_dWuEAvx9", "start" : 1527619774259, "stop" : 1527620218463}, {"container" : "7c-fe-90-a5-e1-f0.pa4.hpc.criteo.preprod_GNlq06Gh", "start" : 1527619774658, "stop" : 1527620142153}, {"container" : "ec-0d-9a-00-34-90.pa4.hpc.criteo.preprod_kCFmnIdg", "start" : 1527619774975, "stop" : 1527620068889}, {"container" : "24-8a-07-c4-a6-b0.pa4.hpc.criteo.preprod_bPWKs3xW", "start" : 1527619776079, "stop" : 1527620079005}, {"container" : "24-8a-07-df-57-e0.pa4.hpc.criteo.preprod_9qg8g7ch", "start" : 1527619777800, "stop" : 1527620092234}, {"container" : "e4-1d-2d-e2-2f-20.pa4.hpc.criteo.preprod_9cPCl4kp", "start" : 1527619777809, "stop" : 1527620346239}, {"container" : "e4-1d-2d-e2-29-f0.pa4.hpc.criteo.preprod_QBMuhl1W", "start" : 1527619778482, "stop" : 1527620503634}], "median major GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.03875, 0.027127127127127126, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.05720359642518972, 0.0, 0.0, 0.09438181818181819, 0.07980000000000001, 0.10389999999999999, 0.0785488270658965, 0.10983174143753013, 0.09519999999999999, 0.11140000000000001, 0.1098415316725176, 0.11663709943838785, 0.1688, 0.12670532969944734, 0.0937, 0.0, 0.0847, 0.10744165621079046, 0.11423360518548835, 0.12082899921197793, 0.0, 0.0, 0.06486708004509582, 0.06275770924062805, 0.2449925925925926, 0.09497581009796534, 0.028199999999999996, 0.10874025256511444, 0.0, 0.2, 0.024996875390576177, 0.0, 0.0, 0.14045350688915045, 0.14271457085828343, 0.042600000000000006, 0.0385, 0.12132860201520818, 0.16071687160740003, 0.2, 0.10215001686465729, 0.10750703121322389, 0.08654109950406247, 0.10125465271096339, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.07685185185185185, 0.0]}, "max JVM CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.0857418978523968, 0.09070034617951286, 0.06825478281728282, 0.051645833333333335, 0.05435096870417512, 0.042678282582064554, 0.04012424274318469, 0.032895619202457684, 0.03997658218649044, 0.05039583333333333, 0.04812474408230966, 0.05018803035469701, 0.03622916666666666, 0.06466526157967241, 0.05633618737725846, 0.09190327155824507, 0.06781249999999998, 0.0635143949041411, 0.08726751731291535, 0.07412812672528923, 0.06024195906432748, 0.08660675559986528, 0.07050000000000001, 0.07638454502728839, 0.07887854947327122, 0.07133281258102322, 0.07850950816917114, 0.07211150974708799, 0.07318254438904219, 0.08234797681586421, 0.058135439970171524, 0.08925609491320968, 0.08117833885008001, 0.07142366434551635, 0.06046450316240317, 0.08673941830817664, 0.0670577717339004, 0.0690608050766001, 0.0542086695875862, 0.052651160078728707, 0.061379038537575446, 0.049091200885214556, 0.04988479882775011, 0.05027456487067471, 0.041003251611219295, 0.05725596254406391, 0.05051034731086469, 0.051757463770618226, 0.04220218312643291, 0.03883963487754671, 0.035695324050230855, 0.041092715999854514, 0.03902927900265391, 0.047264599414214556, 0.03892935297044832, 0.03417291033890341, 0.045639425144573906, 0.02611498440686098, 0.02339583333333333, 0.024374999999999997, 0.023979166666666666, 0.024416666666666666, 0.02345833333333333, 0.025875, 0.039775801992569276, 0.03592307904497577, 0.03391910951457796, 0.029654420999916387, 0.03656400349031987, 0.05334548505150046, 0.03467954647131446, 0.03530904512154513, 0.03415770362498649, 0.02169642857142857]}, "max committed off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [93.625, 113.375, 116.5625, 118.375, 118.375, 118.875, 118.875, 118.875, 118.875, 118.875, 119.125, 119.5625, 119.5625, 119.5625, 119.5625, 119.5625, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.875, 119.875, 119.875, 120.5625, 120.5625, 120.5625, 121.625, 121.875, 120.5625, 122.125, 122.375, 121.75, 122.0, 123.0625, 123.3125, 119.4375, 119.4375, 119.4375, 120.4375, 120.6875, 119.4375, 119.4375, 119.4375, 119.4375, 119.6875, 119.6875, 121.6875, 121.9375, 117.1875, 117.1875, 117.1875, 117.1875, 117.1875, 117.625, 117.8125, 117.8125, 117.8125, 117.8125, 117.8125, 118.375, 118.375, 120.9375, 121.375, 121.375]}, "accumulated JVM CPU time" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [417.15000000000003, 1027.63, 1450.69, 1747.5600000000002, 2006.4, 2253.98, 2498.21, 2722.39, 2940.74, 3171.96, 3406.64, 3620.14, 3815.2599999999998, 4043.93, 4277.91, 4604.4, 4891.889999999999, 5182.039999999999, 5508.839999999999, 5846.139999999999, 6156.16, 6494.849999999999, 6795.339999999999, 7091.039999999999, 7397.839999999999, 7698.209999999999, 8008.48, 8304.98, 8642.46, 8959.66, 9186.619999999999, 9428.029999999999, 9644.169999999998, 9820.539999999999, 9992.89, 10194.859999999999, 10364.239999999998, 10525.189999999999, 10689.48, 10851.02, 11021.27, 11162.87, 11287.79, 11374.460000000001, 11447.150000000001, 11505.12, 11565.52, 11623.79, 11676.980000000001, 11722.000000000002, 11761.190000000002, 11799.900000000001, 11837.330000000002, 11882.950000000003, 11925.020000000002, 11958.900000000001, 11995.730000000001, 12015.150000000001, 12026.380000000001, 12038.080000000002, 12049.590000000002, 12061.310000000001, 12072.570000000002, 12084.990000000002, 12105.350000000002, 12123.050000000003, 12141.700000000003, 12156.810000000003, 12171.580000000004, 12217.190000000004, 12236.350000000004, 12253.300000000005, 12269.950000000004, 12274.840000000004]}, "max JVM host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.8010498912486499, 0.9470571505901294, 0.960153834844363, 0.9880690810940991, 0.9881399223659291, 0.9876800746212409, 0.9890759064468689, 0.9838252967338423, 0.9690614505522943, 0.9546069133112128, 0.9733046372155305, 0.9928377391530805, 0.9917625010703013, 0.9963568607129263, 0.9951449943326744, 0.9705619910807691, 0.9518781576455412, 0.9277832848178902, 0.9557488880169739, 0.9493233433461772, 0.9459206242911595, 0.9404698514249599, 0.9408367278214513, 0.9415635490365348, 0.9284310976547484, 0.9251455425756179, 0.92952012585091, 0.9184734903165476, 0.8337690420610981, 0.9291694807989155, 0.9263193578969486, 0.9269728954808428, 0.9494227979583861, 0.9626072428459868, 0.95909895323791, 0.9223862588655753, 0.9192272035554012, 0.9231783696847302, 0.9434449876305788, 0.960038480900263, 0.9439834557136528, 0.9382005205410409, 0.9424290358242047, 0.9519240776738236, 0.8810200936029091, 0.9066967086209768, 0.9129467042680929, 0.9272266421367243, 0.9360345138707347, 0.9451941349395354, 0.9789600503472369, 0.9731952984848705, 0.9327978821733175, 0.9061672075932687, 0.904166877916316, 0.9401302009630015, 0.9097775783007638, 0.8787584461745241, 0.9038614146672677, 0.9022295361969939, 0.8987102971380867, 0.8990005840584148, 0.9139996903178969, 0.9410363155019711, 0.9362598259625663, 0.929997917067982, 0.9333622413255822, 0.9196643319202714, 0.8967568337793371, 0.7922150387665683, 0.877498991811984, 0.8737144627378541, 0.9113619014852408, 0.9280682630777213]}, "accumulated proc read bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1.101952655E9, 1.725698876E9, 2.226298703E9, 2.677978043E9, 3.135192887E9, 3.615513454E9, 4.080364954E9, 4.524982739E9, 4.981233982E9, 5.437576682E9, 5.980007379E9, 6.722987574E9, 7.089411502E9, 7.463572204E9, 7.841055576E9, 8.241782056E9, 8.653494731E9, 9.053067755E9, 9.447923837E9, 9.823307383E9, 1.0687398013E10, 1.194950823E10, 1.3185240587E10, 1.3982257431E10, 1.4379052688E10, 1.4661332766E10, 1.4934788841E10, 1.5206976481E10, 1.5438993284E10, 1.6069777945E10, 1.7242567841E10, 1.775638033E10, 1.8027263882E10, 1.8210372462E10, 1.8399264846E10, 1.8590931392E10, 1.8770743046E10, 1.8941167914E10, 1.9098980404E10, 1.9250454487E10, 1.9390065894E10, 1.9518966869E10, 1.9634513164E10, 1.9722319394E10, 1.9785958934E10, 1.984120762E10, 1.9897472893E10, 1.9954810078E10, 2.0003725038E10, 2.0038690066E10, 2.0071337203E10, 2.0101903406E10, 2.0132764473E10, 2.0166702042E10, 2.0200015307E10, 2.0231240036E10, 2.0254162506E10, 2.0278380477E10, 2.0295773179E10, 2.0314111898E10, 2.0332582336E10, 2.0349966243E10, 2.0368264161E10, 2.0384594354E10, 2.0400797386E10, 2.0416072192E10, 2.0432405257E10, 2.044860618E10, 2.0461286258E10, 2.0479032128E10, 2.0494304047E10, 2.0507797377E10, 2.0515668822E10, 2.0519827914E10]}, "median proc peak disk read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8388.608, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 5731.1297405189625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 164.49799196787149, 0.0, 0.0, 0.0, 8388.608, 8388.608, 0.0, 0.0, 0.0, 8397.005005005007, 8363.51744765703, 0.0, 0.0, 8388.608, 0.0, 8380.227772227774, 8371.864271457085, 8380.227772227774, 8388.608, 8388.608, 8388.608, 8380.227772227774, 8388.608, 8388.608, 6065.515545914678, 8388.608, 8388.608, 4288.0, 0.0, 0.0, 0.0, 0.0]}, "isStackTracesProfiler" : {"true" : true}, "accumulated proc write bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [4.3857414E7, 1.40847741E8, 2.93941696E8, 4.53954489E8, 5.16183059E8, 5.78434502E8, 6.40698303E8, 9.30197204E8, 9.88852179E8, 1.135278248E9, 1.779545196E9, 2.99532811E9, 3.57947392E9, 3.634734955E9, 3.690035531E9, 3.745327234E9, 3.800629959E9, 3.866770449E9, 4.495903933E9, 4.999361055E9, 6.279286287E9, 7.706163014E9, 8.818417125E9, 9.380757533E9, 9.544093676E9, 9.588496318E9, 9.632891655E9, 9.676942237E9, 1.016338642E10, 1.137313344E10, 1.2504203978E10, 1.2920519098E10, 1.3103667745E10, 1.3237574416E10, 1.327084109E10, 1.3304122986E10, 1.3461129451E10, 1.3707341605E10, 1.373688894E10, 1.3845401424E10, 1.4212195206E10, 1.4303640995E10, 1.4740932446E10, 1.5454824107E10, 1.5823557542E10, 1.5834693729E10, 1.5845806892E10, 1.5856904446E10, 1.5913539424E10, 1.6241066117E10, 1.6248865136E10, 1.6256281969E10, 1.6263340574E10, 1.6271132548E10, 1.6278557581E10, 1.6285983441E10, 1.6390396362E10, 1.6725594352E10, 1.6729317205E10, 1.6733047696E10, 1.6742085627E10, 1.674579593E10, 1.6749505669E10, 1.675322153E10, 1.6756932332E10, 1.6760643217E10, 1.6764359079E10, 1.6768069883E10, 1.6771037417E10, 1.6775494929E10, 1.6779199232E10, 1.6798861753E10, 1.6844496325E10, 1.7151668636E10]}}
\ No newline at end of file
+window.data = {"median proc tree user CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.0808888086408044, 0.08891255010048753, 0.026023617242856168, 0.025022448926687885, 0.02390411759635717, 0.03340617261272993, 0.025733078399543426, 0.027111952561372353, 0.027389481626317557, 0.029381525377499218, 0.025626274165707164, 0.02642507874673818, 0.02481380875275211, 0.037725312100184205, 0.02482820668715259, 0.022839540013662524, 0.0473000755405439, 0.04625959167979858, 0.05133783157161911, 0.048726564949079246, 0.04546650222769178, 0.05468283763197651, 0.06901240896096657, 0.05053380173416459, 0.07818579925884347, 0.0635517863580155, 0.06849390476013037, 0.049263209564254166, 0.037263994208825015, 0.05774571694795603, 0.04647476092035437, 0.05294546195189418, 0.05346933231192617, 0.025056442931589862, 0.023889553815184157, 0.04217015161456824, 0.041525824498253865, 0.044638667236819474, 0.04383673731992274, 0.03458796550313935, 0.045481958124921715, 0.02398352872567396, 0.03086434080301668, 0.03256067695854201, 0.024352177038618618, 0.023241737002425877, 0.04444245721078477, 0.03672675993611553, 0.03767392000025396, 0.031176849528208983, 0.03170789413503686, 0.04022300879969222, 0.035345892153894796, 0.03248261395391803, 0.034933892150353314, 0.034009059271678105, 0.044341176956069234, 0.023033838873961453, 0.022739510173764195, 0.02380628885638378, 0.02339610821671929, 0.02406890206878924, 0.023251156057895968, 0.024768319363729425, 0.038710986580324874, 0.035061167279212324, 0.03270232144986025, 0.028419661541372397, 0.03450352130735872, 0.04690247235820729, 0.033922116893410806, 0.034572671435234625, 0.03186352363898815, 0.0205594344238915]}, "max proc peak disk write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [232.4871001031992, 38229.333333333336, 48809.26200274348, 69544.18376722817, 32.669990029910274, 32.833667334669336, 32.768, 109862.912, 24.576, 87760.89600000001, 108113.92, 106663.936, 98041.5935935936, 20.459540459540463, 24.576, 32.768, 24.6006006006006, 10883.072, 86122.496, 102301.696, 111751.168, 94695.424, 88641.53600000001, 57409.536, 54472.704, 28.7007007007007, 28.91294117647059, 42.01025641025641, 95186.944, 89874.432, 56741.888, 47079.424, 48951.296, 24.576, 42.666666666666664, 24.576, 84992.0, 122978.304, 24.576, 40.96, 117309.44, 24.576, 113120.79920079921, 116129.792, 99201.024, 24.74924471299094, 16.384, 24.429423459244532, 16.384, 109605.85014985016, 12.288, 24.6006006006006, 19.83535108958838, 63.34020618556701, 44.52173913043478, 14.447971781305116, 24.551448551448555, 85790.94505494507, 8.192, 8.192, 5324.8, 8.192, 8.233165829145728, 28.500994035785286, 8.200200200200202, 11.838150289017342, 16.302487562189057, 8.192, 8.393442622950818, 16.318725099601593, 8.17564870259481, 8.200200200200202, 11293.666333666337, 86863.872]}, "median minor GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.01325, 0.006502902902902903, 0.01, 0.06058762088974855, 0.0315786917740337, 0.0078, 0.0114, 0.011099999999999999, 0.0112, 0.013000000000000001, 0.0068000000000000005, 0.0125, 0.0058, 0.006927748132337247, 0.0381, 0.0098, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0173000056000056, 0.0, 0.0, 0.0, 0.0, 0.008900000000000002, 0.008722222222222223, 0.006994926719278467, 0.0021999999999999997, 0.0, 0.0, 0.0094, 0.0, 0.008693706293706294, 0.0, 0.0017142857142857144, 0.009302702702702703, 0.014249293119698397, 0.0, 0.0, 0.0, 0.005, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.008146964856230033, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.007000000000000001, 0.0046]}, "max proc peak disk read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [69.42372881355932, 4.0594648166501495, 0.0, 0.0, 126.54994850669414, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8413.849548645938, 8466.432, 8422.297188755021, 8551.078491335371, 8388.608, 8388.608, 14696.448, 8466.432, 8397.005005005007, 8388.608, 8388.608, 14696.448, 8466.432, 8388.608, 8388.608, 8388.608, 8388.608, 5731.1297405189625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8388.608, 8388.608, 5845.719860627178, 8388.608, 164.49799196787149, 8388.608, 2785.062416998672, 8388.608, 8388.608, 8388.608, 6492.730650154798, 8447.742195367573, 8388.608, 8397.005005005007, 8363.51744765703, 0.0, 8380.227772227774, 8388.608, 8380.227772227774, 8380.227772227774, 8371.864271457085, 8380.227772227774, 8388.608, 8388.608, 8388.608, 8380.227772227774, 8388.608, 8388.608, 6065.515545914678, 8388.608, 8388.608, 4288.0, 0.0, 0.0, 0.0, 0.0]}, "max proc tree CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.08886396051102072, 0.09192539183640036, 0.06852613450313576, 0.05227330224830181, 0.05439236010067665, 0.042941501205965744, 0.04025919354111663, 0.03295709374820193, 0.040043590227178, 0.05066168932719027, 0.04788689832174755, 0.05057450782898491, 0.036359522395729246, 0.06495053158678601, 0.05672536540150308, 0.09223642310370621, 0.06805513489550889, 0.06340190453072035, 0.08785157723668793, 0.0744018429188752, 0.06082385676649663, 0.08617878454733045, 0.07171331430414633, 0.07741305534444169, 0.07942545241414269, 0.07174464532414285, 0.0790951156023041, 0.07279030175989733, 0.07358262804822323, 0.08279898217878226, 0.05876047363371393, 0.09006449340626066, 0.08132998510429565, 0.06931362859718193, 0.060970235346783884, 0.08737271460902421, 0.0676645958115425, 0.06956285302238756, 0.054755370478588264, 0.05313190706574378, 0.06193320730635393, 0.04948614031014211, 0.048043810500709806, 0.0504766443577072, 0.042752051914697116, 0.0450516197780811, 0.05090600069075074, 0.052284212486282344, 0.04241093488528287, 0.04095768981056705, 0.03568814073840445, 0.041112178405529005, 0.03914841689601602, 0.047352766817312646, 0.038456928180788955, 0.034399071278905506, 0.04576539504598891, 0.026113810730760936, 0.023514640777742714, 0.024497503686805387, 0.024108617323259224, 0.024550666986417273, 0.02358619086510877, 0.025938277602791472, 0.03987393293964638, 0.03586969915168241, 0.03387824597157011, 0.029741142715327462, 0.03675635534738431, 0.04933548945630608, 0.03495026220228909, 0.03549405855238927, 0.03427162433080786, 0.02270594777606154]}, "accumulated RSS memory" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [127979.56883990574, 460173.1986142113, 852245.4946014272, 1213483.912570177, 1559663.334445177, 1908591.670382677, 2259841.939913927, 2613442.0113424985, 2948722.4449362485, 3285991.8277487485, 3625189.8707174985, 3966068.334584686, 4288700.072865936, 4614482.065053436, 4942843.928334686, 5273806.912709686, 5606683.639272186, 5941080.467397186, 6276557.943959686, 6614245.272084686, 6953600.010365936, 7294184.81418538, 7615994.65793538, 7918715.00949788, 8222811.25168538, 8507687.114966631, 8793545.009497881, 9080030.692657603, 9366856.800612148, 9654054.183858676, 9917368.715108676, 1.0160763312764926E7, 1.0404310519796176E7, 1.062765028790697E7, 1.085087004962572E7, 1.107407059650072E7, 1.129728065900072E7, 1.152059141681322E7, 1.171900487775072E7, 1.191761103400072E7, 1.2116264561902506E7, 1.2290063112683756E7, 1.2463822534558756E7, 1.2612910285674827E7, 1.2712168875518577E7, 1.2786499504424827E7, 1.2860843965362327E7, 1.2935192199737327E7, 1.3009565523956077E7, 1.3083963945831077E7, 1.3133536916356646E7, 1.3183115514012896E7, 1.3232702870349701E7, 1.328230288881561E7, 1.333191240834686E7, 1.338152924037811E7, 1.343117079115936E7, 1.348082777553436E7, 1.350557109194061E7, 1.353029968959686E7, 1.355498761928436E7, 1.357967273647186E7, 1.360435843569061E7, 1.362904792787811E7, 1.365375113490936E7, 1.367846688100311E7, 1.370319052553436E7, 1.372792002553436E7, 1.375265432240936E7, 1.37774025808729E7, 1.380216523321665E7, 1.38269352371229E7, 1.38517374558729E7, 1.38765592058729E7]}, "total reserved" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [53760.0, 53760.0, 51200.0, 46080.0, 43520.0, 43520.0, 43520.0, 43520.0, 40960.0, 40960.0, 40960.0, 40960.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 38400.0, 35840.0, 33280.0, 33280.0, 30720.0, 30720.0, 30720.0, 30720.0, 30720.0, 28160.0, 25600.0, 25600.0, 23040.0, 23040.0, 23040.0, 23040.0, 23040.0, 20480.0, 20480.0, 20480.0, 17920.0, 17920.0, 15360.0, 10240.0, 7680.0, 7680.0, 7680.0, 7680.0, 7680.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 5120.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0]}, "max proc host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.9548529631603954, 0.948673530645125, 0.9601553664906383, 0.9879488826128162, 0.9881004083288243, 0.9876664384360867, 0.9891506307051123, 0.9837611574232137, 0.9689714851463143, 0.9546473300200022, 0.9733735105920303, 0.9928888708471992, 0.9918092302986251, 0.9963575756904625, 0.9953599642246486, 0.9705583195917544, 0.9518338293305822, 0.9277801197526194, 0.9558274816292155, 0.9492846043450145, 0.9458833535126802, 0.9405235550955237, 0.9408211258026723, 0.9415603721331987, 0.9284326319089878, 0.9250423185813148, 0.929837883594538, 0.9193673849303314, 0.9178316211806974, 0.928720844371591, 0.9392819997740606, 0.9268174703607505, 0.9495721489553877, 0.9612811729682527, 0.9429399411196592, 0.921842714050797, 0.9194363763204333, 0.923092802610277, 0.9434260141690478, 0.9600392791738382, 0.9438958600302128, 0.9382482839422439, 0.9424128670719714, 0.9516204131468132, 0.9357046981148438, 0.9147639319191712, 0.9129552444795719, 0.9271833641066356, 0.9360780354680814, 0.9453796159558482, 0.978275537944135, 0.9731926663523411, 0.9327690919678595, 0.9061531625676682, 0.901595248029232, 0.9403070346986405, 0.9098158879531828, 0.8785920940175569, 0.903941376167745, 0.9023500078133413, 0.8986890249518144, 0.8988798831584017, 0.9141259982446893, 0.9410304596269012, 0.936210159037777, 0.9301667077850515, 0.9360970536685758, 0.9196789501078857, 0.8968093901125198, 0.8743256003613027, 0.8775051846942009, 0.87357632106558, 0.911539452674648, 0.9256708691901407]}, "percentiles proc host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [0.2281682033892451, 0.6461831366099824, 0.3731231475320313, 0.9879488826128162, 0.9556157411813562, 0.4897574649672909, 0.4092377420310019, 0.2494788581844969, 0.14752689760957763, 0.9546473300200022, 0.2183461364281015, 0.4924858409303109, 0.39666829506209494, 0.3791684131185776, 0.9953599642246486, 0.7250757196367261, 0.6194576555570693, 0.5633079623426449, 0.5332491629308393, 0.267483358417613, 0.5791899428507037, 0.5931293486293041, 0.44803138335424836, 0.6539626133997637, 0.1019520523265585, 0.6043231301460158, 0.17949252863371504, 0.5491525005684754, 0.7318737048605282, 0.30837159259446134, 0.6698677399090665, 0.6498125091758653, 0.6751111178982501, 0.17211176256801516, 0.2048456849569496, 0.21289630619789252, 0.1535450976107457, 0.923092802610277, 0.7578022092120029, 0.1831804607319706, 0.7143105856239645, 0.39143186312951805, 0.9424128670719714, 0.24740339810555226, 0.3883530330980809, 0.8979284265263286, 0.9066943638794116, 0.9126903069268618, 0.33560734752638915, 0.6931562017957148, 0.978275537944135, 0.9569872519164522, 0.9284223945425877, 0.9061531625676682, 0.9001303407650347, 0.8991178308963029, 0.9098158879531828, 0.8785920940175569, 0.903941376167745, 0.9023500078133413, 0.8986890249518144, 0.8988798831584017, 0.9141259982446893, 0.9410304596269012, 0.936210159037777, 0.9301667077850515, 0.9360970536685758, 0.9196789501078857, 0.8968093901125198, 0.8743256003613027, 0.8775051846942009, 0.87357632106558, 0.911539452674648, 0.9256708691901407], "p90" : [0.5915105832748202, 0.7974283336275537, 0.6666392570113349, 0.9879488826128162, 0.9718580747550902, 0.7387119517016888, 0.6991941863680571, 0.6166200078038553, 0.5582491913779459, 0.9546473300200022, 0.5958598235100658, 0.742687355888755, 0.6942387626803601, 0.68776299440452, 0.9953599642246486, 0.8478170196142403, 0.7856457424438258, 0.7455440410476322, 0.7445383222800275, 0.6083839813813137, 0.762536648181692, 0.7668264518624139, 0.6944262545784603, 0.7977614927664811, 0.5151923421177732, 0.7646827243636654, 0.5546652061141265, 0.7342599427494034, 0.8248526630206128, 0.6185462184830262, 0.8045748698415636, 0.7883149897683079, 0.8123416334268189, 0.5666964677681339, 0.5738928130383043, 0.5673695101243448, 0.5364907369655896, 0.923092802610277, 0.8506141116905254, 0.5716098699529044, 0.8291032228270887, 0.664840073535881, 0.9424128670719714, 0.5995119056261827, 0.6620288656064623, 0.9063461792227498, 0.9098248041794917, 0.9199368355167488, 0.6358426914972353, 0.8192679088757815, 0.978275537944135, 0.9650899591343967, 0.9305957432552237, 0.9061531625676682, 0.9008627943971333, 0.9197124327974717, 0.9098158879531828, 0.8785920940175569, 0.903941376167745, 0.9023500078133413, 0.8986890249518144, 0.8988798831584017, 0.9141259982446893, 0.9410304596269012, 0.936210159037777, 0.9301667077850515, 0.9360970536685758, 0.9196789501078857, 0.8968093901125198, 0.8743256003613027, 0.8775051846942009, 0.87357632106558, 0.911539452674648, 0.9256708691901407], "p99" : [0.8458502491947228, 0.9032999715398536, 0.8721005336468473, 0.9879488826128162, 0.983227708256704, 0.9129800924157674, 0.9021636974039958, 0.8736188125374061, 0.8457547970158037, 0.9546473300200022, 0.860119404467441, 0.9178284163596659, 0.9025380900131457, 0.9037792013046797, 0.9953599642246486, 0.9337359295985002, 0.9019774032645553, 0.8731092961411233, 0.8924407338244591, 0.8470144174559042, 0.8908793419133837, 0.8884144241255907, 0.8669026644354088, 0.8984207083231834, 0.8044605449716234, 0.87693444031602, 0.8172860803504145, 0.863835152276053, 0.889937933732672, 0.8356684566050215, 0.8988698607943114, 0.8852667261830177, 0.908402994296817, 0.842905761408217, 0.8322258026952527, 0.8155007528728613, 0.8045526845139801, 0.923092802610277, 0.9155824434254911, 0.8435104564075581, 0.9094580688692755, 0.856225820820335, 0.9424128670719714, 0.845987860890624, 0.8536019483623294, 0.9122386061102448, 0.9120161123895478, 0.9250094055296695, 0.8460074322768276, 0.9075461038318282, 0.978275537944135, 0.9707618541869578, 0.9321170873540687, 0.9061531625676682, 0.9013755119396024, 0.9341286541282898, 0.9098158879531828, 0.8785920940175569, 0.903941376167745, 0.9023500078133413, 0.8986890249518144, 0.8988798831584017, 0.9141259982446893, 0.9410304596269012, 0.936210159037777, 0.9301667077850515, 0.9360970536685758, 0.9196789501078857, 0.8968093901125198, 0.8743256003613027, 0.8775051846942009, 0.87357632106558, 0.911539452674648, 0.9256708691901407], "max" : [0.9548529631603954, 0.948673530645125, 0.9601553664906383, 0.9879488826128162, 0.9881004083288243, 0.9876664384360867, 0.9891506307051123, 0.9837611574232137, 0.9689714851463143, 0.9546473300200022, 0.9733735105920303, 0.9928888708471992, 0.9918092302986251, 0.9963575756904625, 0.9953599642246486, 0.9705583195917544, 0.9518338293305822, 0.9277801197526194, 0.9558274816292155, 0.9492846043450145, 0.9458833535126802, 0.9405235550955237, 0.9408211258026723, 0.9415603721331987, 0.9284326319089878, 0.9250423185813148, 0.929837883594538, 0.9193673849303314, 0.9178316211806974, 0.928720844371591, 0.9392819997740606, 0.9268174703607505, 0.9495721489553877, 0.9612811729682527, 0.9429399411196592, 0.921842714050797, 0.9194363763204333, 0.923092802610277, 0.9434260141690478, 0.9600392791738382, 0.9438958600302128, 0.9382482839422439, 0.9424128670719714, 0.9516204131468132, 0.9357046981148438, 0.9147639319191712, 0.9129552444795719, 0.9271833641066356, 0.9360780354680814, 0.9453796159558482, 0.978275537944135, 0.9731926663523411, 0.9327690919678595, 0.9061531625676682, 0.901595248029232, 0.9403070346986405, 0.9098158879531828, 0.8785920940175569, 0.903941376167745, 0.9023500078133413, 0.8986890249518144, 0.8988798831584017, 0.9141259982446893, 0.9410304596269012, 0.936210159037777, 0.9301667077850515, 0.9360970536685758, 0.9196789501078857, 0.8968093901125198, 0.8743256003613027, 0.8775051846942009, 0.87357632106558, 0.911539452674648, 0.9256708691901407]}, "max proc peak write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [3933.266666666667, 38782.116666666676, 49297.67215363512, 70048.4946401225, 459.50429447852764, 441.31418522860497, 380.4303153611394, 110229.298, 377.409, 88114.69, 108477.61, 107027.933, 98405.82182182182, 1341.897810218978, 521.7888730385165, 670.9707495429616, 3870.515789473684, 11227.582, 86488.673, 102660.959, 112111.986, 95057.007, 89004.308, 57774.111000000004, 54840.608, 2080.685393258427, 912.9975728155341, 1929.0, 95550.893, 90228.642, 57108.840000000004, 58621.809195402304, 51002.778, 51000.179000000004, 2389.3766233766232, 1882.6237113402062, 85320.019, 123382.621, 867.6850574712644, 51209.64435564436, 117575.583, 35150.18706467662, 113488.76323676326, 116502.522, 99568.527, 1863.78391959799, 646.4265734265736, 751.3876739562625, 17930.453093812375, 109976.97302697304, 1866.2551020408164, 1261.3275862068967, 905.5157384987893, 1948.1907216494844, 2054.076086956522, 680.5504587155963, 43381.938, 86163.60039960041, 378.00100000000003, 377.957, 5670.535, 377.957, 378.8110552763819, 377.0731462925852, 589.0159744408945, 543.0187861271677, 1725.570093457944, 631.5807560137458, 476.139896373057, 2175.023668639053, 1135.5493827160494, 16302.765234765238, 21819.749711649365, 87239.163]}, "accumulated used off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [8649.384546279907, 25436.45473150223, 44303.074128578926, 61918.642266701485, 78758.1839537132, 95638.4384321678, 112599.54410691145, 129566.42528454118, 145598.15737835222, 161661.9018088942, 177754.33064190202, 193865.6521884566, 209148.57758823686, 224418.27139011674, 239691.8222171431, 254989.6684924727, 270303.4977542525, 285626.4792148238, 300967.12161747273, 316304.67683140095, 331632.2440463668, 346968.55820003804, 361473.7517806655, 375149.4254180556, 388831.8545867568, 401677.07615200337, 414536.74859157857, 427394.5045442017, 440261.35312430206, 453190.3061730081, 465012.9980065042, 476020.94994131866, 487041.5585372727, 497232.51814725803, 507433.7300765793, 517639.2231033127, 527861.5180633347, 538094.484633871, 547160.6396479091, 556254.6290430507, 565380.3692076713, 573338.6709425956, 581342.8788359672, 588233.2216508214, 592795.2817628209, 596173.8192002599, 599553.7552735631, 602938.3656785314, 606338.4785096471, 609760.3984137202, 612022.0900030757, 614283.2310553218, 616545.5451727534, 618808.3235554883, 621071.0937886426, 623337.4871220776, 625631.7210469433, 627944.0353910769, 629079.2936613406, 630214.6877577151, 631350.5059263553, 632486.4729826297, 633622.4443724002, 634761.5588896121, 635902.579733118, 637044.2385694827, 638186.2818510379, 639328.2770140017, 640470.1530344333, 641613.8919718112, 642760.1762506808, 643909.7547495211, 645081.0706446017, 646256.9872858371]}, "isJvmProfiler" : {"true" : true}, "total RSS memory" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [24542.8671875, 38467.125, 39659.83203125, 36369.171875, 34754.24609375, 34982.0859375, 35276.35546875, 35439.88671875, 33599.2890625, 33836.89453125, 34011.6796875, 34180.046875, 32440.859375, 32736.328125, 32920.96484375, 33209.37890625, 33364.75390625, 33494.8125, 33596.38671875, 33854.02734375, 33984.71875, 34146.62890625, 32230.16015625, 30313.68359375, 30458.5, 28513.0078125, 28624.40234375, 28658.6875, 28706.44140625, 28729.0703125, 26341.89453125, 24346.9453125, 24364.4609375, 22343.85546875, 22331.4921875, 22333.1875, 22331.71484375, 22335.53515625, 19843.6875, 19864.42578125, 19866.3984375, 17386.0390625, 17381.74609375, 14912.13671875, 9928.9609375, 7434.265625, 7434.58984375, 7434.95703125, 7438.56640625, 7441.53125, 4957.375, 4958.06640625, 4958.99609375, 4960.2734375, 4961.40625, 4962.125, 4965.15625, 4966.171875, 2474.3671875, 2474.3515625, 2471.87890625, 2468.5390625, 2468.58984375, 2469.10546875, 2471.3828125, 2471.91796875, 2472.42578125, 2473.05859375, 2473.5390625, 2476.04296875, 2476.7421875, 2478.8203125, 2482.23046875, 2482.2734375]}, "max anonymous page bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1919.24609375, 1980.43359375, 2080.5078125, 2103.69921875, 2104.75390625, 2110.00390625, 2130.4296875, 2146.5859375, 2167.8671875, 2193.90625, 2219.1171875, 2234.609375, 2301.6484375, 2343.7734375, 2354.58203125, 2373.58984375, 2388.01953125, 2395.85546875, 2405.5625, 2418.4296875, 2424.046875, 2440.078125, 2452.65234375, 2459.40234375, 2466.4140625, 2466.74609375, 2466.81640625, 2467.53125, 2468.0546875, 2468.3671875, 2468.4375, 2468.48828125, 2469.5234375, 2469.5234375, 2469.46875, 2471.34765625, 2464.4609375, 2464.8125, 2464.859375, 2464.89453125, 2464.984375, 2464.984375, 2464.96875, 2458.78515625, 2458.47265625, 2454.14453125, 2454.1796875, 2454.3125, 2454.36328125, 2454.46875, 2454.55859375, 2454.5625, 2454.52734375, 2454.609375, 2454.6171875, 2454.61328125, 2456.66015625, 2456.7421875, 2439.546875, 2439.46484375, 2436.9921875, 2433.59765625, 2433.6171875, 2434.19921875, 2436.4375, 2437.203125, 2437.921875, 2438.2421875, 2438.58984375, 2441.12890625, 2441.765625, 2444.65625, 2446.7578125, 2446.80078125]}, "total used heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [16613.585075378418, 29871.666618347168, 31355.712516784668, 29035.945838928223, 27050.86328125, 27335.945190429688, 27549.2430267334, 27217.887580871582, 25787.55771636963, 26211.260147094727, 26095.97031402588, 26134.68044281006, 25201.98641204834, 24676.567489624023, 25037.696350097656, 25160.492568969727, 25752.791732788086, 25690.230545043945, 25921.459114074707, 26066.73415374756, 26268.916015625, 26106.858016967773, 24743.161277770996, 23101.11823272705, 22925.96630859375, 21141.17197418213, 21508.89395904541, 21532.82127380371, 21677.037254333496, 21571.090446472168, 19703.28520965576, 17734.431266784668, 17241.690879821777, 15709.188735961914, 15412.465209960938, 15653.902160644531, 15701.004211425781, 15601.908103942871, 14274.042663574219, 14211.589057922363, 13940.01887512207, 12288.970054626465, 12092.887062072754, 10114.185134887695, 6730.603630065918, 5270.23747253418, 5274.225898742676, 5282.613059997559, 5312.375747680664, 5216.604064941406, 3508.4236755371094, 3543.985664367676, 3541.526870727539, 3576.8008346557617, 3499.642967224121, 3606.5864486694336, 3600.9003982543945, 3275.1018142700195, 1681.8248291015625, 1669.4458389282227, 1722.2901992797852, 1732.0581588745117, 1703.5592498779297, 1717.1098251342773, 1729.0329055786133, 1751.8208312988281, 1695.338508605957, 1778.685447692871, 1704.9708786010742, 1744.2445373535156, 1697.6659317016602, 1771.970962524414, 1766.2781372070312, 1650.3584060668945]}, "accumulated proc disk read bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [4096.0, 8192.0, 8192.0, 8192.0, 143360.0, 143360.0, 143360.0, 143360.0, 143360.0, 143360.0, 143360.0, 2.3293952E7, 4.0280064E7, 6.5462272E7, 8.2239488E7, 1.1579392E8, 1.49348352E8, 1.78245632E8, 2.0348928E8, 2.37043712E8, 2.70598144E8, 3.12541184E8, 3.41368832E8, 3.66678016E8, 3.9184384E8, 4.25398272E8, 4.50564096E8, 4.84118528E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 4.8986112E8, 5.04541184E8, 5.12946176E8, 5.2140032E8, 5.29788928E8, 5.29952768E8, 5.38341376E8, 5.46729984E8, 5.55118592E8, 5.635072E8, 5.71895808E8, 5.80284416E8, 5.88673024E8, 5.97061632E8, 6.0545024E8, 6.13838848E8, 6.13838848E8, 6.22227456E8, 6.30616064E8, 6.39004672E8, 6.47397376E8, 6.55785984E8, 6.64174592E8, 6.80951808E8, 6.89340416E8, 6.97729024E8, 7.06121728E8, 7.14510336E8, 7.22898944E8, 7.31287552E8, 7.3967616E8, 7.48064768E8, 7.53004544E8, 7.53004544E8, 7.53004544E8, 7.53004544E8, 7.53004544E8]}, "percentiles proc peak read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [456548.63043478265, 3402.449, 5080.794, 2925.806613226453, 3379.7417417417414, 2338.039, 4688.535, 2325.949, 2717.82, 1813.796, 2603.034, 2457.9500000000003, 2608.058, 2480.661, 1838.6248216833098, 4954.558, 2342.338, 2471.513, 2347.2092092092093, 2544.430844553244, 13217.908, 2126.2090163934427, 2471.517, 2140.346629986245, 2757.8988764044943, 6534.196629213483, 2601.3047058823527, 2212.189, 3918.909819639279, 2338.702, 2210.8326653306617, 2776.635846372689, 2292.3926886792456, 2602.785, 2580.049, 2750.771396396396, 2658.589439655172, 2099.448051948052, 2300.7305389221556, 2333.2490000000003, 2339.226, 2607.3973973973975, 5115.80112044818, 1694.1253687315632, 2473.559, 2093.221327967807, 1943.2930000000001, 1945.3043043043044, 2525.334, 2751.664021164021, 3892.6632653061224, 1947.6736736736739, 2776.7134146341464, 2486.1666666666665, 3158.2892307692305, 2871.1240000000003, 1389.338, 1940.199, 1944.874, 1944.1901901901902, 1943.1090000000002, 1938.218, 1948.3206030150754, 1940.27, 1822.6339017051155, 1941.118, 4101.294392523365, 2866.768, 1986.0809426229507, 4535.739644970415, 2861.043912175649, 1938.693, 916.4659746251442, 5185.9800000000005], "p90" : [497745.07197414816, 8212.476512072435, 8409.935461538462, 4004.5013066132265, 4361.39037087087, 3774.9235, 4950.1715, 3833.3950000000004, 3988.9281818181817, 3454.3635000000004, 37986.705, 37721.072, 3604.4075000000003, 3815.0932737226276, 3528.0014108416544, 5020.3525, 6504.8111052631575, 3714.3235, 3775.2776046046047, 3816.4674222766216, 40935.46800000001, 36754.65800819672, 36677.4955, 30091.297314993124, 29220.425438202252, 6534.196629213483, 3780.9883529411763, 3586.4305000000004, 4974.693164853197, 29730.075000000004, 29993.81933266533, 25297.840923186348, 25548.522344339624, 5353.775478723404, 4207.371902597402, 3679.77487345593, 2658.589439655172, 2352.666025974026, 3355.391706242687, 2712.3402057654075, 2793.4674303797465, 3883.270732597004, 5115.80112044818, 2287.777755009424, 3613.3432254901963, 3288.882020767823, 2242.8951338797815, 2189.338635256032, 2802.411057052298, 3603.8493516224735, 3892.6632653061224, 2517.3075264920094, 2789.9027121596882, 5937.72766323024, 3676.7641806020065, 2871.1240000000003, 1617.0, 2173.8186142191144, 1944.874, 1944.1901901901902, 1943.1090000000002, 1938.218, 1948.3206030150754, 1940.27, 1822.6339017051155, 1941.118, 4101.294392523365, 2866.768, 1986.0809426229507, 4535.739644970415, 2861.043912175649, 1938.693, 916.4659746251442, 5185.9800000000005], "p99" : [526582.581051704, 11579.495770523139, 10740.334484615383, 4759.587591983967, 5048.544411261261, 4780.74265, 5133.31705, 4888.6072, 4878.703909090909, 4602.76075, 62755.2747, 62405.2574, 4301.852150000001, 4749.195865328467, 4710.565023252496, 5066.40865, 9418.542278947369, 4584.290849999999, 4774.925481381382, 4706.893026682987, 60337.76000000001, 60994.57230245901, 60621.68044999999, 49656.962794497944, 47744.194031460676, 6534.196629213483, 4606.766905882353, 4548.39955, 5713.741506502939, 48904.036100000005, 49441.9099997996, 41062.6844769559, 41827.81310330189, 7279.468813829787, 5346.497934415585, 4330.077307397603, 2658.589439655172, 2529.9186077922077, 4093.6545233670595, 2977.704049801193, 3111.4364316455694, 4776.382067236728, 5115.80112044818, 2703.334425403926, 4411.192183333334, 4125.844505727834, 2452.6166275956284, 2360.162666922241, 2996.3649969889066, 4200.379082943389, 3892.6632653061224, 2916.051223464844, 2799.1352204275677, 8353.820360824742, 4039.6966454849494, 2871.1240000000003, 1776.3634, 2337.352344172494, 1944.874, 1944.1901901901902, 1943.1090000000002, 1938.218, 1948.3206030150754, 1940.27, 1822.6339017051155, 1941.118, 4101.294392523365, 2866.768, 1986.0809426229507, 4535.739644970415, 2861.043912175649, 1938.693, 916.4659746251442, 5185.9800000000005], "max" : [538941.5135135136, 13022.50402414487, 11739.076923076922, 5083.196, 5343.039, 5211.808, 5211.808, 5340.841, 5260.036363636364, 5094.9310000000005, 73370.376, 72984.194, 4600.7570000000005, 5149.525547445255, 5217.378, 5086.147, 10667.284210526315, 4957.134, 5203.3460000000005, 5088.504, 68653.028, 71383.107, 70883.474, 58042.248, 55682.952000000005, 6534.196629213483, 4960.6720000000005, 4960.6720000000005, 6030.476510067115, 57121.448000000004, 57776.806000000004, 47819.046, 48804.652, 8104.765957446809, 5834.694805194806, 4608.778350515464, 2658.589439655172, 2605.884, 4410.052873563219, 3091.4314115308152, 3247.7088607594933, 5159.14406779661, 5115.80112044818, 2881.430141287284, 4753.1274509803925, 4484.542713567839, 2542.497267759563, 2433.3729662077594, 3079.488114104596, 4456.034682080925, 3892.6632653061224, 3086.941379310345, 2803.09200968523, 9389.288659793814, 4195.239130434782, 2871.1240000000003, 1844.662, 2407.4382284382286, 1944.874, 1944.1901901901902, 1943.1090000000002, 1938.218, 1948.3206030150754, 1940.27, 1822.6339017051155, 1941.118, 4101.294392523365, 2866.768, 1986.0809426229507, 4535.739644970415, 2861.043912175649, 1938.693, 916.4659746251442, 5185.9800000000005]}, "max used heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1496.0718612670898, 1675.8906326293945, 1676.350601196289, 1683.9777603149414, 1657.8328399658203, 1717.8273544311523, 1720.7607345581055, 1710.9806594848633, 1725.8095932006836, 1722.361717224121, 1716.933937072754, 1728.1061172485352, 1772.769027709961, 1757.7164688110352, 1769.7581100463867, 1763.3184356689453, 1783.166000366211, 1793.5485610961914, 1809.3613662719727, 1818.1492156982422, 1826.1580963134766, 1825.3929061889648, 1833.216896057129, 1828.0484924316406, 1850.8810119628906, 1856.991844177246, 1876.3406600952148, 1876.3291702270508, 1908.3199157714844, 1858.6975860595703, 1840.7701873779297, 1858.8858795166016, 1845.3076858520508, 1851.8481521606445, 1840.2326583862305, 1844.333251953125, 1860.4551849365234, 1855.8119812011719, 1862.527687072754, 1848.589225769043, 1848.885643005371, 1827.8921966552734, 1785.786521911621, 1798.024772644043, 1792.2458190917969, 1847.7609405517578, 1853.606918334961, 1823.0056991577148, 1793.5102920532227, 1860.6786651611328, 1830.2296905517578, 1851.1719284057617, 1789.8897171020508, 1863.1744232177734, 1819.9352951049805, 1818.1992492675781, 1846.0782470703125, 1695.4044876098633, 1681.8248291015625, 1669.4458389282227, 1722.2901992797852, 1732.0581588745117, 1703.5592498779297, 1717.1098251342773, 1729.0329055786133, 1751.8208312988281, 1695.338508605957, 1778.685447692871, 1704.9708786010742, 1744.2445373535156, 1697.6659317016602, 1771.970962524414, 1766.2781372070312, 1650.3584060668945]}, "percentiles JVM host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [0.25917021692997766, 0.6460906664849275, 0.3729905544560774, 0.9880690810940991, 0.9556625810678613, 0.49011134766253495, 0.41420863861523216, 0.24944092152635822, 0.14756833629336366, 0.9546069133112128, 0.21830045283366323, 0.4923607734525297, 0.39597273177423575, 0.37965920127872704, 0.9951449943326744, 0.7256626303097692, 0.6194901211167921, 0.5632889622773919, 0.5336142141916118, 0.2676162430987213, 0.5802101204894197, 0.5932471888997564, 0.4481517026630747, 0.6538547179228018, 0.101878804222998, 0.6050763398251029, 0.17943048467272663, 0.549245130136196, 0.732504276263312, 0.3083784140121112, 0.6698589565583712, 0.6495572454910741, 0.67510952447643, 0.17211584687655473, 0.20486523331124573, 0.21281733383731014, 0.15357738999819198, 0.9231783696847302, 0.7553905189291846, 0.18318796267887977, 0.7143549626293975, 0.39152506055921366, 0.9424290358242047, 0.24659182941266802, 0.38817282117275365, 0.8979931022226403, 0.9072223356252082, 0.9124357158091089, 0.335421999390923, 0.6925308874645615, 0.9789600503472369, 0.9570468760736863, 0.9285426591700249, 0.9061672075932687, 0.900542803516232, 0.8991762005143347, 0.9097775783007638, 0.8787584461745241, 0.9038614146672677, 0.9022295361969939, 0.8987102971380867, 0.8990005840584148, 0.9139996903178969, 0.9410363155019711, 0.9362598259625663, 0.929997917067982, 0.9333622413255822, 0.9196643319202714, 0.8967568337793371, 0.7922150387665683, 0.877498991811984, 0.8737144627378541, 0.9113619014852408, 0.9280682630777213], "p90" : [0.5301100540893138, 0.7965739085375285, 0.6665721946502201, 0.9880690810940991, 0.9719012517168952, 0.7388957111418879, 0.7016422725310505, 0.6166331091301003, 0.558314893422829, 0.9546069133112128, 0.595802545024597, 0.7425992563028051, 0.6938676164222686, 0.6880080309958267, 0.9951449943326744, 0.8481123106952692, 0.7856841393811667, 0.745536123547641, 0.7446815511042928, 0.6084697932224492, 0.7630653723902896, 0.7668585201623581, 0.6944942152422631, 0.7977091334796683, 0.5151549509388732, 0.7651109412003604, 0.5544753052618183, 0.7338593102263717, 0.7831366591622051, 0.6187739474055134, 0.7980891572276599, 0.7882650704859584, 0.812266161217408, 0.5673615448612708, 0.5819820932745778, 0.5676017963514427, 0.5364022967767965, 0.9231783696847302, 0.8494177532798817, 0.5716132217895713, 0.8291692091715251, 0.6648627905501272, 0.9424290358242047, 0.5992579535432458, 0.6345964573878313, 0.9023449054218086, 0.9100845199466505, 0.9198311789729166, 0.6357282566308289, 0.8188625112020484, 0.9789600503472369, 0.9651210872792784, 0.9306702706716712, 0.9061672075932687, 0.902354840716274, 0.9196532007386681, 0.9097775783007638, 0.8787584461745241, 0.9038614146672677, 0.9022295361969939, 0.8987102971380867, 0.8990005840584148, 0.9139996903178969, 0.9410363155019711, 0.9362598259625663, 0.929997917067982, 0.9333622413255822, 0.9196643319202714, 0.8967568337793371, 0.7922150387665683, 0.877498991811984, 0.8737144627378541, 0.9113619014852408, 0.9280682630777213], "p99" : [0.719767940100849, 0.9019121779743491, 0.8720793427861201, 0.9880690810940991, 0.9832683211712189, 0.913044765577435, 0.9028458162721233, 0.8736676404527197, 0.8458374834134547, 0.9546069133112128, 0.8600540095582505, 0.9177661942979979, 0.9023940356758915, 0.9038522117977965, 0.9951449943326744, 0.9338270869651191, 0.9020199521662289, 0.8731091364368154, 0.8924286869431696, 0.8470672783090589, 0.8910640487208985, 0.8883864520461793, 0.8669339740476949, 0.8984072243694748, 0.8044482536399858, 0.8771351621630405, 0.8170066796741825, 0.8630892362894949, 0.8185793271914302, 0.8360508207808949, 0.887850297696162, 0.8853605479823775, 0.9082758069360928, 0.844033533450572, 0.8459638952489102, 0.8159509201113355, 0.8043797315218197, 0.9231783696847302, 0.9152368173253697, 0.8435109031670553, 0.9095391817510146, 0.8561992015437667, 0.9424290358242047, 0.8461242404346503, 0.8070930027383858, 0.9053911676612264, 0.9120880489716602, 0.925008003187582, 0.8459426366987629, 0.9072946478182893, 0.9789600503472369, 0.9707730351231929, 0.9321595987228236, 0.9061672075932687, 0.9036232667563034, 0.9339871008957015, 0.9097775783007638, 0.8787584461745241, 0.9038614146672677, 0.9022295361969939, 0.8987102971380867, 0.8990005840584148, 0.9139996903178969, 0.9410363155019711, 0.9362598259625663, 0.929997917067982, 0.9333622413255822, 0.9196643319202714, 0.8967568337793371, 0.7922150387665683, 0.877498991811984, 0.8737144627378541, 0.9113619014852408, 0.9280682630777213], "max" : [0.8010498912486499, 0.9470571505901294, 0.960153834844363, 0.9880690810940991, 0.9881399223659291, 0.9876800746212409, 0.9890759064468689, 0.9838252967338423, 0.9690614505522943, 0.9546069133112128, 0.9733046372155305, 0.9928377391530805, 0.9917625010703013, 0.9963568607129263, 0.9951449943326744, 0.9705619910807691, 0.9518781576455412, 0.9277832848178902, 0.9557488880169739, 0.9493233433461772, 0.9459206242911595, 0.9404698514249599, 0.9408367278214513, 0.9415635490365348, 0.9284310976547484, 0.9251455425756179, 0.92952012585091, 0.9184734903165476, 0.8337690420610981, 0.9291694807989155, 0.9263193578969486, 0.9269728954808428, 0.9494227979583861, 0.9626072428459868, 0.95909895323791, 0.9223862588655753, 0.9192272035554012, 0.9231783696847302, 0.9434449876305788, 0.960038480900263, 0.9439834557136528, 0.9382005205410409, 0.9424290358242047, 0.9519240776738236, 0.8810200936029091, 0.9066967086209768, 0.9129467042680929, 0.9272266421367243, 0.9360345138707347, 0.9451941349395354, 0.9789600503472369, 0.9731952984848705, 0.9327978821733175, 0.9061672075932687, 0.904166877916316, 0.9401302009630015, 0.9097775783007638, 0.8787584461745241, 0.9038614146672677, 0.9022295361969939, 0.8987102971380867, 0.8990005840584148, 0.9139996903178969, 0.9410363155019711, 0.9362598259625663, 0.929997917067982, 0.9333622413255822, 0.9196643319202714, 0.8967568337793371, 0.7922150387665683, 0.877498991811984, 0.8737144627378541, 0.9113619014852408, 0.9280682630777213]}, "max GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.06988457769939252, 0.08544736842105263, 0.106, 0.06058762088974855, 0.04751082735808558, 0.036329437229437225, 0.052628228228228234, 0.033821944550101145, 0.04198331668331669, 0.03228691308691309, 0.05628259577905881, 0.06073003003003004, 0.034722522522522524, 0.1783321867321867, 0.10137108737004977, 0.16977901234567902, 0.14755241460541815, 0.15269466192170816, 0.1522, 0.11628868868868869, 0.1686421052631579, 0.16198613017034263, 0.12400674157303371, 0.13373337363966142, 0.2, 0.198, 0.17875632899337962, 0.1988103568929321, 0.2, 0.1665757111597374, 0.15315893385982232, 0.20489600912200684, 0.19997671381936888, 0.16229216173897026, 0.14759307479224376, 0.1842, 0.1570281124497992, 0.2449925925925926, 0.14036811819595646, 0.16766501176224902, 0.17868372649475264, 0.17070841198229236, 0.2, 0.14509685230024214, 0.11903380759014097, 0.13641404685231331, 0.14045350688915045, 0.14271457085828343, 0.15413034821838614, 0.1382796963946869, 0.12807259890257475, 0.16071687160740003, 0.2, 0.18080000000000002, 0.1456591093117409, 0.09706493506493506, 0.10125465271096339, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.08385185185185184, 0.0046]}, "accumulated proc tree CPU time" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [412.77000000000004, 1023.95, 1449.0, 1747.9, 2004.78, 2252.71, 2496.96, 2720.63, 2939.13, 3169.21, 3403.65, 3618.73, 3813.84, 4042.33, 4276.45, 4602.83, 4890.0599999999995, 5180.5199999999995, 5506.73, 5844.5199999999995, 6154.66, 6494.5, 6795.04, 7090.7, 7397.61, 7697.98, 8008.259999999999, 8304.779999999999, 8642.199999999999, 8959.409999999998, 9186.439999999999, 9427.859999999999, 9643.989999999998, 9820.369999999997, 9992.709999999997, 10194.679999999997, 10364.099999999997, 10525.049999999997, 10689.339999999998, 10850.899999999998, 11021.149999999998, 11162.759999999998, 11287.699999999999, 11374.48, 11447.24, 11505.21, 11565.599999999999, 11623.89, 11677.099999999999, 11722.169999999998, 11761.329999999998, 11800.049999999997, 11837.469999999998, 11883.079999999998, 11925.159999999998, 11959.039999999997, 11995.869999999997, 12015.319999999998, 12026.549999999997, 12038.249999999998, 12049.759999999998, 12061.479999999998, 12072.749999999998, 12085.159999999998, 12105.519999999999, 12123.22, 12141.88, 12156.98, 12171.76, 12217.36, 12236.52, 12253.48, 12270.13, 12275.05]}, "isProcFSProfiler" : {"true" : true}, "accumulated anonymous page bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [122224.45366753475, 447926.8920355903, 833658.8892834596, 1189198.0181897096, 1529846.6314709596, 1873130.5142834596, 2218724.3345959596, 2566692.6113816737, 2896641.6777879237, 3228548.1895066737, 3562337.9824754237, 3897774.4688035487, 4215325.136772299, 4536043.632866049, 4859332.550834799, 5185268.765678549, 5513130.035209799, 5842456.683647299, 6172837.011772299, 6505456.617241049, 6839718.066459799, 7175234.437119521, 7492348.194932021, 7790696.171494521, 8090406.963161188, 8371181.478786188, 8652935.68581744, 8935265.47878619, 9217957.743345847, 9501018.16869307, 9760539.94603682, 1.000049326244307E7, 1.0240596465134041E7, 1.0460844220460746E7, 1.0680969720460746E7, 1.0901056029054496E7, 1.1121151661866996E7, 1.1341361551189912E7, 1.1537031547283662E7, 1.1732868769939912E7, 1.1928733861457769E7, 1.2100096259895269E7, 1.2271418654426519E7, 1.2418416209672054E7, 1.2516282947953304E7, 1.2589574229203304E7, 1.2662876694047054E7, 1.2736190963578304E7, 1.2809528510453304E7, 1.2882887881113026E7, 1.2931765986581776E7, 1.2980650510019276E7, 1.3029541351599138E7, 1.307844480685482E7, 1.312735965060482E7, 1.317628556466732E7, 1.322523825607357E7, 1.3274199578618214E7, 1.3298594465336964E7, 1.3322974172368214E7, 1.3347313387211964E7, 1.3371648980961964E7, 1.3395984961430714E7, 1.3420325277836964E7, 1.3444678848149464E7, 1.3469047125493214E7, 1.3493424230961964E7, 1.3517805441899464E7, 1.3542190480961964E7, 1.356658996012863E7, 1.359100477653488E7, 1.361542836247238E7, 1.363988335075363E7, 1.366435030387863E7]}, "percentiles proc tree CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [0.08633227202301508, 0.09192539183640036, 0.026842606363397376, 0.026187286961788337, 0.024803948068379888, 0.03424399952117764, 0.026445248382778487, 0.028658985798764296, 0.028270465819844777, 0.03067583784192643, 0.02604567653788677, 0.02753930452814356, 0.025234028260379637, 0.03854986832300422, 0.025353194247970022, 0.023446574911493673, 0.04821891990254655, 0.046765030987112446, 0.05217944710370389, 0.04971848949482606, 0.046444120950127295, 0.056572815782597895, 0.07171331430414633, 0.052495793987514805, 0.07942545241414269, 0.06560295157584217, 0.07053464496518987, 0.05046463308195722, 0.03871771366962401, 0.058582559454267116, 0.04733742317893287, 0.05433193021990218, 0.054205701168077595, 0.025769777417118982, 0.025843951715374385, 0.043078250928022914, 0.043358633909620095, 0.04533187695689757, 0.04474696323402248, 0.03628326020479039, 0.04662174751242869, 0.02438342900832733, 0.032304031071413594, 0.03520734026676008, 0.025214546043696273, 0.024408482252756776, 0.045238547257289166, 0.0373051431341828, 0.038177588093998585, 0.0335487768841752, 0.032557172303359284, 0.041112178405529005, 0.03618803980646274, 0.033664547151562745, 0.035901720506591246, 0.034399071278905506, 0.04576539504598891, 0.0239347623257532, 0.023514640777742714, 0.024497503686805387, 0.024108617323259224, 0.024550666986417273, 0.02358619086510877, 0.025938277602791472, 0.03987393293964638, 0.03586969915168241, 0.03387824597157011, 0.029741142715327462, 0.03675635534738431, 0.04933548945630608, 0.03495026220228909, 0.03549405855238927, 0.03427162433080786, 0.02270594777606154], "p90" : [0.0875981162670179, 0.09192539183640036, 0.047684370433266565, 0.039230294605045075, 0.03959815408452827, 0.038592750363571696, 0.03335222096194756, 0.030808039773483113, 0.03415702802351139, 0.04066876358455835, 0.03696628742981716, 0.039056906178564235, 0.030796775328054443, 0.05175019995489512, 0.041039279824736555, 0.05784149900759994, 0.05813702739902772, 0.0550834677589164, 0.07001551217019591, 0.06206016620685063, 0.053633988858311964, 0.07137580016496417, 0.07171331430414633, 0.06495442466597826, 0.07942545241414269, 0.06867379844999251, 0.07481488028374698, 0.06162746742092727, 0.05615017085892362, 0.0706907708165247, 0.053048948406323404, 0.07219821181308142, 0.06776784313618663, 0.04754170300715045, 0.04340709353107913, 0.06522548276852357, 0.055511614860581295, 0.05744736498964256, 0.04975116685630537, 0.044707583635267084, 0.05427747740939131, 0.03693478465923472, 0.040173920786061704, 0.04284199231223364, 0.03398329897919669, 0.03473005101541894, 0.048072273974019954, 0.044794677810232574, 0.04029426148964073, 0.03725323334737113, 0.03412265652088187, 0.041112178405529005, 0.03766822835123938, 0.040508656984437695, 0.037179324343690104, 0.034399071278905506, 0.04576539504598891, 0.02502428652825707, 0.023514640777742714, 0.024497503686805387, 0.024108617323259224, 0.024550666986417273, 0.02358619086510877, 0.025938277602791472, 0.03987393293964638, 0.03586969915168241, 0.03387824597157011, 0.029741142715327462, 0.03675635534738431, 0.04933548945630608, 0.03495026220228909, 0.03549405855238927, 0.03427162433080786, 0.02270594777606154], "p99" : [0.08848420723781987, 0.09192539183640036, 0.062273605282175, 0.04836039995532479, 0.04995409829583213, 0.041636875953247526, 0.03818710176736591, 0.03231237755578629, 0.038277621566078016, 0.0476638116044007, 0.04461071505416843, 0.04711922733385871, 0.034690698275426805, 0.060990432097218744, 0.05201953972847312, 0.08191794587487433, 0.06507970264656454, 0.06090637349917916, 0.08250075771674033, 0.07069933990526782, 0.05866689639404123, 0.08173788923262057, 0.07171331430414633, 0.07367546614090266, 0.07942545241414269, 0.07082339126189774, 0.07781104500673697, 0.06944145145820631, 0.06835289089143334, 0.07916651877010498, 0.05704701606549677, 0.08470460892830689, 0.07726134251386294, 0.06278205092017249, 0.055701292802072463, 0.08072854505687402, 0.06401870152625413, 0.06592820661256406, 0.05325410939190339, 0.05060461003660077, 0.05963648833726515, 0.04572073361486989, 0.04568284358631537, 0.04818624874406513, 0.04012142603404699, 0.04195514914928245, 0.05005588267573151, 0.050037352083467414, 0.04177593286659023, 0.03984635287160827, 0.035218495473147676, 0.041112178405529005, 0.038704360332583024, 0.045299533867450156, 0.0380736470296593, 0.034399071278905506, 0.04576539504598891, 0.025786953470009776, 0.023514640777742714, 0.024497503686805387, 0.024108617323259224, 0.024550666986417273, 0.02358619086510877, 0.025938277602791472, 0.03987393293964638, 0.03586969915168241, 0.03387824597157011, 0.029741142715327462, 0.03675635534738431, 0.04933548945630608, 0.03495026220228909, 0.03549405855238927, 0.03427162433080786, 0.02270594777606154], "max" : [0.08886396051102072, 0.09192539183640036, 0.06852613450313576, 0.05227330224830181, 0.05439236010067665, 0.042941501205965744, 0.04025919354111663, 0.03295709374820193, 0.040043590227178, 0.05066168932719027, 0.04788689832174755, 0.05057450782898491, 0.036359522395729246, 0.06495053158678601, 0.05672536540150308, 0.09223642310370621, 0.06805513489550889, 0.06340190453072035, 0.08785157723668793, 0.0744018429188752, 0.06082385676649663, 0.08617878454733045, 0.07171331430414633, 0.07741305534444169, 0.07942545241414269, 0.07174464532414285, 0.0790951156023041, 0.07279030175989733, 0.07358262804822323, 0.08279898217878226, 0.05876047363371393, 0.09006449340626066, 0.08132998510429565, 0.06931362859718193, 0.060970235346783884, 0.08737271460902421, 0.0676645958115425, 0.06956285302238756, 0.054755370478588264, 0.05313190706574378, 0.06193320730635393, 0.04948614031014211, 0.048043810500709806, 0.0504766443577072, 0.042752051914697116, 0.0450516197780811, 0.05090600069075074, 0.052284212486282344, 0.04241093488528287, 0.04095768981056705, 0.03568814073840445, 0.041112178405529005, 0.03914841689601602, 0.047352766817312646, 0.038456928180788955, 0.034399071278905506, 0.04576539504598891, 0.026113810730760936, 0.023514640777742714, 0.024497503686805387, 0.024108617323259224, 0.024550666986417273, 0.02358619086510877, 0.025938277602791472, 0.03987393293964638, 0.03586969915168241, 0.03387824597157011, 0.029741142715327462, 0.03675635534738431, 0.04933548945630608, 0.03495026220228909, 0.03549405855238927, 0.03427162433080786, 0.02270594777606154]}, "total committed off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1359.2734375, 1954.5, 1993.4375, 1845.75, 1766.0625, 1773.8125, 1781.875, 1783.5, 1687.6875, 1688.125, 1689.75, 1691.6875, 1606.25, 1606.25, 1606.9375, 1607.1875, 1607.9375, 1608.625, 1609.8125, 1609.8125, 1609.8125, 1611.375, 1524.625, 1438.625, 1438.625, 1351.75, 1351.75, 1351.75, 1355.0, 1356.4375, 1238.125, 1152.3125, 1153.375, 1068.75, 1068.75, 1068.75, 1071.25, 1071.5, 950.375, 953.125, 953.375, 834.0, 839.25, 720.25, 476.625, 353.3125, 353.3125, 353.3125, 355.8125, 356.0625, 235.375, 235.375, 235.375, 235.375, 235.625, 235.875, 238.875, 239.125, 117.1875, 117.1875, 117.1875, 117.1875, 117.1875, 117.625, 117.8125, 117.8125, 117.8125, 117.8125, 117.8125, 118.375, 118.375, 120.9375, 121.375, 121.375]}, "accumulated used heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [74423.81090164183, 293302.51636038884, 560807.2498444836, 807325.6692094128, 1038381.6620759289, 1271519.8927735607, 1509682.4230698864, 1743769.93549926, 1967385.3944760056, 2192350.358976433, 2418845.3555050585, 2647295.1259117816, 2865545.387737343, 3079577.0134239886, 3298138.1527748797, 3517195.698703835, 3739118.75156028, 3960853.7659798358, 4184315.8726235125, 4408930.379215309, 4634783.2214394305, 4859548.349330971, 5074000.845447609, 5273653.829708168, 5473229.187323322, 5657320.112234821, 5842548.724272479, 6032190.113408052, 6219743.684890624, 6409684.632953097, 6580514.072291781, 6733554.505618502, 6886119.094999403, 7022622.9600069765, 7157315.374878192, 7294756.46954372, 7431270.741058612, 7568778.139928444, 7694391.839414223, 7817380.835462197, 7940482.264657056, 8047079.9332361575, 8151818.637368238, 8241127.096082314, 8301048.909062966, 8346663.309301003, 8392750.593152627, 8438994.988172159, 8485651.44756852, 8531762.68419928, 8562163.805569768, 8593237.854458928, 8624643.660557019, 8656032.077514527, 8686507.541160462, 8718390.725501893, 8748619.040016053, 8776791.374780806, 8791678.724878462, 8806217.958688887, 8821215.817430647, 8836387.365465315, 8851417.882501753, 8866723.301088484, 8881670.780824812, 8896685.16051689, 8911488.912164839, 8926985.443239363, 8941953.692360075, 8956577.450326435, 8971434.943994038, 8986840.251969807, 9001963.124513142, 9016779.703813069]}, "total anonymous page bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [23915.578125, 37806.80078125, 39021.5859375, 35789.36328125, 34194.84765625, 34417.4296875, 34717.203125, 34874.15234375, 33068.625, 33298.2421875, 33471.984375, 33636.35546875, 31932.765625, 32227.234375, 32417.47265625, 32706.5078125, 32859.90625, 32985.2421875, 33087.53125, 33349.46484375, 33475.125, 33640.83203125, 31756.0390625, 29873.1484375, 30014.53515625, 28103.83203125, 28211.86328125, 28241.953125, 28293.90234375, 28315.8203125, 25963.69140625, 24003.3671875, 24021.1875, 22036.1171875, 22019.23828125, 22022.34765625, 22020.17578125, 22025.99609375, 19569.34765625, 19586.04296875, 19587.328125, 17142.62890625, 17137.73828125, 14702.76953125, 9789.76953125, 7329.73046875, 7330.6953125, 7332.03515625, 7335.45703125, 7336.54296875, 4888.15625, 4888.75390625, 4889.32421875, 4890.5859375, 4892.16796875, 4893.046875, 4896.20703125, 4896.2890625, 2439.546875, 2439.46484375, 2436.9921875, 2433.59765625, 2433.6171875, 2434.19921875, 2436.4375, 2437.203125, 2437.921875, 2438.2421875, 2438.58984375, 2441.12890625, 2441.765625, 2444.65625, 2446.7578125, 2446.80078125]}, "total committed heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [41223.0, 41697.5, 39801.0, 35930.0, 33902.5, 33747.5, 33623.5, 33581.5, 31497.0, 31509.0, 31541.0, 31575.0, 29555.0, 29589.0, 29617.5, 29645.0, 29666.5, 29689.5, 29703.5, 29723.5, 29733.0, 29739.0, 27689.0, 25646.5, 25646.5, 23605.5, 23605.5, 23604.5, 23604.0, 23603.0, 21652.0, 19585.0, 19574.0, 17528.5, 17516.0, 17494.5, 17498.5, 17392.0, 15560.0, 15529.0, 15492.5, 13554.0, 13545.5, 11618.0, 7757.5, 5834.5, 5817.0, 5806.5, 5800.0, 5810.0, 3889.5, 3889.5, 3889.5, 3889.5, 3889.5, 3889.5, 3889.5, 3860.5, 1941.0, 1937.5, 1945.5, 1950.5, 1944.0, 1945.0, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1929.5]}, "max proc peak read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [538941.5135135136, 13022.50402414487, 11739.076923076922, 5083.196, 5343.039, 5211.808, 5211.808, 5340.841, 5260.036363636364, 5094.9310000000005, 73370.376, 72984.194, 4600.7570000000005, 5149.525547445255, 5217.378, 5086.147, 10667.284210526315, 4957.134, 5203.3460000000005, 5088.504, 68653.028, 71383.107, 70883.474, 58042.248, 55682.952000000005, 6534.196629213483, 4960.6720000000005, 4960.6720000000005, 6030.476510067115, 57121.448000000004, 57776.806000000004, 47819.046, 48804.652, 8104.765957446809, 5834.694805194806, 4608.778350515464, 2658.589439655172, 2605.884, 4410.052873563219, 3091.4314115308152, 3247.7088607594933, 5159.14406779661, 5115.80112044818, 2881.430141287284, 4753.1274509803925, 4484.542713567839, 2542.497267759563, 2433.3729662077594, 3079.488114104596, 4456.034682080925, 3892.6632653061224, 3086.941379310345, 2803.09200968523, 9389.288659793814, 4195.239130434782, 2871.1240000000003, 1844.662, 2407.4382284382286, 1944.874, 1944.1901901901902, 1943.1090000000002, 1938.218, 1948.3206030150754, 1940.27, 1822.6339017051155, 1941.118, 4101.294392523365, 2866.768, 1986.0809426229507, 4535.739644970415, 2861.043912175649, 1938.693, 916.4659746251442, 5185.9800000000005]}, "percentiles GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [0.052000000000000005, 0.033630030030030025, 0.01, 0.06058762088974855, 0.0315786917740337, 0.0078, 0.0114, 0.011099999999999999, 0.0112, 0.013000000000000001, 0.0068000000000000005, 0.0125, 0.0058, 0.06413134455752696, 0.0381, 0.0098, 0.09438181818181819, 0.07980000000000001, 0.10389999999999999, 0.0785488270658965, 0.10983174143753013, 0.09519999999999999, 0.11140000000000001, 0.1098415316725176, 0.11663709943838785, 0.1688, 0.12670532969944734, 0.0937, 0.0173000056000056, 0.0847, 0.10744165621079046, 0.11423360518548835, 0.12082899921197793, 0.008900000000000002, 0.008722222222222223, 0.07186200676437429, 0.06495770924062806, 0.2449925925925926, 0.09497581009796534, 0.0376, 0.10874025256511444, 0.008693706293706294, 0.2, 0.02671116110486189, 0.009302702702702703, 0.014249293119698397, 0.14045350688915045, 0.14271457085828343, 0.042600000000000006, 0.043500000000000004, 0.12132860201520818, 0.16071687160740003, 0.2, 0.10215001686465729, 0.10750703121322389, 0.08654109950406247, 0.10125465271096339, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.08385185185185184, 0.0046], "p90" : [0.06094228884969626, 0.05953869922554133, 0.058, 0.06058762088974855, 0.03954475956605964, 0.022064718614718613, 0.03201411411411412, 0.022460972275050572, 0.026591658341658345, 0.022643456543456543, 0.031541297889529404, 0.03661501501501502, 0.020261261261261262, 0.12123176564485683, 0.06973554368502488, 0.08978950617283951, 0.12096711639361818, 0.11624733096085409, 0.12805, 0.0974187578772926, 0.13923692335034402, 0.12859306508517132, 0.11770337078651685, 0.1217874526560895, 0.15831854971919393, 0.1834, 0.15273082934641347, 0.14625517844646607, 0.10865000280000281, 0.1256378555798687, 0.13030029503530638, 0.1595648071537476, 0.1604028565156734, 0.08559608086948514, 0.078157648507233, 0.12803100338218715, 0.11099291084521362, 0.2449925925925926, 0.1176719641469609, 0.10263250588112452, 0.14371198952993353, 0.08970105913799932, 0.2, 0.08590400670255201, 0.06416825514642184, 0.07533166998600585, 0.14045350688915045, 0.14271457085828343, 0.09836517410919307, 0.09088984819734344, 0.12470060045889146, 0.16071687160740003, 0.2, 0.14147500843232866, 0.1265830702624824, 0.09180301728449877, 0.10125465271096339, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.08385185185185184, 0.0046], "p99" : [0.06720189104448364, 0.07767476766239924, 0.0916, 0.06058762088974855, 0.0451210070204778, 0.03205002164502164, 0.046443993993994, 0.03041365286758597, 0.03736581918081918, 0.029393876123876124, 0.048860206412199986, 0.05349552552552553, 0.030384144144144146, 0.16120206040598772, 0.0918804242645423, 0.14578216049382717, 0.13957682514187816, 0.14176046263345193, 0.144955, 0.11062770944526987, 0.15982055068931372, 0.15196821064479124, 0.12211573033707865, 0.13014959734458986, 0.1874955649157582, 0.19362000000000001, 0.1709486790992898, 0.18304380335899229, 0.17259500084000085, 0.15429435448577677, 0.14630134221246754, 0.19129664853152906, 0.18810455662826023, 0.1392833374781247, 0.12676244690674054, 0.16734930101465614, 0.1432175519684235, 0.2449925925925926, 0.13355927198125778, 0.14815525999791165, 0.1681922054053069, 0.14640620612900446, 0.2, 0.1273389986209351, 0.10257414185702522, 0.11808933379242108, 0.14045350688915045, 0.14271457085828343, 0.13740079598562824, 0.12406274193548386, 0.12706099936946977, 0.16071687160740003, 0.2, 0.16900250252969862, 0.13993629759696335, 0.09548635973080417, 0.10125465271096339, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.08385185185185184, 0.0046], "max" : [0.06988457769939252, 0.08544736842105263, 0.106, 0.06058762088974855, 0.04751082735808558, 0.036329437229437225, 0.052628228228228234, 0.033821944550101145, 0.04198331668331669, 0.03228691308691309, 0.05628259577905881, 0.06073003003003004, 0.034722522522522524, 0.1783321867321867, 0.10137108737004977, 0.16977901234567902, 0.14755241460541815, 0.15269466192170816, 0.1522, 0.11628868868868869, 0.1686421052631579, 0.16198613017034263, 0.12400674157303371, 0.13373337363966142, 0.2, 0.198, 0.17875632899337962, 0.1988103568929321, 0.2, 0.1665757111597374, 0.15315893385982232, 0.20489600912200684, 0.19997671381936888, 0.16229216173897026, 0.14759307479224376, 0.1842, 0.1570281124497992, 0.2449925925925926, 0.14036811819595646, 0.16766501176224902, 0.17868372649475264, 0.17070841198229236, 0.2, 0.14509685230024214, 0.11903380759014097, 0.13641404685231331, 0.14045350688915045, 0.14271457085828343, 0.15413034821838614, 0.1382796963946869, 0.12807259890257475, 0.16071687160740003, 0.2, 0.18080000000000002, 0.1456591093117409, 0.09706493506493506, 0.10125465271096339, 0.0114, 0.009600000000000001, 0.014000000000000002, 0.0132, 0.0132, 0.0118, 0.029400000000000003, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.08385185185185184, 0.0046]}, "accumulated proc disk write bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [4009984.0, 2.8340224E7, 1.1196416E8, 2.08941056E8, 2.0953088E8, 2.1016576E8, 2.11099648E8, 4.40004608E8, 4.40602624E8, 5.29178624E8, 1.115414528E9, 2.273697792E9, 2.803347456E9, 2.803884032E9, 2.804441088E9, 2.805211136E9, 2.805764096E9, 2.817175552E9, 3.391746048E9, 3.840372736E9, 5.065580544E9, 6.438219776E9, 7.499431936E9, 8.014163968E9, 8.132640768E9, 8.133087232E9, 8.133525504E9, 8.134135808E9, 8.568221696E9, 9.693671424E9, 1.0683133952E10, 1.101228032E10, 1.111109632E10, 1.1111493632E10, 1.1111858176E10, 1.1112194048E10, 1.1197628416E10, 1.1413499904E10, 1.141379072E10, 1.1414142976E10, 1.1733798912E10, 1.1734093824E10, 1.2062019584E10, 1.2703756288E10, 1.302757376E10, 1.3027721216E10, 1.3027848192E10, 1.3027934208E10, 1.3028102144E10, 1.3346451456E10, 1.3346533376E10, 1.3346635776E10, 1.3346705408E10, 1.334677504E10, 1.3346889728E10, 1.3346963456E10, 1.3347057664E10, 1.3676023808E10, 1.3676064768E10, 1.3676097536E10, 1.3681455104E10, 1.368147968E10, 1.3681512448E10, 1.3681569792E10, 1.3681606656E10, 1.3681639424E10, 1.3681692672E10, 1.3681733632E10, 1.3681758208E10, 1.3681819648E10, 1.3681852416E10, 1.368188928E10, 1.369325568E10, 1.3998583808E10]}, "traces" : {"name" : "root", "value" : 3694717, "children" : [{"name" : "org.apache.spark.executor.CoarseGrainedExecutorBackend.main:-1", "value" : 9249, "children" : [{"name" : "org.apache.spark.executor.CoarseGrainedExecutorBackend$.main:284", "value" : 8215, "children" : [{"name" : "org.apache.spark.executor.CoarseGrainedExecutorBackend$.run:188", "value" : 7181, "children" : [{"name" : "org.apache.spark.deploy.SparkHadoopUtil.runAsSparkUser:66", "value" : 3759, "children" : [{"name" : "org.apache.hadoop.security.UserGroupInformation.doAs:1920", "value" : 3756, "children" : [{"name" : "javax.security.auth.Subject.doAs:422", "value" : 3750, "children" : [{"name" : "java.security.AccessController.doPrivileged:-2", "value" : 3750, "children" : [{"name" : "org.apache.spark.deploy.SparkHadoopUtil$$anon$2.run:66", "value" : 3750, "children" : [{"name" : "org.apache.spark.deploy.SparkHadoopUtil$$anon$2.run:67", "value" : 3750, "children" : []}]}]}]}]}]}]}]}]}, {"name" : "java.lang.Thread.run:748", "value" : 3678626, "children" : [{"name" : "io.netty.util.concurrent.DefaultThreadFactory$DefaultRunnableDecorator.run:144", "value" : 2811220, "children" : [{"name" : "io.netty.util.concurrent.SingleThreadEventExecutor$2.run:131", "value" : 2811015, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.run:392", "value" : 2801827, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.select:747", "value" : 2801538, "children" : [{"name" : "sun.nio.ch.SelectorImpl.select:97", "value" : 2801531, "children" : [{"name" : "sun.nio.ch.SelectorImpl.lockAndDoSelect:86", "value" : 2801516, "children" : [{"name" : "sun.nio.ch.EPollSelectorImpl.doSelect:93", "value" : 2801145, "children" : [{"name" : "sun.nio.ch.EPollArrayWrapper.poll:269", "value" : 2801117, "children" : [{"name" : "sun.nio.ch.EPollArrayWrapper.epollWait:-2", "value" : 2801117, "children" : []}]}]}]}]}]}]}, {"name" : "io.netty.channel.nio.NioEventLoop.run:442", "value" : 6084, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.processSelectedKeys:480", "value" : 6071, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.processSelectedKeysOptimized:566", "value" : 6059, "children" : [{"name" : "io.netty.channel.nio.NioEventLoop.processSelectedKey:643", "value" : 5945, "children" : []}]}]}]}]}]}, {"name" : "java.util.concurrent.ThreadPoolExecutor$Worker.run:624", "value" : 510061, "children" : [{"name" : "java.util.concurrent.ThreadPoolExecutor.runWorker:1149", "value" : 509592, "children" : [{"name" : "org.apache.spark.executor.Executor$TaskRunner.run:338", "value" : 490602, "children" : [{"name" : "org.apache.spark.scheduler.Task.run:108", "value" : 490142, "children" : [{"name" : "org.apache.spark.scheduler.ShuffleMapTask.runTask:53", "value" : 422779, "children" : [{"name" : "org.apache.spark.scheduler.ShuffleMapTask.runTask:96", "value" : 420387, "children" : [{"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.write:167", "value" : 43137, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 31855, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 31315, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 31030, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificUnsafeProjection.apply:-1", "value" : 30610, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificUnsafeProjection.apply:-1", "value" : 30582, "children" : []}]}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.insertRecordIntoSorter:246", "value" : 7247, "children" : [{"name" : "org.apache.spark.shuffle.sort.ShuffleExternalSorter.insertRecord:389", "value" : 4161, "children" : [{"name" : "org.apache.spark.unsafe.Platform.copyMemory:210", "value" : 4157, "children" : []}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.write:166", "value" : 329632, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 328008, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 327957, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 327936, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.hasNext:105", "value" : 327884, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.nextIterator:174", "value" : 19566, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.org$apache$spark$sql$execution$datasources$FileScanRDD$$anon$$readCurrentFile:124", "value" : 19566, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetFileFormat$$anonfun$buildReaderWithPartitionValues$1.apply:345", "value" : 19566, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetFileFormat$$anonfun$buildReaderWithPartitionValues$1.apply:389", "value" : 17118, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.initialize:142", "value" : 16719, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.initializeInternalReader:165", "value" : 6906, "children" : [{"name" : "org.apache.parquet.hadoop.util.HadoopInputFile.fromPath:38", "value" : 5926, "children" : [{"name" : "org.apache.hadoop.fs.Path.getFileSystem:296", "value" : 5926, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.get:387", "value" : 5925, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.get:2834", "value" : 5921, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.getInternal:2852", "value" : 5916, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.access$200:98", "value" : 5916, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.createFileSystem:2815", "value" : 4982, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem.initialize:168", "value" : 4965, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem$1.<init>:168", "value" : 4952, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.InodeTree.<init>:334", "value" : 4465, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.InodeTree.createLink:261", "value" : 4461, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem$1.getTargetFileSystem:168", "value" : 4457, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ViewFileSystem$1.getTargetFileSystem:174", "value" : 4457, "children" : [{"name" : "org.apache.hadoop.fs.viewfs.ChRootedFileSystem.<init>:103", "value" : 4451, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.get:387", "value" : 4450, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.get:2834", "value" : 4444, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem$Cache.getInternal:2852", "value" : 4420, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.access$200:98", "value" : 4420, "children" : [{"name" : "org.apache.hadoop.fs.FileSystem.createFileSystem:2815", "value" : 4420, "children" : [{"name" : "org.apache.hadoop.hdfs.DistributedFileSystem.initialize:155", "value" : 4395, "children" : [{"name" : "org.apache.hadoop.hdfs.DFSClient.<init>:671", "value" : 4290, "children" : [{"name" : "org.apache.hadoop.hdfs.DFSClient.<init>:728", "value" : 3853, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.hadoop.ParquetRecordReader.initializeInternalReader:164", "value" : 6031, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.open:562", "value" : 6003, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.<init>:649", "value" : 5504, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.readFooter:516", "value" : 4405, "children" : []}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.nextIterator:177", "value" : 28784, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.FileScanRDD$$anon$1.hasNext:105", "value" : 28784, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.RecordReaderIterator.hasNext:39", "value" : 28784, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.nextKeyValue:209", "value" : 28784, "children" : [{"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.nextKeyValue:222", "value" : 28600, "children" : [{"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.checkRead:137", "value" : 23829, "children" : [{"name" : "org.apache.parquet.io.MessageColumnIO.getRecordReader:107", "value" : 23829, "children" : [{"name" : "org.apache.parquet.filter2.compat.FilterCompat$NoOpFilter.accept:155", "value" : 23809, "children" : [{"name" : "org.apache.parquet.io.MessageColumnIO$1.visit:107", "value" : 23809, "children" : [{"name" : "org.apache.parquet.io.MessageColumnIO$1.visit:145", "value" : 23798, "children" : [{"name" : "org.apache.parquet.io.RecordReaderImplementation.<init>:272", "value" : 23398, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReadStoreImpl.getColumnReader:77", "value" : 23389, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReadStoreImpl.newMemColumnReader:82", "value" : 23308, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.<init>:358", "value" : 13321, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.consume:642", "value" : 13321, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.checkRead:530", "value" : 13181, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPage:538", "value" : 12610, "children" : [{"name" : "org.apache.parquet.column.page.DataPageV1.accept:96", "value" : 12606, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:538", "value" : 12605, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:541", "value" : 12601, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.access$300:61", "value" : 12600, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPageV1:592", "value" : 10745, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput.toByteBuffer:203", "value" : 10743, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput$StreamBytesInput.toByteArray:252", "value" : 10665, "children" : [{"name" : "java.io.DataInputStream.readFully:169", "value" : 10664, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 10662, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.read:105", "value" : 10657, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.decompress:111", "value" : 10396, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.decompress:228", "value" : 10100, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.inflateBytesDirect:-2", "value" : 10100, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.<init>:344", "value" : 7972, "children" : [{"name" : "org.apache.parquet.column.Encoding$4.initDictionary:150", "value" : 7972, "children" : [{"name" : "org.apache.parquet.column.Encoding$1.initDictionary:91", "value" : 5089, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.PlainValuesDictionary$PlainBinaryDictionary.<init>:73", "value" : 5087, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.PlainValuesDictionary$PlainBinaryDictionary.<init>:90", "value" : 4558, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput.toByteBuffer:203", "value" : 4558, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput$StreamBytesInput.toByteArray:252", "value" : 4546, "children" : [{"name" : "java.io.DataInputStream.readFully:169", "value" : 4545, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 4544, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.read:105", "value" : 4535, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.decompress:111", "value" : 4449, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.decompress:228", "value" : 4275, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.inflateBytesDirect:-2", "value" : 4275, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.checkRead:127", "value" : 4620, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetFileReader.readNextRowGroup:764", "value" : 3959, "children" : []}]}]}]}]}]}]}, {"name" : "org.apache.spark.sql.execution.datasources.RecordReaderIterator.hasNext:39", "value" : 279145, "children" : [{"name" : "org.apache.parquet.hadoop.ParquetRecordReader.nextKeyValue:209", "value" : 279144, "children" : [{"name" : "org.apache.parquet.hadoop.InternalParquetRecordReader.nextKeyValue:226", "value" : 276313, "children" : [{"name" : "org.apache.parquet.io.RecordReaderImplementation.read:407", "value" : 67979, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.writeCurrentValueToConverter:371", "value" : 60879, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readValue:465", "value" : 60866, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$2$2.read:225", "value" : 10680, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.DictionaryValuesReader.readDouble:103", "value" : 9761, "children" : []}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$1.read:167", "value" : 9987, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.DictionaryValuesReader.readValueDictionaryId:76", "value" : 9965, "children" : []}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$2$3.read:244", "value" : 21598, "children" : [{"name" : "org.apache.parquet.column.values.dictionary.DictionaryValuesReader.readInteger:112", "value" : 20840, "children" : []}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.writeCurrentValueToConverter:372", "value" : 7099, "children" : []}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:421", "value" : 44515, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRecordMaterializer.getCurrentRecord:33", "value" : 44515, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRecordMaterializer.getCurrentRecord:40", "value" : 44505, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.currentRecord:176", "value" : 44499, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificUnsafeProjection.apply:-1", "value" : 44456, "children" : []}]}]}]}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:415", "value" : 17052, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.end:195", "value" : 6863, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter$$anon$6.set:306", "value" : 6863, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.SpecificInternalRow.copy:227", "value" : 5318, "children" : []}]}]}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:409", "value" : 107470, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.consume:642", "value" : 96585, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.checkRead:532", "value" : 83840, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readRepetitionAndDefinitionLevels:518", "value" : 41707, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$ValuesReaderIntIterator.nextInt:669", "value" : 6773, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridValuesReader.readInteger:63", "value" : 6537, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridDecoder.readInt:66", "value" : 6190, "children" : []}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readRepetitionAndDefinitionLevels:519", "value" : 42132, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$ValuesReaderIntIterator.nextInt:669", "value" : 18735, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridValuesReader.readInteger:63", "value" : 17909, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridDecoder.readInt:66", "value" : 16176, "children" : [{"name" : "org.apache.parquet.column.values.rle.RunLengthBitPackingHybridDecoder.readNext:102", "value" : 5510, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 5448, "children" : []}]}]}]}]}]}]}, {"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.checkRead:530", "value" : 8571, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPage:538", "value" : 8434, "children" : [{"name" : "org.apache.parquet.column.page.DataPageV1.accept:96", "value" : 8434, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:538", "value" : 8433, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl$3.visit:541", "value" : 8433, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.access$300:61", "value" : 8433, "children" : [{"name" : "org.apache.parquet.column.impl.ColumnReaderImpl.readPageV1:592", "value" : 8398, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput.toByteBuffer:203", "value" : 8398, "children" : [{"name" : "org.apache.parquet.bytes.BytesInput$StreamBytesInput.toByteArray:252", "value" : 8321, "children" : [{"name" : "java.io.DataInputStream.readFully:169", "value" : 8321, "children" : [{"name" : "java.io.DataInputStream.readFully:195", "value" : 8320, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.read:105", "value" : 8317, "children" : [{"name" : "org.apache.hadoop.io.compress.DecompressorStream.decompress:111", "value" : 8092, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.decompress:228", "value" : 8013, "children" : [{"name" : "org.apache.hadoop.io.compress.zlib.ZlibDecompressor.inflateBytesDirect:-2", "value" : 8011, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:401", "value" : 11072, "children" : []}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:393", "value" : 11756, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.start:201", "value" : 9464, "children" : []}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:420", "value" : 11434, "children" : [{"name" : "org.apache.spark.sql.execution.datasources.parquet.ParquetRowConverter.end:192", "value" : 10531, "children" : []}]}, {"name" : "org.apache.parquet.io.RecordReaderImplementation.read:419", "value" : 4715, "children" : []}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 8384, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 8383, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 8383, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 7939, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 7939, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 7939, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 7938, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 7938, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 7938, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 7670, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 7670, "children" : [{"name" : "org.apache.spark.sql.execution.FileSourceScanExec$$anonfun$21.apply:322", "value" : 7670, "children" : [{"name" : "org.apache.spark.sql.execution.FileSourceScanExec$$anonfun$21.apply:323", "value" : 7669, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.UnsafeProjection$.create:114", "value" : 7625, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.UnsafeProjection$.create:120", "value" : 7615, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.UnsafeProjection$.create:130", "value" : 7525, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator.generate:930", "value" : 7505, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateUnsafeProjection$.create:32", "value" : 7359, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateUnsafeProjection$.create:366", "value" : 7359, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateUnsafeProjection$.create:412", "value" : 5383, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$.compile:946", "value" : 5077, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$LocalLoadingCache.get:4874", "value" : 5076, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache.getOrLoad:4004", "value" : 5076, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache.get:4000", "value" : 5070, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$Segment.get:2257", "value" : 5070, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$Segment.lockedGetOrLoad:2342", "value" : 5032, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$Segment.loadSync:2379", "value" : 5027, "children" : [{"name" : "org.spark_project.guava.cache.LocalCache$LoadingValueReference.loadFuture:3599", "value" : 5021, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$$anon$1.load:1064", "value" : 5021, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$$anon$1.load:1067", "value" : 5004, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator$.org$apache$spark$sql$catalyst$expressions$codegen$CodeGenerator$$doCompile:1000", "value" : 4765, "children" : [{"name" : "org.codehaus.commons.compiler.Cookable.cook:91", "value" : 4765, "children" : [{"name" : "org.codehaus.janino.SimpleCompiler.cook:196", "value" : 4764, "children" : [{"name" : "org.codehaus.janino.ClassBodyEvaluator.cook:229", "value" : 3697, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.write:169", "value" : 39232, "children" : [{"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.closeAndWriteOutput:209", "value" : 34775, "children" : [{"name" : "org.apache.spark.shuffle.sort.ShuffleExternalSorter.closeAndGetSpills:405", "value" : 34764, "children" : [{"name" : "org.apache.spark.shuffle.sort.ShuffleExternalSorter.writeSortedFile:201", "value" : 31163, "children" : [{"name" : "org.apache.spark.storage.DiskBlockObjectWriter.write:252", "value" : 30658, "children" : [{"name" : "net.jpountz.lz4.LZ4BlockOutputStream.write:158", "value" : 30632, "children" : [{"name" : "net.jpountz.lz4.LZ4BlockOutputStream.flushBufferedData:190", "value" : 22813, "children" : [{"name" : "net.jpountz.lz4.LZ4Compressor.compress:70", "value" : 22812, "children" : [{"name" : "net.jpountz.lz4.LZ4JNICompressor.compress:36", "value" : 22808, "children" : [{"name" : "net.jpountz.lz4.LZ4JNI.LZ4_compress_limitedOutput:-2", "value" : 22808, "children" : []}]}]}]}, {"name" : "net.jpountz.lz4.LZ4BlockOutputStream.flushBufferedData:205", "value" : 3705, "children" : []}]}]}]}]}]}, {"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.closeAndWriteOutput:216", "value" : 4407, "children" : [{"name" : "org.apache.spark.shuffle.sort.UnsafeShuffleWriter.mergeSpills:277", "value" : 4405, "children" : []}]}]}]}]}, {"name" : "org.apache.spark.scheduler.ResultTask.runTask:87", "value" : 66526, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 12080, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 12079, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 12079, "children" : [{"name" : "org.apache.spark.rdd.RDD.iterator:287", "value" : 12059, "children" : [{"name" : "org.apache.spark.rdd.RDD.computeOrReadCheckpoint:323", "value" : 12059, "children" : [{"name" : "org.apache.spark.rdd.MapPartitionsRDD.compute:38", "value" : 12059, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 11368, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$mapPartitionsWithIndexInternal$1$$anonfun$apply$24.apply:815", "value" : 11368, "children" : [{"name" : "org.apache.spark.sql.execution.DeserializeToObjectExec$$anonfun$2.apply:101", "value" : 11368, "children" : [{"name" : "org.apache.spark.sql.execution.DeserializeToObjectExec$$anonfun$2.apply:102", "value" : 11368, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator.generate:927", "value" : 11359, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.CodeGenerator.generate:930", "value" : 10884, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$.create:36", "value" : 10806, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$.create:142", "value" : 7726, "children" : [{"name" : "scala.collection.immutable.List.map:296", "value" : 7725, "children" : [{"name" : "scala.collection.TraversableLike$class.map:234", "value" : 7725, "children" : [{"name" : "scala.collection.immutable.List.foreach:392", "value" : 7725, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7725, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7725, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$$anonfun$3.apply:142", "value" : 7725, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.codegen.GenerateSafeProjection$$anonfun$3.apply:145", "value" : 7719, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression.genCode:103", "value" : 7711, "children" : [{"name" : "scala.Option.getOrElse:121", "value" : 7711, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:103", "value" : 7711, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:106", "value" : 7711, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.CreateExternalRow.doGenCode:857", "value" : 7671, "children" : [{"name" : "scala.collection.immutable.List.map:296", "value" : 7669, "children" : [{"name" : "scala.collection.TraversableLike$class.map:234", "value" : 7669, "children" : [{"name" : "scala.collection.immutable.List.foreach:392", "value" : 7669, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7669, "children" : [{"name" : "scala.collection.TraversableLike$$anonfun$map$1.apply:234", "value" : 7669, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.CreateExternalRow$$anonfun$14.apply:857", "value" : 7668, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.CreateExternalRow$$anonfun$14.apply:858", "value" : 7642, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression.genCode:103", "value" : 7640, "children" : [{"name" : "scala.Option.getOrElse:121", "value" : 7640, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:103", "value" : 7640, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.Expression$$anonfun$genCode$2.apply:106", "value" : 7613, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.Invoke.doGenCode:246", "value" : 7216, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.Invoke.org$apache$spark$sql$catalyst$expressions$objects$Invoke$$encodedFunctionName:193", "value" : 7214, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.objects.Invoke.org$apache$spark$sql$catalyst$expressions$objects$Invoke$$encodedFunctionName$lzycompute:193", "value" : 7214, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "org.apache.spark.SparkContext$$anonfun$runJob$5.apply:2069", "value" : 54444, "children" : [{"name" : "org.apache.spark.SparkContext$$anonfun$runJob$5.apply:2069", "value" : 54444, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$foreach$1$$anonfun$apply$28.apply:918", "value" : 54444, "children" : [{"name" : "org.apache.spark.rdd.RDD$$anonfun$foreach$1$$anonfun$apply$28.apply:918", "value" : 54444, "children" : [{"name" : "scala.collection.AbstractIterator.foreach:1334", "value" : 54444, "children" : [{"name" : "scala.collection.Iterator$class.foreach:891", "value" : 54444, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 36736, "children" : [{"name" : "scala.collection.Iterator$$anon$11.next:410", "value" : 36464, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificSafeProjection.apply:-1", "value" : 33319, "children" : [{"name" : "org.apache.spark.sql.catalyst.expressions.GeneratedClass$SpecificSafeProjection.apply3_16$:-1", "value" : 5493, "children" : []}]}]}]}, {"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17540, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17539, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17535, "children" : [{"name" : "org.apache.spark.InterruptibleIterator.hasNext:37", "value" : 17501, "children" : [{"name" : "org.apache.spark.util.CompletionIterator.hasNext:32", "value" : 17499, "children" : [{"name" : "scala.collection.Iterator$$anon$11.hasNext:409", "value" : 17491, "children" : [{"name" : "scala.collection.Iterator$$anon$12.hasNext:441", "value" : 17048, "children" : [{"name" : "scala.collection.Iterator$$anon$12.nextCur:435", "value" : 17047, "children" : [{"name" : "org.apache.spark.storage.ShuffleBlockFetcherIterator.next:61", "value" : 16962, "children" : [{"name" : "org.apache.spark.storage.ShuffleBlockFetcherIterator.next:421", "value" : 15803, "children" : [{"name" : "org.apache.spark.util.Utils$.copyStream:348", "value" : 15794, "children" : [{"name" : "org.apache.spark.util.Utils$.tryWithSafeFinally:1337", "value" : 15791, "children" : [{"name" : "org.apache.spark.util.Utils$$anonfun$copyStream$1.apply:327", "value" : 15791, "children" : [{"name" : "org.apache.spark.util.Utils$$anonfun$copyStream$1.apply:327", "value" : 15788, "children" : [{"name" : "org.apache.spark.util.Utils$$anonfun$copyStream$1.apply$mcJ$sp:340", "value" : 14083, "children" : [{"name" : "org.apache.spark.io.LZ4BlockInputStream.read:137", "value" : 14053, "children" : [{"name" : "org.apache.spark.io.LZ4BlockInputStream.read:125", "value" : 14041, "children" : [{"name" : "org.apache.spark.io.LZ4BlockInputStream.refill:206", "value" : 10529, "children" : [{"name" : "net.jpountz.lz4.LZ4JNIFastDecompressor.decompress:37", "value" : 10523, "children" : [{"name" : "net.jpountz.lz4.LZ4JNI.LZ4_decompress_fast:-2", "value" : 10522, "children" : []}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}]}, {"name" : "java.lang.UNIXProcess$$Lambda$7\/250370634.run:-1", "value" : 15206, "children" : [{"name" : "java.lang.UNIXProcess.lambda$initStreams$3:289", "value" : 13248, "children" : [{"name" : "java.lang.UNIXProcess.waitForProcessExit:-2", "value" : 13237, "children" : []}]}]}]}]}, {"name" : "org.apache.hadoop.net.unix.DomainSocketWatcher$2.run:509", "value" : 356873, "children" : [{"name" : "org.apache.hadoop.net.unix.DomainSocketWatcher.access$900:52", "value" : 356873, "children" : [{"name" : "org.apache.hadoop.net.unix.DomainSocketWatcher.doPoll0:-2", "value" : 356873, "children" : []}]}]}]}]}, "max committed heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1963.0, 2018.0, 2023.0, 2029.5, 2033.5, 2037.5, 2041.0, 2043.0, 2043.5, 2045.5, 2045.5, 2045.5, 2046.0, 2045.5, 2045.5, 2045.5, 2046.0, 2046.0, 2045.5, 2046.0, 2046.0, 2046.0, 2045.5, 2045.5, 2045.5, 2045.5, 2045.5, 2045.5, 2046.0, 2045.5, 2045.5, 2044.0, 2044.0, 1954.5, 1954.5, 1954.5, 1954.5, 1954.5, 1954.5, 1954.5, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1954.0, 1937.0, 1941.0, 1937.5, 1945.5, 1950.5, 1944.0, 1945.0, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1943.5, 1929.5]}, "accumulated reserved" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [537600.0, 1075200.0, 1587200.0, 2048000.0, 2483200.0, 2918400.0, 3353600.0, 3788800.0, 4198400.0, 4608000.0, 5017600.0, 5427200.0, 5811200.0, 6195200.0, 6579200.0, 6963200.0, 7347200.0, 7731200.0, 8115200.0, 8499200.0, 8883200.0, 9267200.0, 9625600.0, 9958400.0, 1.02912E7, 1.05984E7, 1.09056E7, 1.12128E7, 1.152E7, 1.18272E7, 1.21088E7, 1.23648E7, 1.26208E7, 1.28512E7, 1.30816E7, 1.3312E7, 1.35424E7, 1.37728E7, 1.39776E7, 1.41824E7, 1.43872E7, 1.45664E7, 1.47456E7, 1.48992E7, 1.50016E7, 1.50784E7, 1.51552E7, 1.5232E7, 1.53088E7, 1.53856E7, 1.54368E7, 1.5488E7, 1.55392E7, 1.55904E7, 1.56416E7, 1.56928E7, 1.5744E7, 1.57952E7, 1.58208E7, 1.58464E7, 1.5872E7, 1.58976E7, 1.59232E7, 1.59488E7, 1.59744E7, 1.6E7, 1.60256E7, 1.60512E7, 1.60768E7, 1.61024E7, 1.6128E7, 1.61536E7, 1.61792E7, 1.62048E7]}, "median proc tree kernel CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.00544346338221068, 0.0030128417359128233, 8.189891205412057E-4, 0.001164838035100455, 8.998304720227188E-4, 8.378269084477064E-4, 7.121699832350582E-4, 0.0015470332373919424, 8.809841935272138E-4, 0.0012943124644272095, 4.1940237217960715E-4, 0.001114225781405386, 4.202195076275299E-4, 8.245562228200215E-4, 5.249875608174364E-4, 6.070348978311475E-4, 9.188443620026549E-4, 5.054393073138704E-4, 8.416155320847832E-4, 9.919245457468136E-4, 9.776187224355157E-4, 0.0018899781506213932, 0.0027009053431797632, 0.0019619922533502115, 0.0012396531552992182, 0.00205116521782667, 0.0020407402050594972, 0.0012014235177030493, 0.0014537194607989895, 8.368425063111053E-4, 8.626622585784915E-4, 0.0013864682680079913, 7.363688561514185E-4, 7.133344855291191E-4, 0.001954397900190228, 9.080993134546741E-4, 0.0018328094113662363, 6.932097200780901E-4, 9.102259140997283E-4, 0.0016952947016510365, 0.0011397893875069803, 3.9990028265337154E-4, 0.0014396902683969093, 0.0026466633082180752, 8.623690050776524E-4, 0.0011667452503309008, 7.960900465043896E-4, 5.78383198067272E-4, 5.03668093744613E-4, 0.0023719273559662233, 8.492781683224198E-4, 8.891696058367827E-4, 8.421476525679414E-4, 0.001181933197644713, 9.678283562379291E-4, 3.900120072274032E-4, 0.0014242180899196823, 9.00923451791742E-4, 7.751306039785203E-4, 6.912148304216122E-4, 7.125091065399314E-4, 4.8176491762803094E-4, 3.3503480721280203E-4, 0.0011699582390620484, 0.001162946359321515, 8.085318724700852E-4, 0.0011759245217098603, 0.0013214811739550667, 0.0022528340400255935, 0.002433017098098789, 0.0010281453088782885, 9.213871171546368E-4, 0.002408100691819706, 0.002146513352170041]}, "containers" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [21.0, 21.0, 20.0, 18.0, 17.0, 17.0, 17.0, 17.0, 16.0, 16.0, 16.0, 16.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 15.0, 14.0, 13.0, 13.0, 12.0, 12.0, 12.0, 12.0, 12.0, 11.0, 10.0, 10.0, 9.0, 9.0, 9.0, 9.0, 9.0, 8.0, 8.0, 8.0, 7.0, 7.0, 6.0, 4.0, 3.0, 3.0, 3.0, 3.0, 3.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 2.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0]}, "max RSS memory" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1949.4453125, 2012.6796875, 2113.71484375, 2136.9375, 2138.9765625, 2141.21875, 2163.9453125, 2181.203125, 2201.640625, 2228.15234375, 2253.67578125, 2267.91796875, 2336.2578125, 2378.43359375, 2386.3984375, 2405.51171875, 2419.48046875, 2429.55859375, 2440.3359375, 2452.40234375, 2458.0, 2474.9140625, 2487.45703125, 2491.3984375, 2501.02734375, 2501.49609375, 2501.65234375, 2502.02734375, 2502.5625, 2502.8515625, 2503.08203125, 2503.17578125, 2504.12890625, 2504.14453125, 2504.14453125, 2506.22265625, 2499.37890625, 2499.671875, 2499.7734375, 2499.79296875, 2499.84765625, 2499.88671875, 2499.8984375, 2494.19140625, 2493.24609375, 2488.921875, 2488.96875, 2489.0390625, 2489.109375, 2489.26171875, 2489.34375, 2489.35546875, 2489.30859375, 2489.328125, 2489.3515625, 2489.37109375, 2491.30078125, 2491.91796875, 2474.3671875, 2474.3515625, 2471.87890625, 2468.5390625, 2468.58984375, 2469.10546875, 2471.3828125, 2471.91796875, 2472.42578125, 2473.05859375, 2473.5390625, 2476.04296875, 2476.7421875, 2478.8203125, 2482.23046875, 2482.2734375]}, "percentiles proc peak write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [2722.2826086956525, 374.73, 367.6543456543457, 377.8562628336756, 368.57615230460925, 371.21, 372.824, 374.528, 374.737, 374.71242484969946, 375.367, 376.346, 377.41200000000003, 432.31500572737684, 521.7888730385165, 367.636, 394.3315508021391, 375.879, 382.32135728542914, 449.23133414932687, 531.9348769898697, 374.558, 375.373, 517.6024759284732, 457.63046192259674, 2080.685393258427, 483.6010296010296, 376.298, 375.306, 373.95, 457.10763454317896, 615.539837398374, 440.35495283018867, 375.899, 375.8668012108981, 421.97409909909913, 85320.019, 597.3441558441558, 560.7200598802395, 372.303, 499.34515688949523, 376.896, 1058.6750700280113, 116502.522, 375.752, 391.04144527098833, 646.4265734265736, 751.3876739562625, 17930.453093812375, 109976.97302697304, 1866.2551020408164, 429.97724687144483, 563.655487804878, 586.1939102564103, 1150.7015384615386, 680.5504587155963, 19735.119880119884, 377.462, 378.00100000000003, 377.957, 5670.535, 377.957, 378.8110552763819, 377.0731462925852, 589.0159744408945, 543.0187861271677, 1725.570093457944, 631.5807560137458, 476.139896373057, 2175.023668639053, 1135.5493827160494, 16302.765234765238, 21819.749711649365, 87239.163], "p90" : [3327.7746376811597, 19578.423333333336, 24832.66324964473, 35213.175451478084, 414.0402233915685, 406.26209261430245, 376.62715768056967, 55301.91299999999, 376.073, 44244.70121242485, 54426.4885, 53702.1395, 49391.61691091091, 887.1064079731775, 521.7888730385165, 519.3033747714808, 2132.4236701379114, 5801.7305, 43435.49717864271, 51555.095167074665, 56321.96043849494, 47715.782499999994, 44689.8405, 29145.85673796424, 27649.119230961296, 2080.685393258427, 698.2993012082818, 1152.649, 47963.0995, 45301.296, 28782.97381727159, 29618.674516400337, 25721.566476415093, 25688.039000000004, 1382.6217122937605, 1152.2989052196526, 85320.019, 61989.98257792208, 714.202558675752, 25790.97367782218, 59037.46407844475, 17763.54153233831, 57273.719153395636, 116502.522, 49972.139500000005, 1127.4126824344892, 646.4265734265736, 751.3876739562625, 17930.453093812375, 109976.97302697304, 1866.2551020408164, 845.6524165391709, 734.5856131518337, 1267.1923159529474, 1602.3888127090304, 680.5504587155963, 31558.528940059943, 43270.53119980021, 378.00100000000003, 377.957, 5670.535, 377.957, 378.8110552763819, 377.0731462925852, 589.0159744408945, 543.0187861271677, 1725.570093457944, 631.5807560137458, 476.139896373057, 2175.023668639053, 1135.5493827160494, 16302.765234765238, 21819.749711649365, 87239.163], "p99" : [3751.6190579710146, 33021.008666666676, 41958.169482438, 59597.89888352917, 445.8650731524399, 430.7985574443142, 379.2893680569685, 93751.08249999999, 377.0082, 74953.69336372745, 92262.27355, 91030.19495, 83701.56034854855, 1205.4603895452378, 521.7888730385165, 625.4705371115174, 3349.088153672952, 9599.82655, 73572.72025359281, 87329.1998501224, 95374.97833154848, 80854.63965, 75709.96775, 49185.63472138927, 46683.16136928839, 2080.685393258427, 848.5880913333584, 1696.0946999999999, 81274.55494999999, 76750.4382, 48611.08014518148, 49920.868791701716, 43418.414542924525, 43406.537000000004, 2087.350150051764, 1663.52626950404, 85320.019, 104964.82947337662, 821.6403078326107, 43584.04315229771, 100014.14732353343, 29934.193404975125, 96624.25001175297, 116502.522, 84689.61074999999, 1642.8725484489398, 646.4265734265736, 751.3876739562625, 17930.453093812375, 109976.97302697304, 1866.2551020408164, 1136.625035306579, 854.2367008947026, 1743.8911999405232, 1918.5699046822745, 680.5504587155963, 39834.91528201799, 73295.67963966035, 378.00100000000003, 377.957, 5670.535, 377.957, 378.8110552763819, 377.0731462925852, 589.0159744408945, 543.0187861271677, 1725.570093457944, 631.5807560137458, 476.139896373057, 2175.023668639053, 1135.5493827160494, 16302.765234765238, 21819.749711649365, 87239.163], "max" : [3933.266666666667, 38782.116666666676, 49297.67215363512, 70048.4946401225, 459.50429447852764, 441.31418522860497, 380.4303153611394, 110229.298, 377.409, 88114.69, 108477.61, 107027.933, 98405.82182182182, 1341.897810218978, 521.7888730385165, 670.9707495429616, 3870.515789473684, 11227.582, 86488.673, 102660.959, 112111.986, 95057.007, 89004.308, 57774.111000000004, 54840.608, 2080.685393258427, 912.9975728155341, 1929.0, 95550.893, 90228.642, 57108.840000000004, 58621.809195402304, 51002.778, 51000.179000000004, 2389.3766233766232, 1882.6237113402062, 85320.019, 123382.621, 867.6850574712644, 51209.64435564436, 117575.583, 35150.18706467662, 113488.76323676326, 116502.522, 99568.527, 1863.78391959799, 646.4265734265736, 751.3876739562625, 17930.453093812375, 109976.97302697304, 1866.2551020408164, 1261.3275862068967, 905.5157384987893, 1948.1907216494844, 2054.076086956522, 680.5504587155963, 43381.938, 86163.60039960041, 378.00100000000003, 377.957, 5670.535, 377.957, 378.8110552763819, 377.0731462925852, 589.0159744408945, 543.0187861271677, 1725.570093457944, 631.5807560137458, 476.139896373057, 2175.023668639053, 1135.5493827160494, 16302.765234765238, 21819.749711649365, 87239.163]}, "accumulated GC CPU time" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [23.328146931950155, 60.24841527603745, 70.60903173246078, 75.22372610345815, 79.2444487143863, 83.02277255604609, 87.63486648509326, 91.19264208782778, 94.75539170294286, 98.54027041872355, 103.82148790608638, 108.74174426550555, 112.33288118602727, 125.69243075746043, 145.3357805891843, 220.45181844073423, 247.88543740826464, 274.02919848633917, 315.9748574019738, 352.121998586384, 392.82680321659507, 478.42999772346207, 532.3730149080856, 583.9109591177395, 633.7263402543896, 686.3165586622081, 732.5983027865435, 783.4535443966979, 845.9080594049254, 906.464299735255, 946.2883325696049, 990.5884124989348, 1017.2837439884954, 1058.202782069253, 1080.7450086059935, 1127.8364315522574, 1141.7464870337733, 1172.7033244182016, 1204.5162030757647, 1235.8964894025337, 1278.0160831302887, 1306.7570998043711, 1318.534243286636, 1326.3458699175155, 1345.665177744172, 1356.6509983503986, 1371.485664804923, 1377.3288648152557, 1387.2828338021407, 1402.6110804886357, 1416.8898661848798, 1432.2381634090464, 1438.4659840425663, 1450.7548505576872, 1463.6969674446432, 1471.64628613391, 1479.6923146256056, 1479.8811746256056, 1479.9993446256055, 1480.1920046256055, 1480.3625446256056, 1480.5407946256055, 1480.6945346256055, 1481.1891446256054, 1485.6283612697564, 1491.7312640767739, 1497.4834922489551, 1501.0455809813495, 1503.6780103375684, 1512.6584828310115, 1517.4507011038302, 1521.21054110383, 1522.5668114742004, 1522.5939514742004]}, "percentiles proc peak disk write bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [208.89600000000002, 12.3003003003003, 12.288, 16.416833667334668, 8.208416833667334, 8.192, 24.576, 24.576, 24.576, 16.384, 8.192, 8.192, 28.672, 9.383734249713632, 8.216649949849549, 20.48, 8.200200200200202, 24.576, 8.192, 12.288, 24.551448551448555, 24.576, 12.288, 11.268225584594225, 32.768, 28.7007007007007, 28.91294117647059, 8.192, 12.324974924774324, 8.192, 20.445923460898502, 16.384, 9.660377358490567, 16.384, 8.266397578203835, 9.225225225225225, 84992.0, 8.192, 12.288, 8.192, 8.192, 8.200200200200202, 45.893557422969195, 116129.792, 8.192, 24.74924471299094, 8.192, 24.429423459244532, 12.263473053892216, 109605.85014985016, 11.314917127071825, 24.6006006006006, 8.183816183816186, 11.719599427753936, 25.206153846153846, 14.447971781305116, 24.551448551448555, 24.576, 8.192, 8.192, 5324.8, 8.192, 8.233165829145728, 28.500994035785286, 8.200200200200202, 11.838150289017342, 16.302487562189057, 8.192, 8.393442622950818, 16.318725099601593, 8.17564870259481, 8.200200200200202, 11293.666333666337, 86863.872], "p90" : [220.69155005159962, 19120.816816816816, 24410.77500137174, 34780.30030044775, 20.439203431788805, 20.512833667334668, 28.672, 54943.744, 24.576, 43888.64, 54061.056000000004, 53336.064000000006, 49035.132796796795, 14.921637354627048, 16.396324974924774, 26.624000000000002, 16.4004004004004, 5453.8240000000005, 43065.344000000005, 51156.992, 55887.85972427573, 47360.0, 44326.912000000004, 28710.402112792297, 27252.736, 28.7007007007007, 28.91294117647059, 25.101128205128205, 47599.63448746239, 44941.312000000005, 28381.166961730447, 23547.904, 24480.478188679244, 20.48, 25.466532122435247, 16.900612612612612, 84992.0, 61493.24800000001, 18.432000000000002, 24.576, 58658.816000000006, 16.388100100100104, 56583.34637911109, 116129.792, 49604.60800000001, 24.74924471299094, 12.288, 24.429423459244532, 14.323736526946108, 109605.85014985016, 11.801458563535913, 24.6006006006006, 14.009583636702281, 37.52990280666047, 34.86394648829432, 14.447971781305116, 24.551448551448555, 42907.760527472536, 8.192, 8.192, 5324.8, 8.192, 8.233165829145728, 28.500994035785286, 8.200200200200202, 11.838150289017342, 16.302487562189057, 8.192, 8.393442622950818, 16.318725099601593, 8.17564870259481, 8.200200200200202, 11293.666333666337, 86863.872], "p99" : [228.9484350877193, 32496.778378378378, 41489.71590233196, 59115.018727194045, 29.00075405047383, 29.137417234468934, 31.5392, 93387.16159999999, 24.576, 74599.2192, 91898.06079999999, 90665.5744, 83339.65535455456, 18.79816952806644, 22.122097492477433, 30.9248, 22.14054054054054, 9254.2976, 73205.3504, 86958.2848, 94992.17551728273, 80494.7968, 75347.14880000001, 48799.795833837685, 46306.713599999995, 28.7007007007007, 28.91294117647059, 36.93751794871795, 80910.75114623872, 76394.496, 48233.671688519134, 40019.968, 41610.05065660377, 23.3472, 37.50662630339724, 22.273383783783785, 84992.0, 104532.7872, 22.7328, 36.044799999999995, 99714.2528, 22.11963003003003, 96159.56335429277, 116129.792, 84322.0992, 24.74924471299094, 15.1552, 24.429423459244532, 15.765920958083832, 109605.85014985016, 12.142037569060774, 24.6006006006006, 18.087620853722548, 55.59711517189505, 41.62440133779264, 14.447971781305116, 24.551448551448555, 72925.98969670331, 8.192, 8.192, 5324.8, 8.192, 8.233165829145728, 28.500994035785286, 8.200200200200202, 11.838150289017342, 16.302487562189057, 8.192, 8.393442622950818, 16.318725099601593, 8.17564870259481, 8.200200200200202, 11293.666333666337, 86863.872], "max" : [232.4871001031992, 38229.333333333336, 48809.26200274348, 69544.18376722817, 32.669990029910274, 32.833667334669336, 32.768, 109862.912, 24.576, 87760.89600000001, 108113.92, 106663.936, 98041.5935935936, 20.459540459540463, 24.576, 32.768, 24.6006006006006, 10883.072, 86122.496, 102301.696, 111751.168, 94695.424, 88641.53600000001, 57409.536, 54472.704, 28.7007007007007, 28.91294117647059, 42.01025641025641, 95186.944, 89874.432, 56741.888, 47079.424, 48951.296, 24.576, 42.666666666666664, 24.576, 84992.0, 122978.304, 24.576, 40.96, 117309.44, 24.576, 113120.79920079921, 116129.792, 99201.024, 24.74924471299094, 16.384, 24.429423459244532, 16.384, 109605.85014985016, 12.288, 24.6006006006006, 19.83535108958838, 63.34020618556701, 44.52173913043478, 14.447971781305116, 24.551448551448555, 85790.94505494507, 8.192, 8.192, 5324.8, 8.192, 8.233165829145728, 28.500994035785286, 8.200200200200202, 11.838150289017342, 16.302487562189057, 8.192, 8.393442622950818, 16.318725099601593, 8.17564870259481, 8.200200200200202, 11293.666333666337, 86863.872]}, "max reserved" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0, 2560.0]}, "max used off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [90.61585235595703, 109.63790130615234, 112.15086364746094, 112.69998931884766, 112.14875793457031, 112.83755493164062, 113.38492584228516, 113.11190795898438, 112.40503692626953, 112.93431854248047, 112.9676513671875, 114.06664276123047, 114.07213592529297, 113.90390014648438, 113.89197540283203, 113.93387603759766, 113.99158477783203, 114.03985595703125, 114.031982421875, 114.05233001708984, 113.8211669921875, 113.21047973632812, 113.19216918945312, 113.23550415039062, 113.18094635009766, 113.75486755371094, 113.7462158203125, 113.73445892333984, 114.60865783691406, 116.06848907470703, 114.74274444580078, 114.78754425048828, 114.79589080810547, 114.92125701904297, 114.99311828613281, 115.00267028808594, 116.58847045898438, 116.89564514160156, 115.04983520507812, 117.93190002441406, 118.91099548339844, 116.1313247680664, 117.71900939941406, 118.66669464111328, 118.97746276855469, 113.89420318603516, 114.08903503417969, 114.61378479003906, 115.54617309570312, 116.27674865722656, 114.7444076538086, 114.66485595703125, 114.67845916748047, 114.67845916748047, 114.6902847290039, 114.74134826660156, 117.38682556152344, 117.95182800292969, 113.52818298339844, 113.54750061035156, 113.59082794189453, 113.60027313232422, 113.6001968383789, 114.04338836669922, 114.16368103027344, 114.16748046875, 114.21587371826172, 114.21587371826172, 114.1888198852539, 114.62452697753906, 114.66044616699219, 117.36605072021484, 117.49633026123047, 117.66243743896484]}, "total used off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1328.7190628051758, 1898.8935089111328, 1925.584228515625, 1774.3260879516602, 1690.2401657104492, 1694.9998931884766, 1701.7690505981445, 1701.1520462036133, 1605.9892272949219, 1610.639045715332, 1612.3819274902344, 1613.7604293823242, 1530.9021377563477, 1528.8992309570312, 1529.9497528076172, 1532.5154571533203, 1532.5938339233398, 1534.3413009643555, 1536.0914154052734, 1534.7230834960938, 1535.3645095825195, 1535.7367935180664, 1451.4697647094727, 1369.3337860107422, 1368.6822357177734, 1285.483741760254, 1286.8644104003906, 1286.5953216552734, 1290.9333038330078, 1295.9256973266602, 1184.4340057373047, 1102.0367279052734, 1103.5496292114258, 1020.5060806274414, 1020.2510375976562, 1020.8250427246094, 1023.6613845825195, 1023.9366455078125, 907.7322082519531, 911.7077865600586, 913.3065185546875, 798.5236358642578, 804.7850494384766, 692.2577362060547, 456.8341979980469, 337.9034423828125, 338.11297607421875, 338.6678466796875, 341.7617416381836, 342.4802932739258, 226.22286987304688, 226.15787506103516, 226.27523803710938, 226.2907485961914, 226.32384490966797, 227.09398651123047, 230.91275024414062, 231.47775268554688, 113.52818298339844, 113.54750061035156, 113.59082794189453, 113.60027313232422, 113.6001968383789, 114.04338836669922, 114.16368103027344, 114.16748046875, 114.21587371826172, 114.21587371826172, 114.1888198852539, 114.62452697753906, 114.66044616699219, 117.36605072021484, 117.49633026123047, 117.66243743896484]}, "percentiles JVM CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [0.08403211805555555, 0.09070034617951286, 0.026583333333333337, 0.02622147790459045, 0.024746966909969477, 0.03408333333333334, 0.0263125, 0.0285625, 0.028125, 0.03060416666666666, 0.025875000000000002, 0.027249999999999996, 0.025020833333333336, 0.038168939671433616, 0.025916666666666664, 0.023312499999999996, 0.047666246139941255, 0.04620833333333333, 0.0516875, 0.049300100876874094, 0.04730620307805781, 0.05624922997946612, 0.07050000000000001, 0.051953107731993645, 0.07887854947327122, 0.06509705960729019, 0.06977918894413189, 0.04987498360415027, 0.038353996895663565, 0.058354166666666665, 0.046891955967637025, 0.05382749203624302, 0.053821091088855896, 0.02558333333333333, 0.02557738065473214, 0.04278989111970755, 0.043032040819885174, 0.045277511047320126, 0.04517558093700238, 0.036145833333333335, 0.0462186340126261, 0.024144514707014706, 0.03213698002047496, 0.0349061664355355, 0.024981694898361564, 0.024329008971549805, 0.04667410083619698, 0.037173343418378225, 0.037851300080466735, 0.03299147176892655, 0.030480854739058774, 0.041092715999854514, 0.03618679854909012, 0.03355054816664604, 0.03576159735281237, 0.03417291033890341, 0.045639425144573906, 0.023791462999796335, 0.02339583333333333, 0.024374999999999997, 0.023979166666666666, 0.024416666666666666, 0.02345833333333333, 0.025875, 0.039775801992569276, 0.03592307904497577, 0.03391910951457796, 0.029654420999916387, 0.03656400349031987, 0.05334548505150046, 0.03467954647131446, 0.03530904512154513, 0.03415770362498649, 0.02169642857142857], "p90" : [0.08488700795397618, 0.09070034617951286, 0.04741905807530808, 0.03893365561896189, 0.0395489678070723, 0.03838080795769895, 0.033218371371592344, 0.03072905960122884, 0.03405079109324522, 0.040499999999999994, 0.03699987204115483, 0.038719015177348506, 0.030625, 0.05141710062555301, 0.041126427021962564, 0.05760788577912253, 0.05773937306997062, 0.05486136411873721, 0.06947750865645767, 0.06171411380108166, 0.05377408107119264, 0.07142799278966569, 0.07050000000000001, 0.06416882637964103, 0.07887854947327122, 0.06821493609415671, 0.07414434855665152, 0.06099324667561913, 0.055768270642352874, 0.07035107174126544, 0.052513697968904274, 0.07154179347472635, 0.06749971496946795, 0.04850349883942484, 0.04302094190856766, 0.06476465471394209, 0.05504490627689279, 0.057169158061960115, 0.04969212526229429, 0.04439849670603102, 0.05379883627510078, 0.03661785779611463, 0.04101088942411253, 0.0425903656531051, 0.03299247325479043, 0.04079248575780686, 0.04859222407353084, 0.04446540359449823, 0.04002674160344982, 0.03591555332323663, 0.03308808939464482, 0.041092715999854514, 0.037608038775872016, 0.04040757379043029, 0.037345475161630344, 0.03417291033890341, 0.045639425144573906, 0.024953223703328656, 0.02339583333333333, 0.024374999999999997, 0.023979166666666666, 0.024416666666666666, 0.02345833333333333, 0.025875, 0.039775801992569276, 0.03592307904497577, 0.03391910951457796, 0.029654420999916387, 0.03656400349031987, 0.05334548505150046, 0.03467954647131446, 0.03530904512154513, 0.03415770362498649, 0.02169642857142857], "p99" : [0.08548543088287061, 0.09070034617951286, 0.0620040653946904, 0.0478321800190219, 0.049910368435044275, 0.041389040194754874, 0.03805248133170699, 0.03224565132208903, 0.03819884485851687, 0.04742708333333333, 0.04478728246996321, 0.04674732580149246, 0.034547916666666664, 0.06069081329343659, 0.0517732592706697, 0.0816146558245083, 0.06479056192099117, 0.06091848566851993, 0.08193051471597805, 0.07040392284802696, 0.05830159566638703, 0.0820531267568054, 0.07050000000000001, 0.07271982943299418, 0.07887854947327122, 0.07039744963496326, 0.07719996028541526, 0.06877603082564733, 0.0679582622650354, 0.07874890529348458, 0.05644891736979135, 0.08394180448166469, 0.07707475168589639, 0.06454761469368889, 0.05523143478625252, 0.08014698922990626, 0.06345391209679811, 0.0654933109722081, 0.05285370628999863, 0.0501753610669194, 0.05910497785883304, 0.04534919795848458, 0.04722262600665884, 0.04796930510540383, 0.03860001810429063, 0.052316919508186795, 0.04993491033966454, 0.049569845717782224, 0.041549550669537985, 0.037962410411253686, 0.034913153653555046, 0.041092715999854514, 0.038602906934619347, 0.045207491727079274, 0.03845418962780293, 0.03417291033890341, 0.045639425144573906, 0.02576645619580128, 0.02339583333333333, 0.024374999999999997, 0.023979166666666666, 0.024416666666666666, 0.02345833333333333, 0.025875, 0.039775801992569276, 0.03592307904497577, 0.03391910951457796, 0.029654420999916387, 0.03656400349031987, 0.05334548505150046, 0.03467954647131446, 0.03530904512154513, 0.03415770362498649, 0.02169642857142857], "max" : [0.0857418978523968, 0.09070034617951286, 0.06825478281728282, 0.051645833333333335, 0.05435096870417512, 0.042678282582064554, 0.04012424274318469, 0.032895619202457684, 0.03997658218649044, 0.05039583333333333, 0.04812474408230966, 0.05018803035469701, 0.03622916666666666, 0.06466526157967241, 0.05633618737725846, 0.09190327155824507, 0.06781249999999998, 0.0635143949041411, 0.08726751731291535, 0.07412812672528923, 0.06024195906432748, 0.08660675559986528, 0.07050000000000001, 0.07638454502728839, 0.07887854947327122, 0.07133281258102322, 0.07850950816917114, 0.07211150974708799, 0.07318254438904219, 0.08234797681586421, 0.058135439970171524, 0.08925609491320968, 0.08117833885008001, 0.07142366434551635, 0.06046450316240317, 0.08673941830817664, 0.0670577717339004, 0.0690608050766001, 0.0542086695875862, 0.052651160078728707, 0.061379038537575446, 0.049091200885214556, 0.04988479882775011, 0.05027456487067471, 0.041003251611219295, 0.05725596254406391, 0.05051034731086469, 0.051757463770618226, 0.04220218312643291, 0.03883963487754671, 0.035695324050230855, 0.041092715999854514, 0.03902927900265391, 0.047264599414214556, 0.03892935297044832, 0.03417291033890341, 0.045639425144573906, 0.02611498440686098, 0.02339583333333333, 0.024374999999999997, 0.023979166666666666, 0.024416666666666666, 0.02345833333333333, 0.025875, 0.039775801992569276, 0.03592307904497577, 0.03391910951457796, 0.029654420999916387, 0.03656400349031987, 0.05334548505150046, 0.03467954647131446, 0.03530904512154513, 0.03415770362498649, 0.02169642857142857]}, "containers timeline" : [{"container" : "24-8a-07-bb-dd-50.pa4.hpc.criteo.preprod_WlX7wyd0", "start" : 1527619771967, "stop" : 1527619887657}, {"container" : "24-8a-07-77-70-10.pa4.hpc.criteo.preprod_VCkmWgB0", "start" : 1527619772000, "stop" : 1527619987463}, {"container" : "24-8a-07-df-4a-b0.pa4.hpc.criteo.preprod_YNtbnCtI", "start" : 1527619772161, "stop" : 1527620175478}, {"container" : "7c-fe-90-a5-e6-f0.pa4.hpc.criteo.preprod_PhYTctaU", "start" : 1527619772311, "stop" : 1527619803965}, {"container" : "7c-fe-90-b1-9c-c0.pa4.hpc.criteo.preprod_HXSUE9pt", "start" : 1527619772731, "stop" : 1527619786331}, {"container" : "24-8a-07-d6-9b-40.pa4.hpc.criteo.preprod_Kr4J5FW9", "start" : 1527619772807, "stop" : 1527620206485}, {"container" : "ec-0d-9a-00-50-c0.pa4.hpc.criteo.preprod_3KpQtgrR", "start" : 1527619773185, "stop" : 1527619790250}, {"container" : "7c-fe-90-be-c8-c0.pa4.hpc.criteo.preprod_JMJsIGGj", "start" : 1527619773293, "stop" : 1527619998932}, {"container" : "24-8a-07-77-68-30.pa4.hpc.criteo.preprod_YlPVKOWt", "start" : 1527619773446, "stop" : 1527619846196}, {"container" : "7c-fe-90-a5-e1-b0.pa4.hpc.criteo.preprod_Xw84woxV", "start" : 1527619773605, "stop" : 1527620264984}, {"container" : "7c-fe-90-b1-fd-f0.pa4.hpc.criteo.preprod_0PjFko3d", "start" : 1527619773664, "stop" : 1527620199216}, {"container" : "e4-1d-2d-e2-2b-10.pa4.hpc.criteo.preprod_HDwRSGe2", "start" : 1527619773950, "stop" : 1527619797680}, {"container" : "24-8a-07-df-5b-00.pa4.hpc.criteo.preprod_kdf5Yp7X", "start" : 1527619774063, "stop" : 1527620205862}, {"container" : "ec-0d-9a-00-22-e0.pa4.hpc.criteo.preprod_JA10zwB8", "start" : 1527619774224, "stop" : 1527620011994}, {"container" : "7c-fe-90-a5-e3-10.pa4.hpc.criteo.preprod_dWuEAvx9", "start" : 1527619774259, "stop" : 1527620218463}, {"container" : "7c-fe-90-a5-e1-f0.pa4.hpc.criteo.preprod_GNlq06Gh", "start" : 1527619774658, "stop" : 1527620142153}, {"container" : "ec-0d-9a-00-34-90.pa4.hpc.criteo.preprod_kCFmnIdg", "start" : 1527619774975, "stop" : 1527620068889}, {"container" : "24-8a-07-c4-a6-b0.pa4.hpc.criteo.preprod_bPWKs3xW", "start" : 1527619776079, "stop" : 1527620079005}, {"container" : "24-8a-07-df-57-e0.pa4.hpc.criteo.preprod_9qg8g7ch", "start" : 1527619777800, "stop" : 1527620092234}, {"container" : "e4-1d-2d-e2-2f-20.pa4.hpc.criteo.preprod_9cPCl4kp", "start" : 1527619777809, "stop" : 1527620346239}, {"container" : "e4-1d-2d-e2-29-f0.pa4.hpc.criteo.preprod_QBMuhl1W", "start" : 1527619778482, "stop" : 1527620503634}], "median major GC ratio" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.03875, 0.027127127127127126, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.05720359642518972, 0.0, 0.0, 0.09438181818181819, 0.07980000000000001, 0.10389999999999999, 0.0785488270658965, 0.10983174143753013, 0.09519999999999999, 0.11140000000000001, 0.1098415316725176, 0.11663709943838785, 0.1688, 0.12670532969944734, 0.0937, 0.0, 0.0847, 0.10744165621079046, 0.11423360518548835, 0.12082899921197793, 0.0, 0.0, 0.06486708004509582, 0.06275770924062805, 0.2449925925925926, 0.09497581009796534, 0.028199999999999996, 0.10874025256511444, 0.0, 0.2, 0.024996875390576177, 0.0, 0.0, 0.14045350688915045, 0.14271457085828343, 0.042600000000000006, 0.0385, 0.12132860201520818, 0.16071687160740003, 0.2, 0.10215001686465729, 0.10750703121322389, 0.08654109950406247, 0.10125465271096339, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.16813627254509017, 0.11406033562166285, 0.10185728865862897, 0.09876197183098592, 0.15889502797397534, 0.20076966307536256, 0.07468461298820317, 0.09359999999999999, 0.07685185185185185, 0.0]}, "max JVM CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.0857418978523968, 0.09070034617951286, 0.06825478281728282, 0.051645833333333335, 0.05435096870417512, 0.042678282582064554, 0.04012424274318469, 0.032895619202457684, 0.03997658218649044, 0.05039583333333333, 0.04812474408230966, 0.05018803035469701, 0.03622916666666666, 0.06466526157967241, 0.05633618737725846, 0.09190327155824507, 0.06781249999999998, 0.0635143949041411, 0.08726751731291535, 0.07412812672528923, 0.06024195906432748, 0.08660675559986528, 0.07050000000000001, 0.07638454502728839, 0.07887854947327122, 0.07133281258102322, 0.07850950816917114, 0.07211150974708799, 0.07318254438904219, 0.08234797681586421, 0.058135439970171524, 0.08925609491320968, 0.08117833885008001, 0.07142366434551635, 0.06046450316240317, 0.08673941830817664, 0.0670577717339004, 0.0690608050766001, 0.0542086695875862, 0.052651160078728707, 0.061379038537575446, 0.049091200885214556, 0.04988479882775011, 0.05027456487067471, 0.041003251611219295, 0.05725596254406391, 0.05051034731086469, 0.051757463770618226, 0.04220218312643291, 0.03883963487754671, 0.035695324050230855, 0.041092715999854514, 0.03902927900265391, 0.047264599414214556, 0.03892935297044832, 0.03417291033890341, 0.045639425144573906, 0.02611498440686098, 0.02339583333333333, 0.024374999999999997, 0.023979166666666666, 0.024416666666666666, 0.02345833333333333, 0.025875, 0.039775801992569276, 0.03592307904497577, 0.03391910951457796, 0.029654420999916387, 0.03656400349031987, 0.05334548505150046, 0.03467954647131446, 0.03530904512154513, 0.03415770362498649, 0.02169642857142857]}, "max committed off-heap" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [93.625, 113.375, 116.5625, 118.375, 118.375, 118.875, 118.875, 118.875, 118.875, 118.875, 119.125, 119.5625, 119.5625, 119.5625, 119.5625, 119.5625, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.8125, 119.875, 119.875, 119.875, 120.5625, 120.5625, 120.5625, 121.625, 121.875, 120.5625, 122.125, 122.375, 121.75, 122.0, 123.0625, 123.3125, 119.4375, 119.4375, 119.4375, 120.4375, 120.6875, 119.4375, 119.4375, 119.4375, 119.4375, 119.6875, 119.6875, 121.6875, 121.9375, 117.1875, 117.1875, 117.1875, 117.1875, 117.1875, 117.625, 117.8125, 117.8125, 117.8125, 117.8125, 117.8125, 118.375, 118.375, 120.9375, 121.375, 121.375]}, "accumulated JVM CPU time" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [417.15000000000003, 1027.63, 1450.69, 1747.5600000000002, 2006.4, 2253.98, 2498.21, 2722.39, 2940.74, 3171.96, 3406.64, 3620.14, 3815.2599999999998, 4043.93, 4277.91, 4604.4, 4891.889999999999, 5182.039999999999, 5508.839999999999, 5846.139999999999, 6156.16, 6494.849999999999, 6795.339999999999, 7091.039999999999, 7397.839999999999, 7698.209999999999, 8008.48, 8304.98, 8642.46, 8959.66, 9186.619999999999, 9428.029999999999, 9644.169999999998, 9820.539999999999, 9992.89, 10194.859999999999, 10364.239999999998, 10525.189999999999, 10689.48, 10851.02, 11021.27, 11162.87, 11287.79, 11374.460000000001, 11447.150000000001, 11505.12, 11565.52, 11623.79, 11676.980000000001, 11722.000000000002, 11761.190000000002, 11799.900000000001, 11837.330000000002, 11882.950000000003, 11925.020000000002, 11958.900000000001, 11995.730000000001, 12015.150000000001, 12026.380000000001, 12038.080000000002, 12049.590000000002, 12061.310000000001, 12072.570000000002, 12084.990000000002, 12105.350000000002, 12123.050000000003, 12141.700000000003, 12156.810000000003, 12171.580000000004, 12217.190000000004, 12236.350000000004, 12253.300000000005, 12269.950000000004, 12274.840000000004]}, "max JVM host CPU load" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [0.8010498912486499, 0.9470571505901294, 0.960153834844363, 0.9880690810940991, 0.9881399223659291, 0.9876800746212409, 0.9890759064468689, 0.9838252967338423, 0.9690614505522943, 0.9546069133112128, 0.9733046372155305, 0.9928377391530805, 0.9917625010703013, 0.9963568607129263, 0.9951449943326744, 0.9705619910807691, 0.9518781576455412, 0.9277832848178902, 0.9557488880169739, 0.9493233433461772, 0.9459206242911595, 0.9404698514249599, 0.9408367278214513, 0.9415635490365348, 0.9284310976547484, 0.9251455425756179, 0.92952012585091, 0.9184734903165476, 0.8337690420610981, 0.9291694807989155, 0.9263193578969486, 0.9269728954808428, 0.9494227979583861, 0.9626072428459868, 0.95909895323791, 0.9223862588655753, 0.9192272035554012, 0.9231783696847302, 0.9434449876305788, 0.960038480900263, 0.9439834557136528, 0.9382005205410409, 0.9424290358242047, 0.9519240776738236, 0.8810200936029091, 0.9066967086209768, 0.9129467042680929, 0.9272266421367243, 0.9360345138707347, 0.9451941349395354, 0.9789600503472369, 0.9731952984848705, 0.9327978821733175, 0.9061672075932687, 0.904166877916316, 0.9401302009630015, 0.9097775783007638, 0.8787584461745241, 0.9038614146672677, 0.9022295361969939, 0.8987102971380867, 0.8990005840584148, 0.9139996903178969, 0.9410363155019711, 0.9362598259625663, 0.929997917067982, 0.9333622413255822, 0.9196643319202714, 0.8967568337793371, 0.7922150387665683, 0.877498991811984, 0.8737144627378541, 0.9113619014852408, 0.9280682630777213]}, "accumulated proc read bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [1.101952655E9, 1.725698876E9, 2.226298703E9, 2.677978043E9, 3.135192887E9, 3.615513454E9, 4.080364954E9, 4.524982739E9, 4.981233982E9, 5.437576682E9, 5.980007379E9, 6.722987574E9, 7.089411502E9, 7.463572204E9, 7.841055576E9, 8.241782056E9, 8.653494731E9, 9.053067755E9, 9.447923837E9, 9.823307383E9, 1.0687398013E10, 1.194950823E10, 1.3185240587E10, 1.3982257431E10, 1.4379052688E10, 1.4661332766E10, 1.4934788841E10, 1.5206976481E10, 1.5438993284E10, 1.6069777945E10, 1.7242567841E10, 1.775638033E10, 1.8027263882E10, 1.8210372462E10, 1.8399264846E10, 1.8590931392E10, 1.8770743046E10, 1.8941167914E10, 1.9098980404E10, 1.9250454487E10, 1.9390065894E10, 1.9518966869E10, 1.9634513164E10, 1.9722319394E10, 1.9785958934E10, 1.984120762E10, 1.9897472893E10, 1.9954810078E10, 2.0003725038E10, 2.0038690066E10, 2.0071337203E10, 2.0101903406E10, 2.0132764473E10, 2.0166702042E10, 2.0200015307E10, 2.0231240036E10, 2.0254162506E10, 2.0278380477E10, 2.0295773179E10, 2.0314111898E10, 2.0332582336E10, 2.0349966243E10, 2.0368264161E10, 2.0384594354E10, 2.0400797386E10, 2.0416072192E10, 2.0432405257E10, 2.044860618E10, 2.0461286258E10, 2.0479032128E10, 2.0494304047E10, 2.0507797377E10, 2.0515668822E10, 2.0519827914E10]}, "percentiles proc peak disk read bytes \/ sec" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "p50" : [0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8388.608, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 5731.1297405189625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 164.49799196787149, 0.0, 0.0, 0.0, 8388.608, 8388.608, 0.0, 0.0, 0.0, 8397.005005005007, 8363.51744765703, 0.0, 0.0, 8388.608, 0.0, 8380.227772227774, 8371.864271457085, 8380.227772227774, 8388.608, 8388.608, 8388.608, 8380.227772227774, 8388.608, 8388.608, 6065.515545914678, 8388.608, 8388.608, 4288.0, 0.0, 0.0, 0.0, 0.0], "p90" : [34.71186440677966, 2.0297324083250747, 0.0, 0.0, 63.27497425334707, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 4206.924774322969, 4233.216, 4211.148594377511, 4275.5392456676855, 8388.608, 4194.304, 7348.224, 4233.216, 4198.502502502503, 4194.304, 4194.304, 7348.224, 4233.216, 4194.304, 4194.304, 4194.304, 4194.304, 5731.1297405189625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 4194.304, 4194.304, 2922.859930313589, 4194.304, 164.49799196787149, 4194.304, 1392.531208499336, 4194.304, 8388.608, 8388.608, 3246.365325077399, 4223.8710976837865, 4194.304, 8397.005005005007, 8363.51744765703, 0.0, 4190.113886113887, 8388.608, 4190.113886113887, 8380.227772227774, 8371.864271457085, 8380.227772227774, 8388.608, 8388.608, 8388.608, 8380.227772227774, 8388.608, 8388.608, 6065.515545914678, 8388.608, 8388.608, 4288.0, 0.0, 0.0, 0.0, 0.0], "p99" : [59.010169491525424, 3.450545094152627, 0.0, 0.0, 107.56745623069001, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 7151.772116349047, 7196.4672, 7158.952610441767, 7268.416717635065, 8388.608, 7130.3168, 12491.9808, 7196.4672, 7137.454254254256, 7130.3168, 7130.3168, 12491.9808, 7196.4672, 7130.3168, 7130.3168, 7130.3168, 7130.3168, 5731.1297405189625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 7130.3168, 7130.3168, 4968.861881533101, 7130.3168, 164.49799196787149, 7130.3168, 2367.303054448871, 7130.3168, 8388.608, 8388.608, 5518.821052631578, 7180.580866062437, 7130.3168, 8397.005005005007, 8363.51744765703, 0.0, 7123.193606393607, 8388.608, 7123.193606393607, 8380.227772227774, 8371.864271457085, 8380.227772227774, 8388.608, 8388.608, 8388.608, 8380.227772227774, 8388.608, 8388.608, 6065.515545914678, 8388.608, 8388.608, 4288.0, 0.0, 0.0, 0.0, 0.0], "max" : [69.42372881355932, 4.0594648166501495, 0.0, 0.0, 126.54994850669414, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8413.849548645938, 8466.432, 8422.297188755021, 8551.078491335371, 8388.608, 8388.608, 14696.448, 8466.432, 8397.005005005007, 8388.608, 8388.608, 14696.448, 8466.432, 8388.608, 8388.608, 8388.608, 8388.608, 5731.1297405189625, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 8388.608, 8388.608, 5845.719860627178, 8388.608, 164.49799196787149, 8388.608, 2785.062416998672, 8388.608, 8388.608, 8388.608, 6492.730650154798, 8447.742195367573, 8388.608, 8397.005005005007, 8363.51744765703, 0.0, 8380.227772227774, 8388.608, 8380.227772227774, 8380.227772227774, 8371.864271457085, 8380.227772227774, 8388.608, 8388.608, 8388.608, 8380.227772227774, 8388.608, 8388.608, 6065.515545914678, 8388.608, 8388.608, 4288.0, 0.0, 0.0, 0.0, 0.0]}, "isStackTracesProfiler" : {"true" : true}, "accumulated proc write bytes" : {"time" : [1527619770000, 1527619780000, 1527619790000, 1527619800000, 1527619810000, 1527619820000, 1527619830000, 1527619840000, 1527619850000, 1527619860000, 1527619870000, 1527619880000, 1527619890000, 1527619900000, 1527619910000, 1527619920000, 1527619930000, 1527619940000, 1527619950000, 1527619960000, 1527619970000, 1527619980000, 1527619990000, 1527620000000, 1527620010000, 1527620020000, 1527620030000, 1527620040000, 1527620050000, 1527620060000, 1527620070000, 1527620080000, 1527620090000, 1527620100000, 1527620110000, 1527620120000, 1527620130000, 1527620140000, 1527620150000, 1527620160000, 1527620170000, 1527620180000, 1527620190000, 1527620200000, 1527620210000, 1527620220000, 1527620230000, 1527620240000, 1527620250000, 1527620260000, 1527620270000, 1527620280000, 1527620290000, 1527620300000, 1527620310000, 1527620320000, 1527620330000, 1527620340000, 1527620350000, 1527620360000, 1527620370000, 1527620380000, 1527620390000, 1527620400000, 1527620410000, 1527620420000, 1527620430000, 1527620440000, 1527620450000, 1527620460000, 1527620470000, 1527620480000, 1527620490000, 1527620500000], "values" : [4.3857414E7, 1.40847741E8, 2.93941696E8, 4.53954489E8, 5.16183059E8, 5.78434502E8, 6.40698303E8, 9.30197204E8, 9.88852179E8, 1.135278248E9, 1.779545196E9, 2.99532811E9, 3.57947392E9, 3.634734955E9, 3.690035531E9, 3.745327234E9, 3.800629959E9, 3.866770449E9, 4.495903933E9, 4.999361055E9, 6.279286287E9, 7.706163014E9, 8.818417125E9, 9.380757533E9, 9.544093676E9, 9.588496318E9, 9.632891655E9, 9.676942237E9, 1.016338642E10, 1.137313344E10, 1.2504203978E10, 1.2920519098E10, 1.3103667745E10, 1.3237574416E10, 1.327084109E10, 1.3304122986E10, 1.3461129451E10, 1.3707341605E10, 1.373688894E10, 1.3845401424E10, 1.4212195206E10, 1.4303640995E10, 1.4740932446E10, 1.5454824107E10, 1.5823557542E10, 1.5834693729E10, 1.5845806892E10, 1.5856904446E10, 1.5913539424E10, 1.6241066117E10, 1.6248865136E10, 1.6256281969E10, 1.6263340574E10, 1.6271132548E10, 1.6278557581E10, 1.6285983441E10, 1.6390396362E10, 1.6725594352E10, 1.6729317205E10, 1.6733047696E10, 1.6742085627E10, 1.674579593E10, 1.6749505669E10, 1.675322153E10, 1.6756932332E10, 1.6760643217E10, 1.6764359079E10, 1.6768069883E10, 1.6771037417E10, 1.6775494929E10, 1.6779199232E10, 1.6798861753E10, 1.6844496325E10, 1.7151668636E10]}}
\ No newline at end of file
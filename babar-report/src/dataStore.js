@@ -0,0 +1,49 @@
+import pako from "pako";
+
+// sections already decompressed and parsed, by name
+const sections = {};
+// full resolutions of the downsampled series already decompressed and parsed, by compressed data
+const fullSeries = new Map();
+
+function decode(base64) {
+  const binary = atob(base64);
+  const bytes = new Uint8Array(binary.length);
+  for (let i = 0; i < binary.length; i++) {
+    bytes[i] = binary.charCodeAt(i);
+  }
+  return JSON.parse(pako.inflate(bytes, { to: "string" }));
+}
+
+export default {
+  /**
+   * Values of an aggregation of the processor, by key.
+   * The processor compresses the values of each section of the report separately, so a section is only decompressed
+   * and parsed the first time one of its values is read, when a tab showing it is opened.
+   */
+  get(key) {
+    const data = window.data;
+    // uncompressed data, such as the one of the development environment
+    if (data.sections === undefined) return data[key];
+    const section = data.index[key];
+    if (section === undefined) return undefined;
+    if (!(section in sections)) {
+      sections[section] = decode(data.sections[section]);
+      // the compressed section is no longer needed
+      delete data.sections[section];
+    }
+    return sections[section][key];
+  },
+
+  /**
+   * Full resolution of a series downsampled by the processor, decompressed and parsed the first time it is read.
+   * The series holds its compressed full resolution in "full" and the field of its values in it in "fullKey", by
+   * default "values".
+   */
+  fullResolution(series) {
+    if (!fullSeries.has(series.full)) {
+      fullSeries.set(series.full, decode(series.full));
+    }
+    const full = fullSeries.get(series.full);
+    return { time: full.time, values: full[series.fullKey || "values"] };
+  }
+};
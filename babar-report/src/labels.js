@@ -0,0 +1,16 @@
+import _ from "lodash";
+import Constants from "./constants.js";
+
+const COLORS = [Constants.DARK_RED, Constants.DARK_BLUE, Constants.ORANGE, Constants.LIGHT_BLUE, Constants.YELLOW, Constants.BLUE];
+
+export default {
+  /**
+   * Series of each label, such as a garbage collector or a group of threads, of an aggregation by label of the
+   * processor, in the order of the labels and with a color per label unless given in the options.
+   */
+  series(byLabel, suffix, options) {
+    if (byLabel === undefined) return [];
+    return _.map(_.toPairs(byLabel), ([label, values], i) =>
+      _.assign({}, values, { name: label + suffix, color: COLORS[i % COLORS.length] }, options));
+  }
+};
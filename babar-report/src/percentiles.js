@@ -0,0 +1,35 @@
+import _ from "lodash";
+
+// bands drawn from the widest to the narrowest, so that the narrowest ones are drawn over the others
+const BANDS = [
+  { key: "p99", opacity: 0.25 },
+  { key: "p90", opacity: 0.5 },
+  { key: "p50", opacity: 1 }
+];
+
+export default {
+  /**
+   * Series of the percentiles over all containers aggregated by the processor, drawn as overlapping areas
+   * of the same color, the median being the most opaque.
+   */
+  bands(percentiles, name, color) {
+    if (percentiles === undefined) return [];
+    return BANDS.map(b => ({
+      time: percentiles.time,
+      values: percentiles[b.key],
+      name: b.key + " " + name,
+      color: color,
+      opacity: b.opacity,
+      full: percentiles.full,
+      fullKey: b.key
+    }));
+  },
+
+  /**
+   * Series of a single percentile over all containers, such as "p50" for the median
+   */
+  percentile(percentiles, key) {
+    if (percentiles === undefined) return {};
+    return { time: percentiles.time, values: percentiles[key], full: percentiles.full, fullKey: key };
+  }
+};